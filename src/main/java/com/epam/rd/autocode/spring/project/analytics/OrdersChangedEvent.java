@@ -0,0 +1,22 @@
+package com.epam.rd.autocode.spring.project.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record OrdersChangedEvent(Set<LocalDate> days) {
+
+    public static OrdersChangedEvent of(Collection<LocalDateTime> orderDates) {
+        return new OrdersChangedEvent(orderDates.stream()
+                .filter(Objects::nonNull)
+                .map(LocalDateTime::toLocalDate)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public static OrdersChangedEvent of(LocalDateTime orderDate) {
+        return of(orderDate == null ? Set.of() : Set.of(orderDate));
+    }
+}
@@ -0,0 +1,52 @@
+package com.epam.rd.autocode.spring.project.analytics;
+
+import com.epam.rd.autocode.spring.project.repo.BookDailySalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+public class SalesRollupUpdater {
+    private final AtomicBoolean dirtyDaysQueued = new AtomicBoolean(true);
+    private final BookDailySalesRepository rollupRepository;
+
+    public SalesRollupUpdater(BookDailySalesRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    @EventListener
+    public void onOrdersChanged(OrdersChangedEvent event) {
+        if (!event.days().isEmpty()) rollupRepository.markDirty(event.days());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersCommitted(OrdersChangedEvent event) {
+        if (!event.days().isEmpty()) dirtyDaysQueued.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.flush-interval}")
+    public synchronized void flush() {
+        if (!dirtyDaysQueued.getAndSet(false)) return;
+        try {
+            rollupRepository.recomputeDirtyDays();
+        } catch (RuntimeException e) {
+            dirtyDaysQueued.set(true);
+            log.warn("Sales rollup refresh failed, dirty days stay queued for the next flush", e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        rollupRepository.rebuild();
+        log.info("Sales rollups rebuilt from order history");
+    }
+
+    public Set<LocalDate> pendingDays() {
+        return Set.copyOf(rollupRepository.findDirtyDays());
+    }
+}
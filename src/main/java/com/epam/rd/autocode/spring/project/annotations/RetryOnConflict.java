@@ -0,0 +1,9 @@
+package com.epam.rd.autocode.spring.project.annotations;
+
+import java.lang.annotation.*;
+
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,43 @@
+package com.epam.rd.autocode.spring.project.aspects;
+
+import com.epam.rd.autocode.spring.project.conf.RetrySettings;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class RetryOnConflictAspect {
+    private final RetrySettings settings;
+
+    public RetryOnConflictAspect(RetrySettings settings) {
+        this.settings = settings;
+    }
+
+    @Around("@annotation(com.epam.rd.autocode.spring.project.annotations.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        long backoff = settings.getInitialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= settings.getMaxAttempts()) {
+                    log.warn("{} gave up after {} conflicting attempts", joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                log.debug("{} hit a write conflict on attempt {}, retrying", joinPoint.getSignature().toShortString(), attempt);
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoff + 1));
+                backoff = Math.min((long) (backoff * settings.getMultiplier()), settings.getMaxBackoff().toMillis());
+            }
+        }
+    }
+}
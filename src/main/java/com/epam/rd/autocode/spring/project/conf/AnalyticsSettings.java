@@ -0,0 +1,25 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "analytics")
+@PropertySource("classpath:analytics.properties")
+@Validated
+@Getter
+@Setter
+public class AnalyticsSettings {
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    @Min(1)
+    private int maxRangeDays = 366;
+}
@@ -0,0 +1,69 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String BOOKS = "books";
+    public static final String BOOK_PAGES = "bookPages";
+    public static final String BOOK_SEARCHES = "bookSearches";
+    public static final String BOOK_COUNTS = "bookCounts";
+    public static final String BOOK_FACETS = "bookFacets";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> bookCountsCaffeineCustomizer(PaginationSettings settings) {
+        return cacheManager -> cacheManager.registerCustomCache(BOOK_COUNTS, Caffeine.newBuilder()
+                .maximumSize(settings.getCountCacheSize())
+                .expireAfterWrite(settings.getCountCacheTtl())
+                .recordStats()
+                .build());
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> bookFacetsCaffeineCustomizer(SearchSettings settings) {
+        return cacheManager -> cacheManager.registerCustomCache(BOOK_FACETS, Caffeine.newBuilder()
+                .maximumSize(settings.getFacetCacheSize())
+                .expireAfterWrite(settings.getFacetCacheTtl())
+                .recordStats()
+                .build());
+    }
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer bookCountsRedisCustomizer(PaginationSettings settings) {
+        return builder -> builder.withCacheConfiguration(BOOK_COUNTS,
+                builder.cacheDefaults().entryTtl(settings.getCountCacheTtl()));
+    }
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer bookFacetsRedisCustomizer(SearchSettings settings) {
+        return builder -> builder.withCacheConfiguration(BOOK_FACETS,
+                builder.cacheDefaults().entryTtl(settings.getFacetCacheTtl()));
+    }
+
+    @Bean
+    public static BeanPostProcessor transactionAwareCaffeineCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CaffeineCacheManager cacheManager
+                        ? new TransactionAwareCacheManagerProxy(cacheManager)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer transactionAwareRedisCustomizer() {
+        return RedisCacheManagerBuilder::transactionAware;
+    }
+}
@@ -0,0 +1,28 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "export")
+@PropertySource("classpath:export.properties")
+@Validated
+@Getter
+@Setter
+public class ExportSettings {
+    @Min(1)
+    private int fetchSize = 500;
+
+    @Min(1)
+    private int bufferSize = 64 * 1024;
+
+    @NotNull
+    private Duration asyncTimeout = Duration.ofMinutes(30);
+}
@@ -1,5 +1,6 @@
 package com.epam.rd.autocode.spring.project.conf;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -9,6 +10,8 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 @ConfigurationProperties(prefix = "jwt")
@@ -20,9 +23,18 @@ public class JwtSettings {
     @NotBlank
     private String secretKey;
 
+    @NotBlank
+    private String keyId = "primary";
+
+    @NotNull
+    private Map<String, String> verificationKeys = new HashMap<>();
+
     @NotNull
     private Duration expirationTime;
 
     @NotBlank
     private String issuer;
+
+    @Min(0)
+    private long claimsCacheSize = 10_000;
 }
@@ -0,0 +1,64 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "outbox")
+@PropertySource("classpath:outbox.properties")
+@Validated
+@Getter
+@Setter
+public class OutboxSettings {
+    private boolean deliveryEnabled = true;
+
+    @Min(1)
+    private int workers = 4;
+
+    @Min(1)
+    private int queueCapacity = 1000;
+
+    @Min(1)
+    private int batchSize = 100;
+
+    @Min(1)
+    private int sendBatchSize = 50;
+
+    @Min(1)
+    private int recipientPageSize = 500;
+
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    @Min(1)
+    private int maxAttempts = 8;
+
+    @NotNull
+    private Duration initialBackoff = Duration.ofSeconds(10);
+
+    @NotNull
+    private Duration maxBackoff = Duration.ofMinutes(30);
+
+    @DecimalMin("1.0")
+    private double multiplier = 2.0;
+
+    @NotNull
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    @NotNull
+    private Duration connectionIdleTimeout = Duration.ofMinutes(2);
+
+    @NotNull
+    private Duration retention = Duration.ofDays(7);
+
+    @NotNull
+    private Duration purgeInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,64 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.validation.annotation.Validated;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@ConfigurationProperties(prefix = "rate")
+@PropertySource("classpath:rate.properties")
+@Validated
+@Getter
+@Setter
+public class RateLimitSettings {
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    @NotBlank
+    private String store = "memory";
+
+    @Min(1)
+    private long maxKeys = 100_000;
+
+    @Min(1)
+    private long leaseSize = 10;
+
+    @NotNull
+    private Duration fallbackBackoff = Duration.ofSeconds(5);
+
+    @Valid
+    @NotNull
+    private List<Rule> rules = new ArrayList<>();
+
+    public Optional<Rule> findRule(String path) {
+        if (path == null) return Optional.empty();
+        return rules.stream()
+                .filter(rule -> PATH_MATCHER.match(rule.getPath(), path))
+                .findFirst();
+    }
+
+    @Getter
+    @Setter
+    public static class Rule {
+        @NotBlank
+        private String path;
+
+        @Min(1)
+        private long maxRequests;
+
+        @NotNull
+        private Duration window;
+    }
+}
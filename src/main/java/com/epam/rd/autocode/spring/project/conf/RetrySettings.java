@@ -0,0 +1,32 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "retry")
+@PropertySource("classpath:retry.properties")
+@Validated
+@Getter
+@Setter
+public class RetrySettings {
+    @Min(1)
+    private int maxAttempts = 5;
+
+    @NotNull
+    private Duration initialBackoff = Duration.ofMillis(5);
+
+    @NotNull
+    private Duration maxBackoff = Duration.ofMillis(200);
+
+    @DecimalMin("1.0")
+    private double multiplier = 2.0;
+}
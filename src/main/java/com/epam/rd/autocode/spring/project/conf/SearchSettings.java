@@ -0,0 +1,54 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "search")
+@PropertySource("classpath:search.properties")
+@Validated
+@Getter
+@Setter
+public class SearchSettings {
+    @NotNull
+    private String indexPath = "";
+
+    @Min(1)
+    private int maxHits = 1_000;
+
+    @Min(1)
+    private int fuzzyMinLength = 4;
+
+    @Min(1)
+    private int rebuildBatchSize = 500;
+
+    @Min(1)
+    private int suggestLimit = 10;
+
+    @Min(1)
+    private int suggestMaxEntries = 200_000;
+
+    @Min(1)
+    private int suggestMaxLength = 100;
+
+    @NotNull
+    private List<BigDecimal> priceBuckets = List.of(new BigDecimal("10"), new BigDecimal("20"),
+            new BigDecimal("50"), new BigDecimal("100"));
+
+    @NotNull
+    private Duration facetCacheTtl = Duration.ofMinutes(5);
+
+    @Min(1)
+    private long facetCacheSize = 500;
+
+    private boolean snapshotEnabled;
+}
@@ -35,6 +35,8 @@ public class SecurityConfig {
                         .requestMatchers("/auth/logout").authenticated()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("EMPLOYEE")
                         .requestMatchers(HttpMethod.GET, "/books/**").hasAnyRole("EMPLOYEE", "CLIENT")
                         .requestMatchers("/books/**").hasRole("EMPLOYEE")
                         .requestMatchers("/clients/blocked/**").hasRole("EMPLOYEE")
@@ -9,6 +9,7 @@ import org.springframework.validation.annotation.Validated;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Component
 @ConfigurationProperties(prefix = "sort")
@@ -28,6 +29,10 @@ public class SortOptionsSettings {
                 : List.copyOf(entities.getOrDefault(entityType, List.of()));
     }
 
+    public Set<String> getEntityTypes() {
+        return Set.copyOf(entities.keySet());
+    }
+
     public Map<String, String> getEntityMappings(String entityType) {
         return entityType == null || entityType.isEmpty()
                 ? Map.of()
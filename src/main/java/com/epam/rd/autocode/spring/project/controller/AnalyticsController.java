@@ -0,0 +1,53 @@
+package com.epam.rd.autocode.spring.project.controller;
+
+import com.epam.rd.autocode.spring.project.dto.BookSalesDTO;
+import com.epam.rd.autocode.spring.project.dto.DailySalesDTO;
+import com.epam.rd.autocode.spring.project.dto.GenreSalesDTO;
+import com.epam.rd.autocode.spring.project.service.AnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/books")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<List<BookSalesDTO>> getBookSales
+            (@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return ResponseEntity.ok(analyticsService.getBookSales(from, to));
+    }
+
+    @GetMapping("/genres")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<List<GenreSalesDTO>> getGenreSales
+            (@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return ResponseEntity.ok(analyticsService.getGenreSales(from, to));
+    }
+
+    @GetMapping("/days")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<List<DailySalesDTO>> getDailySales
+            (@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return ResponseEntity.ok(analyticsService.getDailySales(from, to));
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<Void> rebuild(){
+        analyticsService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,16 +3,24 @@ package com.epam.rd.autocode.spring.project.controller;
 import com.epam.rd.autocode.spring.project.annotations.BookTitle;
 import com.epam.rd.autocode.spring.project.annotations.CorrectSortFields;
 import com.epam.rd.autocode.spring.project.dto.*;
+import com.epam.rd.autocode.spring.project.exception.StaleVersionException;
+import com.epam.rd.autocode.spring.project.model.enums.PaginationMode;
 import com.epam.rd.autocode.spring.project.model.enums.SortableEntity;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
 import com.epam.rd.autocode.spring.project.service.BookService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.util.List;
 
 @RestController
 @RequestMapping("books")
@@ -25,32 +33,88 @@ public class BookController {
     }
 
     private PaginatedResponseDTO<BookDTO> getPaginatedResponse(Page<BookDTO> page){
+        return getPaginatedResponse(page, null);
+    }
+
+    private PaginatedResponseDTO<BookDTO> getPaginatedResponse(Page<BookDTO> page, KeysetCursor next){
         PaginatedResponseDTO<BookDTO> response = new PaginatedResponseDTO<>();
         response.setBooks(page.getContent());
-        response.setMeta(new MetaDTO(page));
+        response.setMeta(new MetaDTO(page, next));
+        return response;
+    }
+
+    private PaginatedResponseDTO<BookDTO> getPaginatedResponse(Slice<BookDTO> slice){
+        return getPaginatedResponse(slice, null);
+    }
+
+    private PaginatedResponseDTO<BookDTO> getPaginatedResponse(Slice<BookDTO> slice, KeysetCursor next){
+        PaginatedResponseDTO<BookDTO> response = new PaginatedResponseDTO<>();
+        response.setBooks(slice.getContent());
+        response.setMeta(new MetaDTO(slice, next));
+        return response;
+    }
+
+    private PaginatedResponseDTO<BookDTO> getPaginatedResponse(KeysetWindow<BookDTO> window){
+        PaginatedResponseDTO<BookDTO> response = new PaginatedResponseDTO<>();
+        response.setBooks(window.content());
+        response.setMeta(new MetaDTO(window));
         return response;
     }
 
+    private Long expectedVersion(String name, String ifMatch){
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) tag = tag.substring(2);
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new StaleVersionException("The book " + name);
+        }
+    }
+
     @GetMapping
     public ResponseEntity<PaginatedResponseDTO<BookDTO>> getAllBooks
             (@CorrectSortFields(entityType = SortableEntity.BOOK)
-             @PageableDefault(sort = "name") Pageable pageable){
+             @PageableDefault(sort = "name") Pageable pageable,
+             @RequestParam(required = false) String cursor,
+             @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+             @RequestParam(defaultValue = "true") boolean count){
+        if (cursor != null || mode == PaginationMode.KEYSET)
+            return ResponseEntity.ok(getPaginatedResponse(bookService.scrollBooks(cursor, pageable)));
+        if (!count) {
+            Slice<BookDTO> slice = bookService.getBookSlice(pageable);
+            return ResponseEntity.ok(getPaginatedResponse(slice, slice.hasNext() ? bookService.nextBookCursor(pageable) : null));
+        }
         Page<BookDTO> page = bookService.getAllBooks(pageable);
-        return ResponseEntity.ok(getPaginatedResponse(page));
+        return ResponseEntity.ok(getPaginatedResponse(page, page.hasNext() ? bookService.nextBookCursor(pageable) : null));
     }
 
     @GetMapping("/search")
     public ResponseEntity<PaginatedResponseDTO<BookDTO>> getAllBooksWithSearchCondition
             (@ModelAttribute @Valid SearchBookDTO search,
              @CorrectSortFields(entityType = SortableEntity.BOOK)
-             @PageableDefault(sort = "name") Pageable pageable){
+             @PageableDefault(sort = "name") Pageable pageable,
+             @RequestParam(defaultValue = "true") boolean count){
+        if (!count) return ResponseEntity.ok(getPaginatedResponse(bookService.getBookSliceWithSearchCondition(search, pageable)));
         Page<BookDTO> page = bookService.getAllBooksWithSearchCondition(search, pageable);
         return ResponseEntity.ok(getPaginatedResponse(page));
     }
 
+    @GetMapping("/search/facets")
+    public ResponseEntity<BookFacetsDTO> getFacets(@ModelAttribute @Valid SearchBookDTO search){
+        return ResponseEntity.ok(bookService.getFacets(search));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(@RequestParam String prefix,
+                                                       @RequestParam(defaultValue = "10") int limit){
+        return ResponseEntity.ok(bookService.suggest(prefix, limit));
+    }
+
     @GetMapping("/{name}")
     public ResponseEntity<BookDTO> getBookByName(@BookTitle @PathVariable String name){
-        return ResponseEntity.ok(bookService.getBookByName(name));
+        long version = bookService.getBookVersion(name);
+        return ResponseEntity.ok().eTag(String.valueOf(version)).body(bookService.getBookByName(name));
     }
 
     @PreAuthorize("hasRole('EMPLOYEE')")
@@ -62,8 +126,17 @@ public class BookController {
     @PreAuthorize("hasRole('EMPLOYEE')")
     @PutMapping("/{name}")
     public ResponseEntity<Void> updateBook(@PathVariable @BookTitle String name,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                            @Valid @RequestBody BookDTO dto){
-        bookService.updateBookByName(name, dto);
+        bookService.updateBookByName(name, dto, expectedVersion(name, ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    @PostMapping("/{name}/restock")
+    public ResponseEntity<Void> restockBook(@PathVariable @BookTitle String name,
+                                            @RequestParam @Min(1) int quantity){
+        bookService.restock(name, quantity);
         return ResponseEntity.noContent().build();
     }
 
@@ -2,13 +2,17 @@ package com.epam.rd.autocode.spring.project.controller;
 
 import com.epam.rd.autocode.spring.project.annotations.CorrectSortFields;
 import com.epam.rd.autocode.spring.project.dto.*;
+import com.epam.rd.autocode.spring.project.model.enums.PaginationMode;
 import com.epam.rd.autocode.spring.project.model.enums.SortableEntity;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
 import com.epam.rd.autocode.spring.project.service.ClientService;
 import com.epam.rd.autocode.spring.project.service.OrderService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,9 +33,27 @@ public class ClientController {
     }
 
     private PaginatedResponseDTO<ClientDTO> getPaginatedResponse(Page<ClientDTO> page){
+        return getPaginatedResponse(page, null);
+    }
+
+    private PaginatedResponseDTO<ClientDTO> getPaginatedResponse(Page<ClientDTO> page, KeysetCursor next){
         PaginatedResponseDTO<ClientDTO> response = new PaginatedResponseDTO<>();
         response.setClients(page.getContent());
-        response.setMeta(new MetaDTO(page));
+        response.setMeta(new MetaDTO(page, next));
+        return response;
+    }
+
+    private PaginatedResponseDTO<ClientDTO> getPaginatedResponse(Slice<ClientDTO> slice, KeysetCursor next){
+        PaginatedResponseDTO<ClientDTO> response = new PaginatedResponseDTO<>();
+        response.setClients(slice.getContent());
+        response.setMeta(new MetaDTO(slice, next));
+        return response;
+    }
+
+    private PaginatedResponseDTO<ClientDTO> getPaginatedResponse(KeysetWindow<ClientDTO> window){
+        PaginatedResponseDTO<ClientDTO> response = new PaginatedResponseDTO<>();
+        response.setClients(window.content());
+        response.setMeta(new MetaDTO(window));
         return response;
     }
 
@@ -39,9 +61,18 @@ public class ClientController {
     @GetMapping
     public ResponseEntity<PaginatedResponseDTO<ClientDTO>> getAllClients
             (@CorrectSortFields(entityType = SortableEntity.CLIENT)
-             @PageableDefault(sort = "name") Pageable pageable){
+             @PageableDefault(sort = "name") Pageable pageable,
+             @RequestParam(required = false) String cursor,
+             @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+             @RequestParam(defaultValue = "true") boolean count){
+        if (cursor != null || mode == PaginationMode.KEYSET)
+            return ResponseEntity.ok(getPaginatedResponse(clientService.scrollClients(cursor, pageable)));
+        if (!count) {
+            Slice<ClientDTO> slice = clientService.getClientSlice(pageable);
+            return ResponseEntity.ok(getPaginatedResponse(slice, slice.hasNext() ? clientService.nextClientCursor(pageable) : null));
+        }
         Page<ClientDTO> page = clientService.getAllClients(pageable);
-        return ResponseEntity.ok(getPaginatedResponse(page));
+        return ResponseEntity.ok(getPaginatedResponse(page, page.hasNext() ? clientService.nextClientCursor(pageable) : null));
     }
 
     @PreAuthorize("#email == authentication.name and hasRole('CLIENT')")
@@ -55,11 +86,26 @@ public class ClientController {
     public ResponseEntity<PaginatedResponseDTO<OrderDTO>> getOrdersByClient
             (@PathVariable @Email String email,
              @CorrectSortFields(entityType = SortableEntity.ORDER)
-             @PageableDefault(sort = "orderDate") Pageable pageable){
-        Page<OrderDTO> page = orderService.getOrdersByClient(email, pageable);
+             @PageableDefault(sort = "orderDate") Pageable pageable,
+             @RequestParam(required = false) String cursor,
+             @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+             @RequestParam(defaultValue = "true") boolean count){
         PaginatedResponseDTO<OrderDTO> response = new PaginatedResponseDTO<>();
+        if (cursor != null || mode == PaginationMode.KEYSET) {
+            KeysetWindow<OrderDTO> window = orderService.scrollOrdersByClient(email, cursor, pageable);
+            response.setOrders(window.content());
+            response.setMeta(new MetaDTO(window));
+            return ResponseEntity.ok(response);
+        }
+        if (!count) {
+            Slice<OrderDTO> slice = orderService.getOrderSliceByClient(email, pageable);
+            response.setOrders(slice.getContent());
+            response.setMeta(new MetaDTO(slice, slice.hasNext() ? orderService.nextOrderCursorByClient(email, pageable) : null));
+            return ResponseEntity.ok(response);
+        }
+        Page<OrderDTO> page = orderService.getOrdersByClient(email, pageable);
         response.setOrders(page.getContent());
-        response.setMeta(new MetaDTO(page));
+        response.setMeta(new MetaDTO(page, page.hasNext() ? orderService.nextOrderCursorByClient(email, pageable) : null));
         return ResponseEntity.ok(response);
     }
 
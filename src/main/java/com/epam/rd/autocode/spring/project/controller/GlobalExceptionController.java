@@ -2,13 +2,17 @@ package com.epam.rd.autocode.spring.project.controller;
 
 import com.epam.rd.autocode.spring.project.dto.ErrorResponseDTO;
 import com.epam.rd.autocode.spring.project.exception.AlreadyExistException;
+import com.epam.rd.autocode.spring.project.exception.InsufficientFundsException;
 import com.epam.rd.autocode.spring.project.exception.NotFoundException;
 import com.epam.rd.autocode.spring.project.exception.OrderMustContainClientException;
+import com.epam.rd.autocode.spring.project.exception.OutOfStockException;
+import com.epam.rd.autocode.spring.project.exception.StaleVersionException;
 import com.epam.rd.autocode.spring.project.exception.UserDetailsAreNullException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.security.access.AccessDeniedException;
 import java.util.stream.Collectors;
@@ -46,12 +51,19 @@ public class GlobalExceptionController {
                 .body(new ErrorResponseDTO("Validation failed: " + errorMessage));
     }
 
-    @ExceptionHandler({DataIntegrityViolationException.class, AlreadyExistException.class})
+    @ExceptionHandler({DataIntegrityViolationException.class, AlreadyExistException.class,
+            OutOfStockException.class, InsufficientFundsException.class, OptimisticLockingFailureException.class})
     public ResponseEntity<ErrorResponseDTO> handleConflictExceptions(Exception ex) {
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(new ErrorResponseDTO(ex.getMessage()));
     }
 
+    @ExceptionHandler(StaleVersionException.class)
+    public ResponseEntity<ErrorResponseDTO> handleStaleVersionException(StaleVersionException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new ErrorResponseDTO(ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponseDTO> handleMethodArgumentTypeMismatchException
             (MethodArgumentTypeMismatchException ex) {
@@ -96,6 +108,12 @@ public class GlobalExceptionController {
                 .body(new ErrorResponseDTO("Validation failed: " + errorMessage));
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponseDTO> handleResponseStatusException(ResponseStatusException ex) {
+        return ResponseEntity.status(ex.getStatusCode())
+                .body(new ErrorResponseDTO(ex.getReason()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleGenericException() {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
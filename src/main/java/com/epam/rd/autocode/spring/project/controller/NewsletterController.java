@@ -0,0 +1,32 @@
+package com.epam.rd.autocode.spring.project.controller;
+
+import com.epam.rd.autocode.spring.project.dto.NewsletterResultDTO;
+import com.epam.rd.autocode.spring.project.dto.request.NewsletterDTO;
+import com.epam.rd.autocode.spring.project.service.NewsletterService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/newsletters")
+public class NewsletterController {
+    private final NewsletterService newsletterService;
+
+    public NewsletterController(NewsletterService newsletterService) {
+        this.newsletterService = newsletterService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<NewsletterResultDTO> sendNewsletter(@Valid @RequestBody NewsletterDTO newsletter){
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(newsletterService.sendToAllClients(newsletter));
+    }
+
+    @PostMapping("/{campaignId}/resume")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<NewsletterResultDTO> resumeNewsletter(@PathVariable Long campaignId){
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(newsletterService.resumeCampaign(campaignId));
+    }
+}
@@ -2,43 +2,101 @@ package com.epam.rd.autocode.spring.project.controller;
 
 import com.epam.rd.autocode.spring.project.annotations.CorrectSortFields;
 import com.epam.rd.autocode.spring.project.dto.MetaDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderConfirmationDTO;
 import com.epam.rd.autocode.spring.project.dto.OrderDTO;
 import com.epam.rd.autocode.spring.project.dto.PaginatedResponseDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ConfirmOrdersDTO;
+import com.epam.rd.autocode.spring.project.export.ExportTimeoutInterceptor;
+import com.epam.rd.autocode.spring.project.model.enums.ExportFormat;
+import com.epam.rd.autocode.spring.project.model.enums.PaginationMode;
 import com.epam.rd.autocode.spring.project.model.enums.SortableEntity;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.service.OrderExportService;
 import com.epam.rd.autocode.spring.project.service.OrderService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final ExportTimeoutInterceptor exportTimeoutInterceptor;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderExportService orderExportService,
+                           ExportTimeoutInterceptor exportTimeoutInterceptor) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.exportTimeoutInterceptor = exportTimeoutInterceptor;
     }
 
     @GetMapping
     @PreAuthorize("hasRole('EMPLOYEE')")
     public ResponseEntity<PaginatedResponseDTO<OrderDTO>> getAllOrders
             (@CorrectSortFields(entityType = SortableEntity.ORDER)
-             @PageableDefault(sort = "orderDate") Pageable pageable){
-        Page<OrderDTO> page = orderService.getAllOrders(pageable);
+             @PageableDefault(sort = "orderDate") Pageable pageable,
+             @RequestParam(required = false) String cursor,
+             @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+             @RequestParam(defaultValue = "true") boolean count){
         PaginatedResponseDTO<OrderDTO> response = new PaginatedResponseDTO<>();
+        if (cursor != null || mode == PaginationMode.KEYSET) {
+            KeysetWindow<OrderDTO> window = orderService.scrollOrders(cursor, pageable);
+            response.setOrders(window.content());
+            response.setMeta(new MetaDTO(window));
+            return ResponseEntity.ok(response);
+        }
+        if (!count) {
+            Slice<OrderDTO> slice = orderService.getOrderSlice(pageable);
+            response.setOrders(slice.getContent());
+            response.setMeta(new MetaDTO(slice, slice.hasNext() ? orderService.nextOrderCursor(pageable) : null));
+            return ResponseEntity.ok(response);
+        }
+        Page<OrderDTO> page = orderService.getAllOrders(pageable);
         response.setOrders(page.getContent());
-        response.setMeta(new MetaDTO(page));
+        response.setMeta(new MetaDTO(page, page.hasNext() ? orderService.nextOrderCursor(pageable) : null));
         return ResponseEntity.ok(response);
     }
 
-    @PreAuthorize("hasRole('CLIENT')")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<StreamingResponseBody> exportOrders
+            (@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+             NativeWebRequest request){
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range start must be before its end");
+        }
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ExportTimeoutInterceptor.class, exportTimeoutInterceptor);
+        StreamingResponseBody body = out -> orderExportService.exportOrders(from, to, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + format.getExtension()).build().toString())
+                .body(body);
+    }
+
+    @PreAuthorize("hasRole('CLIENT') and (#dto.clientEmail == null or #dto.clientEmail == authentication.name)")
     @PostMapping
-    public ResponseEntity<OrderDTO> addOrder(@Valid @RequestBody OrderDTO dto){
+    public ResponseEntity<OrderDTO> addOrder(@Valid @RequestBody OrderDTO dto, Principal principal){
+        dto.setClientEmail(principal.getName());
         return ResponseEntity.status(HttpStatus.CREATED).body(orderService.addOrder(dto));
     }
 
@@ -48,4 +106,10 @@ public class OrderController {
         orderService.confirmOrder(dto);
         return ResponseEntity.noContent().build();
     }
+
+    @PutMapping("/confirm")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public ResponseEntity<List<OrderConfirmationDTO>> confirmOrders(@Valid @RequestBody ConfirmOrdersDTO dto){
+        return ResponseEntity.ok(orderService.confirmOrders(dto));
+    }
 }
@@ -0,0 +1,31 @@
+package com.epam.rd.autocode.spring.project.dto;
+
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookFacetsDTO implements Serializable {
+    @JsonProperty("total_count")
+    private long totalCount;
+
+    private Map<String, Long> genre;
+
+    private Map<Language, Long> language;
+
+    @JsonProperty("age_group")
+    private Map<AgeGroup, Long> ageGroup;
+
+    private List<PriceBucketDTO> price;
+
+    @JsonProperty("publication_decade")
+    private Map<Integer, Long> publicationDecade;
+}
@@ -0,0 +1,31 @@
+package com.epam.rd.autocode.spring.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookSalesDTO {
+    @JsonProperty("sales_date")
+    private LocalDate salesDate;
+
+    @JsonProperty("book_name")
+    private String bookName;
+
+    private String genre;
+
+    private Long quantity;
+
+    private BigDecimal revenue;
+
+    @JsonProperty("confirmed_quantity")
+    private Long confirmedQuantity;
+
+    @JsonProperty("confirmed_revenue")
+    private BigDecimal confirmedRevenue;
+}
@@ -1,23 +1,28 @@
 package com.epam.rd.autocode.spring.project.dto;
 
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.ToString;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @ToString
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class MetaDTO {
-    private final int page;
+    private final Integer page;
 
     @JsonProperty("total_count")
-    private final long totalCount;
+    private final Long totalCount;
 
     @JsonProperty("page_size")
     private final int pageSize;
 
     @JsonProperty("total_pages")
-    private final int totalPages;
+    private final Integer totalPages;
 
     @JsonProperty("has_next")
     private final boolean hasNext;
@@ -25,12 +30,50 @@ public class MetaDTO {
     @JsonProperty("has_previous")
     private final boolean hasPrevious;
 
+    @JsonProperty("next_cursor")
+    private final String nextCursor;
+
+    @JsonProperty("previous_cursor")
+    private final String previousCursor;
+
     public MetaDTO(Page<?> page) {
+        this(page, null);
+    }
+
+    public MetaDTO(Page<?> page, KeysetCursor next) {
         this.page = page.getNumber();
         this.totalCount = page.getTotalElements();
         this.pageSize = page.getSize();
         this.totalPages = page.getTotalPages();
         this.hasNext = page.hasNext();
         this.hasPrevious = page.hasPrevious();
+        this.nextCursor = page.hasNext() && next != null ? next.encode() : null;
+        this.previousCursor = null;
+    }
+
+    public MetaDTO(Slice<?> slice) {
+        this(slice, null);
+    }
+
+    public MetaDTO(Slice<?> slice, KeysetCursor next) {
+        this.page = slice.getNumber();
+        this.totalCount = null;
+        this.pageSize = slice.getSize();
+        this.totalPages = null;
+        this.hasNext = slice.hasNext();
+        this.hasPrevious = slice.hasPrevious();
+        this.nextCursor = slice.hasNext() && next != null ? next.encode() : null;
+        this.previousCursor = null;
+    }
+
+    public MetaDTO(KeysetWindow<?> window) {
+        this.page = null;
+        this.totalCount = null;
+        this.pageSize = window.size();
+        this.totalPages = null;
+        this.hasNext = window.hasNext();
+        this.hasPrevious = window.hasPrevious();
+        this.nextCursor = window.hasNext() ? window.next().encode() : null;
+        this.previousCursor = window.hasPrevious() ? window.previous().encode() : null;
     }
 }
@@ -0,0 +1,17 @@
+package com.epam.rd.autocode.spring.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NewsletterResultDTO {
+    @JsonProperty("campaign_id")
+    private Long campaignId;
+
+    @JsonProperty("queued_emails")
+    private int queuedEmails;
+}
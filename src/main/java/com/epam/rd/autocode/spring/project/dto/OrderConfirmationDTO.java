@@ -0,0 +1,21 @@
+package com.epam.rd.autocode.spring.project.dto;
+
+import com.epam.rd.autocode.spring.project.model.enums.OrderConfirmationStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderConfirmationDTO {
+    @JsonProperty("public_id")
+    private UUID publicId;
+
+    private OrderConfirmationStatus status;
+
+    @JsonProperty("employee_email")
+    private String employeeEmail;
+}
@@ -2,7 +2,6 @@ package com.epam.rd.autocode.spring.project.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -15,12 +14,16 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class OrderDTO {
 
+    @JsonProperty(value = "public_id", access = JsonProperty.Access.READ_ONLY)
+    private UUID publicId;
+
     @Email(message = "Please provide a valid employee email address")
     @JsonProperty("employee_email")
     private String employeeEmail;
@@ -34,8 +37,7 @@ public class OrderDTO {
     @JsonProperty("order_date")
     private LocalDateTime orderDate;
 
-    @NotNull(message = "Order price is required")
-    @DecimalMin(value = "0.01", message = "Order price must be greater than 0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private BigDecimal price;
 
     @NotNull(message = "Book items list is required")
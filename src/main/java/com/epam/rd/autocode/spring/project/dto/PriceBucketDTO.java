@@ -0,0 +1,18 @@
+package com.epam.rd.autocode.spring.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceBucketDTO implements Serializable {
+    private BigDecimal from;
+
+    private BigDecimal to;
+
+    private long count;
+}
@@ -12,6 +12,9 @@ import java.time.Year;
 @Data
 @NoArgsConstructor
 public class SearchBookDTO {
+    @Size(max = 200, message = "Search query must be at most 200 characters")
+    private String query;
+
     private String name;
 
     private String genre;
@@ -0,0 +1,34 @@
+package com.epam.rd.autocode.spring.project.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConfirmOrdersDTO {
+    @NotBlank(message = "Employee email is required")
+    @Email(message = "Please provide a valid employee email address")
+    @JsonProperty("employee_email")
+    private String employeeEmail;
+
+    @NotNull(message = "Order ids list is required")
+    @NotEmpty(message = "At least one order id is required")
+    @Size(max = 1000, message = "At most 1000 orders can be confirmed at once")
+    @JsonProperty("order_ids")
+    private List<@NotNull(message = "Order id is required") UUID> orderIds = new ArrayList<>();
+
+    public void setEmployeeEmail(String employeeEmail) {
+        this.employeeEmail = employeeEmail != null ? employeeEmail.trim() : null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.epam.rd.autocode.spring.project.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NewsletterDTO {
+    @NotBlank(message = "Subject is required")
+    @Size(max = 200, message = "Subject must not exceed 200 characters")
+    private String subject;
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 20000, message = "Content must not exceed 20000 characters")
+    private String content;
+
+    public void setSubject(String subject) {
+        this.subject = subject != null ? subject.trim() : null;
+    }
+}
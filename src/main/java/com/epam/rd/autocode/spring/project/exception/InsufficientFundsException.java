@@ -0,0 +1,7 @@
+package com.epam.rd.autocode.spring.project.exception;
+
+public class InsufficientFundsException extends RuntimeException {
+    public InsufficientFundsException(String message) {
+        super(message + " has insufficient funds!");
+    }
+}
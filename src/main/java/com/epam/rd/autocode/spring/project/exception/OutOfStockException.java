@@ -0,0 +1,9 @@
+package com.epam.rd.autocode.spring.project.exception;
+
+import java.util.Collection;
+
+public class OutOfStockException extends RuntimeException {
+    public OutOfStockException(Collection<String> bookNames) {
+        super("Not enough stock for books " + String.join(", ", bookNames) + "!");
+    }
+}
@@ -0,0 +1,7 @@
+package com.epam.rd.autocode.spring.project.exception;
+
+public class StaleVersionException extends RuntimeException {
+    public StaleVersionException(String message) {
+        super(message + " was changed since it was read, reload it and try again!");
+    }
+}
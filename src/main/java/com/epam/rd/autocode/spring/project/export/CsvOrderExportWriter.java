@@ -0,0 +1,55 @@
+package com.epam.rd.autocode.spring.project.export;
+
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class CsvOrderExportWriter implements OrderExportWriter {
+    private static final String HEADER = "public_id,client_email,employee_email,order_date,price,book_items";
+
+    private final Writer out;
+
+    public CsvOrderExportWriter(OutputStream out, int bufferSize) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+        this.out.write(HEADER);
+        this.out.write('\n');
+    }
+
+    @Override
+    public void write(OrderDTO order) throws IOException {
+        out.write(field(order.getPublicId()));
+        out.write(',');
+        out.write(field(order.getClientEmail()));
+        out.write(',');
+        out.write(field(order.getEmployeeEmail()));
+        out.write(',');
+        out.write(field(order.getOrderDate()));
+        out.write(',');
+        out.write(field(order.getPrice() == null ? null : order.getPrice().toPlainString()));
+        out.write(',');
+        out.write(field(order.getBookItems().stream()
+                .map(item -> item.getBookName() + ":" + item.getQuantity())
+                .collect(Collectors.joining(";"))));
+        out.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    static String field(Object value) {
+        if (value == null) return "";
+        String text = Objects.toString(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
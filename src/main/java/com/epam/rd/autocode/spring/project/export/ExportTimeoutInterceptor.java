@@ -0,0 +1,24 @@
+package com.epam.rd.autocode.spring.project.export;
+
+import com.epam.rd.autocode.spring.project.conf.ExportSettings;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import java.util.concurrent.Callable;
+
+@Component
+public class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+    private final ExportSettings settings;
+
+    public ExportTimeoutInterceptor(ExportSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(settings.getAsyncTimeout().toMillis());
+        }
+    }
+}
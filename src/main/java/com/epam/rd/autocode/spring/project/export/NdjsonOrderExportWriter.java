@@ -0,0 +1,28 @@
+package com.epam.rd.autocode.spring.project.export;
+
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonOrderExportWriter implements OrderExportWriter {
+    private final ObjectWriter objectWriter;
+    private final BufferedOutputStream out;
+
+    public NdjsonOrderExportWriter(ObjectWriter objectWriter, OutputStream out, int bufferSize) {
+        this.objectWriter = objectWriter;
+        this.out = new BufferedOutputStream(out, bufferSize);
+    }
+
+    @Override
+    public void write(OrderDTO order) throws IOException {
+        out.write(objectWriter.writeValueAsBytes(order));
+        out.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+}
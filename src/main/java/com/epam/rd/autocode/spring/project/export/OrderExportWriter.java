@@ -0,0 +1,11 @@
+package com.epam.rd.autocode.spring.project.export;
+
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import java.io.IOException;
+
+public interface OrderExportWriter {
+
+    void write(OrderDTO order) throws IOException;
+
+    void finish() throws IOException;
+}
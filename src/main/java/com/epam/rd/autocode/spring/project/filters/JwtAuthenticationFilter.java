@@ -1,5 +1,6 @@
 package com.epam.rd.autocode.spring.project.filters;
 
+import com.epam.rd.autocode.spring.project.utils.JwtPrincipal;
 import com.epam.rd.autocode.spring.project.utils.JwtUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,6 +11,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
@@ -39,20 +41,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
 
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    String username = jwtUtils.getUserName(token);
-                    if (username == null || username.trim().isEmpty()) {
+                    JwtPrincipal principal = jwtUtils.parseToken(token).orElse(null);
+                    if (principal == null || !StringUtils.hasText(principal.username())) {
                         filterChain.doFilter(request, response);
                         return;
                     }
-                    List<String> roles = jwtUtils.getRoles(token);
 
-                    if (!jwtUtils.isTokenExpired(token)) {
-                        List<SimpleGrantedAuthority> authorities = roles.stream()
+                    if (!principal.isExpired()) {
+                        List<SimpleGrantedAuthority> authorities = principal.roles().stream()
                                 .map(SimpleGrantedAuthority::new)
                                 .collect(Collectors.toList());
 
                         UsernamePasswordAuthenticationToken authToken =
-                                new UsernamePasswordAuthenticationToken(username, null, authorities);
+                                new UsernamePasswordAuthenticationToken(principal.username(), null, authorities);
 
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authToken);
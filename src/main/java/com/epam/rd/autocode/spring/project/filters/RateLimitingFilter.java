@@ -1,64 +1,55 @@
 package com.epam.rd.autocode.spring.project.filters;
 
+import com.epam.rd.autocode.spring.project.conf.RateLimitSettings;
+import com.epam.rd.autocode.spring.project.ratelimit.RateLimitDecision;
+import com.epam.rd.autocode.spring.project.ratelimit.RateLimitStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter{
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
 
-    private final Map<String, RequestInfo> requestCounts = new ConcurrentHashMap<>();
+    private final RateLimitSettings settings;
+    private final RateLimitStore store;
 
-    @Value("${rate.max-requests}")
-    private int maxRequests;
-
-    @Value("${rate.time-window-minutes}")
-    private int timeWindowMinutes;
-    
-    private static class RequestInfo {
-        int count;
-        long firstRequestTime;
-
-        RequestInfo(int count, long firstRequestTime) {
-            this.count = count;
-            this.firstRequestTime = firstRequestTime;
-        }
+    public RateLimitingFilter(RateLimitSettings settings, RateLimitStore store) {
+        this.settings = settings;
+        this.store = store;
     }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        if (!request.getRequestURI().contains("/login")) {
+        Optional<RateLimitSettings.Rule> rule = settings.findRule(request.getRequestURI());
+        if (rule.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
-        String clientIp = request.getRemoteAddr();
-        long currentTime = System.currentTimeMillis();
+        String key = rule.get().getPath() + ":" + request.getRemoteAddr();
+        RateLimitDecision decision = store.tryAcquire(key, rule.get());
+        long resetSeconds = Math.max(1, (decision.resetAfterMillis() + 999) / 1000);
 
-        long timeWindow = timeWindowMinutes * 60 * 1000L;
-        RequestInfo requestInfo = requestCounts.get(clientIp);
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(resetSeconds));
 
-        if(requestInfo  == null || (currentTime - requestInfo.firstRequestTime) >= timeWindow) {
-            requestInfo = new RequestInfo(1, currentTime);
-            requestCounts.put(clientIp, requestInfo);
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        if(requestInfo.count >= maxRequests){
+        if(!decision.allowed()){
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(resetSeconds));
             response.getWriter().write("Too many requests!!!");
             return;
         }
-
-        requestInfo.count++;
         filterChain.doFilter(request, response);
     }
 }
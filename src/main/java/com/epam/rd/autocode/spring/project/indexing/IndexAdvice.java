@@ -0,0 +1,8 @@
+package com.epam.rd.autocode.spring.project.indexing;
+
+public record IndexAdvice(String entityType, String sortField, String table, String column, String index,
+                          boolean joined) {
+    public boolean covered() {
+        return !joined && index != null;
+    }
+}
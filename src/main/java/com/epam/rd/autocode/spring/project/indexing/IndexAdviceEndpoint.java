@@ -0,0 +1,21 @@
+package com.epam.rd.autocode.spring.project.indexing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+@Endpoint(id = "indexadvice")
+public class IndexAdviceEndpoint {
+    private final IndexAdvisor indexAdvisor;
+
+    public IndexAdviceEndpoint(IndexAdvisor indexAdvisor) {
+        this.indexAdvisor = indexAdvisor;
+    }
+
+    @ReadOperation
+    public List<IndexAdvice> advice() {
+        return indexAdvisor.advise();
+    }
+}
@@ -0,0 +1,124 @@
+package com.epam.rd.autocode.spring.project.indexing;
+
+import com.epam.rd.autocode.spring.project.conf.SortOptionsSettings;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityAssociationMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+@Slf4j
+public class IndexAdvisor {
+    private final SortOptionsSettings sortOptionsSettings;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public IndexAdvisor(SortOptionsSettings sortOptionsSettings, EntityManagerFactory entityManagerFactory) {
+        this.sortOptionsSettings = sortOptionsSettings;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public List<IndexAdvice> advise() {
+        List<IndexAdvice> advice = new ArrayList<>();
+        sortOptionsSettings.getEntityTypes().stream().sorted().forEach(entityType -> {
+            Optional<AbstractEntityPersister> persister = persister(entityType);
+            if (persister.isEmpty()) {
+                log.warn("Sort options reference unknown entity '{}'", entityType);
+                return;
+            }
+            for (String sortField : sortOptionsSettings.getEntitySortOptions(entityType)) {
+                try {
+                    advice.add(advise(entityType, sortField, persister.get()));
+                } catch (RuntimeException e) {
+                    log.warn("Sort field '{}' of '{}' does not resolve to a column: {}", sortField, entityType, e.getMessage());
+                }
+            }
+        });
+        return advice;
+    }
+
+    public List<IndexAdvice> missing() {
+        return advise().stream().filter(advice -> !advice.joined() && !advice.covered()).toList();
+    }
+
+    public List<IndexAdvice> joined() {
+        return advise().stream().filter(IndexAdvice::joined).toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        List<IndexAdvice> advice = advise();
+        advice.stream()
+                .filter(entry -> !entry.joined() && !entry.covered())
+                .forEach(entry -> log.warn("Sort field '{}' of '{}' has no index leading with {}.{}",
+                        entry.sortField(), entry.entityType(), entry.table(), entry.column()));
+        advice.stream()
+                .filter(IndexAdvice::joined)
+                .forEach(entry -> log.warn("Sort field '{}' of '{}' sorts on joined column {}.{}, " +
+                                "which no single-table index can serve",
+                        entry.sortField(), entry.entityType(), entry.table(), entry.column()));
+        log.info("Index advisor checked {} sort fields, {} without a leading index, {} across joins",
+                advice.size(), advice.stream().filter(entry -> !entry.joined() && !entry.covered()).count(),
+                advice.stream().filter(IndexAdvice::joined).count());
+    }
+
+    private IndexAdvice advise(String entityType, String sortField, AbstractEntityPersister root) {
+        AbstractEntityPersister persister = root;
+        String[] path = sortField.split("\\.");
+        for (int i = 0; i < path.length - 1; i++) {
+            AttributeMapping attribute = persister.findAttributeMapping(path[i]);
+            if (!(attribute instanceof EntityAssociationMapping association)) {
+                throw new IllegalArgumentException(path[i] + " is not an association");
+            }
+            persister = (AbstractEntityPersister) association.getAssociatedEntityMappingType().getEntityPersister();
+        }
+        String column = normalize(persister.getPropertyColumnNames(path[path.length - 1])[0]);
+        String table = normalize(persister.getMappedTableDetails().getTableName());
+        String index = leadingIndex(persister.getMappedClass(), column);
+        return new IndexAdvice(entityType, sortField, table, column, index, path.length > 1);
+    }
+
+    private String leadingIndex(Class<?> entityClass, String column) {
+        Table table = entityClass.getAnnotation(Table.class);
+        if (table == null) return null;
+        return Arrays.stream(table.indexes())
+                .filter(index -> column.equals(normalize(index.columnList().split(",")[0])))
+                .min(Comparator.comparingInt(index -> index.columnList().split(",").length))
+                .map(Index::name)
+                .orElse(null);
+    }
+
+    private Optional<AbstractEntityPersister> persister(String entityType) {
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .filter(type -> entityType.equals(snakeCase(type.getSimpleName())))
+                .findFirst()
+                .map(type -> (AbstractEntityPersister) metamodel().getEntityDescriptor(type));
+    }
+
+    private MappingMetamodel metamodel() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalize(String identifier) {
+        return identifier.strip().replace("\"", "").replace("`", "").toLowerCase(Locale.ROOT);
+    }
+}
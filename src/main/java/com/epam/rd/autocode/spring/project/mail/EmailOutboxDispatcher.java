@@ -0,0 +1,194 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import com.epam.rd.autocode.spring.project.conf.OutboxSettings;
+import com.epam.rd.autocode.spring.project.model.OutboundEmail;
+import com.epam.rd.autocode.spring.project.model.enums.EmailStatus;
+import com.epam.rd.autocode.spring.project.repo.MailCampaignRepository;
+import com.epam.rd.autocode.spring.project.repo.OutboundEmailRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboundEmailRepository outboxRepository;
+    private final MailCampaignRepository campaignRepository;
+    private final SmtpConnectionPool connectionPool;
+    private final OutboxSettings settings;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor workers;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    public EmailOutboxDispatcher(OutboundEmailRepository outboxRepository, MailCampaignRepository campaignRepository,
+                                 SmtpConnectionPool connectionPool, OutboxSettings settings, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.campaignRepository = campaignRepository;
+        this.connectionPool = connectionPool;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(settings.getWorkers(), settings.getWorkers(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                runnable -> new Thread(runnable, "mail-outbox-" + threads.incrementAndGet()));
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("mail.outbox.dead", dead, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("mail.outbox.workers.queued", workers, executor -> executor.getQueue().size()).register(meterRegistry);
+        Gauge.builder("mail.smtp.connections.idle", connectionPool, SmtpConnectionPool::idleConnections).register(meterRegistry);
+        FunctionCounter.builder("mail.smtp.connections.opened", connectionPool, SmtpConnectionPool::openedConnections)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmailQueued(EmailQueuedEvent event) {
+        if (settings.isDeliveryEnabled()) submitAll(event.emailIds());
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval}")
+    public void poll() {
+        if (!settings.isDeliveryEnabled()) return;
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboxRepository.releaseExpiredClaims(now.minus(settings.getClaimTimeout()));
+        if (released > 0) log.warn("Released {} outbound emails whose delivery never completed", released);
+        int capacity = Math.min(settings.getBatchSize(), workers.getQueue().remainingCapacity() * settings.getSendBatchSize());
+        if (capacity > 0) submitAll(outboxRepository.findDueIds(now, Limit.of(capacity)));
+        connectionPool.evictIdle();
+        pending.set(outboxRepository.countByStatus(EmailStatus.PENDING));
+        dead.set(outboxRepository.countByStatus(EmailStatus.DEAD));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(settings.getRetention());
+        int purged = outboxRepository.purgeFinishedBefore(cutoff);
+        if (purged > 0) log.info("Purged {} sent or dead outbound emails older than {}", purged, settings.getRetention());
+        int campaigns = campaignRepository.purgeUnreferencedBefore(cutoff);
+        if (campaigns > 0) log.info("Purged {} mail campaigns with no remaining outbound emails", campaigns);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) workers.shutdownNow();
+    }
+
+    void deliver(List<Long> ids) {
+        UUID token = UUID.randomUUID();
+        if (outboxRepository.claim(ids, token, LocalDateTime.now()) == 0) return;
+        List<OutboundEmail> emails = outboxRepository.findAllByClaimTokenOrderById(token);
+        if (emails.isEmpty()) return;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<OutboundEmail> prepared = new ArrayList<>(emails.size());
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        Map<OutboundEmail, Exception> failures = new LinkedHashMap<>();
+        for (OutboundEmail email : emails) {
+            try {
+                messages.add(toMessage(email));
+                prepared.add(email);
+            } catch (MessagingException | RuntimeException e) {
+                failures.put(email, e);
+            }
+        }
+        if (!messages.isEmpty()) {
+            try {
+                connectionPool.sendAll(messages).forEach((index, e) -> failures.put(prepared.get(index), e));
+            } catch (MessagingException | RuntimeException e) {
+                prepared.forEach(email -> failures.put(email, e));
+            }
+        }
+        List<Long> sent = prepared.stream().filter(email -> !failures.containsKey(email)).map(OutboundEmail::getId).toList();
+        if (!sent.isEmpty()) outboxRepository.markSent(sent, LocalDateTime.now());
+        failures.forEach(this::fail);
+        meterRegistry.counter("mail.outbox.sent").increment(sent.size());
+        record(sample, failures.isEmpty() ? "sent" : sent.isEmpty() ? "failed" : "partial");
+    }
+
+    private void submitAll(List<Long> ids) {
+        int chunk = settings.getSendBatchSize();
+        for (int from = 0; from < ids.size(); from += chunk) {
+            submit(List.copyOf(ids.subList(from, Math.min(from + chunk, ids.size()))));
+        }
+    }
+
+    private void submit(List<Long> ids) {
+        try {
+            workers.execute(() -> deliver(ids));
+        } catch (RejectedExecutionException e) {
+            log.debug("Mail workers are saturated, {} outbound emails wait for the next poll", ids.size());
+        }
+    }
+
+    private MimeMessage toMessage(OutboundEmail email) throws MessagingException {
+        MimeMessage message = connectionPool.createMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(email.getSender());
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.resolveBody(), email.isHtml());
+        return message;
+    }
+
+    private void fail(OutboundEmail email, Exception e) {
+        int attempt = email.getAttempts() + 1;
+        String error = errorOf(e);
+        if (isPermanent(e) || attempt >= settings.getMaxAttempts()) {
+            outboxRepository.markDead(email.getId(), error);
+            meterRegistry.counter("mail.outbox.dead.letters").increment();
+            log.warn("Outbound email {} moved to dead letters after {} attempts: {}", email.getId(), attempt, error);
+            return;
+        }
+        Duration backoff = backoff(attempt);
+        outboxRepository.reschedule(email.getId(), LocalDateTime.now().plus(backoff), error);
+        meterRegistry.counter("mail.outbox.retries").increment();
+        log.info("Outbound email {} failed on attempt {}, retrying in {}", email.getId(), attempt, backoff);
+    }
+
+    Duration backoff(int attempt) {
+        double millis = settings.getInitialBackoff().toMillis() * Math.pow(settings.getMultiplier(), attempt - 1);
+        return Duration.ofMillis((long) Math.min(millis, settings.getMaxBackoff().toMillis()));
+    }
+
+    private boolean isPermanent(Exception e) {
+        return e instanceof AddressException
+                || e instanceof SendFailedException failed && failed.getInvalidAddresses() != null
+                && failed.getInvalidAddresses().length > 0;
+    }
+
+    private String errorOf(Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private void record(Timer.Sample sample, String outcome) {
+        sample.stop(meterRegistry.timer("mail.send.latency", "outcome", outcome));
+    }
+}
@@ -0,0 +1,6 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import java.util.List;
+
+public record EmailQueuedEvent(List<Long> emailIds) {
+}
@@ -0,0 +1,48 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import com.epam.rd.autocode.spring.project.model.enums.MailTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Slf4j
+public class MailTemplateRenderer {
+    private static final String TEMPLATE_PREFIX = "templates/mail/";
+
+    private final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+
+    public MailTemplateRenderer() {
+        templateEngine.addTemplateResolver(resolver(TemplateMode.TEXT, "*.txt", 1));
+        templateEngine.addTemplateResolver(resolver(TemplateMode.HTML, "*.html", 2));
+        for (MailTemplate template : MailTemplate.values()) {
+            render(template, Map.of());
+        }
+        log.debug("Precompiled {} mail templates", MailTemplate.values().length);
+    }
+
+    public String render(MailTemplate template, Map<String, ?> variables) {
+        Context context = new Context(Locale.ENGLISH);
+        variables.forEach(context::setVariable);
+        return templateEngine.process(template.getTemplateName(), context);
+    }
+
+    private ClassLoaderTemplateResolver resolver(TemplateMode mode, String pattern, int order) {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix(TEMPLATE_PREFIX);
+        resolver.setTemplateMode(mode);
+        resolver.setResolvablePatterns(Set.of(pattern));
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+        resolver.setCheckExistence(true);
+        resolver.setOrder(order);
+        return resolver;
+    }
+}
@@ -0,0 +1,113 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import com.epam.rd.autocode.spring.project.conf.OutboxSettings;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class SmtpConnectionPool {
+    private final JavaMailSenderImpl mailSender;
+    private final OutboxSettings settings;
+    private final Deque<IdleTransport> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicLong opened = new AtomicLong();
+
+    public SmtpConnectionPool(JavaMailSenderImpl mailSender, OutboxSettings settings) {
+        this.mailSender = mailSender;
+        this.settings = settings;
+    }
+
+    public MimeMessage createMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    public Map<Integer, MessagingException> sendAll(List<MimeMessage> messages) throws MessagingException {
+        Map<Integer, MessagingException> failures = new HashMap<>();
+        if (messages.isEmpty()) return failures;
+        Transport transport = borrow();
+        for (int i = 0; i < messages.size(); i++) {
+            MimeMessage message = messages.get(i);
+            try {
+                message.saveChanges();
+                transport.sendMessage(message, message.getAllRecipients());
+            } catch (SendFailedException e) {
+                failures.put(i, e);
+            } catch (MessagingException | RuntimeException e) {
+                close(transport);
+                MessagingException failure = e instanceof MessagingException messaging
+                        ? messaging : new MessagingException(e.getMessage(), e);
+                for (int j = i; j < messages.size(); j++) failures.put(j, failure);
+                return failures;
+            }
+        }
+        idle.offerFirst(new IdleTransport(transport, System.nanoTime()));
+        return failures;
+    }
+
+    public int idleConnections() {
+        return idle.size();
+    }
+
+    public long openedConnections() {
+        return opened.get();
+    }
+
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - settings.getConnectionIdleTimeout().toNanos();
+        for (IdleTransport candidate : idle) {
+            if (candidate.releasedAt() < cutoff && idle.remove(candidate)) close(candidate.transport());
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        for (IdleTransport candidate = idle.pollFirst(); candidate != null; candidate = idle.pollFirst()) {
+            close(candidate.transport());
+        }
+    }
+
+    private Transport borrow() throws MessagingException {
+        long cutoff = System.nanoTime() - settings.getConnectionIdleTimeout().toNanos();
+        for (IdleTransport candidate = idle.pollFirst(); candidate != null; candidate = idle.pollFirst()) {
+            if (candidate.releasedAt() >= cutoff && candidate.transport().isConnected()) return candidate.transport();
+            close(candidate.transport());
+        }
+        return connect();
+    }
+
+    private Transport connect() throws MessagingException {
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) username = null;
+        if ("".equals(password)) password = null;
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        opened.incrementAndGet();
+        log.debug("Opened SMTP connection to {}:{}", mailSender.getHost(), mailSender.getPort());
+        return transport;
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection cleanly", e);
+        }
+    }
+
+    private record IdleTransport(Transport transport, long releasedAt) {
+    }
+}
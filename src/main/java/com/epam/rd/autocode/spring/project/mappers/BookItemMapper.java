@@ -1,26 +1,20 @@
 package com.epam.rd.autocode.spring.project.mappers;
 
+import com.epam.rd.autocode.spring.project.conf.BaseConfig;
 import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
 import com.epam.rd.autocode.spring.project.model.BookItem;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-@Component
-public class BookItemMapper {
-    private final ModelMapper mapper;
+@Mapper(config = BaseConfig.class)
+public interface BookItemMapper {
 
-    public BookItemMapper(ModelMapper mapper) {
-        this.mapper = mapper;
+    @Mapping(target = "bookName", source = "book.name")
+    BookItemDTO toDto(BookItem bookItem);
 
-        mapper.createTypeMap(BookItem.class, BookItemDTO.class)
-                .addMapping(bookItem -> bookItem.getBook().getName(), BookItemDTO::setBookName);
-    }
-
-    public BookItemDTO toDto(BookItem bookItem){
-        return mapper.map(bookItem, BookItemDTO.class);
-    }
-
-    public BookItem toEntity(BookItemDTO dto){
-        return mapper.map(dto, BookItem.class);
-    }
-}
\ No newline at end of file
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "order", ignore = true)
+    @Mapping(target = "book", ignore = true)
+    @Mapping(target = "unitPrice", ignore = true)
+    BookItem toEntity(BookItemDTO dto);
+}
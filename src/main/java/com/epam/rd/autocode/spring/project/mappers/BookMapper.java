@@ -1,24 +1,24 @@
 package com.epam.rd.autocode.spring.project.mappers;
 
+import com.epam.rd.autocode.spring.project.conf.BaseConfig;
 import com.epam.rd.autocode.spring.project.dto.BookDTO;
 import com.epam.rd.autocode.spring.project.model.Book;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Component
-public class BookMapper {
-    private final ModelMapper mapper;
+@Mapper(config = BaseConfig.class)
+public interface BookMapper {
 
-    public BookMapper(ModelMapper mapper) {
-        this.mapper = mapper;
-        mapper.createTypeMap(BookDTO.class, Book.class)
-                .addMappings(m ->
-                        m.skip(Book::setId));
-    }
+    BookDTO toDto(Book book);
 
-    public BookDTO toDto(Book book){return mapper.map(book, BookDTO.class); }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "stock", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Book toEntity(BookDTO dto);
 
-    public Book toEntity(BookDTO dto){
-        return mapper.map(dto, Book.class);
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "stock", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(BookDTO dto, @MappingTarget Book book);
 }
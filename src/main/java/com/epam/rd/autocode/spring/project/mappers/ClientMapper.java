@@ -1,37 +1,39 @@
 package com.epam.rd.autocode.spring.project.mappers;
 
+import com.epam.rd.autocode.spring.project.conf.BaseConfig;
 import com.epam.rd.autocode.spring.project.dto.ClientDTO;
 import com.epam.rd.autocode.spring.project.dto.ClientUpdateDTO;
 import com.epam.rd.autocode.spring.project.model.Client;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Component
-public class ClientMapper {
-    private final ModelMapper mapper;
+@Mapper(config = BaseConfig.class)
+public interface ClientMapper {
 
-    public ClientMapper(ModelMapper mapper) {
-        this.mapper = mapper;
-        mapper.createTypeMap(ClientDTO.class, Client.class).addMappings(m ->
-           m.skip(Client::setId)
-        );
-        mapper.createTypeMap(ClientUpdateDTO.class, Client.class)
-                .addMappings(mapping -> {
-                    mapping.skip(Client::setId);
-                    mapping.skip(Client::setPassword);
-                    mapping.skip(Client::setEmail);
-                });
-    }
+    ClientDTO toDto(Client client);
 
-    public ClientDTO toDto(Client client){
-        return mapper.map(client, ClientDTO.class);
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Client toEntity(ClientDTO dto);
 
-    public Client toEntity(ClientDTO dto){
-        return mapper.map(dto, Client.class);
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "password", ignore = true)
+    Client toEntity(ClientUpdateDTO dto);
 
-    public Client toEntity(ClientUpdateDTO dto){
-        return mapper.map(dto, Client.class);
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(ClientDTO dto, @MappingTarget Client client);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "password", ignore = true)
+    void updateEntity(ClientUpdateDTO dto, @MappingTarget Client client);
 }
@@ -1,37 +1,39 @@
 package com.epam.rd.autocode.spring.project.mappers;
 
+import com.epam.rd.autocode.spring.project.conf.BaseConfig;
 import com.epam.rd.autocode.spring.project.dto.EmployeeDTO;
 import com.epam.rd.autocode.spring.project.dto.EmployeeUpdateDTO;
 import com.epam.rd.autocode.spring.project.model.Employee;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
-@Component
-public class EmployeeMapper {
-    private final ModelMapper mapper;
+@Mapper(config = BaseConfig.class)
+public interface EmployeeMapper {
 
-    public EmployeeMapper(ModelMapper mapper) {
-        this.mapper = mapper;
-        mapper.createTypeMap(EmployeeDTO.class, Employee.class).addMappings(m ->
-                m.skip(Employee::setId)
-        );
-        mapper.createTypeMap(EmployeeUpdateDTO.class, Employee.class)
-                .addMappings(mapping -> {
-                    mapping.skip(Employee::setId);
-                    mapping.skip(Employee::setPassword);
-                    mapping.skip(Employee::setEmail);
-                });
-    }
+    EmployeeDTO toDto(Employee employee);
 
-    public EmployeeDTO toDto(Employee employee){
-        return mapper.map(employee, EmployeeDTO.class);
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Employee toEntity(EmployeeDTO dto);
 
-    public Employee toEntity(EmployeeDTO dto){
-        return mapper.map(dto, Employee.class);
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "password", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Employee toEntity(EmployeeUpdateDTO dto);
 
-    public Employee toEntity(EmployeeUpdateDTO dto){
-        return mapper.map(dto, Employee.class);
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(EmployeeDTO dto, @MappingTarget Employee employee);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "authorities", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "password", ignore = true)
+    void updateEntity(EmployeeUpdateDTO dto, @MappingTarget Employee employee);
 }
@@ -1,44 +1,32 @@
 package com.epam.rd.autocode.spring.project.mappers;
 
+import com.epam.rd.autocode.spring.project.conf.BaseConfig;
 import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
 import com.epam.rd.autocode.spring.project.dto.OrderDTO;
 import com.epam.rd.autocode.spring.project.model.Order;
-import org.springframework.stereotype.Component;
-import java.util.List;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderRow;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.NullValueMappingStrategy;
 import java.util.ArrayList;
+import java.util.List;
 
-@Component
-public class OrderMapper {
-
-    private final BookItemMapper bookItemMapper;
-
-    public OrderMapper(BookItemMapper bookItemMapper) {
-        this.bookItemMapper = bookItemMapper;
-    }
-
-    public OrderDTO toDto(Order order) {
-        OrderDTO dto = new OrderDTO();
+@Mapper(config = BaseConfig.class, uses = BookItemMapper.class, imports = ArrayList.class,
+        nullValueIterableMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+public interface OrderMapper {
 
-        dto.setOrderDate(order.getOrderDate());
-        dto.setPrice(order.getPrice());
-        dto.setEmployeeEmail(order.getEmployee() != null ? order.getEmployee().getEmail() : null);
-        dto.setClientEmail(order.getClient() != null ? order.getClient().getEmail() : null);
+    @Mapping(target = "employeeEmail", source = "employee.email")
+    @Mapping(target = "clientEmail", source = "client.email")
+    OrderDTO toDto(Order order);
 
-        if (order.getBookItems() != null && !order.getBookItems().isEmpty()) {
-            List<BookItemDTO> bookItemDTOs = order.getBookItems().stream()
-                    .map(bookItemMapper::toDto)
-                    .toList();
-            dto.setBookItems(bookItemDTOs);
-        }
-        else dto.setBookItems(new ArrayList<>());
-        return dto;
+    default OrderDTO toDto(OrderRow row, List<BookItemDTO> bookItems) {
+        return new OrderDTO(row.publicId(), row.employeeEmail(), row.clientEmail(), row.orderDate(), row.price(), bookItems);
     }
 
-    public Order toEntity(OrderDTO dto) {
-        Order order = new Order();
-        order.setOrderDate(dto.getOrderDate());
-        order.setPrice(dto.getPrice());
-        order.setBookItems(new ArrayList<>());
-        return order;
-    }
-}
\ No newline at end of file
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "publicId", ignore = true)
+    @Mapping(target = "employee", ignore = true)
+    @Mapping(target = "client", ignore = true)
+    @Mapping(target = "bookItems", expression = "java(new ArrayList<>())")
+    Order toEntity(OrderDTO dto);
+}
@@ -0,0 +1,20 @@
+package com.epam.rd.autocode.spring.project.mappers;
+
+import com.epam.rd.autocode.spring.project.conf.BaseConfig;
+import com.epam.rd.autocode.spring.project.dto.BookSalesDTO;
+import com.epam.rd.autocode.spring.project.dto.DailySalesDTO;
+import com.epam.rd.autocode.spring.project.dto.GenreSalesDTO;
+import com.epam.rd.autocode.spring.project.model.BookDailySales;
+import com.epam.rd.autocode.spring.project.model.GenreDailySales;
+import com.epam.rd.autocode.spring.project.repo.projection.DailySalesRow;
+import org.mapstruct.Mapper;
+
+@Mapper(config = BaseConfig.class)
+public interface SalesMapper {
+
+    BookSalesDTO toDto(BookDailySales sales);
+
+    GenreSalesDTO toDto(GenreDailySales sales);
+
+    DailySalesDTO toDto(DailySalesRow row);
+}
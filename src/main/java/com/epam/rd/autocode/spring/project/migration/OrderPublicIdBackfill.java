@@ -0,0 +1,89 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class OrderPublicIdBackfill implements SmartInitializingSingleton {
+    private static final String TABLE = "orders";
+    private static final String COLUMN = "public_id";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderPublicIdBackfill(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    public void migrate() {
+        Integer backfilled = transactionTemplate.execute(status -> backfill());
+        if (backfilled != null && backfilled > 0) log.info("Backfilled public ids for {} orders", backfilled);
+        ColumnState column = columnState();
+        if (column != null && column.nullable()) {
+            jdbcTemplate.execute(notNullStatement(column));
+            log.info("Tightened {}.{} to NOT NULL", TABLE, COLUMN);
+        }
+    }
+
+    private int backfill() {
+        List<?> ids = entityManager.createNativeQuery("SELECT id FROM " + TABLE + " WHERE " + COLUMN + " IS NULL")
+                .getResultList();
+        for (Object id : ids) {
+            entityManager.createNativeQuery("UPDATE " + TABLE + " SET " + COLUMN + " = :publicId WHERE id = :id")
+                    .setParameter("publicId", UUID.randomUUID())
+                    .setParameter("id", id)
+                    .executeUpdate();
+        }
+        return ids.size();
+    }
+
+    private String notNullStatement(ColumnState column) {
+        if (dialect() instanceof MySQLDialect) {
+            return "ALTER TABLE " + TABLE + " MODIFY " + COLUMN + " " + column.type() + " NOT NULL";
+        }
+        return "ALTER TABLE " + TABLE + " ALTER COLUMN " + COLUMN + " SET NOT NULL";
+    }
+
+    private ColumnState columnState() {
+        return jdbcTemplate.execute((ConnectionCallback<ColumnState>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+                    upperCase ? TABLE.toUpperCase() : TABLE, upperCase ? COLUMN.toUpperCase() : COLUMN)) {
+                if (!columns.next()) return null;
+                return new ColumnState(columns.getInt("NULLABLE") == DatabaseMetaData.columnNullable,
+                        columns.getString("TYPE_NAME") + "(" + columns.getInt("COLUMN_SIZE") + ")");
+            }
+        });
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    private record ColumnState(boolean nullable, String type) {
+    }
+}
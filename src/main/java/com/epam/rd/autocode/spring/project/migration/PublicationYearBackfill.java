@@ -0,0 +1,28 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class PublicationYearBackfill implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+
+    public PublicationYearBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfill();
+    }
+
+    public int backfill() {
+        int updated = jdbcTemplate.update("UPDATE books SET pub_year = EXTRACT(YEAR FROM publication_year) " +
+                "WHERE pub_year IS NULL AND publication_year IS NOT NULL");
+        if (updated > 0) log.info("Backfilled pub_year for {} books", updated);
+        return updated;
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class SequenceSeeder implements SmartInitializingSingleton {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceSeeder(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        seed();
+    }
+
+    public void seed() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                seed(entityPersister, generator.getDatabaseStructure(), dialect);
+            }
+        });
+    }
+
+    private void seed(AbstractEntityPersister persister, DatabaseStructure structure, Dialect dialect) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + persister.getIdentifierColumnNames()[0] + ") FROM " +
+                persister.getIdentifierTableName(), Long.class);
+        if (maxId == null) return;
+        String name = structure.getPhysicalName().render();
+        long floor = maxId + structure.getIncrementSize();
+        if (structure.isPhysicalSequence()) {
+            Long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(name), Long.class);
+            if (next != null && next >= floor) return;
+            jdbcTemplate.execute("ALTER SEQUENCE " + name + " RESTART WITH " + floor);
+        } else if (jdbcTemplate.update("UPDATE " + name + " SET " + SequenceStyleGenerator.DEF_VALUE_COLUMN + " = ? WHERE " +
+                SequenceStyleGenerator.DEF_VALUE_COLUMN + " < ?", floor, floor) == 0) {
+            return;
+        }
+        log.info("Seeded {} to {} above existing {} ids", name, floor, persister.getIdentifierTableName());
+    }
+}
@@ -0,0 +1,65 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+@Component
+@Slf4j
+public class VersionBackfill implements SmartInitializingSingleton {
+    private static final List<String> TABLES = List.of("books", "clients", "employees");
+    private static final String COLUMN = "version";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public VersionBackfill(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    public void migrate() {
+        TABLES.forEach(this::migrate);
+    }
+
+    private void migrate(String table) {
+        int backfilled = jdbcTemplate.update("UPDATE " + table + " SET " + COLUMN + " = 0 WHERE " + COLUMN + " IS NULL");
+        if (backfilled > 0) log.info("Backfilled {} for {} rows in {}", COLUMN, backfilled, table);
+        if (!isNullable(table)) return;
+        if (isMySql()) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + COLUMN + " BIGINT NOT NULL DEFAULT 0");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + COLUMN + " SET DEFAULT 0");
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + COLUMN + " SET NOT NULL");
+        }
+        log.info("Tightened {}.{} to NOT NULL DEFAULT 0", table, COLUMN);
+    }
+
+    private boolean isNullable(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+                    upperCase ? table.toUpperCase() : table, upperCase ? COLUMN.toUpperCase() : COLUMN)) {
+                return columns.next() && columns.getInt("NULLABLE") == DatabaseMetaData.columnNullable;
+            }
+        }));
+    }
+
+    private boolean isMySql() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof MySQLDialect;
+    }
+}
@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 @Entity
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "blocked_clients")
+@Table(name = "blocked_clients", indexes = @Index(name = "idx_blocked_client_when", columnList = "blocked_when"))
 public class BlockedClient {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
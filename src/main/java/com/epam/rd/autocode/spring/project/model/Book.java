@@ -3,10 +3,11 @@ package com.epam.rd.autocode.spring.project.model;
 import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
 import com.epam.rd.autocode.spring.project.model.enums.Language;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
@@ -14,14 +15,20 @@ import java.time.LocalDate;
 @Setter
 @NoArgsConstructor
 @Entity
-@AllArgsConstructor
 @Table(name = "books", indexes = {@Index(name = "unique_book_name", columnList = "name", unique = true),
         @Index(name = "idx_book_author", columnList = "author"),
-        @Index(name = "idx_book_genre", columnList = "genre")})
+        @Index(name = "idx_book_genre", columnList = "genre"),
+        @Index(name = "idx_book_pub_year_price", columnList = "pub_year, price"),
+        @Index(name = "idx_book_price", columnList = "price"),
+        @Index(name = "idx_book_publication_date", columnList = "publication_year"),
+        @Index(name = "idx_book_age_group_price", columnList = "age_group, price"),
+        @Index(name = "idx_book_language_price", columnList = "language, price"),
+        @Index(name = "idx_book_pages", columnList = "number_of_pages")})
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
     @Column(nullable = false, unique = true)
     private String name;
@@ -39,6 +46,18 @@ public class Book {
     @Column(nullable = false, name = "publication_year")
     private LocalDate publicationDate;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "pub_year")
+    private Integer publicationYear;
+
+    @Column(updatable = false)
+    private Integer stock;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false, length = 100)
     private String author;
 
@@ -54,4 +73,24 @@ public class Book {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private Language language;
+
+    public Book(Long id, String name, String genre, AgeGroup ageGroup, BigDecimal price, LocalDate publicationDate,
+                String author, Integer pages, String characteristics, String description, Language language) {
+        this.id = id;
+        this.name = name;
+        this.genre = genre;
+        this.ageGroup = ageGroup;
+        this.price = price;
+        this.author = author;
+        this.pages = pages;
+        this.characteristics = characteristics;
+        this.description = description;
+        this.language = language;
+        setPublicationDate(publicationDate);
+    }
+
+    public void setPublicationDate(LocalDate publicationDate) {
+        this.publicationDate = publicationDate;
+        this.publicationYear = publicationDate == null ? null : publicationDate.getYear();
+    }
 }
@@ -0,0 +1,42 @@
+package com.epam.rd.autocode.spring.project.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@IdClass(BookDailySalesId.class)
+@Table(name = "book_daily_sales", indexes = @Index(name = "idx_book_daily_sales_date", columnList = "sales_date"))
+public class BookDailySales {
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(nullable = false, name = "book_name")
+    private String bookName;
+
+    @Column(nullable = false, length = 100)
+    private String genre;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false, name = "confirmed_quantity")
+    private Long confirmedQuantity;
+
+    @Column(nullable = false, name = "confirmed_revenue", precision = 19, scale = 2)
+    private BigDecimal confirmedRevenue;
+}
@@ -1,30 +1,40 @@
 package com.epam.rd.autocode.spring.project.model;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.math.BigDecimal;
 
 @Entity
 @NoArgsConstructor
 @Getter
 @Setter
-@AllArgsConstructor
 @Table(name = "book_item")
 public class BookItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_item_seq")
+    @SequenceGenerator(name = "book_item_seq", sequenceName = "book_item_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id")
     private Book book;
 
     @Column(nullable = false)
     private Integer quantity;
+
+    @Column(name = "unit_price", precision = 15, scale = 2)
+    private BigDecimal unitPrice;
+
+    public BookItem(Long id, Order order, Book book, Integer quantity) {
+        this.id = id;
+        this.order = order;
+        this.book = book;
+        this.quantity = quantity;
+    }
 }
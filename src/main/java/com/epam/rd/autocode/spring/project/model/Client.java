@@ -3,6 +3,7 @@ package com.epam.rd.autocode.spring.project.model;
 import com.epam.rd.autocode.spring.project.model.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -14,11 +15,18 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "clients", indexes = @Index(name = "unique_email", columnList = "email", unique = true))
+@Table(name = "clients", indexes = {@Index(name = "unique_email", columnList = "email", unique = true),
+        @Index(name = "idx_client_name", columnList = "name"),
+        @Index(name = "idx_client_balance", columnList = "balance")})
 public class Client extends User {
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal balance;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public Client(Long id, String email, String password, String name, BigDecimal balance) {
         super(id, email, password, name);
         this.balance = balance;
@@ -3,6 +3,7 @@ package com.epam.rd.autocode.spring.project.model;
 import com.epam.rd.autocode.spring.project.model.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -14,7 +15,9 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "employees", indexes = @Index(name = "unique_email", columnList = "email", unique = true))
+@Table(name = "employees", indexes = {@Index(name = "unique_email", columnList = "email", unique = true),
+        @Index(name = "idx_employee_name", columnList = "name"),
+        @Index(name = "idx_employee_birth_date", columnList = "birth_date")})
 public class Employee extends User{
     @Column(nullable = false, length = 19)
     private String phone;
@@ -22,6 +25,11 @@ public class Employee extends User{
     @Column(nullable = false)
     private LocalDate birthDate;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public Employee(Long id, String email, String password, String name, String phone, LocalDate birthDate) {
         super(id, email, password, name);
         this.phone = phone;
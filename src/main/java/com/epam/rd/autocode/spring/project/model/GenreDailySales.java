@@ -0,0 +1,36 @@
+package com.epam.rd.autocode.spring.project.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@IdClass(GenreDailySalesId.class)
+@Table(name = "genre_daily_sales", indexes = @Index(name = "idx_genre_daily_sales_date", columnList = "sales_date"))
+public class GenreDailySales {
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(length = 100)
+    private String genre;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false, name = "confirmed_quantity")
+    private Long confirmedQuantity;
+
+    @Column(nullable = false, name = "confirmed_revenue", precision = 19, scale = 2)
+    private BigDecimal confirmedRevenue;
+}
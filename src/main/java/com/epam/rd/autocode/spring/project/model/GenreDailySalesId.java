@@ -0,0 +1,15 @@
+package com.epam.rd.autocode.spring.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenreDailySalesId implements Serializable {
+    private LocalDate salesDate;
+    private String genre;
+}
@@ -0,0 +1,44 @@
+package com.epam.rd.autocode.spring.project.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "mail_campaigns")
+public class MailCampaign {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_campaign_seq")
+    @SequenceGenerator(name = "mail_campaign_seq", sequenceName = "mail_campaign_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private boolean html;
+
+    @Column(name = "last_recipient_id")
+    private Long lastRecipientId;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    public MailCampaign(String subject, String body, boolean html) {
+        this.subject = subject;
+        this.body = body;
+        this.html = html;
+    }
+}
@@ -1,7 +1,6 @@
 package com.epam.rd.autocode.spring.project.model;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,24 +8,34 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
 @NoArgsConstructor
-@AllArgsConstructor
-@Table(name = "orders", indexes = {@Index(name = "idx_order_date", columnList = "order_date"),
-        @Index(name = "idx_order_client_date", columnList = "client_id, order_date")})
+@NamedEntityGraph(name = "Order.participants", attributeNodes = {
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode("employee")})
+@Table(name = "orders", indexes = {@Index(name = "unique_order_public_id", columnList = "public_id", unique = true),
+        @Index(name = "idx_order_date", columnList = "order_date"),
+        @Index(name = "idx_order_client_date", columnList = "client_id, order_date"),
+        @Index(name = "idx_order_employee", columnList = "employee_id"),
+        @Index(name = "idx_order_price", columnList = "price")})
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "order_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @Column(updatable = false, name = "public_id")
+    private UUID publicId = UUID.randomUUID();
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     private Employee employee;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id")
     private Client client;
 
@@ -38,4 +47,13 @@ public class Order {
 
     @OneToMany(mappedBy = "order", orphanRemoval = true, cascade = CascadeType.ALL, targetEntity = BookItem.class)
     private List<BookItem> bookItems = new ArrayList<>();
+
+    public Order(Long id, Employee employee, Client client, LocalDateTime orderDate, BigDecimal price, List<BookItem> bookItems) {
+        this.id = id;
+        this.employee = employee;
+        this.client = client;
+        this.orderDate = orderDate;
+        this.price = price;
+        this.bookItems = bookItems;
+    }
 }
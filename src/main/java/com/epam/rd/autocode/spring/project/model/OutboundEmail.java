@@ -0,0 +1,90 @@
+package com.epam.rd.autocode.spring.project.model;
+
+import com.epam.rd.autocode.spring.project.model.enums.EmailStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "email_outbox", indexes = {@Index(name = "idx_email_outbox_status_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_claim_token", columnList = "claim_token"),
+        @Index(name = "idx_email_outbox_campaign", columnList = "campaign_id")})
+public class OutboundEmail {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_outbox_seq")
+    @SequenceGenerator(name = "email_outbox_seq", sequenceName = "email_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String sender;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private boolean html;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "campaign_id")
+    private MailCampaign campaign;
+
+    @Column(nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private EmailStatus status = EmailStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false, name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "claim_token")
+    private UUID claimToken;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    public OutboundEmail(String sender, String recipient, String subject, String body, boolean html,
+                         LocalDateTime nextAttemptAt) {
+        this.sender = sender;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.html = html;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public OutboundEmail(String sender, String recipient, MailCampaign campaign, LocalDateTime nextAttemptAt) {
+        this(sender, recipient, campaign.getSubject(), "", campaign.isHtml(), nextAttemptAt);
+        this.campaign = campaign;
+    }
+
+    public String resolveBody() {
+        return campaign != null ? campaign.getBody() : body;
+    }
+}
@@ -0,0 +1,24 @@
+package com.epam.rd.autocode.spring.project.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "rollup_dirty_days")
+public class RollupDirtyDay {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, name = "sales_date")
+    private LocalDate salesDate;
+
+    public RollupDirtyDay(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+}
@@ -16,7 +16,7 @@ import java.util.Collection;
 @AllArgsConstructor
 public abstract class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Column(nullable = false, length = 100, unique = true)
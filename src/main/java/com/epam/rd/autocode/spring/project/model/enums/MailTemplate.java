@@ -0,0 +1,23 @@
+package com.epam.rd.autocode.spring.project.model.enums;
+
+import lombok.Getter;
+import org.thymeleaf.templatemode.TemplateMode;
+
+@Getter
+public enum MailTemplate {
+    PASSWORD_RESET("password-reset.txt", TemplateMode.TEXT),
+    ORDER_CONFIRMATION("order-confirmation.html", TemplateMode.HTML),
+    NEWSLETTER("newsletter.html", TemplateMode.HTML);
+
+    private final String templateName;
+    private final TemplateMode templateMode;
+
+    MailTemplate(String templateName, TemplateMode templateMode) {
+        this.templateName = templateName;
+        this.templateMode = templateMode;
+    }
+
+    public boolean isHtml() {
+        return templateMode == TemplateMode.HTML;
+    }
+}
@@ -0,0 +1,5 @@
+package com.epam.rd.autocode.spring.project.model.enums;
+
+public enum OrderConfirmationStatus {
+    CONFIRMED, CONFIRMED_BY_ANOTHER_EMPLOYEE, NOT_FOUND
+}
@@ -0,0 +1,5 @@
+package com.epam.rd.autocode.spring.project.model.enums;
+
+public enum SuggestionType {
+    TITLE, AUTHOR
+}
@@ -0,0 +1,99 @@
+package com.epam.rd.autocode.spring.project.ratelimit;
+
+import com.epam.rd.autocode.spring.project.conf.RateLimitSettings;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+    private final Clock clock;
+    private final Cache<String, Counter> counters;
+
+    @Autowired
+    public InMemoryRateLimitStore(RateLimitSettings settings) {
+        this(settings, Clock.systemUTC());
+    }
+
+    InMemoryRateLimitStore(RateLimitSettings settings, Clock clock) {
+        this.clock = clock;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxKeys())
+                .expireAfter(new IdleExpiry())
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitSettings.Rule rule) {
+        long windowMillis = rule.getWindow().toMillis();
+        Counter counter = counters.get(key, k -> new Counter(windowMillis));
+        return counter.tryAcquire(rule.getMaxRequests(), clock.millis());
+    }
+
+    long size() {
+        counters.cleanUp();
+        return counters.estimatedSize();
+    }
+
+    private record Window(long index, long current, long previous) {
+
+        Window rollTo(long targetIndex) {
+            if (targetIndex == index) return this;
+            long previousCount = targetIndex == index + 1 ? current : 0;
+            return new Window(targetIndex, 0, previousCount);
+        }
+    }
+
+    private static final class Counter {
+        private final long windowMillis;
+        private final AtomicReference<Window> window = new AtomicReference<>(new Window(0, 0, 0));
+
+        private Counter(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        private RateLimitDecision tryAcquire(long limit, long now) {
+            long resetAfter = SlidingWindow.resetAfterMillis(now, windowMillis);
+            long index = SlidingWindow.windowIndex(now, windowMillis);
+            while (true) {
+                Window current = window.get();
+                Window rolled = current.rollTo(index);
+                double estimate = SlidingWindow.estimate(rolled.previous(), rolled.current(), now, windowMillis);
+                if (estimate + 1 > limit) {
+                    window.compareAndSet(current, rolled);
+                    return RateLimitDecision.rejected(limit, resetAfter);
+                }
+                Window next = new Window(rolled.index(), rolled.current() + 1, rolled.previous());
+                if (window.compareAndSet(current, next)) {
+                    return RateLimitDecision.allowed(limit, (long) Math.floor(limit - estimate - 1), resetAfter);
+                }
+            }
+        }
+    }
+
+    private static class IdleExpiry implements Expiry<String, Counter> {
+        @Override
+        public long expireAfterCreate(String key, Counter counter, long currentTime) {
+            return idleNanos(counter);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Counter counter, long currentTime, long currentDuration) {
+            return idleNanos(counter);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Counter counter, long currentTime, long currentDuration) {
+            return idleNanos(counter);
+        }
+
+        private long idleNanos(Counter counter) {
+            return TimeUnit.MILLISECONDS.toNanos(counter.windowMillis * 2);
+        }
+    }
+}
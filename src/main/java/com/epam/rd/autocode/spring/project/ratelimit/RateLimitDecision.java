@@ -0,0 +1,12 @@
+package com.epam.rd.autocode.spring.project.ratelimit;
+
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetAfterMillis) {
+
+    public static RateLimitDecision allowed(long limit, long remaining, long resetAfterMillis) {
+        return new RateLimitDecision(true, limit, Math.max(0, remaining), resetAfterMillis);
+    }
+
+    public static RateLimitDecision rejected(long limit, long resetAfterMillis) {
+        return new RateLimitDecision(false, limit, 0, resetAfterMillis);
+    }
+}
@@ -0,0 +1,7 @@
+package com.epam.rd.autocode.spring.project.ratelimit;
+
+import com.epam.rd.autocode.spring.project.conf.RateLimitSettings;
+
+public interface RateLimitStore {
+    RateLimitDecision tryAcquire(String key, RateLimitSettings.Rule rule);
+}
@@ -0,0 +1,113 @@
+package com.epam.rd.autocode.spring.project.ratelimit;
+
+import com.epam.rd.autocode.spring.project.conf.RateLimitSettings;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "rate", name = "store", havingValue = "redis")
+@Slf4j
+public class RedisRateLimitStore implements RateLimitStore {
+    static final String KEY_PREFIX = "rate:";
+    @SuppressWarnings("unchecked")
+    static final RedisScript<List<Long>> SCRIPT = (RedisScript<List<Long>>) (RedisScript<?>)
+            RedisScript.of(new ClassPathResource("scripts/rate_limit.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitStore fallback;
+    private final RateLimitSettings settings;
+    private final Clock clock;
+    private final Cache<String, Lease> leases;
+    private volatile long redisRetryAt;
+
+    @Autowired
+    public RedisRateLimitStore(StringRedisTemplate redisTemplate, InMemoryRateLimitStore fallback, RateLimitSettings settings) {
+        this(redisTemplate, fallback, settings, Clock.systemUTC());
+    }
+
+    RedisRateLimitStore(StringRedisTemplate redisTemplate, RateLimitStore fallback, RateLimitSettings settings, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.settings = settings;
+        this.clock = clock;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxKeys())
+                .build();
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitSettings.Rule rule) {
+        long now = clock.millis();
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null) {
+            RateLimitDecision leased = lease.tryTake(now);
+            if (leased != null) return leased;
+            leases.asMap().remove(key, lease);
+        }
+        if (now < redisRetryAt) return fallback.tryAcquire(key, rule);
+
+        long window = rule.getWindow().toMillis();
+        List<Long> result;
+        try {
+            result = redisTemplate.execute(SCRIPT, windowKeys(key, now / window),
+                    String.valueOf(window),
+                    String.valueOf(rule.getMaxRequests()),
+                    String.valueOf(leaseSize(rule)),
+                    String.valueOf(now));
+        } catch (DataAccessException e) {
+            redisRetryAt = now + settings.getFallbackBackoff().toMillis();
+            log.warn("Redis rate limiter is unavailable, falling back to local counters: {}", e.getMessage());
+            return fallback.tryAcquire(key, rule);
+        }
+
+        long granted = result.get(0);
+        long remaining = result.get(1);
+        long resetAfter = result.get(2);
+        if (granted == 0) return RateLimitDecision.rejected(rule.getMaxRequests(), resetAfter);
+        if (granted > 1) leases.put(key, new Lease(rule.getMaxRequests(), granted - 1, remaining, now + resetAfter));
+        return RateLimitDecision.allowed(rule.getMaxRequests(), remaining + granted - 1, resetAfter);
+    }
+
+    private static List<String> windowKeys(String key, long window) {
+        String prefix = KEY_PREFIX + "{" + key + "}:";
+        return List.of(prefix + window, prefix + (window - 1));
+    }
+
+    private long leaseSize(RateLimitSettings.Rule rule) {
+        return Math.max(1, Math.min(settings.getLeaseSize(), rule.getMaxRequests() / 10));
+    }
+
+    private static final class Lease {
+        private final long limit;
+        private final AtomicLong permits;
+        private final long remainingElsewhere;
+        private final long expiresAt;
+
+        private Lease(long limit, long permits, long remainingElsewhere, long expiresAt) {
+            this.limit = limit;
+            this.permits = new AtomicLong(permits);
+            this.remainingElsewhere = remainingElsewhere;
+            this.expiresAt = expiresAt;
+        }
+
+        private RateLimitDecision tryTake(long now) {
+            if (now >= expiresAt) return null;
+            long left = permits.decrementAndGet();
+            if (left < 0) return null;
+            return RateLimitDecision.allowed(limit, remainingElsewhere + left, expiresAt - now);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.epam.rd.autocode.spring.project.ratelimit;
+
+final class SlidingWindow {
+
+    private SlidingWindow() {}
+
+    static long windowIndex(long nowMillis, long windowMillis) {
+        return nowMillis / windowMillis;
+    }
+
+    static long resetAfterMillis(long nowMillis, long windowMillis) {
+        return windowMillis - nowMillis % windowMillis;
+    }
+
+    static double estimate(long previousCount, long currentCount, long nowMillis, long windowMillis) {
+        double previousWeight = 1.0 - (double) (nowMillis % windowMillis) / windowMillis;
+        return previousCount * previousWeight + currentCount;
+    }
+}
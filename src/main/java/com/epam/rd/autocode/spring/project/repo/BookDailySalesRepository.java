@@ -0,0 +1,14 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.model.BookDailySales;
+import com.epam.rd.autocode.spring.project.model.BookDailySalesId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BookDailySalesRepository extends JpaRepository<BookDailySales, BookDailySalesId>, SalesRollupRepository {
+
+    List<BookDailySales> findAllBySalesDateBetweenOrderBySalesDateAscRevenueDescBookIdAsc(LocalDate from, LocalDate to);
+}
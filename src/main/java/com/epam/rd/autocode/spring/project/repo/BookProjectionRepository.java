@@ -0,0 +1,36 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookFacetsDTO;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.utils.BookSearchKey;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface BookProjectionRepository {
+
+    Page<BookDTO> findAllAsDto(Predicate predicate, Pageable pageable);
+
+    Page<BookDTO> findAllAsDto(Predicate predicate, Pageable pageable, BookSearchKey countKey);
+
+    List<BookDTO> findAllAsDto(Predicate predicate);
+
+    List<String> findNames(Predicate predicate);
+
+    BookFacetsDTO findFacets(Predicate predicate, List<BigDecimal> priceBuckets, BookSearchKey facetsKey);
+
+    Slice<BookDTO> findSliceAsDto(Predicate predicate, Pageable pageable);
+
+    KeysetWindow<BookDTO> scrollAsDto(Predicate predicate, KeysetRequest request);
+
+    KeysetCursor cursorAfter(Predicate predicate, Pageable pageable);
+
+    List<Long> reserveStock(Map<Long, Integer> quantitiesById);
+}
@@ -0,0 +1,273 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.conf.CacheConfig;
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookFacetsDTO;
+import com.epam.rd.autocode.spring.project.dto.PriceBucketDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.QBook;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetQueries;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.utils.BookSearchKey;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.PathBuilderFactory;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+public class BookProjectionRepositoryImpl implements BookProjectionRepository {
+    private static final QBook BOOK = QBook.book;
+    private static final ConstructorExpression<BookDTO> DTO = Projections.constructor(BookDTO.class,
+            BOOK.name, BOOK.genre, BOOK.ageGroup, BOOK.price, BOOK.publicationDate,
+            BOOK.author, BOOK.pages, BOOK.characteristics, BOOK.description, BOOK.language);
+    private static final Map<String, Expression<?>> SORT_KEYS = Map.of(
+            "name", BOOK.name,
+            "author", BOOK.author,
+            "genre", BOOK.genre,
+            "price", BOOK.price,
+            "publicationDate", BOOK.publicationDate,
+            "ageGroup", BOOK.ageGroup,
+            "pages", BOOK.pages);
+    private static final String RESERVE_STOCK =
+            "update books set stock = stock - ? where id = ? and (stock is null or stock >= ?)";
+
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+    private final Querydsl querydsl;
+    private volatile boolean batchCountsReported = true;
+
+    public BookProjectionRepositoryImpl(EntityManager entityManager, CacheManager cacheManager) {
+        this.entityManager = entityManager;
+        this.cacheManager = cacheManager;
+        this.querydsl = new Querydsl(entityManager, new PathBuilderFactory().create(Book.class));
+    }
+
+    @Override
+    public Page<BookDTO> findAllAsDto(Predicate predicate, Pageable pageable) {
+        return PageableExecutionUtils.getPage(page(predicate, pageable), pageable, () -> count(predicate));
+    }
+
+    @Override
+    public Page<BookDTO> findAllAsDto(Predicate predicate, Pageable pageable, BookSearchKey countKey) {
+        return PageableExecutionUtils.getPage(page(predicate, pageable), pageable, () -> count(predicate, countKey));
+    }
+
+    @Override
+    public List<BookDTO> findAllAsDto(Predicate predicate) {
+        return new JPAQuery<>(entityManager)
+                .select(DTO)
+                .from(BOOK)
+                .where(predicate)
+                .fetch();
+    }
+
+    @Override
+    public List<String> findNames(Predicate predicate) {
+        return new JPAQuery<>(entityManager)
+                .select(BOOK.name)
+                .from(BOOK)
+                .where(predicate)
+                .fetch();
+    }
+
+    @Override
+    public BookFacetsDTO findFacets(Predicate predicate, List<BigDecimal> priceBuckets, BookSearchKey facetsKey) {
+        Supplier<BookFacetsDTO> query = () -> facets(predicate, priceBuckets);
+        Cache facets = cacheManager.getCache(CacheConfig.BOOK_FACETS);
+        if (facets == null) return query.get();
+        return facets.get(facetsKey, query::get);
+    }
+
+    @Override
+    public Slice<BookDTO> findSliceAsDto(Predicate predicate, Pageable pageable) {
+        JPAQuery<BookDTO> query = new JPAQuery<>(entityManager)
+                .select(DTO)
+                .from(BOOK)
+                .where(predicate);
+        if (pageable.isUnpaged()) return new SliceImpl<>(querydsl.applySorting(pageable.getSort(), query).fetch());
+        List<BookDTO> content = new ArrayList<>(querydsl.applySorting(pageable.getSort(), query)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch());
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) content.remove(content.size() - 1);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public KeysetWindow<BookDTO> scrollAsDto(Predicate predicate, KeysetRequest request) {
+        JPAQuery<?> query = new JPAQuery<>(entityManager)
+                .from(BOOK)
+                .where(predicate);
+        return KeysetQueries.fetch(query, DTO, BOOK.id, SORT_KEYS, request);
+    }
+
+    @Override
+    public KeysetCursor cursorAfter(Predicate predicate, Pageable pageable) {
+        return KeysetQueries.cursorAfter(new JPAQuery<>(entityManager).from(BOOK).where(predicate), BOOK.id, SORT_KEYS, pageable);
+    }
+
+    private List<BookDTO> page(Predicate predicate, Pageable pageable) {
+        JPAQuery<BookDTO> query = new JPAQuery<>(entityManager)
+                .select(DTO)
+                .from(BOOK)
+                .where(predicate);
+        return querydsl.applyPagination(pageable, query).fetch();
+    }
+
+    private long count(Predicate predicate) {
+        return new JPAQuery<>(entityManager)
+                .select(BOOK.count())
+                .from(BOOK)
+                .where(predicate)
+                .fetchOne();
+    }
+
+    private long count(Predicate predicate, BookSearchKey countKey) {
+        Cache counts = cacheManager.getCache(CacheConfig.BOOK_COUNTS);
+        if (counts == null) return count(predicate);
+        return counts.get(countKey, () -> count(predicate));
+    }
+
+    private BookFacetsDTO facets(Predicate predicate, List<BigDecimal> priceBuckets) {
+        NumberExpression<Integer> decade = Expressions.numberTemplate(Integer.class,
+                "{0} - mod({0}, 10)", BOOK.publicationDate.year());
+        NumberExpression<Integer> bucket = priceBucket(priceBuckets);
+        NumberExpression<Long> count = BOOK.count();
+        List<Tuple> rows = new JPAQuery<>(entityManager)
+                .select(BOOK.genre, BOOK.language, BOOK.ageGroup, bucket, decade, count)
+                .from(BOOK)
+                .where(predicate)
+                .groupBy(BOOK.genre, BOOK.language, BOOK.ageGroup, bucket, decade)
+                .fetch();
+
+        long total = 0;
+        Map<String, Long> genres = new HashMap<>();
+        Map<Language, Long> languages = new EnumMap<>(Language.class);
+        Map<AgeGroup, Long> ageGroups = new EnumMap<>(AgeGroup.class);
+        long[] buckets = new long[priceBuckets.size() + 1];
+        Map<Integer, Long> decades = new TreeMap<>();
+        for (Tuple row : rows) {
+            long rowCount = row.get(count);
+            total += rowCount;
+            genres.merge(row.get(BOOK.genre), rowCount, Long::sum);
+            languages.merge(row.get(BOOK.language), rowCount, Long::sum);
+            ageGroups.merge(row.get(BOOK.ageGroup), rowCount, Long::sum);
+            buckets[row.get(bucket)] += rowCount;
+            decades.merge(row.get(decade), rowCount, Long::sum);
+        }
+        return new BookFacetsDTO(total, byCountDescending(genres), languages, ageGroups,
+                priceBuckets(priceBuckets, buckets), decades);
+    }
+
+    private static NumberExpression<Integer> priceBucket(List<BigDecimal> boundaries) {
+        if (boundaries.isEmpty()) return Expressions.numberTemplate(Integer.class, "0");
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (int i = 0; i < boundaries.size(); i++) {
+            NumberExpression<Integer> index = Expressions.numberTemplate(Integer.class, String.valueOf(i));
+            cases = cases == null
+                    ? new CaseBuilder().when(BOOK.price.lt(boundaries.get(i))).then(index)
+                    : cases.when(BOOK.price.lt(boundaries.get(i))).then(index);
+        }
+        return cases.otherwise(Expressions.numberTemplate(Integer.class, String.valueOf(boundaries.size())));
+    }
+
+    @Override
+    public List<Long> reserveStock(Map<Long, Integer> quantitiesById) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(quantitiesById).entrySet());
+        int[] updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(RESERVE_STOCK)) {
+                if (!batchCountsReported) return reserveOneByOne(statement, entries);
+                Savepoint savepoint = connection.setSavepoint();
+                int[] counts = reserveInBatch(statement, entries);
+                if (Arrays.stream(counts).anyMatch(count -> count != 0 && count != 1)) {
+                    batchCountsReported = false;
+                    connection.rollback(savepoint);
+                    counts = reserveOneByOne(statement, entries);
+                }
+                connection.releaseSavepoint(savepoint);
+                return counts;
+            }
+        });
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 1) rejected.add(entries.get(i).getKey());
+        }
+        return rejected;
+    }
+
+    private static int[] reserveInBatch(PreparedStatement statement, List<Map.Entry<Long, Integer>> entries)
+            throws SQLException {
+        for (Map.Entry<Long, Integer> entry : entries) {
+            bindReservation(statement, entry);
+            statement.addBatch();
+        }
+        return statement.executeBatch();
+    }
+
+    private static int[] reserveOneByOne(PreparedStatement statement, List<Map.Entry<Long, Integer>> entries)
+            throws SQLException {
+        int[] counts = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            bindReservation(statement, entries.get(i));
+            counts[i] = statement.executeUpdate();
+        }
+        return counts;
+    }
+
+    private static void bindReservation(PreparedStatement statement, Map.Entry<Long, Integer> entry) throws SQLException {
+        statement.setInt(1, entry.getValue());
+        statement.setLong(2, entry.getKey());
+        statement.setInt(3, entry.getValue());
+    }
+
+    private static List<PriceBucketDTO> priceBuckets(List<BigDecimal> boundaries, long[] counts) {
+        List<PriceBucketDTO> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            BigDecimal from = i == 0 ? null : boundaries.get(i - 1);
+            BigDecimal to = i == boundaries.size() ? null : boundaries.get(i);
+            buckets.add(new PriceBucketDTO(from, to, counts[i]));
+        }
+        return buckets;
+    }
+
+    private static Map<String, Long> byCountDescending(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+}
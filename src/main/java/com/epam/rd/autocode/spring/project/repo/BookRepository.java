@@ -1,19 +1,49 @@
 package com.epam.rd.autocode.spring.project.repo;
 
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
 import com.epam.rd.autocode.spring.project.model.Book;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookRepository
-        extends JpaRepository<Book, Long>, QuerydslPredicateExecutor<Book> {
+        extends JpaRepository<Book, Long>, QuerydslPredicateExecutor<Book>, BookProjectionRepository {
     Optional<Book> findByName(String name);
 
+    List<Book> findAllByNameIn(Collection<String> names);
+
+    @Query("select b.version from Book b where b.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query(value = "select new com.epam.rd.autocode.spring.project.dto.BookDTO(b.name, b.genre, b.ageGroup, b.price, " +
+            "b.publicationDate, b.author, b.pages, b.characteristics, b.description, b.language) from Book b",
+            countQuery = "select count(b) from Book b")
+    Page<BookDTO> findAllAsDto(Pageable pageable);
+
+    @Query("select new com.epam.rd.autocode.spring.project.dto.BookDTO(b.name, b.genre, b.ageGroup, b.price, " +
+            "b.publicationDate, b.author, b.pages, b.characteristics, b.description, b.language) from Book b")
+    Slice<BookDTO> findSliceAsDto(Pageable pageable);
+
     @Transactional
     @Modifying
     void deleteByName(String name);
+
+    @Transactional
+    @Modifying
+    @Query("update Book b set b.stock = coalesce(b.stock, 0) + :quantity where b.name = :name")
+    int restock(@Param("name") String name, @Param("quantity") int quantity);
 }
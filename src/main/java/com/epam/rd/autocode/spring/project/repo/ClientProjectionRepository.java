@@ -0,0 +1,14 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.dto.ClientDTO;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import org.springframework.data.domain.Pageable;
+
+public interface ClientProjectionRepository {
+
+    KeysetWindow<ClientDTO> scrollAsDto(KeysetRequest request);
+
+    KeysetCursor cursorAfter(Pageable pageable);
+}
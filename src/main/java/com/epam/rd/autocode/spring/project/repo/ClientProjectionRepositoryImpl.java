@@ -0,0 +1,41 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.dto.ClientDTO;
+import com.epam.rd.autocode.spring.project.model.QClient;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetQueries;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Pageable;
+import java.util.Map;
+
+public class ClientProjectionRepositoryImpl implements ClientProjectionRepository {
+    private static final QClient CLIENT = QClient.client;
+    private static final ConstructorExpression<ClientDTO> DTO = Projections.constructor(ClientDTO.class,
+            CLIENT.email, CLIENT.password, CLIENT.name, CLIENT.balance);
+    private static final Map<String, Expression<?>> SORT_KEYS = Map.of(
+            "name", CLIENT.name,
+            "email", CLIENT.email,
+            "balance", CLIENT.balance);
+
+    private final EntityManager entityManager;
+
+    public ClientProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public KeysetWindow<ClientDTO> scrollAsDto(KeysetRequest request) {
+        return KeysetQueries.fetch(new JPAQuery<>(entityManager).from(CLIENT), DTO, CLIENT.id, SORT_KEYS, request);
+    }
+
+    @Override
+    public KeysetCursor cursorAfter(Pageable pageable) {
+        return KeysetQueries.cursorAfter(new JPAQuery<>(entityManager).from(CLIENT), CLIENT.id, SORT_KEYS, pageable);
+    }
+}
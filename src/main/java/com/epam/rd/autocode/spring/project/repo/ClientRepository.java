@@ -1,17 +1,40 @@
 package com.epam.rd.autocode.spring.project.repo;
 
+import com.epam.rd.autocode.spring.project.dto.ClientDTO;
 import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.repo.projection.ClientEmailRow;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> {
+public interface ClientRepository extends JpaRepository<Client, Long>, ClientProjectionRepository {
 
     Optional<Client> getByEmail(String email);
 
+    @Query(value = "select new com.epam.rd.autocode.spring.project.dto.ClientDTO(c.email, c.password, c.name, c.balance) " +
+            "from Client c",
+            countQuery = "select count(c) from Client c")
+    Page<ClientDTO> findAllAsDto(Pageable pageable);
+
+    @Query("select new com.epam.rd.autocode.spring.project.dto.ClientDTO(c.email, c.password, c.name, c.balance) " +
+            "from Client c")
+    Slice<ClientDTO> findSliceAsDto(Pageable pageable);
+
+    @Query("select new com.epam.rd.autocode.spring.project.repo.projection.ClientEmailRow(c.id, c.email) " +
+            "from Client c where c.id > :after and not exists " +
+            "(select 1 from BlockedClient b where b.client = c) order by c.id")
+    List<ClientEmailRow> findActiveEmailsAfter(@Param("after") Long after, Limit limit);
+
     @Transactional
     @Modifying
     void deleteByEmail(String email);
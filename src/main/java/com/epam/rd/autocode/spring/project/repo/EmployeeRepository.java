@@ -1,9 +1,13 @@
 package com.epam.rd.autocode.spring.project.repo;
 
+import com.epam.rd.autocode.spring.project.dto.EmployeeDTO;
 import com.epam.rd.autocode.spring.project.model.Employee;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
@@ -11,6 +15,11 @@ import java.util.Optional;
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Optional<Employee> getByEmail(String email);
 
+    @Query(value = "select new com.epam.rd.autocode.spring.project.dto.EmployeeDTO(e.email, e.password, e.name, e.phone, " +
+            "e.birthDate) from Employee e",
+            countQuery = "select count(e) from Employee e")
+    Page<EmployeeDTO> findAllAsDto(Pageable pageable);
+
     @Transactional
     @Modifying
     void deleteByEmail(String email);
@@ -0,0 +1,22 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.model.GenreDailySales;
+import com.epam.rd.autocode.spring.project.model.GenreDailySalesId;
+import com.epam.rd.autocode.spring.project.repo.projection.DailySalesRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface GenreDailySalesRepository extends JpaRepository<GenreDailySales, GenreDailySalesId> {
+
+    List<GenreDailySales> findAllBySalesDateBetweenOrderBySalesDateAscRevenueDescGenreAsc(LocalDate from, LocalDate to);
+
+    @Query("select new com.epam.rd.autocode.spring.project.repo.projection.DailySalesRow(g.salesDate, sum(g.quantity), " +
+            "sum(g.revenue), sum(g.confirmedQuantity), sum(g.confirmedRevenue)) from GenreDailySales g " +
+            "where g.salesDate between :from and :to group by g.salesDate order by g.salesDate")
+    List<DailySalesRow> findDailyTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
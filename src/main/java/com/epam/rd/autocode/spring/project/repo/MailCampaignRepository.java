@@ -0,0 +1,20 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.model.MailCampaign;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+
+@Repository
+public interface MailCampaignRepository extends JpaRepository<MailCampaign, Long> {
+
+    @Modifying
+    @Transactional
+    @Query("delete from MailCampaign c where c.createdAt < :cutoff " +
+            "and not exists (select 1 from OutboundEmail e where e.campaign = c)")
+    int purgeUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
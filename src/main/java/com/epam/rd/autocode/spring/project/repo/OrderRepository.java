@@ -1,26 +1,81 @@
 package com.epam.rd.autocode.spring.project.repo;
 
+import com.epam.rd.autocode.spring.project.model.Employee;
 import com.epam.rd.autocode.spring.project.model.Order;
+import com.epam.rd.autocode.spring.project.repo.projection.BookItemRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderAssigneeRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRowRepository {
 
+    @Override
+    @EntityGraph("Order.participants")
+    Page<Order> findAll(Pageable pageable);
+
+    @EntityGraph("Order.participants")
     List<Order> findAllByEmployee_Email(String employeeEmail);
 
+    @EntityGraph("Order.participants")
     List<Order> findAllByClient_Email(String clientEmail);
 
+    @EntityGraph("Order.participants")
     Page<Order> findAllByClientNotNullAndEmployeeNotNull(Pageable pageable);
 
+    @EntityGraph("Order.participants")
     Page<Order> findAllByClient_Email(String clientEmail, Pageable pageable);
 
+    @EntityGraph("Order.participants")
     Page<Order> findAllByEmployee_Email(String employeeEmail, Pageable pageable);
 
+    @Query(value = "select new com.epam.rd.autocode.spring.project.repo.projection.OrderRow(o.id, o.publicId, c.email, e.email, " +
+            "o.orderDate, o.price) from Order o left join o.client c left join o.employee e",
+            countQuery = "select count(o) from Order o")
+    Page<OrderRow> findAllRows(Pageable pageable);
+
+    @Query("select new com.epam.rd.autocode.spring.project.repo.projection.OrderRow(o.id, o.publicId, c.email, e.email, " +
+            "o.orderDate, o.price) from Order o left join o.client c left join o.employee e")
+    Slice<OrderRow> findRowSlice(Pageable pageable);
+
+    @Query(value = "select new com.epam.rd.autocode.spring.project.repo.projection.OrderRow(o.id, o.publicId, c.email, e.email, " +
+            "o.orderDate, o.price) from Order o join o.client c left join o.employee e where c.email = :email",
+            countQuery = "select count(o) from Order o where o.client.email = :email")
+    Page<OrderRow> findRowsByClientEmail(@Param("email") String clientEmail, Pageable pageable);
+
+    @Query("select new com.epam.rd.autocode.spring.project.repo.projection.OrderRow(o.id, o.publicId, c.email, e.email, " +
+            "o.orderDate, o.price) from Order o join o.client c left join o.employee e where c.email = :email")
+    Slice<OrderRow> findRowSliceByClientEmail(@Param("email") String clientEmail, Pageable pageable);
+
+    @Query(value = "select new com.epam.rd.autocode.spring.project.repo.projection.OrderRow(o.id, o.publicId, c.email, e.email, " +
+            "o.orderDate, o.price) from Order o left join o.client c join o.employee e where e.email = :email",
+            countQuery = "select count(o) from Order o where o.employee.email = :email")
+    Page<OrderRow> findRowsByEmployeeEmail(@Param("email") String employeeEmail, Pageable pageable);
+
+    @Query("select new com.epam.rd.autocode.spring.project.repo.projection.BookItemRow(i.order.id, b.name, i.quantity) " +
+            "from BookItem i join i.book b where i.order.id in :orderIds order by i.id")
+    List<BookItemRow> findItemRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
     Order findDistinctByClient_EmailAndOrderDate(String clientEmail, LocalDateTime orderDate);
+
+    @Modifying
+    @Query("update Order o set o.employee = :employee where o.publicId in :publicIds and o.employee is null")
+    int assignEmployee(@Param("employee") Employee employee, @Param("publicIds") Collection<UUID> publicIds);
+
+    @Query("select new com.epam.rd.autocode.spring.project.repo.projection.OrderAssigneeRow(o.publicId, e.email, o.orderDate) " +
+            "from Order o left join o.employee e where o.publicId in :publicIds")
+    List<OrderAssigneeRow> findAssigneesByPublicIds(@Param("publicIds") Collection<UUID> publicIds);
 }
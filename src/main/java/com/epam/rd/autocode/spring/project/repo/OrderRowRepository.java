@@ -0,0 +1,23 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderExportRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderRow;
+import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface OrderRowRepository {
+
+    KeysetWindow<OrderRow> scrollRows(KeysetRequest request);
+
+    KeysetWindow<OrderRow> scrollRowsByClientEmail(String clientEmail, KeysetRequest request);
+
+    KeysetCursor cursorAfter(Pageable pageable);
+
+    KeysetCursor cursorAfterByClientEmail(String clientEmail, Pageable pageable);
+
+    Stream<OrderExportRow> streamExportRows(LocalDateTime from, LocalDateTime to, int fetchSize);
+}
@@ -0,0 +1,99 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.model.QBook;
+import com.epam.rd.autocode.spring.project.model.QBookItem;
+import com.epam.rd.autocode.spring.project.model.QClient;
+import com.epam.rd.autocode.spring.project.model.QEmployee;
+import com.epam.rd.autocode.spring.project.model.QOrder;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetQueries;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderExportRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderRow;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class OrderRowRepositoryImpl implements OrderRowRepository {
+    private static final QOrder ORDER = QOrder.order;
+    private static final QClient CLIENT = QClient.client;
+    private static final QEmployee EMPLOYEE = QEmployee.employee;
+    private static final QBookItem ITEM = QBookItem.bookItem;
+    private static final QBook BOOK = QBook.book;
+    private static final ConstructorExpression<OrderRow> ROW = Projections.constructor(OrderRow.class,
+            ORDER.id, ORDER.publicId, CLIENT.email, EMPLOYEE.email, ORDER.orderDate, ORDER.price);
+    private static final ConstructorExpression<OrderExportRow> EXPORT_ROW = Projections.constructor(OrderExportRow.class,
+            ORDER.id, ORDER.publicId, CLIENT.email, EMPLOYEE.email, ORDER.orderDate, ORDER.price, BOOK.name, ITEM.quantity);
+    private static final Map<String, Expression<?>> SORT_KEYS = Map.of(
+            "orderDate", ORDER.orderDate,
+            "price", ORDER.price,
+            "client.email", CLIENT.email,
+            "client.name", CLIENT.name,
+            "employee.email", EMPLOYEE.email,
+            "employee.name", EMPLOYEE.name);
+    private static final Set<Expression<?>> NULLABLE_KEYS = Set.of(CLIENT.email, CLIENT.name, EMPLOYEE.email, EMPLOYEE.name);
+
+    private final EntityManager entityManager;
+
+    public OrderRowRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public KeysetWindow<OrderRow> scrollRows(KeysetRequest request) {
+        return scroll(null, request);
+    }
+
+    @Override
+    public KeysetWindow<OrderRow> scrollRowsByClientEmail(String clientEmail, KeysetRequest request) {
+        return scroll(CLIENT.email.eq(clientEmail), request);
+    }
+
+    @Override
+    public KeysetCursor cursorAfter(Pageable pageable) {
+        return KeysetQueries.cursorAfter(rows(null), ORDER.id, SORT_KEYS, pageable);
+    }
+
+    @Override
+    public KeysetCursor cursorAfterByClientEmail(String clientEmail, Pageable pageable) {
+        return KeysetQueries.cursorAfter(rows(CLIENT.email.eq(clientEmail)), ORDER.id, SORT_KEYS, pageable);
+    }
+
+    @Override
+    public Stream<OrderExportRow> streamExportRows(LocalDateTime from, LocalDateTime to, int fetchSize) {
+        return new JPAQuery<>(entityManager)
+                .select(EXPORT_ROW)
+                .from(ORDER)
+                .leftJoin(ORDER.client, CLIENT)
+                .leftJoin(ORDER.employee, EMPLOYEE)
+                .leftJoin(ORDER.bookItems, ITEM)
+                .leftJoin(ITEM.book, BOOK)
+                .where(from == null ? null : ORDER.orderDate.goe(from), to == null ? null : ORDER.orderDate.lt(to))
+                .orderBy(ORDER.orderDate.asc(), ORDER.id.asc(), ITEM.id.asc())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private KeysetWindow<OrderRow> scroll(Predicate predicate, KeysetRequest request) {
+        return KeysetQueries.fetch(rows(predicate), ROW, ORDER.id, SORT_KEYS, NULLABLE_KEYS, request);
+    }
+
+    private JPAQuery<?> rows(Predicate predicate) {
+        return new JPAQuery<>(entityManager)
+                .from(ORDER)
+                .leftJoin(ORDER.client, CLIENT)
+                .leftJoin(ORDER.employee, EMPLOYEE)
+                .where(predicate);
+    }
+}
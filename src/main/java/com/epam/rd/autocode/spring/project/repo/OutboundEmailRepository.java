@@ -0,0 +1,71 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.model.OutboundEmail;
+import com.epam.rd.autocode.spring.project.model.enums.EmailStatus;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    @Query("select e.id from OutboundEmail e where e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.PENDING " +
+            "and e.nextAttemptAt <= :now order by e.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    long countByStatus(EmailStatus status);
+
+    @EntityGraph(attributePaths = "campaign")
+    List<OutboundEmail> findAllByClaimTokenOrderById(UUID claimToken);
+
+    @Modifying
+    @Transactional
+    @Query("update OutboundEmail e set e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.SENDING, " +
+            "e.claimedAt = :now, e.claimToken = :token where e.id in :ids " +
+            "and e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.PENDING and e.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") UUID token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("update OutboundEmail e set e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.SENT, " +
+            "e.attempts = e.attempts + 1, e.sentAt = :sentAt, e.body = '', e.lastError = null, e.claimToken = null " +
+            "where e.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Transactional
+    @Query("update OutboundEmail e set e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.PENDING, " +
+            "e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, e.claimedAt = null, e.claimToken = null, " +
+            "e.lastError = :error " +
+            "where e.id = :id")
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Transactional
+    @Query("update OutboundEmail e set e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.DEAD, " +
+            "e.attempts = e.attempts + 1, e.lastError = :error, e.claimToken = null where e.id = :id")
+    int markDead(@Param("id") Long id, @Param("error") String error);
+
+    @Modifying
+    @Transactional
+    @Query("update OutboundEmail e set e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.PENDING, " +
+            "e.claimedAt = null, e.claimToken = null " +
+            "where e.status = com.epam.rd.autocode.spring.project.model.enums.EmailStatus.SENDING " +
+            "and e.claimedAt < :cutoff")
+    int releaseExpiredClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Transactional
+    @Query("delete from OutboundEmail e where e.status in (com.epam.rd.autocode.spring.project.model.enums.EmailStatus.SENT, " +
+            "com.epam.rd.autocode.spring.project.model.enums.EmailStatus.DEAD) and e.createdAt < :cutoff")
+    int purgeFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,23 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesRollupRepository {
+
+    @Transactional
+    void markDirty(Collection<LocalDate> days);
+
+    List<LocalDate> findDirtyDays();
+
+    @Transactional
+    List<LocalDate> recomputeDirtyDays();
+
+    @Transactional
+    void recomputeDays(Collection<LocalDate> days);
+
+    @Transactional
+    void rebuild();
+}
@@ -0,0 +1,87 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.model.RollupDirtyDay;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public class SalesRollupRepositoryImpl implements SalesRollupRepository {
+    private static final String LINE_REVENUE = "i.quantity * COALESCE(i.unit_price, b.price)";
+    private static final String BOOK_TOTALS = "SUM(i.quantity), SUM(" + LINE_REVENUE + "), " +
+            "SUM(CASE WHEN o.employee_id IS NULL THEN 0 ELSE i.quantity END), " +
+            "SUM(CASE WHEN o.employee_id IS NULL THEN 0 ELSE " + LINE_REVENUE + " END) ";
+    private static final String INSERT_BOOKS = "INSERT INTO book_daily_sales " +
+            "(sales_date, book_id, book_name, genre, quantity, revenue, confirmed_quantity, confirmed_revenue) ";
+    private static final String FROM_ORDER_ITEMS = "FROM orders o JOIN book_item i ON i.order_id = o.id " +
+            "JOIN books b ON b.id = i.book_id ";
+    private static final String INSERT_GENRES = "INSERT INTO genre_daily_sales " +
+            "(sales_date, genre, quantity, revenue, confirmed_quantity, confirmed_revenue) " +
+            "SELECT sales_date, genre, SUM(quantity), SUM(revenue), SUM(confirmed_quantity), SUM(confirmed_revenue) " +
+            "FROM book_daily_sales ";
+
+    private final EntityManager entityManager;
+
+    public SalesRollupRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void markDirty(Collection<LocalDate> days) {
+        for (LocalDate day : days) {
+            entityManager.persist(new RollupDirtyDay(day));
+        }
+    }
+
+    @Override
+    public List<LocalDate> findDirtyDays() {
+        return entityManager.createQuery("select distinct d.salesDate from RollupDirtyDay d order by d.salesDate",
+                LocalDate.class).getResultList();
+    }
+
+    @Override
+    public List<LocalDate> recomputeDirtyDays() {
+        List<RollupDirtyDay> dirty = entityManager.createQuery("select d from RollupDirtyDay d", RollupDirtyDay.class)
+                .getResultList();
+        if (dirty.isEmpty()) return List.of();
+        List<LocalDate> days = dirty.stream().map(RollupDirtyDay::getSalesDate).distinct().sorted().toList();
+        recomputeDays(days);
+        entityManager.createQuery("delete from RollupDirtyDay d where d.id in :ids")
+                .setParameter("ids", dirty.stream().map(RollupDirtyDay::getId).toList())
+                .executeUpdate();
+        return days;
+    }
+
+    @Override
+    public void recomputeDays(Collection<LocalDate> days) {
+        for (LocalDate day : days) {
+            entityManager.createNativeQuery("DELETE FROM book_daily_sales WHERE sales_date = :day")
+                    .setParameter("day", day)
+                    .executeUpdate();
+            entityManager.createNativeQuery(INSERT_BOOKS + "SELECT :day, b.id, b.name, b.genre, " + BOOK_TOTALS +
+                            FROM_ORDER_ITEMS + "WHERE o.order_date >= :start AND o.order_date < :end " +
+                            "GROUP BY b.id, b.name, b.genre")
+                    .setParameter("day", day)
+                    .setParameter("start", day.atStartOfDay())
+                    .setParameter("end", day.plusDays(1).atStartOfDay())
+                    .executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM genre_daily_sales WHERE sales_date = :day")
+                    .setParameter("day", day)
+                    .executeUpdate();
+            entityManager.createNativeQuery(INSERT_GENRES + "WHERE sales_date = :day GROUP BY sales_date, genre")
+                    .setParameter("day", day)
+                    .executeUpdate();
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        entityManager.createNativeQuery("DELETE FROM rollup_dirty_days").executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM genre_daily_sales").executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM book_daily_sales").executeUpdate();
+        entityManager.createNativeQuery(INSERT_BOOKS + "SELECT CAST(o.order_date AS DATE), b.id, b.name, b.genre, " +
+                BOOK_TOTALS + FROM_ORDER_ITEMS + "GROUP BY CAST(o.order_date AS DATE), b.id, b.name, b.genre")
+                .executeUpdate();
+        entityManager.createNativeQuery(INSERT_GENRES + "GROUP BY sales_date, genre").executeUpdate();
+    }
+}
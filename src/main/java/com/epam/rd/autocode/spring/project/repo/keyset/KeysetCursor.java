@@ -0,0 +1,45 @@
+package com.epam.rd.autocode.spring.project.repo.keyset;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+public record KeysetCursor(String sort, boolean backward, List<Object> keys, Long id) {
+    private static final JsonMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    public static KeysetCursor decode(String token) {
+        try {
+            KeysetCursor cursor = MAPPER.readValue(Base64.getUrlDecoder().decode(token), KeysetCursor.class);
+            if (cursor.sort() == null || cursor.keys() == null || cursor.id() == null)
+                throw new IllegalArgumentException("Invalid cursor");
+            return cursor;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cursor cannot be encoded", e);
+        }
+    }
+
+    public <T> T key(int index, Class<T> type) {
+        try {
+            return MAPPER.convertValue(keys.get(index), type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
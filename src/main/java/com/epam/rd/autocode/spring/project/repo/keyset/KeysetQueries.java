@@ -0,0 +1,148 @@
+package com.epam.rd.autocode.spring.project.repo.keyset;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class KeysetQueries {
+
+    private KeysetQueries() {
+    }
+
+    public static <T> KeysetWindow<T> fetch(JPAQuery<?> query, Expression<T> projection, NumberPath<Long> id,
+                                            Map<String, ? extends Expression<?>> sortKeys, KeysetRequest request) {
+        return fetch(query, projection, id, sortKeys, Set.of(), request);
+    }
+
+    public static <T> KeysetWindow<T> fetch(JPAQuery<?> query, Expression<T> projection, NumberPath<Long> id,
+                                            Map<String, ? extends Expression<?>> sortKeys,
+                                            Set<? extends Expression<?>> nullableKeys, KeysetRequest request) {
+        List<Expression<?>> keys = new ArrayList<>();
+        List<Order> directions = new ArrayList<>();
+        String unsupported = resolveKeys(id, sortKeys, request.sort(), keys, directions);
+        if (unsupported != null)
+            throw new IllegalArgumentException("Cursor pagination is not supported for sort field: " + unsupported);
+
+        KeysetCursor cursor = request.cursor();
+        boolean backward = cursor != null && cursor.backward();
+        List<Order> effective = backward ? directions.stream().map(KeysetQueries::flip).toList() : directions;
+        if (cursor != null) query.where(after(keys, effective, values(cursor, keys), nullableKeys));
+
+        List<Expression<?>> select = new ArrayList<>(keys);
+        select.add(0, projection);
+        List<Tuple> rows = query.select(select.toArray(Expression[]::new))
+                .orderBy(orderSpecifiers(keys, effective))
+                .limit(request.size() + 1L)
+                .fetch();
+
+        boolean more = rows.size() > request.size();
+        List<Tuple> window = new ArrayList<>(more ? rows.subList(0, request.size()) : rows);
+        if (backward) Collections.reverse(window);
+        if (window.isEmpty()) return new KeysetWindow<>(List.of(), request.size(), null, null);
+
+        String signature = KeysetRequest.signature(request.sort());
+        boolean hasNext = backward || more;
+        boolean hasPrevious = backward ? more : cursor != null;
+        return new KeysetWindow<>(
+                window.stream().map(row -> row.get(projection)).toList(),
+                request.size(),
+                hasNext ? cursorAt(window.get(window.size() - 1), keys, signature, false) : null,
+                hasPrevious ? cursorAt(window.get(0), keys, signature, true) : null);
+    }
+
+    public static KeysetCursor cursorAfter(JPAQuery<?> query, NumberPath<Long> id,
+                                           Map<String, ? extends Expression<?>> sortKeys, Pageable pageable) {
+        List<Expression<?>> keys = new ArrayList<>();
+        List<Order> directions = new ArrayList<>();
+        if (pageable.isUnpaged() || resolveKeys(id, sortKeys, pageable.getSort(), keys, directions) != null) return null;
+        Tuple last = query.select(keys.toArray(Expression[]::new))
+                .orderBy(orderSpecifiers(keys, directions))
+                .offset(pageable.getOffset() + pageable.getPageSize() - 1)
+                .limit(1)
+                .fetchFirst();
+        return last == null ? null : cursorAt(last, keys, KeysetRequest.signature(pageable.getSort()), false);
+    }
+
+    private static String resolveKeys(NumberPath<Long> id, Map<String, ? extends Expression<?>> sortKeys, Sort sort,
+                                      List<Expression<?>> keys, List<Order> directions) {
+        for (Sort.Order order : sort) {
+            Expression<?> key = sortKeys.get(order.getProperty());
+            if (key == null) return order.getProperty();
+            keys.add(key);
+            directions.add(order.isAscending() ? Order.ASC : Order.DESC);
+        }
+        keys.add(id);
+        directions.add(directions.isEmpty() ? Order.ASC : directions.get(directions.size() - 1));
+        return null;
+    }
+
+    private static List<Object> values(KeysetCursor cursor, List<Expression<?>> keys) {
+        if (cursor.keys().size() != keys.size() - 1) throw new IllegalArgumentException("Invalid cursor");
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < keys.size() - 1; i++) {
+            values.add(cursor.key(i, keys.get(i).getType()));
+        }
+        values.add(cursor.id());
+        return values;
+    }
+
+    private static KeysetCursor cursorAt(Tuple row, List<Expression<?>> keys, String signature, boolean backward) {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < keys.size() - 1; i++) {
+            values.add(row.get(keys.get(i)));
+        }
+        return new KeysetCursor(signature, backward, values, (Long) row.get(keys.get(keys.size() - 1)));
+    }
+
+    private static Predicate after(List<Expression<?>> keys, List<Order> directions, List<Object> values,
+                                   Set<? extends Expression<?>> nullableKeys) {
+        BooleanBuilder any = new BooleanBuilder();
+        BooleanBuilder equalSoFar = new BooleanBuilder();
+        for (int i = 0; i < keys.size(); i++) {
+            Predicate beyond = beyond(keys.get(i), directions.get(i), values.get(i), nullableKeys.contains(keys.get(i)));
+            if (beyond != null) any.or(new BooleanBuilder(equalSoFar.getValue()).and(beyond));
+            equalSoFar.and(values.get(i) == null
+                    ? Expressions.predicate(Ops.IS_NULL, keys.get(i))
+                    : Expressions.predicate(Ops.EQ, keys.get(i), Expressions.constant(values.get(i))));
+        }
+        return any;
+    }
+
+    private static Predicate beyond(Expression<?> key, Order direction, Object value, boolean nullable) {
+        if (direction == Order.ASC) {
+            return value == null
+                    ? Expressions.predicate(Ops.IS_NOT_NULL, key)
+                    : Expressions.predicate(Ops.GT, key, Expressions.constant(value));
+        }
+        if (value == null) return null;
+        Predicate before = Expressions.predicate(Ops.LT, key, Expressions.constant(value));
+        return nullable ? Expressions.predicate(Ops.IS_NULL, key).or(before) : before;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static OrderSpecifier<?>[] orderSpecifiers(List<Expression<?>> keys, List<Order> directions) {
+        OrderSpecifier<?>[] specifiers = new OrderSpecifier[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            specifiers[i] = new OrderSpecifier(directions.get(i), (Expression<Comparable>) keys.get(i));
+        }
+        return specifiers;
+    }
+
+    private static Order flip(Order order) {
+        return order == Order.ASC ? Order.DESC : Order.ASC;
+    }
+}
@@ -0,0 +1,20 @@
+package com.epam.rd.autocode.spring.project.repo.keyset;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public record KeysetRequest(Sort sort, int size, KeysetCursor cursor) {
+
+    public static KeysetRequest of(String cursor, Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (cursor == null || cursor.isBlank()) return new KeysetRequest(sort, pageable.getPageSize(), null);
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+        if (!signature(sort).equals(decoded.sort()))
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        return new KeysetRequest(sort, pageable.getPageSize(), decoded);
+    }
+
+    static String signature(Sort sort) {
+        return sort.toString();
+    }
+}
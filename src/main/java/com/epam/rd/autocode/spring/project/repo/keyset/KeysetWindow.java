@@ -0,0 +1,18 @@
+package com.epam.rd.autocode.spring.project.repo.keyset;
+
+import java.util.List;
+
+public record KeysetWindow<T>(List<T> content, int size, KeysetCursor next, KeysetCursor previous) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public boolean hasPrevious() {
+        return previous != null;
+    }
+
+    public <R> KeysetWindow<R> withContent(List<R> content) {
+        return new KeysetWindow<>(content, size, next, previous);
+    }
+}
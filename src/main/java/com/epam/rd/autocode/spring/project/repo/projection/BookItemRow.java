@@ -0,0 +1,4 @@
+package com.epam.rd.autocode.spring.project.repo.projection;
+
+public record BookItemRow(Long orderId, String bookName, Integer quantity) {
+}
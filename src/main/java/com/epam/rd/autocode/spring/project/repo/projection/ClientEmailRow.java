@@ -0,0 +1,4 @@
+package com.epam.rd.autocode.spring.project.repo.projection;
+
+public record ClientEmailRow(Long id, String email) {
+}
@@ -0,0 +1,8 @@
+package com.epam.rd.autocode.spring.project.repo.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailySalesRow(LocalDate salesDate, Long quantity, BigDecimal revenue,
+                            Long confirmedQuantity, BigDecimal confirmedRevenue) {
+}
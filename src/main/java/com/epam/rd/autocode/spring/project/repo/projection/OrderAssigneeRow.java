@@ -0,0 +1,7 @@
+package com.epam.rd.autocode.spring.project.repo.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderAssigneeRow(UUID publicId, String employeeEmail, LocalDateTime orderDate) {
+}
@@ -0,0 +1,9 @@
+package com.epam.rd.autocode.spring.project.repo.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderExportRow(Long id, UUID publicId, String clientEmail, String employeeEmail, LocalDateTime orderDate,
+                             BigDecimal price, String bookName, Integer quantity) {
+}
@@ -0,0 +1,8 @@
+package com.epam.rd.autocode.spring.project.repo.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderRow(Long id, UUID publicId, String clientEmail, String employeeEmail, LocalDateTime orderDate, BigDecimal price) {
+}
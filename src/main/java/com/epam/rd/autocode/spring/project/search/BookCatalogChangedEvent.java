@@ -0,0 +1,18 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.model.Book;
+
+public record BookCatalogChangedEvent(String previousName, Book book) {
+
+    public static BookCatalogChangedEvent saved(String previousName, Book book) {
+        return new BookCatalogChangedEvent(previousName, book);
+    }
+
+    public static BookCatalogChangedEvent removed(String name) {
+        return new BookCatalogChangedEvent(name, null);
+    }
+
+    public boolean renamed() {
+        return previousName != null && (book == null || !previousName.equals(book.getName()));
+    }
+}
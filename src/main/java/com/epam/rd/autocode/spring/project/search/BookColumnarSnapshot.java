@@ -0,0 +1,257 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class BookColumnarSnapshot {
+    static final Set<String> SORTABLE = Set.of("name", "author", "genre", "price", "publicationDate", "ageGroup", "pages");
+    private static final int PRICE_SCALE = 2;
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final AgeGroup[] AGE_GROUPS = AgeGroup.values();
+    private static final Language[] LANGUAGES = Language.values();
+    private static final int[] AGE_GROUP_NAME_RANK = nameRanks(AGE_GROUPS);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final BitSet[] ageGroupBitmaps = bitmaps(AGE_GROUPS.length);
+    private final BitSet[] languageBitmaps = bitmaps(LANGUAGES.length);
+    private BookDTO[] rows = new BookDTO[INITIAL_CAPACITY];
+    private byte[] ageGroups = new byte[INITIAL_CAPACITY];
+    private byte[] languages = new byte[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private int[] pages = new int[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int end;
+    private volatile boolean ready;
+
+    public boolean supports(SearchBookDTO criteria, Sort sort) {
+        return ready
+                && !StringUtils.hasText(criteria.getName())
+                && !StringUtils.hasText(criteria.getGenre())
+                && !StringUtils.hasText(criteria.getAuthor())
+                && !StringUtils.hasText(criteria.getQuery())
+                && sort.stream().allMatch(order -> SORTABLE.contains(order.getProperty()));
+    }
+
+    public Page<BookDTO> find(SearchBookDTO criteria, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            int[] matches = filter(criteria);
+            List<BookDTO> content = page(matches, pageable);
+            return new PageImpl<>(content, pageable, matches.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void putAll(Collection<Book> books) {
+        lock.writeLock().lock();
+        try {
+            books.forEach(this::write);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Book book) {
+        lock.writeLock().lock();
+        try {
+            write(book);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String name) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(name);
+            if (slot == null) return;
+            release(slot);
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            slots.clear();
+            freeSlots.clear();
+            live.clear();
+            Arrays.stream(ageGroupBitmaps).forEach(BitSet::clear);
+            Arrays.stream(languageBitmaps).forEach(BitSet::clear);
+            Arrays.fill(rows, 0, end, null);
+            end = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Book book) {
+        Integer slot = slots.get(book.getName());
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? end++ : freeSlots.pop();
+            ensureCapacity(end);
+            slots.put(book.getName(), slot);
+        } else {
+            release(slot);
+        }
+        rows[slot] = new BookDTO(book.getName(), book.getGenre(), book.getAgeGroup(), book.getPrice(),
+                book.getPublicationDate(), book.getAuthor(), book.getPages(), book.getCharacteristics(),
+                book.getDescription(), book.getLanguage());
+        ageGroups[slot] = (byte) book.getAgeGroup().ordinal();
+        languages[slot] = (byte) book.getLanguage().ordinal();
+        prices[slot] = book.getPrice().setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        pages[slot] = book.getPages();
+        epochDays[slot] = (int) book.getPublicationDate().toEpochDay();
+        ageGroupBitmaps[ageGroups[slot]].set(slot);
+        languageBitmaps[languages[slot]].set(slot);
+        live.set(slot);
+    }
+
+    private void release(int slot) {
+        live.clear(slot);
+        ageGroupBitmaps[ageGroups[slot]].clear(slot);
+        languageBitmaps[languages[slot]].clear(slot);
+        rows[slot] = null;
+    }
+
+    private int[] filter(SearchBookDTO criteria) {
+        BitSet candidates = (BitSet) live.clone();
+        if (criteria.getAgeGroup() != null) candidates.and(ageGroupBitmaps[criteria.getAgeGroup().ordinal()]);
+        if (criteria.getLanguage() != null) candidates.and(languageBitmaps[criteria.getLanguage().ordinal()]);
+
+        long minPrice = criteria.getMinPrice() == null ? Long.MIN_VALUE : scaled(criteria.getMinPrice(), RoundingMode.CEILING);
+        long maxPrice = criteria.getMaxPrice() == null ? Long.MAX_VALUE : scaled(criteria.getMaxPrice(), RoundingMode.FLOOR);
+        int minPages = criteria.getMinPages() == null ? Integer.MIN_VALUE : criteria.getMinPages();
+        int maxPages = criteria.getMaxPages() == null ? Integer.MAX_VALUE : criteria.getMaxPages();
+        int minDay = Integer.MIN_VALUE;
+        int maxDay = Integer.MAX_VALUE;
+        if (criteria.getPublicationYear() != null) {
+            int year = criteria.getPublicationYear().getValue();
+            minDay = (int) LocalDate.of(year, 1, 1).toEpochDay();
+            maxDay = (int) LocalDate.of(year, 12, 31).toEpochDay();
+        }
+
+        int[] matches = new int[candidates.cardinality()];
+        int count = 0;
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (prices[slot] < minPrice || prices[slot] > maxPrice) continue;
+            if (pages[slot] < minPages || pages[slot] > maxPages) continue;
+            if (epochDays[slot] < minDay || epochDays[slot] > maxDay) continue;
+            matches[count++] = slot;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private List<BookDTO> page(int[] matches, Pageable pageable) {
+        if (pageable.isUnpaged()) return Arrays.stream(sorted(matches, pageable.getSort())).map(slot -> rows[slot]).toList();
+        if (pageable.getOffset() >= matches.length) return List.of();
+        return Arrays.stream(sorted(matches, pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(slot -> rows[slot])
+                .toList();
+    }
+
+    private Integer[] sorted(int[] matches, Sort sort) {
+        Integer[] boxed = Arrays.stream(matches).boxed().toArray(Integer[]::new);
+        if (sort.isSorted()) Arrays.sort(boxed, comparator(sort));
+        return boxed;
+    }
+
+    private Comparator<Integer> comparator(Sort sort) {
+        Comparator<Integer> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Integer> next = column(order.getProperty());
+            if (order.isDescending()) next = next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator.thenComparing(slot -> rows[slot].getName());
+    }
+
+    private Comparator<Integer> column(String property) {
+        return switch (property) {
+            case "name" -> Comparator.comparing(slot -> rows[slot].getName(), String.CASE_INSENSITIVE_ORDER);
+            case "author" -> Comparator.comparing(slot -> rows[slot].getAuthor(), String.CASE_INSENSITIVE_ORDER);
+            case "genre" -> Comparator.comparing(slot -> rows[slot].getGenre(), String.CASE_INSENSITIVE_ORDER);
+            case "price" -> Comparator.comparingLong(slot -> prices[slot]);
+            case "publicationDate" -> Comparator.comparingInt(slot -> epochDays[slot]);
+            case "ageGroup" -> Comparator.comparingInt(slot -> AGE_GROUP_NAME_RANK[ageGroups[slot]]);
+            case "pages" -> Comparator.comparingInt(slot -> pages[slot]);
+            default -> throw new IllegalArgumentException("Unsupported sort property " + property);
+        };
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= rows.length) return;
+        int capacity = Math.max(required, rows.length + (rows.length >> 1));
+        rows = Arrays.copyOf(rows, capacity);
+        ageGroups = Arrays.copyOf(ageGroups, capacity);
+        languages = Arrays.copyOf(languages, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        pages = Arrays.copyOf(pages, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+    }
+
+    private static long scaled(BigDecimal value, RoundingMode roundingMode) {
+        return value.setScale(PRICE_SCALE, roundingMode).unscaledValue().longValueExact();
+    }
+
+    private static BitSet[] bitmaps(int count) {
+        BitSet[] bitmaps = new BitSet[count];
+        for (int i = 0; i < count; i++) bitmaps[i] = new BitSet();
+        return bitmaps;
+    }
+
+    private static int[] nameRanks(Enum<?>[] values) {
+        Enum<?>[] byName = values.clone();
+        Arrays.sort(byName, Comparator.comparing(Enum::name));
+        int[] ranks = new int[values.length];
+        for (int rank = 0; rank < byName.length; rank++) ranks[byName[rank].ordinal()] = rank;
+        return ranks;
+    }
+}
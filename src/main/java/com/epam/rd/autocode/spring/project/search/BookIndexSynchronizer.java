@@ -0,0 +1,65 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.List;
+
+@Component
+@Slf4j
+public class BookIndexSynchronizer {
+    private final BookSearchIndex index;
+    private final BookSuggestionIndex suggestions;
+    private final BookColumnarSnapshot snapshot;
+    private final BookRepository bookRepository;
+    private final SearchSettings settings;
+
+    public BookIndexSynchronizer(BookSearchIndex index, BookSuggestionIndex suggestions, BookColumnarSnapshot snapshot,
+                                 BookRepository bookRepository, SearchSettings settings) {
+        this.index = index;
+        this.suggestions = suggestions;
+        this.snapshot = snapshot;
+        this.bookRepository = bookRepository;
+        this.settings = settings;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+        suggestions.clear();
+        snapshot.clear();
+        long indexed = 0;
+        Limit limit = Limit.of(settings.getRebuildBatchSize());
+        List<Book> batch = bookRepository.findByIdGreaterThanOrderByIdAsc(0L, limit);
+        while (!batch.isEmpty()) {
+            index.indexAll(batch);
+            batch.forEach(suggestions::add);
+            if (settings.isSnapshotEnabled()) snapshot.putAll(batch);
+            indexed += batch.size();
+            batch = bookRepository.findByIdGreaterThanOrderByIdAsc(batch.get(batch.size() - 1).getId(), limit);
+        }
+        index.commit();
+        if (settings.isSnapshotEnabled()) snapshot.markReady();
+        log.info("Full-text index rebuilt with {} books, {} suggestion entries", indexed, suggestions.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(BookCatalogChangedEvent event) {
+        if (event.renamed()) {
+            index.remove(event.previousName());
+            suggestions.remove(event.previousName());
+            if (settings.isSnapshotEnabled()) snapshot.remove(event.previousName());
+        }
+        if (event.book() != null) {
+            index.index(event.book());
+            suggestions.add(event.book());
+            if (settings.isSnapshotEnabled()) snapshot.put(event.book());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
+import com.epam.rd.autocode.spring.project.model.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class BookSearchIndex implements DisposableBean {
+    static final String KEY = "key";
+    static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            "name", 4f,
+            "author", 3f,
+            "genre", 2f,
+            "characteristics", 1f,
+            "description", 1f);
+    private static final float EXACT_BOOST = 3f;
+    private static final float PREFIX_BOOST = 1.5f;
+    private static final int LONG_TERM_LENGTH = 8;
+
+    private final SearchSettings settings;
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public BookSearchIndex(SearchSettings settings) throws IOException {
+        this.settings = settings;
+        this.analyzer = new StandardAnalyzer();
+        this.directory = settings.getIndexPath().isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(settings.getIndexPath()));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void index(Book book) {
+        try {
+            writer.updateDocument(new Term(KEY, book.getName()), toDocument(book));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void indexAll(Collection<Book> books) {
+        try {
+            for (Book book : books) {
+                writer.updateDocument(new Term(KEY, book.getName()), toDocument(book));
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void remove(String name) {
+        try {
+            writer.deleteDocuments(new Term(KEY, name));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void clear() {
+        try {
+            writer.deleteAll();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void commit() {
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<String> search(String text) {
+        return search(text, settings.getMaxHits());
+    }
+
+    public List<String> search(String text, int limit) {
+        Query query = toQuery(text);
+        if (query == null) return List.of();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<String> names = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc hit : top.scoreDocs) {
+                    names.add(storedFields.document(hit.doc).get(KEY));
+                }
+                return names;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    Query toQuery(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) return null;
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (String term : terms) {
+            all.add(termQuery(term), BooleanClause.Occur.MUST);
+        }
+        return all.build();
+    }
+
+    private Query termQuery(String text) {
+        BooleanQuery.Builder any = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            Term term = new Term(field, text);
+            any.add(new BoostQuery(new TermQuery(term), boost * EXACT_BOOST), BooleanClause.Occur.SHOULD);
+            any.add(new BoostQuery(new PrefixQuery(term), boost * PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+            if (text.length() >= settings.getFuzzyMinLength()) {
+                int maxEdits = text.length() >= LONG_TERM_LENGTH ? 2 : 1;
+                any.add(new BoostQuery(new FuzzyQuery(term, maxEdits, 1), boost), BooleanClause.Occur.SHOULD);
+            }
+        });
+        return any.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) return terms;
+        try (TokenStream stream = analyzer.tokenStream("name", text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document toDocument(Book book) {
+        Document document = new Document();
+        document.add(new StringField(KEY, book.getName(), Field.Store.YES));
+        document.add(new TextField("name", book.getName(), Field.Store.NO));
+        document.add(new TextField("author", book.getAuthor(), Field.Store.NO));
+        document.add(new TextField("genre", book.getGenre(), Field.Store.NO));
+        document.add(new TextField("characteristics", nullToEmpty(book.getCharacteristics()), Field.Store.NO));
+        document.add(new TextField("description", nullToEmpty(book.getDescription()), Field.Store.NO));
+        return document;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,6 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.model.enums.SuggestionType;
+
+public record BookSuggestion(String text, SuggestionType type) {
+}
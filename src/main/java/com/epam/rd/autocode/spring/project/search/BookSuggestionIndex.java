@@ -0,0 +1,119 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.SuggestionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+@Slf4j
+public class BookSuggestionIndex {
+    private static final char SEPARATOR = '\u0000';
+
+    private final SearchSettings settings;
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, String> authorsByTitle = new ConcurrentHashMap<>();
+    private volatile int size;
+
+    public BookSuggestionIndex(SearchSettings settings) {
+        this.settings = settings;
+    }
+
+    public List<BookSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix).strip();
+        if (key.isEmpty() || limit < 1) return List.of();
+        Set<BookSuggestion> suggestions = new LinkedHashSet<>();
+        for (Entry entry : entries.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            suggestions.add(entry.suggestion());
+            if (suggestions.size() == limit) break;
+        }
+        return new ArrayList<>(suggestions);
+    }
+
+    public synchronized void add(Book book) {
+        String previousAuthor = authorsByTitle.put(book.getName(), book.getAuthor());
+        if (previousAuthor != null) {
+            release(new BookSuggestion(book.getName(), SuggestionType.TITLE));
+            release(new BookSuggestion(previousAuthor, SuggestionType.AUTHOR));
+        }
+        retain(new BookSuggestion(book.getName(), SuggestionType.TITLE));
+        retain(new BookSuggestion(book.getAuthor(), SuggestionType.AUTHOR));
+    }
+
+    public synchronized void remove(String name) {
+        String author = authorsByTitle.remove(name);
+        if (author == null) return;
+        release(new BookSuggestion(name, SuggestionType.TITLE));
+        release(new BookSuggestion(author, SuggestionType.AUTHOR));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        authorsByTitle.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void retain(BookSuggestion suggestion) {
+        List<String> keys = keys(suggestion);
+        if (keys.isEmpty()) return;
+        if (!entries.containsKey(keys.get(0)) && size + keys.size() > settings.getSuggestMaxEntries()) {
+            log.warn("Suggestion index is full ({} entries), skipping {} '{}'",
+                    size, suggestion.type(), suggestion.text());
+            return;
+        }
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry == null) size++;
+            entries.put(key, entry == null ? new Entry(suggestion, 1) : entry.withReferences(entry.references() + 1));
+        }
+    }
+
+    private void release(BookSuggestion suggestion) {
+        for (String key : keys(suggestion)) {
+            Entry entry = entries.get(key);
+            if (entry == null) continue;
+            if (entry.references() > 1) {
+                entries.put(key, entry.withReferences(entry.references() - 1));
+            } else {
+                entries.remove(key);
+                size--;
+            }
+        }
+    }
+
+    private List<String> keys(BookSuggestion suggestion) {
+        String text = normalize(suggestion.text());
+        if (text.length() > settings.getSuggestMaxLength()) text = text.substring(0, settings.getSuggestMaxLength());
+        String suffix = SEPARATOR + suggestion.type().name() + SEPARATOR + suggestion.text();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(text.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)));
+            if (wordStart) keys.add(text.substring(i) + suffix);
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(BookSuggestion suggestion, int references) {
+        private Entry withReferences(int references) {
+            return new Entry(suggestion, references);
+        }
+    }
+}
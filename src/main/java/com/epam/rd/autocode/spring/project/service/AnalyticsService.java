@@ -0,0 +1,18 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.BookSalesDTO;
+import com.epam.rd.autocode.spring.project.dto.DailySalesDTO;
+import com.epam.rd.autocode.spring.project.dto.GenreSalesDTO;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AnalyticsService {
+
+    List<BookSalesDTO> getBookSales(LocalDate from, LocalDate to);
+
+    List<GenreSalesDTO> getGenreSales(LocalDate from, LocalDate to);
+
+    List<DailySalesDTO> getDailySales(LocalDate from, LocalDate to);
+
+    void rebuild();
+}
@@ -1,24 +1,45 @@
 package com.epam.rd.autocode.spring.project.service;
 
 import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookFacetsDTO;
 import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.dto.SuggestionDTO;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 
 public interface BookService {
 
     Page<BookDTO> getAllBooks(Pageable pageable);
 
+    Slice<BookDTO> getBookSlice(Pageable pageable);
+
+    KeysetWindow<BookDTO> scrollBooks(String cursor, Pageable pageable);
+
+    KeysetCursor nextBookCursor(Pageable pageable);
+
     List<BookDTO> getAllBooks();
 
     Page<BookDTO> getAllBooksWithSearchCondition(SearchBookDTO dto, Pageable pageable);
 
+    Slice<BookDTO> getBookSliceWithSearchCondition(SearchBookDTO dto, Pageable pageable);
+
+    BookFacetsDTO getFacets(SearchBookDTO dto);
+
+    List<SuggestionDTO> suggest(String prefix, int limit);
+
     BookDTO getBookByName(String name);
 
-    BookDTO updateBookByName(String name, BookDTO book);
+    long getBookVersion(String name);
+
+    BookDTO updateBookByName(String name, BookDTO book, Long expectedVersion);
 
     void deleteBookByName(String name);
 
+    void restock(String name, int quantity);
+
     BookDTO addBook(BookDTO book);
 }
@@ -2,8 +2,11 @@ package com.epam.rd.autocode.spring.project.service;
 
 import com.epam.rd.autocode.spring.project.dto.ClientDTO;
 import com.epam.rd.autocode.spring.project.dto.ClientUpdateDTO;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 
 public interface ClientService {
@@ -12,6 +15,12 @@ public interface ClientService {
 
     Page<ClientDTO> getAllClients(Pageable pageable);
 
+    Slice<ClientDTO> getClientSlice(Pageable pageable);
+
+    KeysetWindow<ClientDTO> scrollClients(String cursor, Pageable pageable);
+
+    KeysetCursor nextClientCursor(Pageable pageable);
+
     ClientDTO getClientByEmail(String email);
 
     ClientDTO updateClientByEmail(String email, ClientDTO client);
@@ -1,5 +1,16 @@
 package com.epam.rd.autocode.spring.project.service;
 
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import java.util.Collection;
+
 public interface EmailService {
     void sendPasswordResetEmail(String toEmail, String resetCode, String role);
+
+    void sendOrderConfirmationEmail(String clientName, OrderDTO order);
+
+    int sendNewsletter(String subject, String content, Collection<String> recipients);
+
+    Long createNewsletter(String subject, String content);
+
+    int queueNewsletter(Long campaignId, Collection<String> recipients, Long lastRecipientId);
 }
@@ -0,0 +1,10 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.NewsletterResultDTO;
+import com.epam.rd.autocode.spring.project.dto.request.NewsletterDTO;
+
+public interface NewsletterService {
+    NewsletterResultDTO sendToAllClients(NewsletterDTO newsletter);
+
+    NewsletterResultDTO resumeCampaign(Long campaignId);
+}
@@ -0,0 +1,11 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.model.enums.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface OrderExportService {
+
+    void exportOrders(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -1,17 +1,34 @@
 package com.epam.rd.autocode.spring.project.service;
 
+import com.epam.rd.autocode.spring.project.dto.OrderConfirmationDTO;
 import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ConfirmOrdersDTO;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.*;
 
 public interface OrderService {
     Page<OrderDTO> getAllOrders(Pageable pageable);
 
+    Slice<OrderDTO> getOrderSlice(Pageable pageable);
+
+    KeysetWindow<OrderDTO> scrollOrders(String cursor, Pageable pageable);
+
+    KeysetCursor nextOrderCursor(Pageable pageable);
+
     List<OrderDTO> getOrdersByClient(String clientEmail);
 
     Page<OrderDTO> getOrdersByClient(String clientEmail, Pageable pageable);
 
+    Slice<OrderDTO> getOrderSliceByClient(String clientEmail, Pageable pageable);
+
+    KeysetWindow<OrderDTO> scrollOrdersByClient(String clientEmail, String cursor, Pageable pageable);
+
+    KeysetCursor nextOrderCursorByClient(String clientEmail, Pageable pageable);
+
     List<OrderDTO> getOrdersByEmployee(String employeeEmail);
 
     Page<OrderDTO> getOrdersByEmployee(String employeeEmail, Pageable pageable);
@@ -19,4 +36,6 @@ public interface OrderService {
     OrderDTO addOrder(OrderDTO order);
 
     void confirmOrder(OrderDTO order);
+
+    List<OrderConfirmationDTO> confirmOrders(ConfirmOrdersDTO request);
 }
@@ -0,0 +1,74 @@
+package com.epam.rd.autocode.spring.project.service.impl;
+
+import com.epam.rd.autocode.spring.project.analytics.SalesRollupUpdater;
+import com.epam.rd.autocode.spring.project.conf.AnalyticsSettings;
+import com.epam.rd.autocode.spring.project.dto.BookSalesDTO;
+import com.epam.rd.autocode.spring.project.dto.DailySalesDTO;
+import com.epam.rd.autocode.spring.project.dto.GenreSalesDTO;
+import com.epam.rd.autocode.spring.project.mappers.SalesMapper;
+import com.epam.rd.autocode.spring.project.repo.BookDailySalesRepository;
+import com.epam.rd.autocode.spring.project.repo.GenreDailySalesRepository;
+import com.epam.rd.autocode.spring.project.service.AnalyticsService;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+    private final BookDailySalesRepository bookSalesRepository;
+    private final GenreDailySalesRepository genreSalesRepository;
+    private final SalesMapper salesMapper;
+    private final SalesRollupUpdater rollupUpdater;
+    private final AnalyticsSettings settings;
+
+    public AnalyticsServiceImpl(BookDailySalesRepository bookSalesRepository,
+                                GenreDailySalesRepository genreSalesRepository,
+                                SalesMapper salesMapper,
+                                SalesRollupUpdater rollupUpdater,
+                                AnalyticsSettings settings) {
+        this.bookSalesRepository = bookSalesRepository;
+        this.genreSalesRepository = genreSalesRepository;
+        this.salesMapper = salesMapper;
+        this.rollupUpdater = rollupUpdater;
+        this.settings = settings;
+    }
+
+    @Override
+    public List<BookSalesDTO> getBookSales(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return bookSalesRepository.findAllBySalesDateBetweenOrderBySalesDateAscRevenueDescBookIdAsc(from, to).stream()
+                .map(salesMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<GenreSalesDTO> getGenreSales(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return genreSalesRepository.findAllBySalesDateBetweenOrderBySalesDateAscRevenueDescGenreAsc(from, to).stream()
+                .map(salesMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<DailySalesDTO> getDailySales(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return genreSalesRepository.findDailyTotals(from, to).stream()
+                .map(salesMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public void rebuild() {
+        rollupUpdater.rebuild();
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Analytics range start must not be after its end");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= settings.getMaxRangeDays()) {
+            throw new IllegalArgumentException("Analytics range must not exceed " + settings.getMaxRangeDays() + " days");
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.epam.rd.autocode.spring.project.repo.EmployeeRefreshTokenRepository;
 import com.epam.rd.autocode.spring.project.repo.EmployeeResetCodeRepository;
 import com.epam.rd.autocode.spring.project.service.*;
 import com.epam.rd.autocode.spring.project.utils.JwtUtils;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -111,6 +112,7 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
+    @Transactional
     public void forgotPassword(ForgotPasswordDTO request){
         UserDetails user = myUserDetailsService.loadUserBasedOnRole(request.getEmail(), request.getRole());
         String resetCode = generateResetCode(user).toString();
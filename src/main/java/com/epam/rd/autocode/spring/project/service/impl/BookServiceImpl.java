@@ -1,39 +1,98 @@
 package com.epam.rd.autocode.spring.project.service.impl;
 
+import com.epam.rd.autocode.spring.project.annotations.RetryOnConflict;
+import com.epam.rd.autocode.spring.project.conf.CacheConfig;
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
 import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookFacetsDTO;
 import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.dto.SuggestionDTO;
 import com.epam.rd.autocode.spring.project.exception.AlreadyExistException;
 import com.epam.rd.autocode.spring.project.exception.NotFoundException;
+import com.epam.rd.autocode.spring.project.exception.StaleVersionException;
 import com.epam.rd.autocode.spring.project.mappers.BookMapper;
 import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.QBook;
 import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.search.BookCatalogChangedEvent;
+import com.epam.rd.autocode.spring.project.search.BookColumnarSnapshot;
+import com.epam.rd.autocode.spring.project.search.BookSearchIndex;
+import com.epam.rd.autocode.spring.project.search.BookSuggestionIndex;
 import com.epam.rd.autocode.spring.project.service.BookService;
 import com.epam.rd.autocode.spring.project.service.SortMappingService;
+import com.epam.rd.autocode.spring.project.utils.BookSearchKey;
 import com.epam.rd.autocode.spring.project.utils.BookSearchPredicateBuilder;
 import com.querydsl.core.BooleanBuilder;
+import jakarta.transaction.Transactional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class BookServiceImpl implements BookService {
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final SortMappingService sortMappingService;
+    private final BookSearchIndex searchIndex;
+    private final BookSuggestionIndex suggestionIndex;
+    private final BookColumnarSnapshot snapshot;
+    private final SearchSettings searchSettings;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BookServiceImpl(BookRepository bookRepository, BookMapper bookMapper, SortMappingService sortMappingService) {
+    public BookServiceImpl(BookRepository bookRepository, BookMapper bookMapper, SortMappingService sortMappingService,
+                           BookSearchIndex searchIndex, BookSuggestionIndex suggestionIndex, BookColumnarSnapshot snapshot,
+                           SearchSettings searchSettings, ApplicationEventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
         this.bookMapper = bookMapper;
         this.sortMappingService = sortMappingService;
+        this.searchIndex = searchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.snapshot = snapshot;
+        this.searchSettings = searchSettings;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Cacheable(CacheConfig.BOOK_PAGES)
     public Page<BookDTO> getAllBooks(Pageable pageable) {
         Pageable mappedPageable = sortMappingService.applyMappings(pageable, "book");
-        return bookRepository.findAll(mappedPageable).map(bookMapper::toDto);
+        return bookRepository.findAllAsDto(mappedPageable);
+    }
+
+    @Override
+    public Slice<BookDTO> getBookSlice(Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "book");
+        return bookRepository.findSliceAsDto(mappedPageable);
+    }
+
+    @Override
+    public KeysetWindow<BookDTO> scrollBooks(String cursor, Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "book");
+        return bookRepository.scrollAsDto(null, KeysetRequest.of(cursor, mappedPageable));
+    }
+
+    @Override
+    public KeysetCursor nextBookCursor(Pageable pageable) {
+        return bookRepository.cursorAfter(null, sortMappingService.applyMappings(pageable, "book"));
     }
 
     @Override
@@ -42,22 +101,40 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.BOOK_SEARCHES, key = "{#criteria, #pageable}")
     public Page<BookDTO> getAllBooksWithSearchCondition(SearchBookDTO criteria, Pageable pageable) {
+        if (StringUtils.hasText(criteria.getQuery())) return relevanceSearch(criteria, pageable);
         Pageable mappedPageable = sortMappingService.applyMappings(pageable, "book");
-        BooleanBuilder predicate = BookSearchPredicateBuilder.create()
-                .withName(criteria.getName())
-                .withGenre(criteria.getGenre())
-                .withAuthor(criteria.getAuthor())
-                .withAgeGroup(criteria.getAgeGroup())
-                .withLanguage(criteria.getLanguage())
-                .withPriceRange(criteria.getMinPrice(), criteria.getMaxPrice())
-                .withPageRange(criteria.getMinPages(), criteria.getMaxPages())
-                .withPublicationYear(criteria.getPublicationYear())
-                .build();
-        return bookRepository.findAll(predicate, mappedPageable).map(bookMapper::toDto);
+        if (snapshot.supports(criteria, mappedPageable.getSort())) return snapshot.find(criteria, mappedPageable);
+        return bookRepository.findAllAsDto(searchPredicate(criteria), mappedPageable, BookSearchKey.of(criteria));
+    }
+
+    @Override
+    public Slice<BookDTO> getBookSliceWithSearchCondition(SearchBookDTO criteria, Pageable pageable) {
+        if (StringUtils.hasText(criteria.getQuery())) return relevanceSearch(criteria, pageable);
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "book");
+        if (snapshot.supports(criteria, mappedPageable.getSort())) return snapshot.find(criteria, mappedPageable);
+        return bookRepository.findSliceAsDto(searchPredicate(criteria), mappedPageable);
+    }
+
+    @Override
+    public BookFacetsDTO getFacets(SearchBookDTO criteria) {
+        BooleanBuilder predicate = searchPredicate(criteria);
+        if (StringUtils.hasText(criteria.getQuery())) {
+            predicate.and(QBook.book.name.in(searchIndex.search(criteria.getQuery())));
+        }
+        return bookRepository.findFacets(predicate, searchSettings.getPriceBuckets(), BookSearchKey.of(criteria));
     }
 
     @Override
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, Math.min(limit, searchSettings.getSuggestLimit())).stream()
+                .map(suggestion -> new SuggestionDTO(suggestion.text(), suggestion.type()))
+                .toList();
+    }
+
+    @Override
+    @Cacheable(CacheConfig.BOOKS)
     public BookDTO getBookByName(String name) {
         Optional<Book> book = bookRepository.findByName(name);
         return book.map(bookMapper::toDto).
@@ -65,25 +142,85 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
-    public BookDTO updateBookByName(String name, BookDTO book) {
-        return bookRepository.findByName(name).map(existingBook -> {
-            Book updated = bookMapper.toEntity(book);
-            updated.setId(existingBook.getId());
-            return bookMapper.toDto(bookRepository.save(updated));
-        }).orElseThrow(() -> new NotFoundException("The book with a name " + name ));
+    public long getBookVersion(String name) {
+        return bookRepository.findVersionByName(name)
+                .orElseThrow(() -> new NotFoundException("The book with a name " + name));
     }
 
     @Override
+    @Transactional
+    @RetryOnConflict
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#name"),
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#book.name", condition = "#book.name != null"),
+            @CacheEvict(cacheNames = {CacheConfig.BOOK_PAGES, CacheConfig.BOOK_SEARCHES, CacheConfig.BOOK_COUNTS, CacheConfig.BOOK_FACETS}, allEntries = true)
+    })
+    public BookDTO updateBookByName(String name, BookDTO book, Long expectedVersion) {
+        Book existingBook = bookRepository.findByName(name)
+                .orElseThrow(() -> new NotFoundException("The book with a name " + name));
+        if (expectedVersion != null && !expectedVersion.equals(existingBook.getVersion())) {
+            throw new StaleVersionException("The book " + name);
+        }
+        bookMapper.updateEntity(book, existingBook);
+        eventPublisher.publishEvent(BookCatalogChangedEvent.saved(name, existingBook));
+        return bookMapper.toDto(existingBook);
+    }
+
+    @Override
+    public void restock(String name, int quantity) {
+        if (bookRepository.restock(name, quantity) == 0) throw new NotFoundException("The book with a name " + name);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#name"),
+            @CacheEvict(cacheNames = {CacheConfig.BOOK_PAGES, CacheConfig.BOOK_SEARCHES, CacheConfig.BOOK_COUNTS, CacheConfig.BOOK_FACETS}, allEntries = true)
+    })
     public void deleteBookByName(String name) {
         bookRepository.deleteByName(name);
+        eventPublisher.publishEvent(BookCatalogChangedEvent.removed(name));
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.BOOK_PAGES, CacheConfig.BOOK_SEARCHES, CacheConfig.BOOK_COUNTS, CacheConfig.BOOK_FACETS}, allEntries = true)
     public BookDTO addBook(BookDTO book) {
         try{
-            return bookMapper.toDto(bookRepository.save(bookMapper.toEntity(book)));
+            Book saved = bookRepository.save(bookMapper.toEntity(book));
+            eventPublisher.publishEvent(BookCatalogChangedEvent.saved(null, saved));
+            return bookMapper.toDto(saved);
         }catch (DataIntegrityViolationException e){
             throw new AlreadyExistException("The book with a name " + book.getName());
         }
     }
+
+    private Page<BookDTO> relevanceSearch(SearchBookDTO criteria, Pageable pageable) {
+        List<String> ranked = searchIndex.search(criteria.getQuery());
+        BooleanBuilder filters = searchPredicate(criteria);
+        if (filters.hasValue() && !ranked.isEmpty()) {
+            Set<String> matching = new HashSet<>(bookRepository.findNames(filters.and(QBook.book.name.in(ranked))));
+            ranked = ranked.stream().filter(matching::contains).toList();
+        }
+        List<String> pageNames = ranked.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        if (pageNames.isEmpty()) return new PageImpl<>(List.of(), pageable, ranked.size());
+        Map<String, BookDTO> books = bookRepository.findAllAsDto(QBook.book.name.in(pageNames)).stream()
+                .collect(Collectors.toMap(BookDTO::getName, Function.identity()));
+        List<BookDTO> content = pageNames.stream().map(books::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    private BooleanBuilder searchPredicate(SearchBookDTO criteria) {
+        return BookSearchPredicateBuilder.create()
+                .withName(criteria.getName())
+                .withGenre(criteria.getGenre())
+                .withAuthor(criteria.getAuthor())
+                .withAgeGroup(criteria.getAgeGroup())
+                .withLanguage(criteria.getLanguage())
+                .withPriceRange(criteria.getMinPrice(), criteria.getMaxPrice())
+                .withPageRange(criteria.getMinPages(), criteria.getMaxPages())
+                .withPublicationYear(criteria.getPublicationYear())
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.epam.rd.autocode.spring.project.service.impl;
 
+import com.epam.rd.autocode.spring.project.annotations.RetryOnConflict;
 import com.epam.rd.autocode.spring.project.dto.ClientDTO;
 import com.epam.rd.autocode.spring.project.dto.ClientUpdateDTO;
 import com.epam.rd.autocode.spring.project.exception.AlreadyExistException;
@@ -10,12 +11,16 @@ import com.epam.rd.autocode.spring.project.model.Client;
 import com.epam.rd.autocode.spring.project.repo.BlockedClientRepository;
 import com.epam.rd.autocode.spring.project.repo.ClientRefreshTokenRepository;
 import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
 import com.epam.rd.autocode.spring.project.service.ClientService;
 import com.epam.rd.autocode.spring.project.service.SortMappingService;
 import jakarta.transaction.Transactional;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.util.List;
@@ -77,7 +82,24 @@ public class ClientServiceImpl implements ClientService {
     @Override
     public Page<ClientDTO> getAllClients(Pageable pageable) {
         Pageable mappedPageable = sortMappingService.applyMappings(pageable, "client");
-        return clientRepository.findAll(mappedPageable).map(clientMapper::toDto);
+        return clientRepository.findAllAsDto(mappedPageable);
+    }
+
+    @Override
+    public Slice<ClientDTO> getClientSlice(Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "client");
+        return clientRepository.findSliceAsDto(mappedPageable);
+    }
+
+    @Override
+    public KeysetWindow<ClientDTO> scrollClients(String cursor, Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "client");
+        return clientRepository.scrollAsDto(KeysetRequest.of(cursor, mappedPageable));
+    }
+
+    @Override
+    public KeysetCursor nextClientCursor(Pageable pageable) {
+        return clientRepository.cursorAfter(sortMappingService.applyMappings(pageable, "client"));
     }
 
     @Override
@@ -87,29 +109,22 @@ public class ClientServiceImpl implements ClientService {
     }
 
     @Override
+    @Transactional
+    @RetryOnConflict
     public ClientDTO updateClientByEmail(String email, ClientDTO client) {
-        return clientRepository.getByEmail(email)
-                .map(existingClient -> {
-                    Client updatedClient = clientMapper.toEntity(client);
-                    updatedClient.setId(existingClient.getId());
-                    return clientMapper.toDto(clientRepository.save(updatedClient));
-                })
+        Client existingClient = clientRepository.getByEmail(email)
                 .orElseThrow(() -> new NotFoundException("Client with email " + email));
+        clientMapper.updateEntity(client, existingClient);
+        return clientMapper.toDto(existingClient);
     }
 
     @Override
+    @Transactional
+    @RetryOnConflict
     public void updateClientByEmail(String email, ClientUpdateDTO client) {
-        clientRepository.getByEmail(email)
-                .ifPresentOrElse(
-                        existingClient -> {
-                            Client updatedClient = clientMapper.toEntity(client);
-                            updatedClient.setId(existingClient.getId());
-                            updatedClient.setEmail(existingClient.getEmail());
-                            updatedClient.setPassword(existingClient.getPassword());
-                            clientRepository.save(updatedClient);
-                        },
-                        () -> {throw new NotFoundException("Client with email " + email);}
-                );
+        Client existingClient = clientRepository.getByEmail(email)
+                .orElseThrow(() -> new NotFoundException("Client with email " + email));
+        clientMapper.updateEntity(client, existingClient);
     }
 
     @Override
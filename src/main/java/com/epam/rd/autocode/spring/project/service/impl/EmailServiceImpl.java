@@ -1,20 +1,43 @@
 package com.epam.rd.autocode.spring.project.service.impl;
 
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.mail.EmailQueuedEvent;
+import com.epam.rd.autocode.spring.project.mail.MailTemplateRenderer;
+import com.epam.rd.autocode.spring.project.model.MailCampaign;
+import com.epam.rd.autocode.spring.project.model.OutboundEmail;
+import com.epam.rd.autocode.spring.project.model.enums.MailTemplate;
+import com.epam.rd.autocode.spring.project.repo.MailCampaignRepository;
+import com.epam.rd.autocode.spring.project.repo.OutboundEmailRepository;
 import com.epam.rd.autocode.spring.project.service.EmailService;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class EmailServiceImpl implements EmailService {
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
 
-    private final JavaMailSender javaMailSender;
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final MailCampaignRepository mailCampaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MailTemplateRenderer templateRenderer;
 
-    public EmailServiceImpl(JavaMailSender javaMailSender) {
-        this.javaMailSender = javaMailSender;
+    public EmailServiceImpl(OutboundEmailRepository outboundEmailRepository, MailCampaignRepository mailCampaignRepository,
+                            ApplicationEventPublisher eventPublisher, MailTemplateRenderer templateRenderer) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.mailCampaignRepository = mailCampaignRepository;
+        this.eventPublisher = eventPublisher;
+        this.templateRenderer = templateRenderer;
     }
 
     @Value("${spring.mail.username}")
@@ -24,39 +47,66 @@ public class EmailServiceImpl implements EmailService {
     private Duration resetCodeExpirationTime;
 
     @Override
+    @Transactional
     public void sendPasswordResetEmail(String toEmail, String resetCode, String role) {
-        try{
-            SimpleMailMessage message = new SimpleMailMessage();
-
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("Password reset code for Margosha Book Store ");
-            message.setText(buildPasswordResetMessage(resetCode, role));
-
-            javaMailSender.send(message);
-        }catch (Exception e){
-            throw new RuntimeException("Failed to send password reset email", e);
-        }
-    }
-
-    private String buildPasswordResetMessage(String resetCode, String userRole) {
-        return String.format("""
-            Hello Dear User❤️️❤️❤️,
-            
-            You have requested a password reset for your %s account!
-            
-            Your password reset code is: %s
-            
-            Please use this code to reset your password. This code will expire in %d minutes.
-            
-            If you didn't request this reset, please ignore this email.
-            
-            Thanks,
-            Margosha Book Store
-            """,
-                userRole.toLowerCase(),
-                resetCode,
-                resetCodeExpirationTime.toMinutes()
-        );
+        String body = templateRenderer.render(MailTemplate.PASSWORD_RESET, Map.of(
+                "role", role.toLowerCase(),
+                "resetCode", resetCode,
+                "expiresInMinutes", resetCodeExpirationTime.toMinutes()));
+        queue(MailTemplate.PASSWORD_RESET, "Password reset code for Margosha Book Store ", body, List.of(toEmail));
+    }
+
+    @Override
+    @Transactional
+    public void sendOrderConfirmationEmail(String clientName, OrderDTO order) {
+        String body = templateRenderer.render(MailTemplate.ORDER_CONFIRMATION, Map.of(
+                "clientName", clientName,
+                "orderId", order.getPublicId() != null ? order.getPublicId().toString() : "",
+                "orderDate", order.getOrderDate() != null ? order.getOrderDate().format(ORDER_DATE_FORMAT) : "",
+                "items", order.getBookItems() != null ? order.getBookItems() : List.of(),
+                "total", order.getPrice() != null ? order.getPrice().toPlainString() : ""));
+        queue(MailTemplate.ORDER_CONFIRMATION, "Your Margosha Book Store order", body, List.of(order.getClientEmail()));
+    }
+
+    @Override
+    @Transactional
+    public int sendNewsletter(String subject, String content, Collection<String> recipients) {
+        if (recipients.isEmpty()) return 0;
+        return queueNewsletter(createNewsletter(subject, content), recipients, null);
+    }
+
+    @Override
+    @Transactional
+    public Long createNewsletter(String subject, String content) {
+        List<String> paragraphs = Arrays.stream(content.split("\\R\\s*\\R")).map(String::strip)
+                .filter(paragraph -> !paragraph.isEmpty()).toList();
+        String body = templateRenderer.render(MailTemplate.NEWSLETTER, Map.of("subject", subject, "paragraphs", paragraphs));
+        return mailCampaignRepository.save(new MailCampaign(subject, body, MailTemplate.NEWSLETTER.isHtml())).getId();
+    }
+
+    @Override
+    @Transactional
+    public int queueNewsletter(Long campaignId, Collection<String> recipients, Long lastRecipientId) {
+        if (recipients.isEmpty()) return 0;
+        MailCampaign campaign = mailCampaignRepository.getReferenceById(campaignId);
+        if (lastRecipientId != null) campaign.setLastRecipientId(lastRecipientId);
+        LocalDateTime now = LocalDateTime.now();
+        return queue(new LinkedHashSet<>(recipients).stream()
+                .map(recipient -> new OutboundEmail(fromEmail, recipient, campaign, now))
+                .toList());
+    }
+
+    private int queue(MailTemplate template, String subject, String body, Collection<String> recipients) {
+        if (recipients.isEmpty()) return 0;
+        LocalDateTime now = LocalDateTime.now();
+        return queue(recipients.stream()
+                .map(recipient -> new OutboundEmail(fromEmail, recipient, subject, body, template.isHtml(), now))
+                .toList());
+    }
+
+    private int queue(List<OutboundEmail> emails) {
+        List<Long> ids = outboundEmailRepository.saveAll(emails).stream().map(OutboundEmail::getId).toList();
+        eventPublisher.publishEvent(new EmailQueuedEvent(ids));
+        return ids.size();
     }
 }
@@ -1,5 +1,6 @@
 package com.epam.rd.autocode.spring.project.service.impl;
 
+import com.epam.rd.autocode.spring.project.annotations.RetryOnConflict;
 import com.epam.rd.autocode.spring.project.dto.EmployeeDTO;
 import com.epam.rd.autocode.spring.project.dto.EmployeeUpdateDTO;
 import com.epam.rd.autocode.spring.project.exception.AlreadyExistException;
@@ -48,7 +49,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     public Page<EmployeeDTO> getAllEmployees(Pageable pageable) {
         Pageable mappedPageable = sortMappingService.applyMappings(pageable, "employee");
-        return employeeRepository.findAll(mappedPageable).map(employeeMapper::toDto);
+        return employeeRepository.findAllAsDto(mappedPageable);
     }
 
     @Override
@@ -58,31 +59,22 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
+    @Transactional
+    @RetryOnConflict
     public EmployeeDTO updateEmployeeByEmail(String email, EmployeeDTO employee) {
-        return employeeRepository.getByEmail(email)
-                .map(existingEmployee -> {
-                    Employee updatedEmployee = employeeMapper.toEntity(employee);
-                    updatedEmployee.setId(existingEmployee.getId());
-                    return employeeMapper.toDto(employeeRepository.save(updatedEmployee));
-                })
+        Employee existingEmployee = employeeRepository.getByEmail(email)
                 .orElseThrow(() -> new NotFoundException("Employee with email " + email));
+        employeeMapper.updateEntity(employee, existingEmployee);
+        return employeeMapper.toDto(existingEmployee);
     }
 
     @Override
+    @Transactional
+    @RetryOnConflict
     public void updateEmployeeByEmail(String email, EmployeeUpdateDTO employee) {
-        employeeRepository.getByEmail(email)
-                .ifPresentOrElse(
-                        existingEmployee -> {
-                            Employee updatedEmployee = employeeMapper.toEntity(employee);
-                            updatedEmployee.setId(existingEmployee.getId());
-                            updatedEmployee.setPassword(existingEmployee.getPassword());
-                            updatedEmployee.setEmail(existingEmployee.getEmail());
-                            employeeRepository.save(updatedEmployee);
-                        },
-                        () -> {
-                            throw new NotFoundException("Employee with email " + email + " not found");
-                        }
-                );
+        Employee existingEmployee = employeeRepository.getByEmail(email)
+                .orElseThrow(() -> new NotFoundException("Employee with email " + email + " not found"));
+        employeeMapper.updateEntity(employee, existingEmployee);
     }
 
     @Override
@@ -0,0 +1,56 @@
+package com.epam.rd.autocode.spring.project.service.impl;
+
+import com.epam.rd.autocode.spring.project.conf.OutboxSettings;
+import com.epam.rd.autocode.spring.project.dto.NewsletterResultDTO;
+import com.epam.rd.autocode.spring.project.dto.request.NewsletterDTO;
+import com.epam.rd.autocode.spring.project.exception.NotFoundException;
+import com.epam.rd.autocode.spring.project.model.MailCampaign;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.MailCampaignRepository;
+import com.epam.rd.autocode.spring.project.repo.projection.ClientEmailRow;
+import com.epam.rd.autocode.spring.project.service.EmailService;
+import com.epam.rd.autocode.spring.project.service.NewsletterService;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import java.util.List;
+
+@Service
+public class NewsletterServiceImpl implements NewsletterService {
+    private final ClientRepository clientRepository;
+    private final MailCampaignRepository mailCampaignRepository;
+    private final EmailService emailService;
+    private final OutboxSettings outboxSettings;
+
+    public NewsletterServiceImpl(ClientRepository clientRepository, MailCampaignRepository mailCampaignRepository,
+                                 EmailService emailService, OutboxSettings outboxSettings) {
+        this.clientRepository = clientRepository;
+        this.mailCampaignRepository = mailCampaignRepository;
+        this.emailService = emailService;
+        this.outboxSettings = outboxSettings;
+    }
+
+    @Override
+    public NewsletterResultDTO sendToAllClients(NewsletterDTO newsletter) {
+        Long campaignId = emailService.createNewsletter(newsletter.getSubject(), newsletter.getContent());
+        return queueAfter(campaignId, 0L);
+    }
+
+    @Override
+    public NewsletterResultDTO resumeCampaign(Long campaignId) {
+        MailCampaign campaign = mailCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new NotFoundException("Mail campaign " + campaignId));
+        return queueAfter(campaignId, campaign.getLastRecipientId() == null ? 0L : campaign.getLastRecipientId());
+    }
+
+    private NewsletterResultDTO queueAfter(Long campaignId, Long lastRecipientId) {
+        Limit limit = Limit.of(outboxSettings.getRecipientPageSize());
+        int queued = 0;
+        List<ClientEmailRow> page = clientRepository.findActiveEmailsAfter(lastRecipientId, limit);
+        while (!page.isEmpty()) {
+            Long lastId = page.get(page.size() - 1).id();
+            queued += emailService.queueNewsletter(campaignId, page.stream().map(ClientEmailRow::email).toList(), lastId);
+            page = clientRepository.findActiveEmailsAfter(lastId, limit);
+        }
+        return new NewsletterResultDTO(campaignId, queued);
+    }
+}
@@ -0,0 +1,64 @@
+package com.epam.rd.autocode.spring.project.service.impl;
+
+import com.epam.rd.autocode.spring.project.conf.ExportSettings;
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.export.CsvOrderExportWriter;
+import com.epam.rd.autocode.spring.project.export.NdjsonOrderExportWriter;
+import com.epam.rd.autocode.spring.project.export.OrderExportWriter;
+import com.epam.rd.autocode.spring.project.model.enums.ExportFormat;
+import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderExportRow;
+import com.epam.rd.autocode.spring.project.service.OrderExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class OrderExportServiceImpl implements OrderExportService {
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+    private final ExportSettings settings;
+
+    public OrderExportServiceImpl(OrderRepository orderRepository, ObjectMapper objectMapper, ExportSettings settings) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+    }
+
+    @Override
+    @Transactional
+    public void exportOrders(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out) throws IOException {
+        OrderExportWriter writer = writerFor(format, out);
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(from, to, settings.getFetchSize())) {
+            Iterator<OrderExportRow> iterator = rows.iterator();
+            OrderDTO current = null;
+            Long currentId = null;
+            while (iterator.hasNext()) {
+                OrderExportRow row = iterator.next();
+                if (!row.id().equals(currentId)) {
+                    if (current != null) writer.write(current);
+                    current = new OrderDTO(row.publicId(), row.employeeEmail(), row.clientEmail(), row.orderDate(),
+                            row.price(), new ArrayList<>());
+                    currentId = row.id();
+                }
+                if (row.bookName() != null) current.getBookItems().add(new BookItemDTO(row.bookName(), row.quantity()));
+            }
+            if (current != null) writer.write(current);
+        }
+        writer.finish();
+    }
+
+    private OrderExportWriter writerFor(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonOrderExportWriter(objectMapper.writerFor(OrderDTO.class), out, settings.getBufferSize());
+            case CSV -> new CsvOrderExportWriter(out, settings.getBufferSize());
+        };
+    }
+}
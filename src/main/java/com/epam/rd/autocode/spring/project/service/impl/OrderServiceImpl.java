@@ -1,25 +1,56 @@
 package com.epam.rd.autocode.spring.project.service.impl;
 
+import com.epam.rd.autocode.spring.project.analytics.OrdersChangedEvent;
+import com.epam.rd.autocode.spring.project.annotations.RetryOnConflict;
 import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderConfirmationDTO;
 import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ConfirmOrdersDTO;
+import com.epam.rd.autocode.spring.project.exception.InsufficientFundsException;
 import com.epam.rd.autocode.spring.project.exception.NotFoundException;
 import com.epam.rd.autocode.spring.project.exception.OrderMustContainClientException;
+import com.epam.rd.autocode.spring.project.exception.OutOfStockException;
 import com.epam.rd.autocode.spring.project.mappers.BookItemMapper;
 import com.epam.rd.autocode.spring.project.mappers.OrderMapper;
 import com.epam.rd.autocode.spring.project.model.*;
+import com.epam.rd.autocode.spring.project.model.enums.OrderConfirmationStatus;
 import com.epam.rd.autocode.spring.project.repo.BookRepository;
 import com.epam.rd.autocode.spring.project.repo.ClientRepository;
 import com.epam.rd.autocode.spring.project.repo.EmployeeRepository;
 import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.repo.projection.BookItemRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderAssigneeRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderRow;
+import com.epam.rd.autocode.spring.project.service.EmailService;
 import com.epam.rd.autocode.spring.project.service.OrderService;
 import com.epam.rd.autocode.spring.project.service.SortMappingService;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderServiceImpl implements OrderService {
+    private static final int PRICE_SCALE = 2;
+
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
     private final EmployeeRepository employeeRepository;
@@ -27,6 +58,8 @@ public class OrderServiceImpl implements OrderService {
     private final BookItemMapper bookItemMapper;
     private final BookRepository bookRepository;
     private final SortMappingService sortMappingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailService emailService;
 
     public OrderServiceImpl(OrderRepository orderRepository,
                             OrderMapper orderMapper,
@@ -34,7 +67,9 @@ public class OrderServiceImpl implements OrderService {
                             ClientRepository clientRepository,
                             BookItemMapper bookItemMapper,
                             BookRepository bookRepository,
-                            SortMappingService sortMappingService) {
+                            SortMappingService sortMappingService,
+                            ApplicationEventPublisher eventPublisher,
+                            EmailService emailService) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
         this.employeeRepository = employeeRepository;
@@ -42,37 +77,84 @@ public class OrderServiceImpl implements OrderService {
         this.bookItemMapper = bookItemMapper;
         this.bookRepository = bookRepository;
         this.sortMappingService = sortMappingService;
+        this.eventPublisher = eventPublisher;
+        this.emailService = emailService;
     }
 
     @Override
+    @Transactional
     public Page<OrderDTO> getAllOrders(Pageable pageable) {
         Pageable mappedPageable = sortMappingService.applyMappings(pageable, "order");
-        return orderRepository.findAll(mappedPageable).map(orderMapper::toDto);
+        return withBookItems(orderRepository.findAllRows(mappedPageable));
     }
 
     @Override
+    @Transactional
+    public Slice<OrderDTO> getOrderSlice(Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "order");
+        return withBookItems(orderRepository.findRowSlice(mappedPageable));
+    }
+
+    @Override
+    @Transactional
+    public KeysetWindow<OrderDTO> scrollOrders(String cursor, Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "order");
+        return withBookItems(orderRepository.scrollRows(KeysetRequest.of(cursor, mappedPageable)));
+    }
+
+    @Override
+    public KeysetCursor nextOrderCursor(Pageable pageable) {
+        return orderRepository.cursorAfter(sortMappingService.applyMappings(pageable, "order"));
+    }
+
+    @Override
+    @Transactional
     public List<OrderDTO> getOrdersByClient(String clientEmail) {
         return orderRepository.findAllByClient_Email(clientEmail).stream().map(orderMapper::toDto).toList();
     }
 
     @Override
+    @Transactional
     public Page<OrderDTO> getOrdersByClient(String clientEmail, Pageable pageable) {
         Pageable mappedPageable = sortMappingService.applyMappings(pageable, "order");
-        return orderRepository.findAllByClient_Email(clientEmail, mappedPageable).map(orderMapper::toDto);
+        return withBookItems(orderRepository.findRowsByClientEmail(clientEmail, mappedPageable));
+    }
+
+    @Override
+    @Transactional
+    public Slice<OrderDTO> getOrderSliceByClient(String clientEmail, Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "order");
+        return withBookItems(orderRepository.findRowSliceByClientEmail(clientEmail, mappedPageable));
+    }
+
+    @Override
+    @Transactional
+    public KeysetWindow<OrderDTO> scrollOrdersByClient(String clientEmail, String cursor, Pageable pageable) {
+        Pageable mappedPageable = sortMappingService.applyMappings(pageable, "order");
+        return withBookItems(orderRepository.scrollRowsByClientEmail(clientEmail, KeysetRequest.of(cursor, mappedPageable)));
     }
 
     @Override
+    public KeysetCursor nextOrderCursorByClient(String clientEmail, Pageable pageable) {
+        return orderRepository.cursorAfterByClientEmail(clientEmail, sortMappingService.applyMappings(pageable, "order"));
+    }
+
+    @Override
+    @Transactional
     public List<OrderDTO> getOrdersByEmployee(String employeeEmail) {
         return orderRepository.findAllByEmployee_Email(employeeEmail).stream().map(orderMapper::toDto).toList();
     }
 
     @Override
+    @Transactional
     public Page<OrderDTO> getOrdersByEmployee(String employeeEmail, Pageable pageable) {
         Pageable mappedPageable = sortMappingService.applyMappings(pageable, "order");
-        return orderRepository.findAllByEmployee_Email(employeeEmail, mappedPageable).map(orderMapper::toDto);
+        return withBookItems(orderRepository.findRowsByEmployeeEmail(employeeEmail, mappedPageable));
     }
 
     @Override
+    @Transactional
+    @RetryOnConflict
     public OrderDTO addOrder(OrderDTO dto) {
         if(dto.getClientEmail() == null)throw new OrderMustContainClientException();
         Order order = orderMapper.toEntity(dto);
@@ -80,12 +162,21 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new NotFoundException("Client with email " + dto.getClientEmail()));
         order.setEmployee(null);
         order.setClient(client);
+        order.setPrice(BigDecimal.ZERO.setScale(PRICE_SCALE));
 
         if(dto.getBookItems() != null && !dto.getBookItems().isEmpty()){
-            List<BookItem> bookItems = mapBookItems(dto.getBookItems(), order);
-            order.setBookItems(bookItems);
+            Map<String, Book> books = findBooks(dto.getBookItems());
+            Map<String, Integer> quantities = quantitiesByName(dto.getBookItems());
+            order.setBookItems(mapBookItems(dto.getBookItems(), books, order));
+            reserveStock(quantities, books);
+            order.setPrice(priceOf(quantities, books));
         }
-        return orderMapper.toDto(orderRepository.save(order));
+        debit(client, order.getPrice());
+        Order saved = orderRepository.save(order);
+        eventPublisher.publishEvent(OrdersChangedEvent.of(order.getOrderDate()));
+        OrderDTO result = orderMapper.toDto(saved);
+        emailService.sendOrderConfirmationEmail(client.getName(), result);
+        return result;
     }
 
     @Override
@@ -95,15 +186,110 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(()-> new NotFoundException("Employee with email " + dto.getEmployeeEmail()));
         order.setEmployee(employee);
         orderRepository.save(order);
+        eventPublisher.publishEvent(OrdersChangedEvent.of(order.getOrderDate()));
+    }
+
+    @Override
+    @Transactional
+    public List<OrderConfirmationDTO> confirmOrders(ConfirmOrdersDTO request) {
+        Employee employee = employeeRepository.getByEmail(request.getEmployeeEmail())
+                .orElseThrow(() -> new NotFoundException("Employee with email " + request.getEmployeeEmail()));
+        Set<UUID> publicIds = new LinkedHashSet<>(request.getOrderIds());
+        orderRepository.assignEmployee(employee, publicIds);
+        Map<UUID, String> assignees = new HashMap<>();
+        List<LocalDateTime> confirmedDates = new ArrayList<>();
+        for (OrderAssigneeRow row : orderRepository.findAssigneesByPublicIds(publicIds)) {
+            assignees.put(row.publicId(), row.employeeEmail());
+            if (employee.getEmail().equals(row.employeeEmail())) confirmedDates.add(row.orderDate());
+        }
+        eventPublisher.publishEvent(OrdersChangedEvent.of(confirmedDates));
+        return publicIds.stream()
+                .map(publicId -> confirmationOf(publicId, assignees, employee.getEmail()))
+                .toList();
+    }
+
+    private OrderConfirmationDTO confirmationOf(UUID publicId, Map<UUID, String> assignees, String employeeEmail) {
+        if (!assignees.containsKey(publicId)) {
+            return new OrderConfirmationDTO(publicId, OrderConfirmationStatus.NOT_FOUND, null);
+        }
+        String assignee = assignees.get(publicId);
+        OrderConfirmationStatus status = employeeEmail.equals(assignee)
+                ? OrderConfirmationStatus.CONFIRMED
+                : OrderConfirmationStatus.CONFIRMED_BY_ANOTHER_EMPLOYEE;
+        return new OrderConfirmationDTO(publicId, status, assignee);
+    }
+
+    private Page<OrderDTO> withBookItems(Page<OrderRow> rows) {
+        Map<Long, List<BookItemDTO>> bookItems = bookItemsOf(rows.getContent());
+        return rows.map(row -> orderMapper.toDto(row, bookItems.getOrDefault(row.id(), new ArrayList<>())));
+    }
+
+    private Slice<OrderDTO> withBookItems(Slice<OrderRow> rows) {
+        Map<Long, List<BookItemDTO>> bookItems = bookItemsOf(rows.getContent());
+        return rows.map(row -> orderMapper.toDto(row, bookItems.getOrDefault(row.id(), new ArrayList<>())));
+    }
+
+    private KeysetWindow<OrderDTO> withBookItems(KeysetWindow<OrderRow> rows) {
+        Map<Long, List<BookItemDTO>> bookItems = bookItemsOf(rows.content());
+        return rows.withContent(rows.content().stream()
+                .map(row -> orderMapper.toDto(row, bookItems.getOrDefault(row.id(), new ArrayList<>())))
+                .toList());
+    }
+
+    private Map<Long, List<BookItemDTO>> bookItemsOf(List<OrderRow> rows) {
+        if (rows.isEmpty()) return Map.of();
+        return orderRepository.findItemRowsByOrderIds(rows.stream().map(OrderRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(BookItemRow::orderId, Collectors.mapping(
+                        row -> new BookItemDTO(row.bookName(), row.quantity()), Collectors.toList())));
+    }
+
+    private Map<String, Book> findBooks(List<BookItemDTO> bookItemDTOs) {
+        Set<String> names = bookItemDTOs.stream()
+                .map(BookItemDTO::getBookName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Book> books = bookRepository.findAllByNameIn(names).stream()
+                .collect(Collectors.toMap(Book::getName, Function.identity()));
+        List<String> missing = names.stream().filter(name -> !books.containsKey(name)).toList();
+        if (!missing.isEmpty()) throw new NotFoundException("Books with names " + String.join(", ", missing));
+        return books;
+    }
+
+    private Map<String, Integer> quantitiesByName(List<BookItemDTO> bookItemDTOs) {
+        return bookItemDTOs.stream()
+                .collect(Collectors.toMap(BookItemDTO::getBookName, BookItemDTO::getQuantity, Integer::sum, TreeMap::new));
+    }
+
+    private void reserveStock(Map<String, Integer> quantities, Map<String, Book> books) {
+        Map<Long, Integer> quantitiesById = new HashMap<>();
+        Map<Long, String> namesById = new HashMap<>();
+        quantities.forEach((name, quantity) -> {
+            quantitiesById.put(books.get(name).getId(), quantity);
+            namesById.put(books.get(name).getId(), name);
+        });
+        List<Long> rejected = bookRepository.reserveStock(quantitiesById);
+        if (!rejected.isEmpty()) throw new OutOfStockException(rejected.stream().map(namesById::get).sorted().toList());
+    }
+
+    private BigDecimal priceOf(Map<String, Integer> quantities, Map<String, Book> books) {
+        return quantities.entrySet().stream()
+                .map(entry -> books.get(entry.getKey()).getPrice().multiply(BigDecimal.valueOf(entry.getValue())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private void debit(Client client, BigDecimal amount) {
+        if (client.getBalance().compareTo(amount) < 0) {
+            throw new InsufficientFundsException("Client with email " + client.getEmail());
+        }
+        client.setBalance(client.getBalance().subtract(amount));
     }
 
-    private List<BookItem> mapBookItems(List<BookItemDTO> bookItemDTOs, Order order) {
+    private List<BookItem> mapBookItems(List<BookItemDTO> bookItemDTOs, Map<String, Book> books, Order order) {
         return bookItemDTOs.stream()
                 .map(dto -> {
                     BookItem bookItem = bookItemMapper.toEntity(dto);
-                    Book book = bookRepository.findByName(dto.getBookName())
-                            .orElseThrow(() -> new NotFoundException("Book with name " + dto.getBookName()));
-                    bookItem.setBook(book);
+                    bookItem.setBook(books.get(dto.getBookName()));
+                    bookItem.setUnitPrice(books.get(dto.getBookName()).getPrice());
                     bookItem.setOrder(order);
                     return bookItem;
                 })
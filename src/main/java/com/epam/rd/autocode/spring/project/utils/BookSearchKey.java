@@ -0,0 +1,36 @@
+package com.epam.rd.autocode.spring.project.utils;
+
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.springframework.util.StringUtils;
+import java.math.BigDecimal;
+import java.util.Locale;
+
+public record BookSearchKey(String query, String name, String genre, String author, AgeGroup ageGroup,
+                            Language language, BigDecimal minPrice, BigDecimal maxPrice, Integer minPages,
+                            Integer maxPages, Integer publicationYear) {
+
+    public static BookSearchKey of(SearchBookDTO criteria) {
+        return new BookSearchKey(
+                StringUtils.hasText(criteria.getQuery()) ? criteria.getQuery() : null,
+                ignoringCase(criteria.getName()),
+                ignoringCase(criteria.getGenre()),
+                ignoringCase(criteria.getAuthor()),
+                criteria.getAgeGroup(),
+                criteria.getLanguage(),
+                amount(criteria.getMinPrice()),
+                amount(criteria.getMaxPrice()),
+                criteria.getMinPages(),
+                criteria.getMaxPages(),
+                criteria.getPublicationYear() == null ? null : criteria.getPublicationYear().getValue());
+    }
+
+    private static String ignoringCase(String value) {
+        return StringUtils.hasText(value) ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
+}
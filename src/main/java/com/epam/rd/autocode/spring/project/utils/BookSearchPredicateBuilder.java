@@ -6,7 +6,6 @@ import com.epam.rd.autocode.spring.project.model.enums.Language;
 import com.querydsl.core.BooleanBuilder;
 import org.springframework.util.StringUtils;
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.util.Optional;
 
 public class BookSearchPredicateBuilder {
@@ -83,14 +82,8 @@ public class BookSearchPredicateBuilder {
     }
 
     public BookSearchPredicateBuilder withPublicationYear(java.time.Year year) {
-        int NUMBER_OF_MONTHS = 12;
-        int NUMBER_OF_DAYS_IN_MONTH = 31;
         Optional.ofNullable(year)
-                .ifPresent(y -> {
-                    LocalDate startOfYear = LocalDate.of(y.getValue(), 1, 1);
-                    LocalDate endOfYear = LocalDate.of(y.getValue(), NUMBER_OF_MONTHS, NUMBER_OF_DAYS_IN_MONTH);
-                    predicate.and(book.publicationDate.between(startOfYear, endOfYear));
-                });
+                .ifPresent(y -> predicate.and(book.publicationYear.eq(y.getValue())));
         return this;
     }
 
@@ -0,0 +1,24 @@
+package com.epam.rd.autocode.spring.project.utils;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+@Endpoint(id = "jwtkeys")
+public class JwtKeyEndpoint {
+    private final JwtKeyHolder keyHolder;
+
+    public JwtKeyEndpoint(JwtKeyHolder keyHolder) {
+        this.keyHolder = keyHolder;
+    }
+
+    public record JwtKeys(String signingKeyId, Set<String> keyIds) {}
+
+    @ReadOperation
+    public JwtKeys keys() {
+        return new JwtKeys(keyHolder.signingKey().keyId(), new TreeSet<>(keyHolder.keyIds()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.rd.autocode.spring.project.utils;
+
+import com.epam.rd.autocode.spring.project.conf.JwtSettings;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class JwtKeyHolder {
+    private final JwtSettings settings;
+    private final AtomicReference<KeyRing> keyRing = new AtomicReference<>();
+    private final JwtParser parser;
+
+    public JwtKeyHolder(JwtSettings settings) {
+        this.settings = settings;
+        this.parser = Jwts.parser()
+                .keyLocator(this::locateKey)
+                .build();
+    }
+
+    public record SigningKey(String keyId, SecretKey key) {}
+
+    public SigningKey signingKey() {
+        KeyRing ring = keyRing();
+        return new SigningKey(ring.signingKeyId(), ring.keys().get(ring.signingKeyId()));
+    }
+
+    public JwtParser parser() {
+        return parser;
+    }
+
+    public Set<String> keyIds() {
+        return keyRing().keys().keySet();
+    }
+
+    private Key locateKey(Header header) {
+        KeyRing ring = keyRing();
+        String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        SecretKey key = ring.keys().get(keyId != null ? keyId : ring.signingKeyId());
+        if (key == null) throw new UnsupportedJwtException("Unknown signing key id: " + keyId);
+        return key;
+    }
+
+    private KeyRing keyRing() {
+        KeyRing ring = keyRing.get();
+        if (ring != null) return ring;
+        keyRing.compareAndSet(null, load());
+        return keyRing.get();
+    }
+
+    private KeyRing load() {
+        Map<String, SecretKey> keys = new HashMap<>();
+        settings.getVerificationKeys().forEach((keyId, secret) -> keys.put(keyId, decode(secret)));
+        keys.put(settings.getKeyId(), decode(settings.getSecretKey()));
+        return new KeyRing(settings.getKeyId(), Map.copyOf(keys));
+    }
+
+    private static SecretKey decode(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+    }
+
+    private record KeyRing(String signingKeyId, Map<String, SecretKey> keys) {}
+}
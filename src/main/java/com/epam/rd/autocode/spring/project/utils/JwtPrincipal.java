@@ -0,0 +1,15 @@
+package com.epam.rd.autocode.spring.project.utils;
+
+import java.time.Instant;
+import java.util.List;
+
+public record JwtPrincipal(String username, List<String> roles, Instant expiresAt) {
+
+    public JwtPrincipal {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    public boolean isExpired() {
+        return expiresAt == null || !expiresAt.isAfter(Instant.now());
+    }
+}
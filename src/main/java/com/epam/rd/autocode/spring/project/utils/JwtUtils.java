@@ -1,26 +1,42 @@
 package com.epam.rd.autocode.spring.project.utils;
 
 import com.epam.rd.autocode.spring.project.conf.JwtSettings;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class JwtUtils {
+    private static final String ROLES_CLAIM = "roles";
+
     private final JwtSettings settings;
+    private final JwtKeyHolder keyHolder;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
 
-    public JwtUtils(JwtSettings settings) {
+    public JwtUtils(JwtSettings settings, JwtKeyHolder keyHolder) {
         this.settings = settings;
+        this.keyHolder = keyHolder;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(settings.getClaimsCacheSize())
+                .expireAfter(new PrincipalExpiry())
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -31,42 +47,37 @@ public class JwtUtils {
         else if (principal instanceof String) username = (String) principal;
         else throw new IllegalArgumentException("Principal must be either UserDetails or String");
 
+        JwtKeyHolder.SigningKey signingKey = keyHolder.signingKey();
         return Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
                 .issuer(settings.getIssuer())
                 .subject(username)
-                .claim("roles", authentication.getAuthorities().stream()
+                .claim(ROLES_CLAIM, authentication.getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority)
                         .toList())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis()
                         + settings.getExpirationTime().toMillis()))
-                .signWith(getSignInKey())
+                .signWith(signingKey.key())
                 .compact();
     }
 
+    public Optional<JwtPrincipal> parseToken(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+        JwtPrincipal principal = verifiedTokens.get(digest(token), key -> verify(token));
+        return principal == null || principal.isExpired() ? Optional.empty() : Optional.of(principal);
+    }
+
     public String getUserName(String token){
-        Claims claims = extractAllClaims(token);
-        return claims != null ? claims.getSubject() : null;
+        return parseToken(token).map(JwtPrincipal::username).orElse(null);
     }
 
     public List<String> getRoles(String token) {
-        Claims claims = extractAllClaims(token);
-        if (claims == null) {
-            return List.of();
-        }
-
-        Object rolesObj = claims.get("roles");
-        if (rolesObj instanceof List<?>) {
-            return ((List<?>) rolesObj).stream()
-                    .map(Object::toString)
-                    .toList();
-        }
-        return List.of();
+        return parseToken(token).map(JwtPrincipal::roles).orElse(List.of());
     }
 
     public boolean isTokenExpired(String token){
-        Claims claims = extractAllClaims(token);
-        return claims == null || claims.getExpiration().before(new Date());
+        return parseToken(token).map(JwtPrincipal::isExpired).orElse(true);
     }
 
     public boolean isTokenValid(String token, Authentication authentication) {
@@ -83,12 +94,25 @@ public class JwtUtils {
                 !isTokenExpired(token);
     }
 
+    JwtPrincipal verify(String token) {
+        Claims claims = extractAllClaims(token);
+        if (claims == null || claims.getExpiration() == null) return null;
+        return new JwtPrincipal(claims.getSubject(), extractRoles(claims), claims.getExpiration().toInstant());
+    }
+
+    private List<String> extractRoles(Claims claims) {
+        Object rolesObj = claims.get(ROLES_CLAIM);
+        if (rolesObj instanceof List<?>) {
+            return ((List<?>) rolesObj).stream()
+                    .map(Object::toString)
+                    .toList();
+        }
+        return List.of();
+    }
+
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts
-                    .parser()
-                    .verifyWith(getSignInKey())
-                    .build()
+            return keyHolder.parser()
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (JwtException | IllegalArgumentException e) {
@@ -96,8 +120,33 @@ public class JwtUtils {
         }
     }
 
-    private SecretKey getSignInKey(){
-        byte[] keyBytes = Decoders.BASE64.decode(settings.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class PrincipalExpiry implements Expiry<String, JwtPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            return remainingNanos(principal);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return remainingNanos(principal);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(JwtPrincipal principal) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
     }
-}
\ No newline at end of file
+}
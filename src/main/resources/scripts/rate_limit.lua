@@ -0,0 +1,20 @@
+local window = tonumber(ARGV[1])
+local limit = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local now = tonumber(ARGV[4])
+
+local elapsed = now % window
+local reset = window - elapsed
+
+local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+
+local available = math.floor(limit - (previous * (1 - elapsed / window) + current))
+if available < 1 then
+    return {0, 0, reset}
+end
+
+local granted = math.min(requested, available)
+redis.call('INCRBY', KEYS[1], granted)
+redis.call('PEXPIRE', KEYS[1], window * 2)
+return {granted, available - granted, reset}
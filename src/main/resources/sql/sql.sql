@@ -1,35 +1,41 @@
-INSERT INTO EMPLOYEES (BIRTH_DATE, EMAIL, NAME, PASSWORD, PHONE)
-VALUES ('1990-05-15', 'john.doe@email.com', 'John Doe', 'pass123', '555-123-4567'),
-       ('1985-09-20', 'jane.smith@email.com', 'Jane Smith', 'abc456', '555-987-6543'),
-       ('1978-03-08', 'bob.jones@email.com', 'Bob Jones', 'qwerty789', '555-321-6789'),
-       ('1982-11-25', 'alice.white@email.com', 'Alice White', 'secret567', '555-876-5432'),
-       ('1995-07-12', 'mike.wilson@email.com', 'Mike Wilson', 'mypassword', '555-234-5678'),
-       ('1989-01-30', 'sara.brown@email.com', 'Sara Brown', 'letmein123', '555-876-5433'),
-       ('1975-06-18', 'tom.jenkins@email.com', 'Tom Jenkins', 'pass4321', '555-345-6789'),
-       ('1987-12-04', 'lisa.taylor@email.com', 'Lisa Taylor', 'securepwd', '555-789-0123'),
-       ('1992-08-22', 'david.wright@email.com', 'David Wright', 'access123', '555-456-7890'),
-       ('1980-04-10', 'emily.harris@email.com', 'Emily Harris', '1234abcd', '555-098-7654');
+INSERT INTO EMPLOYEES (ID, BIRTH_DATE, EMAIL, NAME, PASSWORD, PHONE, VERSION)
+VALUES (1, '1990-05-15', 'john.doe@email.com', 'John Doe', 'pass123', '555-123-4567', 0),
+       (2, '1985-09-20', 'jane.smith@email.com', 'Jane Smith', 'abc456', '555-987-6543', 0),
+       (3, '1978-03-08', 'bob.jones@email.com', 'Bob Jones', 'qwerty789', '555-321-6789', 0),
+       (4, '1982-11-25', 'alice.white@email.com', 'Alice White', 'secret567', '555-876-5432', 0),
+       (5, '1995-07-12', 'mike.wilson@email.com', 'Mike Wilson', 'mypassword', '555-234-5678', 0),
+       (6, '1989-01-30', 'sara.brown@email.com', 'Sara Brown', 'letmein123', '555-876-5433', 0),
+       (7, '1975-06-18', 'tom.jenkins@email.com', 'Tom Jenkins', 'pass4321', '555-345-6789', 0),
+       (8, '1987-12-04', 'lisa.taylor@email.com', 'Lisa Taylor', 'securepwd', '555-789-0123', 0),
+       (9, '1992-08-22', 'david.wright@email.com', 'David Wright', 'access123', '555-456-7890', 0),
+       (10, '1980-04-10', 'emily.harris@email.com', 'Emily Harris', '1234abcd', '555-098-7654', 0);
 
-INSERT INTO CLIENTS (BALANCE, EMAIL, NAME, PASSWORD)
-VALUES (1000.00, 'client1@example.com', 'Medelyn Wright', 'password123'),
-       (1500.50, 'client2@example.com', 'Landon Phillips', 'securepass'),
-       (800.75, 'client3@example.com', 'Harmony Mason', 'abc123'),
-       (1200.25, 'client4@example.com', 'Archer Harper', 'pass456'),
-       (900.80, 'client5@example.com', 'Kira Jacobs', 'letmein789'),
-       (1100.60, 'client6@example.com', 'Maximus Kelly', 'adminpass'),
-       (1300.45, 'client7@example.com', 'Sierra Mitchell', 'mypassword'),
-       (950.30, 'client8@example.com', 'Quinton Saunders', 'test123'),
-       (1050.90, 'client9@example.com', 'Amina Clarke', 'qwerty123'),
-       (880.20, 'client10@example.com', 'Bryson Chavez', 'pass789');
+INSERT INTO CLIENTS (ID, BALANCE, EMAIL, NAME, PASSWORD, VERSION)
+VALUES (1, 1000.00, 'client1@example.com', 'Medelyn Wright', 'password123', 0),
+       (2, 1500.50, 'client2@example.com', 'Landon Phillips', 'securepass', 0),
+       (3, 800.75, 'client3@example.com', 'Harmony Mason', 'abc123', 0),
+       (4, 1200.25, 'client4@example.com', 'Archer Harper', 'pass456', 0),
+       (5, 900.80, 'client5@example.com', 'Kira Jacobs', 'letmein789', 0),
+       (6, 1100.60, 'client6@example.com', 'Maximus Kelly', 'adminpass', 0),
+       (7, 1300.45, 'client7@example.com', 'Sierra Mitchell', 'mypassword', 0),
+       (8, 950.30, 'client8@example.com', 'Quinton Saunders', 'test123', 0),
+       (9, 1050.90, 'client9@example.com', 'Amina Clarke', 'qwerty123', 0),
+       (10, 880.20, 'client10@example.com', 'Bryson Chavez', 'pass789', 0);
 
-INSERT INTO BOOKS (name, genre, age_group, price, publication_year, author, number_of_pages, characteristics,description, language)
-VALUES ('The Hidden Treasure', 'Adventure', 'ADULT', 24.99, '2018-05-15', 'Emily White', 400, 'Mysterious journey','An enthralling adventure of discovery', 'ENGLISH'),
-       ('Echoes of Eternity', 'Fantasy', 'TEEN', 16.50, '2011-01-15', 'Daniel Black', 350, 'Magical realms', 'A spellbinding tale of magic and destiny', 'ENGLISH'),
-       ('Whispers in the Shadows', 'Mystery', 'ADULT', 29.95, '2018-08-11', 'Sophia Green', 450, 'Intriguing suspense','A gripping mystery that keeps you guessing', 'ENGLISH'),
-       ('The Starlight Sonata', 'Romance', 'ADULT', 21.75, '2011-05-15', 'Michael Rose', 320, 'Heartwarming love story','A beautiful journey of love and passion', 'ENGLISH'),
-       ('Beyond the Horizon', 'Science Fiction', 'CHILD', 18.99, '2004-05-15', 'Alex Carter', 280,'Interstellar adventure', 'An epic sci-fi adventure beyond the stars', 'ENGLISH'),
-       ('Dancing with Shadows', 'Thriller', 'ADULT', 26.50, '2015-05-15', 'Olivia Smith', 380, 'Suspenseful twists','A thrilling tale of danger and intrigue', 'ENGLISH'),
-       ('Voices in the Wind', 'Historical Fiction', 'ADULT', 32.00, '2017-05-15', 'William Turner', 500,'Rich historical setting', 'A compelling journey through time', 'ENGLISH'),
-       ('Serenade of Souls', 'Fantasy', 'TEEN', 15.99, '2013-05-15', 'Isabella Reed', 330, 'Enchanting realms','A magical fantasy filled with wonder', 'ENGLISH'),
-       ('Silent Whispers', 'Mystery', 'ADULT', 27.50, '2021-05-15', 'Benjamin Hall', 420, 'Intricate detective work','A mystery that keeps you on the edge', 'ENGLISH'),
-       ('Whirlwind Romance', 'Romance', 'OTHER', 23.25, '2022-05-15', 'Emma Turner', 360, 'Passionate love affair','A romance that sweeps you off your feet', 'ENGLISH');
+INSERT INTO BOOKS (ID, name, genre, age_group, price, publication_year, author, number_of_pages, characteristics,description, language, version)
+VALUES (1, 'The Hidden Treasure', 'Adventure', 'ADULT', 24.99, '2018-05-15', 'Emily White', 400, 'Mysterious journey','An enthralling adventure of discovery', 'ENGLISH', 0),
+       (2, 'Echoes of Eternity', 'Fantasy', 'TEEN', 16.50, '2011-01-15', 'Daniel Black', 350, 'Magical realms', 'A spellbinding tale of magic and destiny', 'ENGLISH', 0),
+       (3, 'Whispers in the Shadows', 'Mystery', 'ADULT', 29.95, '2018-08-11', 'Sophia Green', 450, 'Intriguing suspense','A gripping mystery that keeps you guessing', 'ENGLISH', 0),
+       (4, 'The Starlight Sonata', 'Romance', 'ADULT', 21.75, '2011-05-15', 'Michael Rose', 320, 'Heartwarming love story','A beautiful journey of love and passion', 'ENGLISH', 0),
+       (5, 'Beyond the Horizon', 'Science Fiction', 'CHILD', 18.99, '2004-05-15', 'Alex Carter', 280,'Interstellar adventure', 'An epic sci-fi adventure beyond the stars', 'ENGLISH', 0),
+       (6, 'Dancing with Shadows', 'Thriller', 'ADULT', 26.50, '2015-05-15', 'Olivia Smith', 380, 'Suspenseful twists','A thrilling tale of danger and intrigue', 'ENGLISH', 0),
+       (7, 'Voices in the Wind', 'Historical Fiction', 'ADULT', 32.00, '2017-05-15', 'William Turner', 500,'Rich historical setting', 'A compelling journey through time', 'ENGLISH', 0),
+       (8, 'Serenade of Souls', 'Fantasy', 'TEEN', 15.99, '2013-05-15', 'Isabella Reed', 330, 'Enchanting realms','A magical fantasy filled with wonder', 'ENGLISH', 0),
+       (9, 'Silent Whispers', 'Mystery', 'ADULT', 27.50, '2021-05-15', 'Benjamin Hall', 420, 'Intricate detective work','A mystery that keeps you on the edge', 'ENGLISH', 0),
+       (10, 'Whirlwind Romance', 'Romance', 'OTHER', 23.25, '2022-05-15', 'Emma Turner', 360, 'Passionate love affair','A romance that sweeps you off your feet', 'ENGLISH', 0);
+
+ALTER SEQUENCE employees_seq RESTART WITH 60;
+ALTER SEQUENCE clients_seq RESTART WITH 60;
+ALTER SEQUENCE book_seq RESTART WITH 60;
+
+UPDATE BOOKS SET pub_year = EXTRACT(YEAR FROM publication_year) WHERE pub_year IS NULL;
@@ -0,0 +1,197 @@
+package com.epam.rd.autocode.spring.project.analytics;
+
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.BookSalesDTO;
+import com.epam.rd.autocode.spring.project.dto.DailySalesDTO;
+import com.epam.rd.autocode.spring.project.dto.GenreSalesDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ConfirmOrdersDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.Employee;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookDailySalesRepository;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.EmployeeRepository;
+import com.epam.rd.autocode.spring.project.service.AnalyticsService;
+import com.epam.rd.autocode.spring.project.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "analytics.flush-interval=PT1H", "spring.datasource.url=jdbc:h2:mem:sales_rollup"})
+class SalesRollupTest {
+    private static final AtomicInteger DAYS = new AtomicInteger();
+
+    @Autowired private OrderService orderService;
+    @Autowired private AnalyticsService analyticsService;
+    @Autowired private SalesRollupUpdater rollupUpdater;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private BookDailySalesRepository rollupRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private LocalDate day;
+    private String genre;
+    private Client client;
+    private Employee employee;
+    private Book first;
+    private Book second;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        day = LocalDate.of(1976, 1, 1).plusDays(2L * DAYS.getAndIncrement());
+        genre = "Rollup " + suffix;
+        client = clientRepository.save(new Client(null, "rollup-" + suffix + "@example.com",
+                "password", "Rollup Client", new BigDecimal("1000.00")));
+        employee = employeeRepository.save(new Employee(null, "rollup-" + suffix + "@example.com",
+                "password", "Rollup Employee", "555-123-4567", LocalDate.of(1990, 1, 1)));
+        first = bookRepository.save(book("First " + suffix, "10.00"));
+        second = bookRepository.save(book("Second " + suffix, "2.50"));
+    }
+
+    @Test
+    void flush_AfterOrdersCommit_ShouldRollUpQuantityAndRevenuePerBookGenreAndDay() {
+        // Arrange
+        for (int i = 0; i < 3; i++) place(day, i, new BookItemDTO(first.getName(), 1), new BookItemDTO(second.getName(), 2));
+        place(day.plusDays(1), 0, new BookItemDTO(first.getName(), 3));
+
+        // Act
+        rollupUpdater.flush();
+
+        // Assert
+        assertEquals(List.of(
+                new BookSalesDTO(day, first.getName(), genre, 3L, new BigDecimal("30.00"), 0L, new BigDecimal("0.00")),
+                new BookSalesDTO(day, second.getName(), genre, 6L, new BigDecimal("15.00"), 0L, new BigDecimal("0.00")),
+                new BookSalesDTO(day.plusDays(1), first.getName(), genre, 3L, new BigDecimal("30.00"), 0L, new BigDecimal("0.00"))),
+                analyticsService.getBookSales(day, day.plusDays(1)));
+        assertEquals(List.of(
+                new GenreSalesDTO(day, genre, 9L, new BigDecimal("45.00"), 0L, new BigDecimal("0.00")),
+                new GenreSalesDTO(day.plusDays(1), genre, 3L, new BigDecimal("30.00"), 0L, new BigDecimal("0.00"))),
+                analyticsService.getGenreSales(day, day.plusDays(1)));
+        assertEquals(List.of(new DailySalesDTO(day, 9L, new BigDecimal("45.00"), 0L, new BigDecimal("0.00"))),
+                analyticsService.getDailySales(day, day));
+    }
+
+    @Test
+    void flush_AfterOrdersAreConfirmed_ShouldRollUpConfirmedSales() {
+        // Arrange
+        OrderDTO confirmed = place(day, 0, new BookItemDTO(first.getName(), 2));
+        place(day, 1, new BookItemDTO(first.getName(), 1));
+        rollupUpdater.flush();
+        orderService.confirmOrders(new ConfirmOrdersDTO(employee.getEmail(), List.of(confirmed.getPublicId())));
+
+        // Act
+        rollupUpdater.flush();
+
+        // Assert
+        assertEquals(List.of(new BookSalesDTO(day, first.getName(), genre, 3L, new BigDecimal("30.00"),
+                2L, new BigDecimal("20.00"))), analyticsService.getBookSales(day, day));
+    }
+
+    @Test
+    void onOrdersChanged_ShouldOnlyQueueDaysUntilNextFlush() {
+        // Act
+        place(day, 0, new BookItemDTO(first.getName(), 1));
+
+        // Assert
+        assertTrue(rollupUpdater.pendingDays().contains(day));
+        assertEquals(List.of(), analyticsService.getBookSales(day, day));
+        rollupUpdater.flush();
+        assertFalse(rollupUpdater.pendingDays().contains(day));
+        assertEquals(1, analyticsService.getBookSales(day, day).size());
+    }
+
+    @Test
+    void onOrdersChanged_ShouldStoreDirtyDaysThatSurviveARestart() {
+        // Arrange
+        place(day, 0, new BookItemDTO(first.getName(), 1));
+
+        // Act
+        SalesRollupUpdater restarted = new SalesRollupUpdater(rollupRepository);
+        restarted.flush();
+
+        // Assert
+        assertFalse(rollupUpdater.pendingDays().contains(day));
+        assertEquals(1, analyticsService.getBookSales(day, day).size());
+    }
+
+    @Test
+    void onOrdersChanged_OrderRolledBack_ShouldNotQueueDay() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            place(day, 0, new BookItemDTO(first.getName(), 1));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertFalse(rollupUpdater.pendingDays().contains(day));
+    }
+
+    @Test
+    void rebuild_ShouldMatchIncrementalRollupsAndKeepPriceAtTimeOfOrder() {
+        // Arrange
+        place(day, 0, new BookItemDTO(first.getName(), 2), new BookItemDTO(second.getName(), 1));
+        place(day.plusDays(1), 0, new BookItemDTO(second.getName(), 4));
+        rollupUpdater.flush();
+        List<BookSalesDTO> incremental = analyticsService.getBookSales(day, day.plusDays(1));
+        List<GenreSalesDTO> incrementalGenres = analyticsService.getGenreSales(day, day.plusDays(1));
+        first.setPrice(new BigDecimal("99.00"));
+        bookRepository.save(first);
+
+        // Act
+        analyticsService.rebuild();
+
+        // Assert
+        assertEquals(incremental, analyticsService.getBookSales(day, day.plusDays(1)));
+        assertEquals(incrementalGenres, analyticsService.getGenreSales(day, day.plusDays(1)));
+        assertEquals(new BigDecimal("20.00"), incremental.get(0).getRevenue());
+    }
+
+    @Test
+    void getGenreSales_ShouldReadRollupsWithOneStatement() {
+        // Arrange
+        place(day, 0, new BookItemDTO(first.getName(), 1));
+        rollupUpdater.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<GenreSalesDTO> result = analyticsService.getGenreSales(day, day);
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(result.stream().anyMatch(sales -> genre.equals(sales.getGenre())));
+    }
+
+    private OrderDTO place(LocalDate date, int minute, BookItemDTO... items) {
+        OrderDTO order = new OrderDTO();
+        order.setClientEmail(client.getEmail());
+        order.setOrderDate(date.atTime(10, minute));
+        order.setPrice(new BigDecimal("0.01"));
+        order.setBookItems(List.of(items));
+        return orderService.addOrder(order);
+    }
+
+    private Book book(String name, String price) {
+        return new Book(null, "Rollup " + name, genre, AgeGroup.ADULT, new BigDecimal(price), LocalDate.of(2020, 1, 1),
+                "Rollup Author", 100, "Hardcover", "Rollup description", Language.ENGLISH);
+    }
+}
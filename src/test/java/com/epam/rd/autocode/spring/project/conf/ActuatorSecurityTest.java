@@ -0,0 +1,66 @@
+package com.epam.rd.autocode.spring.project.conf;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void health_WithoutAuthentication_ShouldBePublic() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(result -> assertFalse(result.getResponse().getStatus() == 401
+                        || result.getResponse().getStatus() == 403));
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void metrics_AsClient_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void clearCaches_AsClient_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/actuator/caches"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void indexAdvice_AsClient_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/indexadvice"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void indexAdvice_AsEmployee_ShouldReturn200() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/indexadvice"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void metrics_AsEmployee_ShouldReturn200() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk());
+    }
+}
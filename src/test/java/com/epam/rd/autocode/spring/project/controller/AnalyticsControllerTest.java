@@ -0,0 +1,110 @@
+package com.epam.rd.autocode.spring.project.controller;
+
+import com.epam.rd.autocode.spring.project.dto.BookSalesDTO;
+import com.epam.rd.autocode.spring.project.dto.DailySalesDTO;
+import com.epam.rd.autocode.spring.project.dto.GenreSalesDTO;
+import com.epam.rd.autocode.spring.project.service.AnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AnalyticsControllerTest {
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AnalyticsService analyticsService;
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getBookSales_ShouldReturnRollupsInSnakeCase() throws Exception {
+        // Arrange
+        when(analyticsService.getBookSales(FROM, TO)).thenReturn(List.of(new BookSalesDTO(FROM, "Dune", "Sci-Fi",
+                3L, new BigDecimal("30.00"), 1L, new BigDecimal("10.00"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/analytics/books").param("from", "2024-01-01").param("to", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].sales_date").value("2024-01-01"))
+                .andExpect(jsonPath("$[0].book_name").value("Dune"))
+                .andExpect(jsonPath("$[0].genre").value("Sci-Fi"))
+                .andExpect(jsonPath("$[0].quantity").value(3))
+                .andExpect(jsonPath("$[0].revenue").value(30.00))
+                .andExpect(jsonPath("$[0].confirmed_quantity").value(1))
+                .andExpect(jsonPath("$[0].confirmed_revenue").value(10.00));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getGenreSales_ShouldReturnRollups() throws Exception {
+        // Arrange
+        when(analyticsService.getGenreSales(FROM, TO)).thenReturn(List.of(new GenreSalesDTO(FROM, "Sci-Fi",
+                3L, new BigDecimal("30.00"), 0L, new BigDecimal("0.00"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/analytics/genres").param("from", "2024-01-01").param("to", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].genre").value("Sci-Fi"))
+                .andExpect(jsonPath("$[0].revenue").value(30.00));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getDailySales_ShouldReturnRollups() throws Exception {
+        // Arrange
+        when(analyticsService.getDailySales(FROM, TO)).thenReturn(List.of(new DailySalesDTO(FROM,
+                3L, new BigDecimal("30.00"), 0L, new BigDecimal("0.00"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/analytics/days").param("from", "2024-01-01").param("to", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sales_date").value("2024-01-01"))
+                .andExpect(jsonPath("$[0].quantity").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getBookSales_WithInvalidRange_ShouldReturn400() throws Exception {
+        // Arrange
+        when(analyticsService.getBookSales(TO, FROM)).thenThrow(new IllegalArgumentException("Invalid range"));
+
+        // Act & Assert
+        mockMvc.perform(get("/analytics/books").param("from", "2024-01-31").param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void getBookSales_AsClient_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/analytics/books").param("from", "2024-01-01").param("to", "2024-01-31"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(analyticsService);
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void rebuild_ShouldReturnNoContent() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/analytics/rebuild"))
+                .andExpect(status().isNoContent());
+        verify(analyticsService).rebuild();
+    }
+}
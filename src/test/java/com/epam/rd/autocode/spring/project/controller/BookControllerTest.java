@@ -1,10 +1,16 @@
 package com.epam.rd.autocode.spring.project.controller;
 
 import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookFacetsDTO;
+import com.epam.rd.autocode.spring.project.dto.PriceBucketDTO;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
 import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.dto.SuggestionDTO;
 import com.epam.rd.autocode.spring.project.exception.AlreadyExistException;
 import com.epam.rd.autocode.spring.project.exception.NotFoundException;
+import com.epam.rd.autocode.spring.project.exception.StaleVersionException;
 import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.model.enums.SuggestionType;
 import com.epam.rd.autocode.spring.project.service.BookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -21,6 +28,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import static com.epam.rd.autocode.spring.project.testdata.BookData.*;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
@@ -128,6 +136,101 @@ class BookControllerTest {
         verify(bookService).getAllBooksWithSearchCondition(searchBookDTO, pageable);
     }
 
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void getAllBooksWithSearch_WithCountDisabled_ShouldReturnSliceWithoutTotals() throws Exception {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10).withSort(Sort.by("name").ascending());
+        SearchBookDTO searchBookDTO = new SearchBookDTO();
+        searchBookDTO.setName("P");
+        List<BookDTO> booksForPage = bookDTOs.stream().limit(3).toList();
+        when(bookService.getBookSliceWithSearchCondition(searchBookDTO, pageable))
+                .thenReturn(new SliceImpl<>(booksForPage, pageable, false));
+
+        // Act & Assert
+        ResultActions resultActions = mockMvc.perform(get("/books/search")
+                        .param("name", "P")
+                        .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meta.page").value(0))
+                .andExpect(jsonPath("$.meta.page_size").value(10))
+                .andExpect(jsonPath("$.meta.has_next").value(false))
+                .andExpect(jsonPath("$.meta.total_count").doesNotExist());
+        verifyAllBooksInPaginatedResponse(resultActions, booksForPage);
+        verify(bookService, never()).getAllBooksWithSearchCondition(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void getAllBooksWithSearch_WithQuery_ShouldPassQueryToRelevanceSearch() throws Exception {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10).withSort(Sort.by("name").ascending());
+        SearchBookDTO searchBookDTO = new SearchBookDTO();
+        searchBookDTO.setQuery("python guide");
+        List<BookDTO> ranked = bookDTOs.stream().limit(2).toList();
+        when(bookService.getAllBooksWithSearchCondition(searchBookDTO, pageable))
+                .thenReturn(new PageImpl<>(ranked, pageable, ranked.size()));
+
+        // Act & Assert
+        ResultActions resultActions = mockMvc.perform(get("/books/search")
+                        .param("query", "python guide"))
+                .andExpect(status().isOk());
+        verifyPaginatedMetadata(resultActions, ranked.size(), 0, ranked.size());
+        verifyAllBooksInPaginatedResponse(resultActions, ranked);
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void getAllBooksWithSearch_WithTooLongQuery_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/books/search")
+                        .param("query", "a".repeat(201)))
+                .andExpect(status().isBadRequest());
+        verify(bookService, never()).getAllBooksWithSearchCondition(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void getFacets_ShouldReturnCountsForSearchCriteria() throws Exception {
+        // Arrange
+        SearchBookDTO searchBookDTO = new SearchBookDTO();
+        searchBookDTO.setLanguage(Language.ENGLISH);
+        BookFacetsDTO facets = new BookFacetsDTO(3, Map.of("Fantasy", 3L), Map.of(Language.ENGLISH, 3L),
+                Map.of(AgeGroup.ADULT, 3L), List.of(new PriceBucketDTO(null, new BigDecimal("10"), 3)),
+                Map.of(2020, 3L));
+        when(bookService.getFacets(searchBookDTO)).thenReturn(facets);
+
+        // Act & Assert
+        mockMvc.perform(get("/books/search/facets")
+                        .param("language", "ENGLISH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total_count").value(3))
+                .andExpect(jsonPath("$.genre.Fantasy").value(3))
+                .andExpect(jsonPath("$.language.ENGLISH").value(3))
+                .andExpect(jsonPath("$.age_group.ADULT").value(3))
+                .andExpect(jsonPath("$.price[0].to").value(10))
+                .andExpect(jsonPath("$.publication_decade.2020").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void suggest_ShouldReturnSuggestionsForPrefix() throws Exception {
+        // Arrange
+        when(bookService.suggest("adv", 5)).thenReturn(List.of(
+                new SuggestionDTO("John Adventure", SuggestionType.AUTHOR),
+                new SuggestionDTO("The Great Adventure", SuggestionType.TITLE)));
+
+        // Act & Assert
+        mockMvc.perform(get("/books/suggest")
+                        .param("prefix", "adv")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].text").value("John Adventure"))
+                .andExpect(jsonPath("$[0].type").value("AUTHOR"))
+                .andExpect(jsonPath("$[1].type").value("TITLE"));
+    }
+
     @Test
     @WithMockUser(roles = {"CLIENT"})
     void getAllBooks_WithSecondPageAndCustomSize_ShouldReturnCorrectPage() throws Exception {
@@ -243,11 +346,13 @@ class BookControllerTest {
     @WithMockUser(roles = {"CLIENT"})
     void getBookByName_ShouldReturnBook() throws Exception {
         // Arrange
+        when(bookService.getBookVersion(bookDTO.getName())).thenReturn(3L);
         when(bookService.getBookByName(bookDTO.getName())).thenReturn(bookDTO);
 
         // Act & Assert
         ResultActions resultActions = mockMvc.perform(get("/books/{name}", bookDTO.getName()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
         verifyBookJsonResponse(resultActions, "$", bookDTO);
         verify(bookService).getBookByName(bookDTO.getName());
     }
@@ -351,14 +456,41 @@ class BookControllerTest {
         updatedBook.setCharacteristics("Updated characteristics");
         updatedBook.setDescription("Updated description");
 
-        when(bookService.updateBookByName(bookDTO.getName(), updatedBook)).thenReturn(updatedBook);
+        when(bookService.updateBookByName(bookDTO.getName(), updatedBook, null)).thenReturn(updatedBook);
 
         // Act & Assert
         mockMvc.perform(put("/books/{name}", bookDTO.getName())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updatedBook)))
                 .andExpect(status().isNoContent());
-        verify(bookService).updateBookByName(bookDTO.getName(), updatedBook);
+        verify(bookService).updateBookByName(bookDTO.getName(), updatedBook, null);
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void updateBook_WithIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/books/{name}", bookDTO.getName())
+                        .header(HttpHeaders.IF_MATCH, "\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookDTO)))
+                .andExpect(status().isNoContent());
+        verify(bookService).updateBookByName(bookDTO.getName(), bookDTO, 5L);
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void updateBook_WithStaleIfMatch_ShouldReturn412() throws Exception {
+        // Arrange
+        when(bookService.updateBookByName(bookDTO.getName(), bookDTO, 2L))
+                .thenThrow(new StaleVersionException("The book " + bookDTO.getName()));
+
+        // Act & Assert
+        mockMvc.perform(put("/books/{name}", bookDTO.getName())
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookDTO)))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
@@ -367,7 +499,7 @@ class BookControllerTest {
         // Arrange
         BookDTO updatedBook = getBookDTO();
         String nonExistentBookName = "Non-existent Book";
-        when(bookService.updateBookByName(nonExistentBookName, updatedBook))
+        when(bookService.updateBookByName(nonExistentBookName, updatedBook, null))
                 .thenThrow(new NotFoundException("The book with a name " + nonExistentBookName));
 
         // Act & Assert
@@ -375,7 +507,7 @@ class BookControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updatedBook)))
                 .andExpect(status().isNotFound());
-        verify(bookService).updateBookByName(nonExistentBookName, updatedBook);
+        verify(bookService).updateBookByName(nonExistentBookName, updatedBook, null);
     }
 
     @Test
@@ -386,7 +518,7 @@ class BookControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(bookDTO)))
                 .andExpect(status().isForbidden());
-        verify(bookService, never()).updateBookByName(bookDTO.getName(), bookDTO);
+        verify(bookService, never()).updateBookByName(bookDTO.getName(), bookDTO, null);
     }
 
     @Test
@@ -421,6 +553,33 @@ class BookControllerTest {
         verify(bookService, never()).deleteBookByName(bookDTO.getName());
     }
 
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void restockBook_ShouldAddQuantity() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/books/{name}/restock", bookDTO.getName()).param("quantity", "25"))
+                .andExpect(status().isNoContent());
+        verify(bookService).restock(bookDTO.getName(), 25);
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void restockBook_WithNonPositiveQuantity_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/books/{name}/restock", bookDTO.getName()).param("quantity", "0"))
+                .andExpect(status().isBadRequest());
+        verify(bookService, never()).restock(anyString(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void restockBook_WithClientRole_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/books/{name}/restock", bookDTO.getName()).param("quantity", "25"))
+                .andExpect(status().isForbidden());
+        verify(bookService, never()).restock(anyString(), anyInt());
+    }
+
     @Test
     void getAllBooks_WithoutAuthentication_ShouldReturn401() throws Exception {
         // Act & Assert
@@ -463,7 +622,7 @@ class BookControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(bookDTO)))
                 .andExpect(status().isUnauthorized());
-        verify(bookService, never()).updateBookByName(bookDTO.getName(), bookDTO);
+        verify(bookService, never()).updateBookByName(bookDTO.getName(), bookDTO, null);
     }
 
     @Test
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -22,6 +23,7 @@ import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -285,6 +287,18 @@ class GlobalExceptionControllerTest {
         verifyErrorMessage("Invalid parameter type for: userId", response, 400);
     }
 
+    @Test
+    void handleResponseStatusException_ShouldKeepStatusAndReason() {
+        // Arrange
+        ResponseStatusException exception = new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid signing key");
+
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = globalExceptionController.handleResponseStatusException(exception);
+
+        // Assert
+        verifyErrorMessage("Invalid signing key", response, 400);
+    }
+
     @Test
     void handleGenericException_ShouldReturn500WithGenericMessage() {
         // Act
@@ -0,0 +1,90 @@
+package com.epam.rd.autocode.spring.project.controller;
+
+import com.epam.rd.autocode.spring.project.dto.NewsletterResultDTO;
+import com.epam.rd.autocode.spring.project.dto.request.NewsletterDTO;
+import com.epam.rd.autocode.spring.project.exception.NotFoundException;
+import com.epam.rd.autocode.spring.project.service.NewsletterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class NewsletterControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private NewsletterService newsletterService;
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void sendNewsletter_ShouldReturnAcceptedWithQueuedCount() throws Exception {
+        // Arrange
+        when(newsletterService.sendToAllClients(new NewsletterDTO("Spring picks", "New arrivals")))
+                .thenReturn(new NewsletterResultDTO(9L, 12));
+
+        // Act & Assert
+        mockMvc.perform(post("/newsletters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"subject\": \"  Spring picks \", \"content\": \"New arrivals\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.campaign_id").value(9))
+                .andExpect(jsonPath("$.queued_emails").value(12));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void resumeNewsletter_ShouldReturnAcceptedWithRemainingQueuedCount() throws Exception {
+        // Arrange
+        when(newsletterService.resumeCampaign(9L)).thenReturn(new NewsletterResultDTO(9L, 3));
+
+        // Act & Assert
+        mockMvc.perform(post("/newsletters/9/resume"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.campaign_id").value(9))
+                .andExpect(jsonPath("$.queued_emails").value(3));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void resumeNewsletter_WithUnknownCampaign_ShouldReturn404() throws Exception {
+        // Arrange
+        when(newsletterService.resumeCampaign(404L)).thenThrow(new NotFoundException("Mail campaign 404"));
+
+        // Act & Assert
+        mockMvc.perform(post("/newsletters/404/resume"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void sendNewsletter_WithBlankContent_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/newsletters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"subject\": \"Spring picks\", \"content\": \" \"}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(newsletterService);
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void sendNewsletter_AsClient_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/newsletters")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"subject\": \"Spring picks\", \"content\": \"New arrivals\"}"))
+                .andExpect(status().isForbidden());
+        verify(newsletterService, never()).sendToAllClients(any());
+    }
+}
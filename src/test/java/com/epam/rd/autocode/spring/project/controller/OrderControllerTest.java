@@ -1,8 +1,14 @@
 package com.epam.rd.autocode.spring.project.controller;
 
+import com.epam.rd.autocode.spring.project.dto.OrderConfirmationDTO;
 import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ConfirmOrdersDTO;
 import com.epam.rd.autocode.spring.project.exception.NotFoundException;
-import com.epam.rd.autocode.spring.project.exception.OrderMustContainClientException;
+import com.epam.rd.autocode.spring.project.model.enums.ExportFormat;
+import com.epam.rd.autocode.spring.project.model.enums.OrderConfirmationStatus;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.service.OrderExportService;
 import com.epam.rd.autocode.spring.project.service.OrderService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.Matchers;
@@ -16,12 +22,20 @@ import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
+import static com.epam.rd.autocode.spring.project.testdata.ClientData.CLIENT_EMAIL_1;
 import static com.epam.rd.autocode.spring.project.testdata.OrderData.*;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -37,6 +51,9 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderExportService orderExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -49,6 +66,11 @@ class OrderControllerTest {
         orderDTOs = getOrderDTOs();
     }
 
+    private OrderDTO asReceived(OrderDTO dto) {
+        return new OrderDTO(null, dto.getEmployeeEmail(), dto.getClientEmail(), dto.getOrderDate(), null,
+                dto.getBookItems());
+    }
+
     private void verifyOrderJsonResponse(ResultActions resultActions, String jsonPath, OrderDTO expectedOrder) throws Exception {
         resultActions
                 .andExpect(jsonPath(jsonPath + ".employee_email").value(expectedOrder.getEmployeeEmail()))
@@ -137,6 +159,104 @@ class OrderControllerTest {
         verify(orderService).getAllOrders(pageable);
     }
 
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getAllOrders_WithCursor_ShouldReturnKeysetWindowWithCursors() throws Exception {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10).withSort(Sort.by("orderDate"));
+        KeysetCursor next = new KeysetCursor("orderDate: ASC", false, List.of("2024-01-02T12:00:00"), 7L);
+        KeysetCursor previous = new KeysetCursor("orderDate: ASC", true, List.of("2024-01-01T12:00:00"), 3L);
+        List<OrderDTO> dtos = orderDTOs.stream().limit(2).toList();
+        when(orderService.scrollOrders("token", pageable)).thenReturn(new KeysetWindow<>(dtos, 10, next, previous));
+
+        // Act & Assert
+        ResultActions resultActions = mockMvc.perform(get("/orders")
+                        .param("cursor", "token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meta.next_cursor").value(next.encode()))
+                .andExpect(jsonPath("$.meta.previous_cursor").value(previous.encode()))
+                .andExpect(jsonPath("$.meta.has_next").value(true))
+                .andExpect(jsonPath("$.meta.page_size").value(10))
+                .andExpect(jsonPath("$.meta.total_count").doesNotExist());
+
+        verifyAllOrdersInPaginatedResponse(resultActions, dtos);
+        verify(orderService, never()).getAllOrders(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getAllOrders_WithKeysetModeAndNoCursor_ShouldReturnFirstKeysetWindow() throws Exception {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10).withSort(Sort.by("orderDate"));
+        KeysetCursor next = new KeysetCursor("orderDate: ASC", false, List.of("2024-01-02T12:00:00"), 7L);
+        List<OrderDTO> dtos = orderDTOs.stream().limit(2).toList();
+        when(orderService.scrollOrders(null, pageable)).thenReturn(new KeysetWindow<>(dtos, 10, next, null));
+
+        // Act & Assert
+        ResultActions resultActions = mockMvc.perform(get("/orders")
+                        .param("mode", "KEYSET"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meta.next_cursor").value(next.encode()))
+                .andExpect(jsonPath("$.meta.previous_cursor").doesNotExist())
+                .andExpect(jsonPath("$.meta.total_count").doesNotExist());
+
+        verifyAllOrdersInPaginatedResponse(resultActions, dtos);
+        verify(orderService, never()).getAllOrders(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getAllOrders_OffsetPageWithMoreRows_ShouldEmitNextCursorFromLastRow() throws Exception {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2).withSort(Sort.by("orderDate"));
+        KeysetCursor next = new KeysetCursor("orderDate: ASC", false, List.of("2024-01-02T12:00:00"), 7L);
+        List<OrderDTO> dtos = orderDTOs.stream().limit(2).toList();
+        when(orderService.getAllOrders(pageable)).thenReturn(new PageImpl<>(dtos, pageable, 5));
+        when(orderService.nextOrderCursor(pageable)).thenReturn(next);
+
+        // Act & Assert
+        mockMvc.perform(get("/orders")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meta.has_next").value(true))
+                .andExpect(jsonPath("$.meta.total_count").value(5))
+                .andExpect(jsonPath("$.meta.next_cursor").value(next.encode()));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getAllOrders_WithCountDisabled_ShouldReturnSliceWithoutTotals() throws Exception {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10).withSort(Sort.by("orderDate"));
+        List<OrderDTO> dtos = orderDTOs.stream().limit(2).toList();
+        when(orderService.getOrderSlice(pageable)).thenReturn(new SliceImpl<>(dtos, pageable, true));
+
+        // Act & Assert
+        ResultActions resultActions = mockMvc.perform(get("/orders")
+                        .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meta.page").value(0))
+                .andExpect(jsonPath("$.meta.has_next").value(true))
+                .andExpect(jsonPath("$.meta.total_count").doesNotExist())
+                .andExpect(jsonPath("$.meta.total_pages").doesNotExist());
+
+        verifyAllOrdersInPaginatedResponse(resultActions, dtos);
+        verify(orderService, never()).getAllOrders(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void getAllOrders_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(orderService.scrollOrders(eq("broken"), any(Pageable.class)))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/orders")
+                        .param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = {"EMPLOYEE"})
     void getAllOrders_WithEmptyResults_ShouldReturnEmptyPage() throws Exception {
@@ -169,10 +289,10 @@ class OrderControllerTest {
     }
 
     @Test
-    @WithMockUser(roles = {"CLIENT"})
+    @WithMockUser(username = CLIENT_EMAIL_1, roles = {"CLIENT"})
     void addOrder_WhenUserIsClient_ShouldCreateOrder() throws Exception {
         // Arrange
-        when(orderService.addOrder(orderDTO)).thenReturn(orderDTO);
+        when(orderService.addOrder(asReceived(orderDTO))).thenReturn(orderDTO);
 
         // Act & Assert
         ResultActions resultActions = mockMvc.perform(post("/orders")
@@ -181,14 +301,14 @@ class OrderControllerTest {
                 .andExpect(status().isCreated());
 
         verifyOrderJsonResponse(resultActions, "$", orderDTO);
-        verify(orderService).addOrder(orderDTO);
+        verify(orderService).addOrder(asReceived(orderDTO));
     }
 
     @Test
     @WithMockUser(roles = {"CLIENT"})
     void addOrder_WithInvalidData_ShouldReturn400() throws Exception {
         // Arrange
-        orderDTO.setPrice(new BigDecimal(-100));
+        orderDTO.getBookItems().get(0).setQuantity(0);
 
         // Act & Assert
         mockMvc.perform(post("/orders")
@@ -213,18 +333,45 @@ class OrderControllerTest {
     }
 
     @Test
-    @WithMockUser(roles = {"CLIENT"})
-    void addOrder_WithMissingClientEmail_ShouldReturn400() throws Exception {
+    @WithMockUser(username = CLIENT_EMAIL_1, roles = {"CLIENT"})
+    void addOrder_WithClientSuppliedPrice_ShouldIgnoreIt() throws Exception {
         // Arrange
-        when(orderService.addOrder(orderDTO))
-                .thenThrow(new OrderMustContainClientException());
+        orderDTO.setPrice(new BigDecimal("0.01"));
+        when(orderService.addOrder(any(OrderDTO.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act & Assert
         mockMvc.perform(post("/orders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(orderDTO)))
-                .andExpect(status().isBadRequest());
-        verify(orderService).addOrder(orderDTO);
+                .andExpect(status().isCreated());
+        verify(orderService).addOrder(argThat(dto -> dto.getPrice() == null));
+    }
+
+    @Test
+    @WithMockUser(username = CLIENT_EMAIL_1, roles = {"CLIENT"})
+    void addOrder_WithMissingClientEmail_ShouldChargeAuthenticatedClient() throws Exception {
+        // Arrange
+        orderDTO.setClientEmail(null);
+        when(orderService.addOrder(any(OrderDTO.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.client_email").value(CLIENT_EMAIL_1));
+        verify(orderService).addOrder(argThat(dto -> CLIENT_EMAIL_1.equals(dto.getClientEmail())));
+    }
+
+    @Test
+    @WithMockUser(username = "intruder@email.com", roles = {"CLIENT"})
+    void addOrder_ForAnotherClient_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isForbidden());
+        verify(orderService, never()).addOrder(any());
     }
 
     @Test
@@ -249,14 +396,14 @@ class OrderControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(orderDTO)))
                 .andExpect(status().isNoContent());
-        verify(orderService).confirmOrder(orderDTO);
+        verify(orderService).confirmOrder(asReceived(orderDTO));
     }
 
     @Test
     @WithMockUser(roles = {"EMPLOYEE"})
     void confirmOrder_WithInvalidData_ShouldReturn400() throws Exception {
         // Arrange
-        orderDTO.setPrice(new BigDecimal(-50));
+        orderDTO.setOrderDate(LocalDateTime.now().plusDays(1));
 
         // Act & Assert
         mockMvc.perform(put("/orders")
@@ -270,14 +417,14 @@ class OrderControllerTest {
     void confirmOrder_WhenOrderNotFound_ShouldReturn404() throws Exception {
         // Arrange
         doThrow(new NotFoundException("Order not found"))
-                .when(orderService).confirmOrder(orderDTO);
+                .when(orderService).confirmOrder(asReceived(orderDTO));
 
         // Act & Assert
         mockMvc.perform(put("/orders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(orderDTO)))
                 .andExpect(status().isNotFound());
-        verify(orderService).confirmOrder(orderDTO);
+        verify(orderService).confirmOrder(asReceived(orderDTO));
     }
 
     @Test
@@ -291,6 +438,162 @@ class OrderControllerTest {
         verify(orderService, never()).confirmOrder(orderDTO);
     }
 
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void confirmOrders_WhenUserIsEmployee_ShouldReturnPerOrderResults() throws Exception {
+        // Arrange
+        UUID confirmed = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ConfirmOrdersDTO request = new ConfirmOrdersDTO("employee@bookstore.com", List.of(confirmed, missing));
+        when(orderService.confirmOrders(request)).thenReturn(List.of(
+                new OrderConfirmationDTO(confirmed, OrderConfirmationStatus.CONFIRMED, "employee@bookstore.com"),
+                new OrderConfirmationDTO(missing, OrderConfirmationStatus.NOT_FOUND, null)));
+
+        // Act & Assert
+        mockMvc.perform(put("/orders/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].public_id").value(confirmed.toString()))
+                .andExpect(jsonPath("$[0].status").value("CONFIRMED"))
+                .andExpect(jsonPath("$[0].employee_email").value("employee@bookstore.com"))
+                .andExpect(jsonPath("$[1].public_id").value(missing.toString()))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+        verify(orderService).confirmOrders(request);
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void confirmOrders_WithoutOrderIds_ShouldReturn400() throws Exception {
+        // Arrange
+        ConfirmOrdersDTO request = new ConfirmOrdersDTO("employee@bookstore.com", List.of());
+
+        // Act & Assert
+        mockMvc.perform(put("/orders/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(orderService, never()).confirmOrders(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void confirmOrders_WhenEmployeeNotFound_ShouldReturn404() throws Exception {
+        // Arrange
+        ConfirmOrdersDTO request = new ConfirmOrdersDTO("ghost@bookstore.com", List.of(UUID.randomUUID()));
+        when(orderService.confirmOrders(request)).thenThrow(new NotFoundException("Employee with email ghost@bookstore.com"));
+
+        // Act & Assert
+        mockMvc.perform(put("/orders/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void confirmOrders_WithClientRole_ShouldReturn403() throws Exception {
+        // Arrange
+        ConfirmOrdersDTO request = new ConfirmOrdersDTO("employee@bookstore.com", List.of(UUID.randomUUID()));
+
+        // Act & Assert
+        mockMvc.perform(put("/orders/confirm")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+        verify(orderService, never()).confirmOrders(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void exportOrders_AsCsv_ShouldStreamServiceOutput() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 1, 0, 0);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write("public_id\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(orderExportService).exportOrders(eq(from), eq(to), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/orders/export")
+                        .param("format", "CSV")
+                        .param("from", "2024-01-01T00:00:00")
+                        .param("to", "2024-02-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", Matchers.startsWith("text/csv")))
+                .andExpect(header().string("Content-Disposition", Matchers.containsString("orders.csv")))
+                .andExpect(content().string("public_id\n"));
+        verify(orderExportService).exportOrders(eq(from), eq(to), eq(ExportFormat.CSV), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void exportOrders_WithDefaultFormat_ShouldUseNdjson() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get("/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", Matchers.startsWith("application/x-ndjson")));
+        verify(orderExportService).exportOrders(isNull(), isNull(), eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void exportOrders_WithLargeRowCount_ShouldStreamAllRowsUnderExportTimeout() throws Exception {
+        // Arrange
+        int rows = 200_000;
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            for (int i = 0; i < rows; i++) {
+                out.write(("{\"publicId\":\"" + new UUID(0, i) + "\"}\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        }).when(orderExportService).exportOrders(isNull(), isNull(), eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(rows, body.lines().count());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void exportOrders_WithInvertedRange_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/orders/export")
+                        .param("from", "2024-02-01T00:00:00")
+                        .param("to", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(orderExportService);
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void exportOrders_WithClientRole_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/orders/export"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(orderExportService);
+    }
+
     @Test
     void getAllOrders_WithoutAuthentication_ShouldReturn401() throws Exception {
         // Act & Assert
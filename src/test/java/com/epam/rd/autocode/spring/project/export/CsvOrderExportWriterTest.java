@@ -0,0 +1,54 @@
+package com.epam.rd.autocode.spring.project.export;
+
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvOrderExportWriterTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "plain|plain",
+            "with,comma|\"with,comma\"",
+            "with \"quote\"|\"with \"\"quote\"\"\""
+    })
+    void field_ShouldQuoteOnlyWhenNeeded(String value, String expected) {
+        // Act & Assert
+        assertEquals(expected, CsvOrderExportWriter.field(value));
+    }
+
+    @Test
+    void field_WithNull_ShouldBeEmpty() {
+        // Act & Assert
+        assertEquals("", CsvOrderExportWriter.field(null));
+    }
+
+    @Test
+    void write_ShouldEmitHeaderAndEscapedRow() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        UUID publicId = UUID.randomUUID();
+        OrderDTO order = new OrderDTO(publicId, null, "client@example.com", LocalDateTime.of(2024, 1, 1, 12, 0),
+                new BigDecimal("20.00"), List.of(new BookItemDTO("Dune, Part One", 2), new BookItemDTO("Emma", 1)));
+        CsvOrderExportWriter writer = new CsvOrderExportWriter(out, 1024);
+
+        // Act
+        writer.write(order);
+        writer.finish();
+
+        // Assert
+        assertEquals("public_id,client_email,employee_email,order_date,price,book_items\n"
+                + publicId + ",client@example.com,,2024-01-01T12:00,20.00,\"Dune, Part One:2;Emma:1\"\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+}
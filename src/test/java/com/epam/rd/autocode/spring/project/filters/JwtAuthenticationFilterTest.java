@@ -1,6 +1,7 @@
 package com.epam.rd.autocode.spring.project.filters;
 
 import com.epam.rd.autocode.spring.project.model.enums.Role;
+import com.epam.rd.autocode.spring.project.utils.JwtPrincipal;
 import com.epam.rd.autocode.spring.project.utils.JwtUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,7 +21,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import java.io.IOException;
@@ -55,6 +58,11 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.clearContext();
     }
 
+    private JwtPrincipal principal(String username, List<String> roles, boolean expired) {
+        Instant expiresAt = expired ? Instant.now().minusSeconds(60) : Instant.now().plusSeconds(900);
+        return new JwtPrincipal(username, roles, expiresAt);
+    }
+
     @ParameterizedTest
     @CsvSource({
             "CLIENT, valid.jwt.token, test@example.com",
@@ -65,9 +73,7 @@ class JwtAuthenticationFilterTest {
         // Arrange
         List<String> roles = List.of("ROLE_" + roleType);
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtils.getUserName(token)).thenReturn(username);
-        when(jwtUtils.getRoles(token)).thenReturn(roles);
-        when(jwtUtils.isTokenExpired(token)).thenReturn(false);
+        when(jwtUtils.parseToken(token)).thenReturn(Optional.of(principal(username, roles, false)));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -102,7 +108,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNull(authentication);
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtils, never()).getUserName(anyString());
+        verify(jwtUtils, never()).parseToken(anyString());
     }
 
     @ParameterizedTest
@@ -120,16 +126,14 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNull(authentication);
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtils, never()).getUserName(anyString());
+        verify(jwtUtils, never()).parseToken(anyString());
     }
 
     @Test
     void doFilterInternal_WithExpiredToken_ShouldNotSetAuthentication() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtils.getUserName(token)).thenReturn(username);
-        when(jwtUtils.getRoles(token)).thenReturn(roles);
-        when(jwtUtils.isTokenExpired(token)).thenReturn(true);
+        when(jwtUtils.parseToken(token)).thenReturn(Optional.of(principal(username, roles, true)));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -144,7 +148,7 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_WithInvalidToken_ShouldNotSetAuthentication() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtils.getUserName(token)).thenReturn(null);
+        when(jwtUtils.parseToken(token)).thenReturn(Optional.empty());
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -153,7 +157,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNull(authentication);
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtils, never()).getRoles(anyString());
+        verify(jwtUtils, times(1)).parseToken(token);
     }
 
     @Test
@@ -175,9 +179,7 @@ class JwtAuthenticationFilterTest {
         assertEquals("existing@example.com", authentication.getPrincipal());
         verify(filterChain).doFilter(request, response);
 
-        verify(jwtUtils, never()).getUserName(anyString());
-        verify(jwtUtils, never()).getRoles(anyString());
-        verify(jwtUtils, never()).isTokenExpired(anyString());
+        verify(jwtUtils, never()).parseToken(anyString());
     }
 
     @ParameterizedTest
@@ -190,7 +192,7 @@ class JwtAuthenticationFilterTest {
             throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtils.getUserName(token)).thenThrow(exceptionClass);
+        when(jwtUtils.parseToken(token)).thenThrow(exceptionClass);
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -205,9 +207,7 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_WithEmptyRolesList_ShouldSetAuthenticationWithEmptyAuthorities() throws ServletException, IOException {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtils.getUserName(token)).thenReturn(username);
-        when(jwtUtils.getRoles(token)).thenReturn(List.of());
-        when(jwtUtils.isTokenExpired(token)).thenReturn(false);
+        when(jwtUtils.parseToken(token)).thenReturn(Optional.of(principal(username, List.of(), false)));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -231,7 +231,7 @@ class JwtAuthenticationFilterTest {
         // Arrange
         String actualUsername = username.trim().isEmpty() ? null : username.trim();
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtils.getUserName(token)).thenReturn(actualUsername);
+        when(jwtUtils.parseToken(token)).thenReturn(Optional.of(principal(actualUsername, roles, false)));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -1,19 +1,25 @@
 package com.epam.rd.autocode.spring.project.filters;
 
+import com.epam.rd.autocode.spring.project.conf.RateLimitSettings;
+import com.epam.rd.autocode.spring.project.ratelimit.RateLimitDecision;
+import com.epam.rd.autocode.spring.project.ratelimit.RateLimitStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.util.ReflectionTestUtils;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,9 +28,10 @@ class RateLimitingFilterTest {
     @Mock private HttpServletRequest request;
     @Mock private HttpServletResponse response;
     @Mock private FilterChain filterChain;
+    @Mock private RateLimitStore store;
 
-    @InjectMocks
     private RateLimitingFilter rateLimitingFilter;
+    private RateLimitSettings.Rule loginRule;
 
     private StringWriter stringWriter;
     private PrintWriter printWriter;
@@ -32,15 +39,21 @@ class RateLimitingFilterTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(rateLimitingFilter, "maxRequests", 3);
-        ReflectionTestUtils.setField(rateLimitingFilter, "timeWindowMinutes", 15);
-        
+        loginRule = new RateLimitSettings.Rule();
+        loginRule.setPath("/auth/login");
+        loginRule.setMaxRequests(3);
+        loginRule.setWindow(Duration.ofMinutes(15));
+
+        RateLimitSettings settings = new RateLimitSettings();
+        settings.setRules(List.of(loginRule));
+        rateLimitingFilter = new RateLimitingFilter(settings, store);
+
         stringWriter = new StringWriter();
         printWriter = new PrintWriter(stringWriter);
     }
 
     @Test
-    void doFilterInternal_NonLoginRequest_ShouldSkipRateLimit() throws Exception {
+    void doFilterInternal_NonLimitedRequest_ShouldSkipRateLimit() throws Exception {
         // Arrange
         when(request.getRequestURI()).thenReturn("/books");
 
@@ -49,57 +62,61 @@ class RateLimitingFilterTest {
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verifyNoInteractions(response);
+        verifyNoInteractions(response, store);
     }
 
     @Test
-    void doFilterInternal_FirstLoginRequest_ShouldAllowRequest() throws Exception {
+    void doFilterInternal_AllowedLoginRequest_ShouldPassAndReportQuota() throws Exception {
         // Arrange
         when(request.getRequestURI()).thenReturn("/auth/login");
         when(request.getRemoteAddr()).thenReturn(clientIp);
+        when(store.tryAcquire("/auth/login:" + clientIp, loginRule))
+                .thenReturn(RateLimitDecision.allowed(3, 2, 60_000));
 
         // Act
         rateLimitingFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(filterChain).doFilter(request, response);
-        verifyNoInteractions(response);
+        verify(response).setHeader(RateLimitingFilter.LIMIT_HEADER, "3");
+        verify(response).setHeader(RateLimitingFilter.REMAINING_HEADER, "2");
+        verify(response).setHeader(RateLimitingFilter.RESET_HEADER, "60");
+        verify(response, never()).setStatus(anyInt());
     }
 
     @Test
-    void doFilterInternal_ExceedRateLimit_ShouldBlockRequest() throws Exception {
+    void doFilterInternal_RejectedLoginRequest_ShouldBlockRequest() throws Exception {
         // Arrange
         when(request.getRequestURI()).thenReturn("/auth/login");
         when(request.getRemoteAddr()).thenReturn(clientIp);
         when(response.getWriter()).thenReturn(printWriter);
+        when(store.tryAcquire(anyString(), any())).thenReturn(RateLimitDecision.rejected(3, 1_500));
 
         // Act
-        for (int i = 0; i < 4; i++) {
-            rateLimitingFilter.doFilterInternal(request, response, filterChain);
-        }
+        rateLimitingFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(response).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-        verify(response).getWriter();
+        verify(response).setHeader(RateLimitingFilter.REMAINING_HEADER, "0");
+        verify(response).setHeader(HttpHeaders.RETRY_AFTER, "2");
         assertTrue(stringWriter.toString().contains("Too many requests"));
-        
-        verify(filterChain, times(3)).doFilter(request, response);
+        verify(filterChain, never()).doFilter(request, response);
     }
 
     @Test
-    void doFilterInternal_TimeWindowExpired_ShouldResetCounter() throws Exception {
+    void doFilterInternal_DifferentClients_ShouldUseSeparateKeys() throws Exception {
         // Arrange
         when(request.getRequestURI()).thenReturn("/auth/login");
-        when(request.getRemoteAddr()).thenReturn(clientIp);
-        for (int i = 0; i < 3; i++) {
-            rateLimitingFilter.doFilterInternal(request, response, filterChain);
-        }
-        verify(filterChain, times(3)).doFilter(request, response);
-        ReflectionTestUtils.setField(rateLimitingFilter, "requestCounts", new java.util.concurrent.ConcurrentHashMap<>());
+        when(request.getRemoteAddr()).thenReturn(clientIp, "10.0.0.7");
+        when(store.tryAcquire(anyString(), any())).thenReturn(RateLimitDecision.allowed(3, 2, 60_000));
+
+        // Act
+        rateLimitingFilter.doFilterInternal(request, response, filterChain);
         rateLimitingFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
-        verify(filterChain, times(4)).doFilter(request, response);
-        verify(response, never()).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        verify(store).tryAcquire("/auth/login:" + clientIp, loginRule);
+        verify(store).tryAcquire("/auth/login:10.0.0.7", loginRule);
+        verify(filterChain, times(2)).doFilter(request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.epam.rd.autocode.spring.project.indexing;
+
+import com.epam.rd.autocode.spring.project.conf.SortOptionsSettings;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class IndexAdvisorTest {
+
+    @Autowired private IndexAdvisor indexAdvisor;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void advise_ConfiguredSortFields_ShouldAllHaveALeadingIndex() {
+        // Act
+        List<IndexAdvice> advice = indexAdvisor.advise();
+
+        // Assert
+        assertTrue(advice.size() >= 20);
+        assertEquals(List.of(), indexAdvisor.missing());
+    }
+
+    @Test
+    void advise_ShouldResolveColumnsAndAssociationPaths() {
+        // Act
+        List<IndexAdvice> advice = indexAdvisor.advise();
+
+        // Assert
+        assertTrue(advice.contains(new IndexAdvice("book", "publicationDate", "books", "publication_year",
+                "idx_book_publication_date", false)));
+        assertTrue(advice.contains(new IndexAdvice("book", "ageGroup", "books", "age_group",
+                "idx_book_age_group_price", false)));
+        assertTrue(advice.contains(new IndexAdvice("order", "client.name", "clients", "name", "idx_client_name", true)));
+        assertTrue(advice.contains(new IndexAdvice("blocked_client", "when", "blocked_clients", "blocked_when",
+                "idx_blocked_client_when", false)));
+    }
+
+    @Test
+    void advise_JoinedSortPath_ShouldBeFlaggedAsNotCoveredEvenWithIndexOnJoinedTable() {
+        // Arrange
+        SortOptionsSettings settings = new SortOptionsSettings();
+        settings.setEntities(Map.of("order", List.of("orderDate", "client.name")));
+        IndexAdvisor advisor = new IndexAdvisor(settings, entityManagerFactory);
+
+        // Act
+        List<IndexAdvice> advice = advisor.advise();
+
+        // Assert
+        IndexAdvice joined = advice.stream().filter(entry -> entry.sortField().equals("client.name")).findFirst().orElseThrow();
+        assertFalse(joined.covered());
+        assertEquals(List.of(joined), advisor.joined());
+        assertEquals(List.of(), advisor.missing());
+    }
+
+    @Test
+    void advise_UnindexedSortField_ShouldBeReportedAsMissing() {
+        // Arrange
+        SortOptionsSettings settings = new SortOptionsSettings();
+        settings.setEntities(Map.of("book", List.of("name", "description"), "order", List.of("employee.phone")));
+        IndexAdvisor advisor = new IndexAdvisor(settings, entityManagerFactory);
+
+        // Act
+        List<IndexAdvice> missing = advisor.missing();
+
+        // Assert
+        assertEquals(List.of(
+                new IndexAdvice("book", "description", "books", "description", null, false)), missing);
+        assertEquals(List.of(new IndexAdvice("order", "employee.phone", "employees", "phone", null, true)),
+                advisor.joined());
+    }
+
+    @Test
+    void advise_UnknownEntityOrField_ShouldBeSkipped() {
+        // Arrange
+        SortOptionsSettings settings = new SortOptionsSettings();
+        settings.setEntities(Map.of("unknown", List.of("name"), "client", List.of("nickname", "balance")));
+        IndexAdvisor advisor = new IndexAdvisor(settings, entityManagerFactory);
+
+        // Act
+        List<IndexAdvice> advice = advisor.advise();
+
+        // Assert
+        assertEquals(List.of(new IndexAdvice("client", "balance", "clients", "balance", "idx_client_balance", false)), advice);
+    }
+}
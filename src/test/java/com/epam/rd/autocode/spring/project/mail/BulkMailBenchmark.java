@@ -0,0 +1,101 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import com.epam.rd.autocode.spring.project.conf.OutboxSettings;
+import com.epam.rd.autocode.spring.project.model.enums.MailTemplate;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkMailBenchmark {
+    private static final int BATCH = 50;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private SmtpConnectionPool connectionPool;
+    private MailTemplateRenderer renderer;
+    private String body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort())
+                .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+        greenMail.start();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        connectionPool = new SmtpConnectionPool(mailSender, new OutboxSettings());
+        renderer = new MailTemplateRenderer();
+        body = renderer.render(MailTemplate.NEWSLETTER, Map.of("subject", "Spring picks",
+                "paragraphs", List.of("New arrivals are in.", "Twenty percent off every classic this week.")));
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionPool.closeAll();
+        greenMail.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void sendWithConnectionPerMessage() throws MessagingException {
+        for (MimeMessage message : messages()) {
+            mailSender.send(message);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Map<Integer, MessagingException> sendBatchOverPooledConnection() throws MessagingException {
+        return connectionPool.sendAll(messages());
+    }
+
+    @Benchmark
+    public String renderPrecompiledNewsletter() {
+        return renderer.render(MailTemplate.NEWSLETTER, Map.of("subject", "Spring picks",
+                "paragraphs", List.of("New arrivals are in.", "Twenty percent off every classic this week.")));
+    }
+
+    private List<MimeMessage> messages() throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            MimeMessage message = connectionPool.createMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+            helper.setFrom("shop@example.com");
+            helper.setTo("reader-" + i + "@example.com");
+            helper.setSubject("Spring picks");
+            helper.setText(body, true);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkMailBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
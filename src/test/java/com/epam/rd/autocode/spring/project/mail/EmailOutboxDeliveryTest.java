@@ -0,0 +1,236 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ForgotPasswordDTO;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.OutboundEmail;
+import com.epam.rd.autocode.spring.project.model.enums.EmailStatus;
+import com.epam.rd.autocode.spring.project.model.enums.Role;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.OutboundEmailRepository;
+import com.epam.rd.autocode.spring.project.service.AuthService;
+import com.epam.rd.autocode.spring.project.service.EmailService;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.mail.host=localhost", "spring.mail.port=3025", "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "outbox.poll-interval=PT1H", "outbox.delivery-enabled=true"})
+class EmailOutboxDeliveryTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication())
+            .withPerMethodLifecycle(false);
+
+    @Autowired private AuthService authService;
+    @Autowired private EmailService emailService;
+    @Autowired private OutboundEmailRepository outboundEmailRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private SmtpConnectionPool connectionPool;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void forgotPassword_ShouldDeliverResetCodeThroughOutbox() throws MessagingException {
+        // Arrange
+        Client client = clientRepository.save(new Client(null, "outbox-" + suffix + "@example.com",
+                "password", "Outbox Client", new BigDecimal("10.00")));
+
+        // Act
+        authService.forgotPassword(new ForgotPasswordDTO(client.getEmail(), Role.CLIENT));
+
+        // Assert
+        List<MimeMessage> received = awaitMessagesTo(client.getEmail(), 1);
+        assertEquals("Password reset code for Margosha Book Store", received.get(0).getSubject().trim());
+        assertTrue(GreenMailUtil.getBody(received.get(0)).contains("client account"));
+        OutboundEmail email = awaitOutbox(client.getEmail(), EmailStatus.SENT);
+        assertEquals(1, email.getAttempts());
+        assertNotNull(email.getSentAt());
+        assertEquals("", email.getBody());
+    }
+
+    @Test
+    void sendPasswordResetEmail_WhenCallerRollsBack_ShouldNeitherQueueNorSend() throws InterruptedException {
+        // Arrange
+        String recipient = "rollback-" + suffix + "@example.com";
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        transaction.executeWithoutResult(status -> {
+            emailService.sendPasswordResetEmail(recipient, "code", "CLIENT");
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        Thread.sleep(500);
+        assertTrue(outboxRows(recipient).isEmpty());
+        assertTrue(messagesTo(recipient).isEmpty());
+    }
+
+    @Test
+    void sendPasswordResetEmail_Burst_ShouldReuseWarmConnections() {
+        // Arrange
+        List<String> recipients = IntStream.range(0, 30).mapToObj(i -> "burst-" + i + "-" + suffix + "@example.com").toList();
+        long openedBefore = connectionPool.openedConnections();
+
+        // Act
+        recipients.forEach(recipient -> emailService.sendPasswordResetEmail(recipient, "code", "CLIENT"));
+
+        // Assert
+        recipients.forEach(recipient -> awaitMessagesTo(recipient, 1));
+        recipients.forEach(recipient -> awaitOutbox(recipient, EmailStatus.SENT));
+        assertTrue(connectionPool.openedConnections() - openedBefore <= 4,
+                "opened " + (connectionPool.openedConnections() - openedBefore) + " connections");
+        assertTrue(connectionPool.idleConnections() > 0);
+    }
+
+    @Test
+    void sendOrderConfirmationEmail_ShouldDeliverRenderedHtml() throws Exception {
+        // Arrange
+        String recipient = "order-" + suffix + "@example.com";
+        OrderDTO order = new OrderDTO(UUID.randomUUID(), null, recipient, LocalDateTime.of(2024, 3, 5, 14, 30),
+                new BigDecimal("42.50"), List.of(new BookItemDTO("Dune & Co", 2)));
+
+        // Act
+        emailService.sendOrderConfirmationEmail("Order Client", order);
+
+        // Assert
+        MimeMessage message = awaitMessagesTo(recipient, 1).get(0);
+        assertTrue(message.getContentType().startsWith("text/html"));
+        String body = GreenMailUtil.getBody(message);
+        assertTrue(body.contains("Order Client"));
+        assertTrue(body.contains("Dune &amp; Co"));
+        assertTrue(body.contains("42.50"));
+        assertTrue(body.contains("05.03.2024 14:30"));
+        assertTrue(awaitOutbox(recipient, EmailStatus.SENT).isHtml());
+    }
+
+    @Test
+    void sendNewsletter_ShouldDeliverEveryRecipientOverFewConnections() {
+        // Arrange
+        List<String> recipients = IntStream.range(0, 120)
+                .mapToObj(i -> "news-" + i + "-" + suffix + "@example.com").toList();
+        long openedBefore = connectionPool.openedConnections();
+
+        // Act
+        int queued = emailService.sendNewsletter("Spring picks " + suffix, "First paragraph.\n\nSecond paragraph.",
+                recipients);
+
+        // Assert
+        assertEquals(recipients.size(), queued);
+        recipients.forEach(recipient -> awaitMessagesTo(recipient, 1));
+        recipients.forEach(recipient -> awaitOutbox(recipient, EmailStatus.SENT));
+        assertTrue(connectionPool.openedConnections() - openedBefore <= 3,
+                "opened " + (connectionPool.openedConnections() - openedBefore) + " connections");
+        String body = GreenMailUtil.getBody(messagesTo(recipients.get(0)).get(0));
+        assertTrue(body.contains("<p>First paragraph.</p>"));
+        assertTrue(body.contains("<p>Second paragraph.</p>"));
+    }
+
+    @Test
+    void purgeFinishedBefore_ShouldDeleteOnlyExpiredSentAndDeadEmails() {
+        // Arrange
+        OutboundEmail oldSent = outboxRow("old-sent", EmailStatus.SENT, 30);
+        OutboundEmail oldDead = outboxRow("old-dead", EmailStatus.DEAD, 30);
+        OutboundEmail oldPending = outboxRow("old-pending", EmailStatus.PENDING, 30);
+        OutboundEmail recentSent = outboxRow("recent-sent", EmailStatus.SENT, 1);
+
+        // Act
+        int purged = outboundEmailRepository.purgeFinishedBefore(LocalDateTime.now().minusDays(7));
+
+        // Assert
+        assertTrue(purged >= 2);
+        assertFalse(outboundEmailRepository.existsById(oldSent.getId()));
+        assertFalse(outboundEmailRepository.existsById(oldDead.getId()));
+        assertTrue(outboundEmailRepository.existsById(oldPending.getId()));
+        assertTrue(outboundEmailRepository.existsById(recentSent.getId()));
+        outboundEmailRepository.deleteAllById(List.of(oldPending.getId(), recentSent.getId()));
+    }
+
+    private OutboundEmail outboxRow(String name, EmailStatus status, int ageDays) {
+        OutboundEmail email = new OutboundEmail("shop@example.com", name + "-" + suffix + "@example.com", "Subject",
+                "Body", false, LocalDateTime.now().plusDays(1));
+        email.setStatus(status);
+        email = outboundEmailRepository.save(email);
+        jdbcTemplate.update("UPDATE email_outbox SET created_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(ageDays), email.getId());
+        return email;
+    }
+
+    private List<MimeMessage> awaitMessagesTo(String recipient, int count) {
+        return await(() -> messagesTo(recipient), messages -> messages.size() >= count,
+                "Expected " + count + " messages to " + recipient);
+    }
+
+    private OutboundEmail awaitOutbox(String recipient, EmailStatus status) {
+        return await(() -> outboxRows(recipient), rows -> rows.size() == 1 && rows.get(0).getStatus() == status,
+                "Expected outbox row for " + recipient + " in status " + status).get(0);
+    }
+
+    private List<MimeMessage> messagesTo(String recipient) {
+        return Arrays.stream(greenMail.getReceivedMessages())
+                .filter(message -> {
+                    try {
+                        return Arrays.stream(message.getRecipients(Message.RecipientType.TO))
+                                .anyMatch(address -> address.toString().equals(recipient));
+                    } catch (MessagingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private List<OutboundEmail> outboxRows(String recipient) {
+        return outboundEmailRepository.findAll().stream().filter(email -> recipient.equals(email.getRecipient())).toList();
+    }
+
+    private <T> T await(Supplier<T> supplier, Predicate<T> condition, String message) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        T value = supplier.get();
+        while (!condition.test(value)) {
+            if (System.currentTimeMillis() > deadline) fail(message);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+            value = supplier.get();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,273 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import com.epam.rd.autocode.spring.project.conf.OutboxSettings;
+import com.epam.rd.autocode.spring.project.model.MailCampaign;
+import com.epam.rd.autocode.spring.project.model.OutboundEmail;
+import com.epam.rd.autocode.spring.project.repo.MailCampaignRepository;
+import com.epam.rd.autocode.spring.project.repo.OutboundEmailRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+    private static final Long ID = 7L;
+
+    @Mock private OutboundEmailRepository outboxRepository;
+    @Mock private MailCampaignRepository campaignRepository;
+    @Mock private SmtpConnectionPool connectionPool;
+
+    private OutboxSettings settings;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxDispatcher dispatcher;
+    private OutboundEmail email;
+
+    @BeforeEach
+    void setUp() {
+        settings = new OutboxSettings();
+        settings.setMaxAttempts(3);
+        settings.setInitialBackoff(Duration.ofSeconds(10));
+        settings.setMaxBackoff(Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new EmailOutboxDispatcher(outboxRepository, campaignRepository, connectionPool, settings, meterRegistry);
+        email = email(ID, "user@example.com");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    private OutboundEmail email(Long id, String recipient) {
+        OutboundEmail outboundEmail = new OutboundEmail("shop@example.com", recipient, "Subject", "Body", false,
+                LocalDateTime.now());
+        outboundEmail.setId(id);
+        return outboundEmail;
+    }
+
+    private void mockClaimedEmails(OutboundEmail... emails) {
+        when(outboxRepository.claim(anyCollection(), any(UUID.class), any(LocalDateTime.class))).thenReturn(emails.length);
+        when(outboxRepository.findAllByClaimTokenOrderById(any(UUID.class))).thenReturn(List.of(emails));
+        lenient().when(connectionPool.createMessage())
+                .thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MimeMessage> captureSentBatch() throws MessagingException {
+        ArgumentCaptor<List<MimeMessage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(connectionPool).sendAll(batchCaptor.capture());
+        return batchCaptor.getValue();
+    }
+
+    @Test
+    void deliver_WhenClaimed_ShouldSendBatchOverOneConnectionAndMarkSent() throws Exception {
+        // Arrange
+        OutboundEmail second = email(8L, "second@example.com");
+        second.setHtml(true);
+        second.setBody("<p>Body</p>");
+        mockClaimedEmails(email, second);
+
+        // Act
+        dispatcher.deliver(List.of(ID, 8L));
+
+        // Assert
+        List<MimeMessage> batch = captureSentBatch();
+        assertEquals(2, batch.size());
+        for (MimeMessage message : batch) message.saveChanges();
+        assertTrue(batch.get(0).getContentType().startsWith("text/plain"));
+        assertTrue(batch.get(1).getContentType().startsWith("text/html"));
+        verify(outboxRepository).markSent(eq(List.of(ID, 8L)), any(LocalDateTime.class));
+        verify(outboxRepository, never()).reschedule(any(), any(), any());
+        assertEquals(2, meterRegistry.counter("mail.outbox.sent").count());
+        assertEquals(1, meterRegistry.timer("mail.send.latency", "outcome", "sent").count());
+    }
+
+    @Test
+    void deliver_WithCampaignEmail_ShouldSendCampaignBody() throws Exception {
+        // Arrange
+        OutboundEmail campaignEmail = new OutboundEmail("shop@example.com", "reader@example.com",
+                new MailCampaign("Spring picks", "Campaign body", false), LocalDateTime.now());
+        campaignEmail.setId(ID);
+        mockClaimedEmails(campaignEmail);
+
+        // Act
+        dispatcher.deliver(List.of(ID));
+
+        // Assert
+        List<MimeMessage> batch = captureSentBatch();
+        assertEquals("Campaign body", batch.get(0).getContent());
+        assertEquals("Spring picks", batch.get(0).getSubject());
+    }
+
+    @Test
+    void deliver_WhenAlreadyClaimed_ShouldNotSend() throws MessagingException {
+        // Arrange
+        when(outboxRepository.claim(anyCollection(), any(UUID.class), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act
+        dispatcher.deliver(List.of(ID));
+
+        // Assert
+        verify(connectionPool, never()).sendAll(anyList());
+        verify(outboxRepository, never()).findAllByClaimTokenOrderById(any());
+    }
+
+    @Test
+    void deliver_WhenOneRecipientIsRejected_ShouldMarkOthersSentAndDeadLetterIt() throws MessagingException {
+        // Arrange
+        OutboundEmail rejected = email(8L, "rejected@example.com");
+        mockClaimedEmails(email, rejected);
+        when(connectionPool.sendAll(anyList())).thenReturn(Map.of(1, new SendFailedException("Invalid Addresses",
+                null, new Address[0], new Address[0], new Address[]{new InternetAddress("rejected@example.com")})));
+
+        // Act
+        dispatcher.deliver(List.of(ID, 8L));
+
+        // Assert
+        verify(outboxRepository).markSent(eq(List.of(ID)), any(LocalDateTime.class));
+        verify(outboxRepository).markDead(eq(8L), startsWith("SendFailedException"));
+        assertEquals(1, meterRegistry.timer("mail.send.latency", "outcome", "partial").count());
+    }
+
+    @Test
+    void deliver_WhenSmtpFails_ShouldRescheduleWholeBatchWithBackoff() throws MessagingException {
+        // Arrange
+        OutboundEmail second = email(8L, "second@example.com");
+        mockClaimedEmails(email, second);
+        when(connectionPool.sendAll(anyList())).thenThrow(new MessagingException("Connection refused"));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        dispatcher.deliver(List.of(ID, 8L));
+
+        // Assert
+        for (Long id : List.of(ID, 8L)) {
+            verify(outboxRepository).reschedule(eq(id),
+                    argThat(next -> !next.isBefore(before.plusSeconds(10)) && next.isBefore(before.plusSeconds(11))),
+                    eq("MessagingException: Connection refused"));
+        }
+        verify(outboxRepository, never()).markSent(anyCollection(), any());
+        verify(outboxRepository, never()).markDead(any(), any());
+        assertEquals(2, meterRegistry.counter("mail.outbox.retries").count());
+    }
+
+    @Test
+    void deliver_OnLastAttempt_ShouldMoveEmailToDeadLetters() throws MessagingException {
+        // Arrange
+        email.setAttempts(2);
+        mockClaimedEmails(email);
+        when(connectionPool.sendAll(anyList())).thenThrow(new MessagingException("Connection refused"));
+
+        // Act
+        dispatcher.deliver(List.of(ID));
+
+        // Assert
+        verify(outboxRepository).markDead(ID, "MessagingException: Connection refused");
+        verify(outboxRepository, never()).reschedule(any(), any(), any());
+        assertEquals(1, meterRegistry.counter("mail.outbox.dead.letters").count());
+    }
+
+    @Test
+    void deliver_WithMalformedRecipient_ShouldDeadLetterWithoutRetrying() throws MessagingException {
+        // Arrange
+        email.setRecipient("not an address@@");
+        mockClaimedEmails(email);
+
+        // Act
+        dispatcher.deliver(List.of(ID));
+
+        // Assert
+        verify(connectionPool, never()).sendAll(anyList());
+        verify(outboxRepository).markDead(eq(ID), startsWith("AddressException"));
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyUpToMaximum() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(10), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(3));
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(10));
+    }
+
+    @Test
+    void onEmailQueued_ShouldSplitIdsIntoSendBatches() throws Exception {
+        // Arrange
+        settings.setSendBatchSize(2);
+        when(outboxRepository.claim(anyCollection(), any(UUID.class), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act
+        dispatcher.onEmailQueued(new EmailQueuedEvent(List.of(1L, 2L, 3L, 4L, 5L)));
+        dispatcher.shutdown();
+
+        // Assert
+        verify(outboxRepository).claim(eq(List.of(1L, 2L)), any(UUID.class), any(LocalDateTime.class));
+        verify(outboxRepository).claim(eq(List.of(3L, 4L)), any(UUID.class), any(LocalDateTime.class));
+        verify(outboxRepository).claim(eq(List.of(5L)), any(UUID.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void onEmailQueued_WhenDeliveryDisabled_ShouldLeaveEmailsInOutbox() throws Exception {
+        // Arrange
+        settings.setDeliveryEnabled(false);
+
+        // Act
+        dispatcher.onEmailQueued(new EmailQueuedEvent(List.of(ID)));
+        dispatcher.poll();
+        dispatcher.shutdown();
+
+        // Assert
+        verifyNoInteractions(outboxRepository, connectionPool);
+    }
+
+    @Test
+    void poll_ShouldReleaseExpiredClaimsAndPublishQueueDepth() {
+        // Arrange
+        when(outboxRepository.countByStatus(any())).thenReturn(5L, 2L);
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        verify(outboxRepository).releaseExpiredClaims(any(LocalDateTime.class));
+        verify(connectionPool).evictIdle();
+        assertEquals(5, meterRegistry.get("mail.outbox.pending").gauge().value());
+        assertEquals(2, meterRegistry.get("mail.outbox.dead").gauge().value());
+    }
+
+    @Test
+    void purge_ShouldDeleteFinishedEmailsOlderThanRetention() {
+        // Arrange
+        settings.setRetention(Duration.ofDays(7));
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        // Act
+        dispatcher.purge();
+
+        // Assert
+        verify(outboxRepository).purgeFinishedBefore(cutoff.capture());
+        verify(campaignRepository).purgeUnreferencedBefore(cutoff.getValue());
+        LocalDateTime expected = LocalDateTime.now().minusDays(7);
+        assertTrue(Duration.between(cutoff.getValue(), expected).abs().toSeconds() < 5);
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.rd.autocode.spring.project.mail;
+
+import com.epam.rd.autocode.spring.project.model.enums.MailTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailTemplateRendererTest {
+    private final MailTemplateRenderer renderer = new MailTemplateRenderer();
+
+    @ParameterizedTest
+    @EnumSource(MailTemplate.class)
+    void render_WithoutVariables_ShouldNotFail(MailTemplate template) {
+        // Act
+        String body = renderer.render(template, Map.of());
+
+        // Assert
+        assertNotNull(body);
+        assertTrue(body.contains("Margosha Book Store"));
+    }
+
+    @Test
+    void render_PasswordReset_ShouldInlineVariablesAsPlainText() {
+        // Act
+        String body = renderer.render(MailTemplate.PASSWORD_RESET,
+                Map.of("role", "client", "resetCode", "<abc>", "expiresInMinutes", 7L));
+
+        // Assert
+        assertTrue(body.startsWith("Hello Dear User"));
+        assertTrue(body.contains("for your client account!"));
+        assertTrue(body.contains("Your password reset code is: <abc>"));
+        assertTrue(body.contains("expire in 7 minutes"));
+    }
+
+    @Test
+    void render_Newsletter_ShouldEscapeContent() {
+        // Act
+        String body = renderer.render(MailTemplate.NEWSLETTER,
+                Map.of("subject", "News", "paragraphs", List.of("<script>alert(1)</script>", "Second")));
+
+        // Assert
+        assertTrue(body.contains("&lt;script&gt;alert(1)&lt;/script&gt;"));
+        assertFalse(body.contains("<script>"));
+        assertTrue(body.contains("<p>Second</p>"));
+        assertTrue(body.contains("<h2>News</h2>"));
+    }
+}
@@ -0,0 +1,151 @@
+package com.epam.rd.autocode.spring.project.mappers;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.ClientDTO;
+import com.epam.rd.autocode.spring.project.dto.EmployeeDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.BookItem;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.Employee;
+import com.epam.rd.autocode.spring.project.model.Order;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final BookItemMapper bookItemMapper = new BookItemMapperImpl();
+    private final BookMapper bookMapper = new BookMapperImpl();
+    private final ClientMapper clientMapper = new ClientMapperImpl();
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+    private final OrderMapper orderMapper = new OrderMapperImpl(bookItemMapper);
+
+    private ModelMapper modelMapper;
+    private Book book;
+    private BookDTO bookDTO;
+    private BookItem bookItem;
+    private Client client;
+    private Employee employee;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.createTypeMap(BookItem.class, BookItemDTO.class)
+                .addMapping(item -> item.getBook().getName(), BookItemDTO::setBookName);
+        modelMapper.createTypeMap(BookDTO.class, Book.class)
+                .addMappings(m -> m.skip(Book::setId));
+        modelMapper.createTypeMap(ClientDTO.class, Client.class)
+                .addMappings(m -> m.skip(Client::setId));
+        modelMapper.createTypeMap(EmployeeDTO.class, Employee.class)
+                .addMappings(m -> m.skip(Employee::setId));
+
+        book = new Book(1L, "Benchmark Book", "Fantasy", AgeGroup.ADULT, new BigDecimal("10.00"),
+                LocalDate.of(2020, 1, 1), "Benchmark Author", 100, "Hardcover", "Benchmark description",
+                Language.ENGLISH);
+        bookDTO = bookMapper.toDto(book);
+        client = new Client(1L, "client@example.com", "password", "Benchmark Client", new BigDecimal("100.00"));
+        employee = new Employee(1L, "employee@example.com", "password", "Benchmark Employee",
+                "+380501234567", LocalDate.of(1990, 1, 1));
+        order = new Order(1L, employee, client, LocalDateTime.of(2024, 1, 1, 12, 0), new BigDecimal("30.00"),
+                new ArrayList<>());
+        bookItem = new BookItem(1L, order, book, 3);
+        order.setBookItems(IntStream.range(0, 5)
+                .mapToObj(i -> new BookItem((long) i, order, book, i + 1))
+                .toList());
+    }
+
+    @Benchmark
+    public BookDTO bookToDtoGenerated() {
+        return bookMapper.toDto(book);
+    }
+
+    @Benchmark
+    public BookDTO bookToDtoModelMapper() {
+        return modelMapper.map(book, BookDTO.class);
+    }
+
+    @Benchmark
+    public Book bookToEntityGenerated() {
+        return bookMapper.toEntity(bookDTO);
+    }
+
+    @Benchmark
+    public Book bookToEntityModelMapper() {
+        return modelMapper.map(bookDTO, Book.class);
+    }
+
+    @Benchmark
+    public ClientDTO clientToDtoGenerated() {
+        return clientMapper.toDto(client);
+    }
+
+    @Benchmark
+    public ClientDTO clientToDtoModelMapper() {
+        return modelMapper.map(client, ClientDTO.class);
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeToDtoGenerated() {
+        return employeeMapper.toDto(employee);
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeToDtoModelMapper() {
+        return modelMapper.map(employee, EmployeeDTO.class);
+    }
+
+    @Benchmark
+    public BookItemDTO bookItemToDtoGenerated() {
+        return bookItemMapper.toDto(bookItem);
+    }
+
+    @Benchmark
+    public BookItemDTO bookItemToDtoModelMapper() {
+        return modelMapper.map(bookItem, BookItemDTO.class);
+    }
+
+    @Benchmark
+    public OrderDTO orderToDtoGenerated() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public OrderDTO orderToDtoModelMapper() {
+        OrderDTO dto = new OrderDTO();
+        dto.setOrderDate(order.getOrderDate());
+        dto.setPrice(order.getPrice());
+        dto.setEmployeeEmail(order.getEmployee().getEmail());
+        dto.setClientEmail(order.getClient().getEmail());
+        List<BookItemDTO> items = order.getBookItems().stream()
+                .map(item -> modelMapper.map(item, BookItemDTO.class))
+                .toList();
+        dto.setBookItems(items);
+        return dto;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.rd.autocode.spring.project.mappers;
+
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.BookItem;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.Employee;
+import com.epam.rd.autocode.spring.project.model.Order;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderMapperTest {
+
+    private final OrderMapper orderMapper = new OrderMapperImpl(new BookItemMapperImpl());
+
+    @Test
+    void toDto_ShouldFlattenParticipantsAndBookItems() {
+        // Arrange
+        Book book = new Book();
+        book.setName("The Great Adventure");
+        Order order = new Order();
+        order.setClient(new Client(1L, "client@example.com", "password", "Client", BigDecimal.TEN));
+        order.setEmployee(new Employee(2L, "employee@example.com", "password", "Employee",
+                "+380501234567", LocalDate.of(1990, 1, 1)));
+        order.setOrderDate(LocalDateTime.of(2024, 1, 1, 12, 0));
+        order.setPrice(new BigDecimal("20.00"));
+        order.setBookItems(List.of(new BookItem(1L, order, book, 2)));
+
+        // Act
+        OrderDTO dto = orderMapper.toDto(order);
+
+        // Assert
+        assertEquals("client@example.com", dto.getClientEmail());
+        assertEquals("employee@example.com", dto.getEmployeeEmail());
+        assertEquals(order.getOrderDate(), dto.getOrderDate());
+        assertEquals(order.getPrice(), dto.getPrice());
+        assertEquals(List.of(new BookItemDTO("The Great Adventure", 2)), dto.getBookItems());
+    }
+
+    @Test
+    void toDto_ShouldTolerateMissingEmployeeAndItems() {
+        // Arrange
+        Order order = new Order();
+        order.setClient(new Client(1L, "client@example.com", "password", "Client", BigDecimal.TEN));
+        order.setBookItems(null);
+
+        // Act
+        OrderDTO dto = orderMapper.toDto(order);
+
+        // Assert
+        assertNull(dto.getEmployeeEmail());
+        assertNotNull(dto.getBookItems());
+        assertTrue(dto.getBookItems().isEmpty());
+    }
+
+    @Test
+    void toEntity_ShouldLeaveRelationsForTheService() {
+        // Arrange
+        OrderDTO dto = new OrderDTO(UUID.randomUUID(), "employee@example.com", "client@example.com",
+                LocalDateTime.of(2024, 1, 1, 12, 0), new BigDecimal("20.00"),
+                List.of(new BookItemDTO("The Great Adventure", 2)));
+
+        // Act
+        Order order = orderMapper.toEntity(dto);
+
+        // Assert
+        assertNull(order.getId());
+        assertNotNull(order.getPublicId());
+        assertNotEquals(dto.getPublicId(), order.getPublicId());
+        assertNull(order.getClient());
+        assertNull(order.getEmployee());
+        assertEquals(dto.getPrice(), order.getPrice());
+        assertTrue(order.getBookItems().isEmpty());
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class OrderPublicIdBackfillTest {
+    private static final long LEGACY_ID = 900_000_001L;
+
+    @Autowired private OrderPublicIdBackfill orderPublicIdBackfill;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM orders WHERE id = ?", LEGACY_ID);
+        orderPublicIdBackfill.migrate();
+    }
+
+    @Test
+    void migrate_WithLegacyOrderWithoutPublicId_ShouldBackfillAndTightenColumn() {
+        // Arrange
+        jdbcTemplate.execute("ALTER TABLE orders ALTER COLUMN public_id SET NULL");
+        jdbcTemplate.update("INSERT INTO orders (id, order_date, price) VALUES (?, CURRENT_TIMESTAMP, 10.00)", LEGACY_ID);
+
+        // Act
+        orderPublicIdBackfill.migrate();
+
+        // Assert
+        assertNotNull(jdbcTemplate.queryForObject("SELECT public_id FROM orders WHERE id = ?", UUID.class, LEGACY_ID));
+        assertEquals("NO", jdbcTemplate.queryForObject("SELECT is_nullable FROM information_schema.columns " +
+                "WHERE table_name = 'ORDERS' AND column_name = 'PUBLIC_ID'", String.class));
+    }
+
+    @Test
+    void migrate_OnStartup_ShouldLeavePublicIdNotNull() {
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO orders (id, order_date, price) VALUES (?, CURRENT_TIMESTAMP, 10.00)", LEGACY_ID));
+    }
+}
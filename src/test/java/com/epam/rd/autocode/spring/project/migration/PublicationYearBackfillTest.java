@@ -0,0 +1,44 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PublicationYearBackfillTest {
+    private static final String NAME = "Backfilled Chronicle";
+
+    @Autowired private PublicationYearBackfill publicationYearBackfill;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.findByName(NAME).ifPresent(bookRepository::delete);
+    }
+
+    @Test
+    void backfill_WithLegacyRow_ShouldDeriveYearFromPublicationDate() {
+        // Arrange
+        Long id = bookRepository.save(new Book(null, NAME, "Fantasy", AgeGroup.ADULT, new BigDecimal("10.00"),
+                LocalDate.of(1999, 6, 1), "Legacy Author", 100, "Hardcover", "Legacy row", Language.ENGLISH)).getId();
+        jdbcTemplate.update("UPDATE books SET pub_year = NULL WHERE id = ?", id);
+
+        // Act
+        int updated = publicationYearBackfill.backfill();
+
+        // Assert
+        assertTrue(updated >= 1);
+        assertEquals(1999, jdbcTemplate.queryForObject("SELECT pub_year FROM books WHERE id = ?", Integer.class, id));
+        assertEquals(0, publicationYearBackfill.backfill());
+    }
+}
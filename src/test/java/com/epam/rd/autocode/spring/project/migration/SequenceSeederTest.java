@@ -0,0 +1,51 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SequenceSeederTest {
+    private static final String LEGACY_EMAIL = "legacy.client@example.com";
+
+    @Autowired private SequenceSeeder sequenceSeeder;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM clients WHERE email = ?", LEGACY_EMAIL);
+    }
+
+    @Test
+    void seed_WithRowsAboveSequence_ShouldRestartSequenceAboveMaxId() {
+        // Arrange
+        long legacyId = nextClientId() + 1_000;
+        jdbcTemplate.update("INSERT INTO clients (id, balance, email, name, password) VALUES (?, 10.00, ?, 'Legacy', 'pw')",
+                legacyId, LEGACY_EMAIL);
+
+        // Act
+        sequenceSeeder.seed();
+
+        // Assert
+        assertTrue(nextClientId() - 50 >= legacyId);
+    }
+
+    @Test
+    void seed_WithSequenceAlreadyAhead_ShouldNotMoveItBack() {
+        // Arrange
+        long before = nextClientId();
+
+        // Act
+        sequenceSeeder.seed();
+
+        // Assert
+        assertTrue(nextClientId() > before);
+    }
+
+    private long nextClientId() {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR clients_seq", Long.class);
+    }
+}
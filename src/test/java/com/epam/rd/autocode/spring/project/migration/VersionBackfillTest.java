@@ -0,0 +1,49 @@
+package com.epam.rd.autocode.spring.project.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class VersionBackfillTest {
+    private static final long LEGACY_ID = 900_000_002L;
+
+    @Autowired private VersionBackfill versionBackfill;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM clients WHERE id = ?", LEGACY_ID);
+        versionBackfill.migrate();
+    }
+
+    @Test
+    void migrate_WithLegacyRowWithoutVersion_ShouldBackfillAndTightenColumn() {
+        // Arrange
+        jdbcTemplate.execute("ALTER TABLE clients ALTER COLUMN version SET NULL");
+        jdbcTemplate.execute("ALTER TABLE clients ALTER COLUMN version DROP DEFAULT");
+        jdbcTemplate.update("INSERT INTO clients (id, balance, email, name, password) VALUES (?, 10.00, ?, 'Legacy', 'pw')",
+                LEGACY_ID, "legacy.version@example.com");
+
+        // Act
+        versionBackfill.migrate();
+
+        // Assert
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT version FROM clients WHERE id = ?", Long.class, LEGACY_ID));
+        assertEquals("NO", jdbcTemplate.queryForObject("SELECT is_nullable FROM information_schema.columns " +
+                "WHERE table_name = 'CLIENTS' AND column_name = 'VERSION'", String.class));
+    }
+
+    @Test
+    void migrate_OnStartup_ShouldDefaultVersionForRowsInsertedWithoutIt() {
+        // Act
+        jdbcTemplate.update("INSERT INTO clients (id, balance, email, name, password) VALUES (?, 10.00, ?, 'Legacy', 'pw')",
+                LEGACY_ID, "legacy.version@example.com");
+
+        // Assert
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT version FROM clients WHERE id = ?", Long.class, LEGACY_ID));
+    }
+}
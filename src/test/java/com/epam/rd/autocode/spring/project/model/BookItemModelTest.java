@@ -112,6 +112,7 @@ public class BookItemModelTest {
     @CsvSource({
             "java.lang.Long, id, 1",
             "java.lang.Integer, quantity, 1",
+            "java.math.BigDecimal, unitPrice, 1",
             "com.epam.rd.autocode.spring.project.model.Book, book, 1",
             "com.epam.rd.autocode.spring.project.model.Order, order, 1"
     })
@@ -127,6 +127,9 @@ public class BookModelTest {
             "com.epam.rd.autocode.spring.project.model.enums.AgeGroup, ageGroup, 1",
             "java.math.BigDecimal, price, 1",
             "java.time.LocalDate, publicationDate, 1",
+            "java.lang.Integer, publicationYear, 1",
+            "java.lang.Integer, stock, 1",
+            "java.lang.Long, version, 1",
             "java.lang.String, author, 1",
             "java.lang.Integer, pages, 1",
             "java.lang.String, characteristics, 1",
@@ -96,7 +96,8 @@ public class ClientModelTest {
     @DisplayName("Check field type and field name")
     @ParameterizedTest
     @CsvSource({
-            "java.math.BigDecimal, balance, 1"
+            "java.math.BigDecimal, balance, 1",
+            "java.lang.Long, version, 1"
     })
     void checkNameFieldType(String fieldType, String fieldName, long expected) {
         var count = allFields.stream()
@@ -41,37 +41,37 @@ public class Constants {
 
     static class Book {
         public static final String CLASS_NAME = "Book";
-        public static final int CLASS_COUNT_FIELDS = 11;
+        public static final int CLASS_COUNT_FIELDS = 14;
         public static final int CLASS_COUNT_CONSTRUCTORS = 2;
-        public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = CLASS_COUNT_FIELDS;
+        public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = 11;
     }
 
     static class BookItem {
         public static final String CLASS_NAME = "BookItem";
-        public static final int CLASS_COUNT_FIELDS = 4;
+        public static final int CLASS_COUNT_FIELDS = 5;
         public static final int CLASS_COUNT_CONSTRUCTORS = 2;
-        public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = CLASS_COUNT_FIELDS;
+        public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = 4;
     }
 
     static class Client {
         public static final String CLASS_NAME = "Client";
-        public static final int CLASS_COUNT_FIELDS = 1;
+        public static final int CLASS_COUNT_FIELDS = 2;
         public static final int CLASS_COUNT_CONSTRUCTORS = 2;
         public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = 5;
     }
 
     static class Employee {
         public static final String CLASS_NAME = "Employee";
-        public static final int CLASS_COUNT_FIELDS = 2;
+        public static final int CLASS_COUNT_FIELDS = 3;
         public static final int CLASS_COUNT_CONSTRUCTORS = 2;
         public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = 6;
     }
 
     static class Order {
         public static final String CLASS_NAME = "Order";
-        public static final int CLASS_COUNT_FIELDS = 6;
+        public static final int CLASS_COUNT_FIELDS = 7;
         public static final int CLASS_COUNT_CONSTRUCTORS = 2;
-        public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = CLASS_COUNT_FIELDS;
+        public static final int PARAMETERS_IN_CONSTRUCTOR_WITH_PARAMETERS = 6;
     }
 
     static class User {
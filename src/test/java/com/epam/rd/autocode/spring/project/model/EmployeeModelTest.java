@@ -103,6 +103,7 @@ public class EmployeeModelTest {
     @CsvSource({
             "java.time.LocalDate, birthDate, 1",
             "java.lang.String, phone, 1",
+            "java.lang.Long, version, 1",
     })
     void checkNameFieldType(String fieldType, String fieldName, long expected) {
         var count = allFields.stream()
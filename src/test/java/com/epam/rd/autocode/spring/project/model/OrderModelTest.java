@@ -119,6 +119,7 @@ public class OrderModelTest {
     @ParameterizedTest
     @CsvSource({
             "java.lang.Long, id, 1",
+            "java.util.UUID, publicId, 1",
             "com.epam.rd.autocode.spring.project.model.Client, client, 1",
             "com.epam.rd.autocode.spring.project.model.Employee, employee, 1",
             "java.time.LocalDateTime, orderDate, 1",
@@ -0,0 +1,136 @@
+package com.epam.rd.autocode.spring.project.ratelimit;
+
+import com.epam.rd.autocode.spring.project.conf.RateLimitSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryRateLimitStoreTest {
+
+    private static final long WINDOW_START = 1_700_000_100_000L;
+
+    @Mock private Clock clock;
+
+    private RateLimitSettings settings;
+    private RateLimitSettings.Rule rule;
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        rule = new RateLimitSettings.Rule();
+        rule.setPath("/auth/login");
+        rule.setMaxRequests(3);
+        rule.setWindow(Duration.ofMinutes(1));
+
+        settings = new RateLimitSettings();
+        settings.setMaxKeys(1_000);
+        store = new InMemoryRateLimitStore(settings, clock);
+        lenient().when(clock.millis()).thenReturn(WINDOW_START);
+    }
+
+    @Test
+    void tryAcquire_UpToLimit_ShouldAllowThenReject() {
+        // Act
+        List<RateLimitDecision> decisions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) decisions.add(store.tryAcquire("ip", rule));
+
+        // Assert
+        assertTrue(decisions.get(0).allowed());
+        assertEquals(2, decisions.get(0).remaining());
+        assertEquals(0, decisions.get(2).remaining());
+        assertFalse(decisions.get(3).allowed());
+        assertEquals(3, decisions.get(3).limit());
+    }
+
+    @Test
+    void tryAcquire_InNextWindow_ShouldWeightPreviousWindow() {
+        // Arrange
+        for (int i = 0; i < 3; i++) store.tryAcquire("ip", rule);
+
+        // Act
+        when(clock.millis()).thenReturn(WINDOW_START + 60_000);
+        RateLimitDecision atStartOfNextWindow = store.tryAcquire("ip", rule);
+        when(clock.millis()).thenReturn(WINDOW_START + 60_000 + 40_000);
+        RateLimitDecision laterInNextWindow = store.tryAcquire("ip", rule);
+
+        // Assert
+        assertFalse(atStartOfNextWindow.allowed());
+        assertTrue(laterInNextWindow.allowed());
+    }
+
+    @Test
+    void tryAcquire_AfterTwoIdleWindows_ShouldResetCounter() {
+        // Arrange
+        for (int i = 0; i < 4; i++) store.tryAcquire("ip", rule);
+
+        // Act
+        when(clock.millis()).thenReturn(WINDOW_START + 120_000);
+        RateLimitDecision decision = store.tryAcquire("ip", rule);
+
+        // Assert
+        assertTrue(decision.allowed());
+        assertEquals(2, decision.remaining());
+    }
+
+    @Test
+    void tryAcquire_DifferentKeys_ShouldBeIndependent() {
+        // Arrange
+        for (int i = 0; i < 3; i++) store.tryAcquire("first", rule);
+
+        // Act & Assert
+        assertFalse(store.tryAcquire("first", rule).allowed());
+        assertTrue(store.tryAcquire("second", rule).allowed());
+    }
+
+    @Test
+    void tryAcquire_ConcurrentRequests_ShouldNeverExceedLimit() throws Exception {
+        // Arrange
+        rule.setMaxRequests(500);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    if (store.tryAcquire("ip", rule).allowed()) allowed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertEquals(500, allowed.get());
+    }
+
+    @Test
+    void tryAcquire_ManyDistinctKeys_ShouldStayBounded() {
+        // Arrange
+        settings.setMaxKeys(100);
+        InMemoryRateLimitStore boundedStore = new InMemoryRateLimitStore(settings, clock);
+
+        // Act
+        for (int i = 0; i < 5_000; i++) boundedStore.tryAcquire("ip-" + i, rule);
+
+        // Assert
+        assertTrue(boundedStore.size() <= 100);
+    }
+}
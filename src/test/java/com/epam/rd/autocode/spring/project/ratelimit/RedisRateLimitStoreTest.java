@@ -0,0 +1,226 @@
+package com.epam.rd.autocode.spring.project.ratelimit;
+
+import com.epam.rd.autocode.spring.project.conf.RateLimitSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import redis.embedded.RedisServer;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRateLimitStoreTest {
+
+    private static final long WINDOW_START = 1_700_000_100_000L;
+    private static final long WINDOW_INDEX = WINDOW_START / 60_000;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    @Mock private StringRedisTemplate unavailableRedis;
+    @Mock private RateLimitStore fallback;
+    @Mock private Clock clock;
+
+    private RateLimitSettings settings;
+    private RateLimitSettings.Rule rule;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        rule = new RateLimitSettings.Rule();
+        rule.setPath("/auth/login");
+        rule.setMaxRequests(3);
+        rule.setWindow(Duration.ofMinutes(1));
+        settings = new RateLimitSettings();
+        lenient().when(clock.millis()).thenReturn(WINDOW_START + 30_000);
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void tryAcquire_SharedAcrossNodes_ShouldEnforceSingleLimit() {
+        // Arrange
+        RedisRateLimitStore firstNode = newStore();
+        RedisRateLimitStore secondNode = newStore();
+
+        // Act
+        RateLimitDecision first = firstNode.tryAcquire("ip", rule);
+        RateLimitDecision second = secondNode.tryAcquire("ip", rule);
+        RateLimitDecision third = firstNode.tryAcquire("ip", rule);
+        RateLimitDecision fourth = secondNode.tryAcquire("ip", rule);
+
+        // Assert
+        assertTrue(first.allowed() && second.allowed() && third.allowed());
+        assertFalse(fourth.allowed());
+        assertEquals(0, third.remaining());
+        assertEquals(30_000, fourth.resetAfterMillis());
+        assertEquals("3", redis.opsForValue().get(windowKey("ip", WINDOW_INDEX)));
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void tryAcquire_ShouldCountInCurrentWindowKeyWithTwoWindowTtl() {
+        // Act
+        newStore().tryAcquire("/auth/login:10.0.0.1", rule);
+
+        // Assert
+        String key = windowKey("/auth/login:10.0.0.1", WINDOW_INDEX);
+        assertEquals(Set.of(key), redis.keys("rate:*"));
+        assertEquals("1", redis.opsForValue().get(key));
+        long ttl = redis.getExpire(key);
+        assertTrue(ttl > 60 && ttl <= 120, "ttl was " + ttl);
+    }
+
+    @Test
+    void tryAcquire_PreviousWindow_ShouldWeighItsCountBySlidingOverlap() {
+        // Arrange
+        RedisRateLimitStore store = newStore();
+        for (int i = 0; i < 3; i++) store.tryAcquire("ip", rule);
+
+        // Act
+        when(clock.millis()).thenReturn(WINDOW_START + 60_000 + 15_000);
+        RateLimitDecision earlyInNextWindow = store.tryAcquire("ip", rule);
+        when(clock.millis()).thenReturn(WINDOW_START + 60_000 + 45_000);
+        RateLimitDecision lateInNextWindow = store.tryAcquire("ip", rule);
+
+        // Assert
+        assertFalse(earlyInNextWindow.allowed());
+        assertEquals(45_000, earlyInNextWindow.resetAfterMillis());
+        assertTrue(lateInNextWindow.allowed());
+        assertEquals(1, lateInNextWindow.remaining());
+        assertEquals("1", redis.opsForValue().get(windowKey("ip", WINDOW_INDEX + 1)));
+    }
+
+    @Test
+    void tryAcquire_WindowBeforePrevious_ShouldNotCount() {
+        // Arrange
+        RedisRateLimitStore store = newStore();
+        for (int i = 0; i < 3; i++) store.tryAcquire("ip", rule);
+
+        // Act
+        when(clock.millis()).thenReturn(WINDOW_START + 120_000);
+        RateLimitDecision decision = store.tryAcquire("ip", rule);
+
+        // Assert
+        assertTrue(decision.allowed());
+        assertEquals(2, decision.remaining());
+    }
+
+    @Test
+    void tryAcquire_HighLimit_ShouldServeLeasedPermitsLocally() {
+        // Arrange
+        rule.setMaxRequests(100);
+        RedisRateLimitStore store = newStore();
+
+        // Act
+        int allowed = 0;
+        for (int i = 0; i < 101; i++) {
+            if (store.tryAcquire("ip", rule).allowed()) allowed++;
+        }
+
+        // Assert
+        assertEquals(100, allowed);
+        assertEquals("100", redis.opsForValue().get(windowKey("ip", WINDOW_INDEX)));
+    }
+
+    @Test
+    void tryAcquire_LeaseExpiredWithWindow_ShouldGoBackToRedis() {
+        // Arrange
+        rule.setMaxRequests(100);
+        RedisRateLimitStore store = newStore();
+        store.tryAcquire("ip", rule);
+
+        // Act
+        when(clock.millis()).thenReturn(WINDOW_START + 60_000);
+        store.tryAcquire("ip", rule);
+
+        // Assert
+        assertEquals("10", redis.opsForValue().get(windowKey("ip", WINDOW_INDEX)));
+        assertEquals("10", redis.opsForValue().get(windowKey("ip", WINDOW_INDEX + 1)));
+    }
+
+    @Test
+    void tryAcquire_RedisUnavailable_ShouldFallBackAndBackOff() {
+        // Arrange
+        when(unavailableRedis.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+        when(fallback.tryAcquire("ip", rule)).thenReturn(RateLimitDecision.allowed(3, 2, 1_000));
+        RedisRateLimitStore store = new RedisRateLimitStore(unavailableRedis, fallback, settings, clock);
+
+        // Act
+        RateLimitDecision first = store.tryAcquire("ip", rule);
+        RateLimitDecision second = store.tryAcquire("ip", rule);
+
+        // Assert
+        assertTrue(first.allowed());
+        assertTrue(second.allowed());
+        verify(fallback, times(2)).tryAcquire("ip", rule);
+        verify(unavailableRedis, times(1)).execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    void tryAcquire_AfterBackoff_ShouldRetryRedis() {
+        // Arrange
+        when(unavailableRedis.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"))
+                .thenAnswer(invocation -> redis.execute(RedisRateLimitStore.SCRIPT, invocation.<List<String>>getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4), invocation.getArgument(5)));
+        RedisRateLimitStore store = new RedisRateLimitStore(unavailableRedis, fallback, settings, clock);
+        store.tryAcquire("ip", rule);
+
+        // Act
+        when(clock.millis()).thenReturn(WINDOW_START + 30_000 + settings.getFallbackBackoff().toMillis());
+        RateLimitDecision decision = store.tryAcquire("ip", rule);
+
+        // Assert
+        assertTrue(decision.allowed());
+        assertEquals("1", redis.opsForValue().get(windowKey("ip", WINDOW_INDEX)));
+    }
+
+    private RedisRateLimitStore newStore() {
+        return new RedisRateLimitStore(redis, fallback, settings, clock);
+    }
+
+    private static String windowKey(String key, long index) {
+        return RedisRateLimitStore.KEY_PREFIX + "{" + key + "}:" + index;
+    }
+}
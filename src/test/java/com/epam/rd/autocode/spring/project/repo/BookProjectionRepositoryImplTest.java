@@ -0,0 +1,95 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookProjectionRepositoryImplTest {
+
+    @Mock private EntityManager entityManager;
+    @Mock private CacheManager cacheManager;
+    @Mock private Session session;
+    @Mock private Connection connection;
+    @Mock private PreparedStatement statement;
+    @Mock private Savepoint savepoint;
+
+    private BookProjectionRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(entityManager.getDelegate()).thenReturn(session);
+        repository = new BookProjectionRepositoryImpl(entityManager, cacheManager);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.doReturningWork(any())).thenAnswer(invocation ->
+                invocation.<ReturningWork<int[]>>getArgument(0).execute(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        lenient().when(connection.setSavepoint()).thenReturn(savepoint);
+    }
+
+    @Test
+    void reserveStock_WithExactBatchCounts_ShouldRejectRowsThatWereNotUpdated() throws SQLException {
+        // Arrange
+        when(statement.executeBatch()).thenReturn(new int[]{1, 0});
+
+        // Act
+        List<Long> rejected = repository.reserveStock(Map.of(2L, 5, 1L, 3));
+
+        // Assert
+        assertEquals(List.of(2L), rejected);
+        verify(connection, never()).rollback(any(Savepoint.class));
+        verify(statement, never()).executeUpdate();
+    }
+
+    @Test
+    void reserveStock_WithoutBatchCounts_ShouldRollBackAndRecheckEachRow() throws SQLException {
+        // Arrange
+        when(statement.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        when(statement.executeUpdate()).thenReturn(0, 1);
+
+        // Act
+        List<Long> rejected = repository.reserveStock(Map.of(1L, 3, 2L, 5));
+
+        // Assert
+        assertEquals(List.of(1L), rejected);
+        InOrder inOrder = inOrder(connection, statement);
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(connection).rollback(savepoint);
+        inOrder.verify(statement, times(2)).executeUpdate();
+        inOrder.verify(connection).releaseSavepoint(savepoint);
+    }
+
+    @Test
+    void reserveStock_AfterDriverWithoutBatchCounts_ShouldSkipTheBatch() throws SQLException {
+        // Arrange
+        when(statement.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+        when(statement.executeUpdate()).thenReturn(1);
+        repository.reserveStock(Map.of(1L, 3));
+
+        // Act
+        List<Long> rejected = repository.reserveStock(Map.of(1L, 3));
+
+        // Assert
+        assertEquals(List.of(), rejected);
+        verify(statement, times(1)).executeBatch();
+        verify(connection, times(1)).setSavepoint();
+        verify(statement, times(2)).executeUpdate();
+    }
+}
@@ -0,0 +1,143 @@
+package com.epam.rd.autocode.spring.project.repo;
+
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.QBook;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.utils.BookSearchPredicateBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.epam.rd.autocode.spring.project.repo.BookQueryPlanTest$CapturingInspector")
+class BookQueryPlanTest {
+    private static final String YEAR_PRICE_INDEX = "idx_book_pub_year_price";
+    private static final String PRICE_INDEX = "idx_book_price";
+
+    @Autowired private BookRepository bookRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private DataSource dataSource;
+
+    private List<Book> books;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Book> seed = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            seed.add(new Book(null, "Plan " + i + " " + suffix, "Genre " + i % 7, AgeGroup.ADULT,
+                    new BigDecimal(5 + i % 90), LocalDate.of(1950 + i % 70, 1 + i % 12, 1), "Plan Author " + suffix,
+                    100 + i, "Paperback", "Plan description", Language.ENGLISH));
+        }
+        books = bookRepository.saveAll(seed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllInBatch(books);
+    }
+
+    @Test
+    void yearFilter_ShouldBeAnEqualityOnTheYearColumn() {
+        // Act
+        String sql = capture(BookSearchPredicateBuilder.create().withPublicationYear(Year.of(2018)).build());
+
+        // Assert
+        assertTrue(sql.contains("pub_year=?"), sql);
+        assertFalse(sql.contains("publication_year"), sql);
+    }
+
+    @Test
+    void yearFilter_ShouldUseYearPriceIndex() throws SQLException {
+        // Arrange
+        String sql = capture(BookSearchPredicateBuilder.create().withPublicationYear(Year.of(2018)).build());
+
+        // Act
+        String plan = explain(sql, 2018);
+
+        // Assert
+        assertTrue(plan.contains(YEAR_PRICE_INDEX), plan);
+    }
+
+    @Test
+    void yearAndPriceRange_ShouldUseYearPriceIndex() throws SQLException {
+        // Arrange
+        String sql = capture(BookSearchPredicateBuilder.create()
+                .withPriceRange(new BigDecimal("10"), new BigDecimal("20"))
+                .withPublicationYear(Year.of(2018))
+                .build());
+
+        // Act
+        String plan = explain(sql, new BigDecimal("10"), new BigDecimal("20"), 2018);
+
+        // Assert
+        assertTrue(plan.contains(YEAR_PRICE_INDEX), plan);
+    }
+
+    @Test
+    void priceRange_ShouldUsePriceIndex() throws SQLException {
+        // Arrange
+        String sql = capture(BookSearchPredicateBuilder.create()
+                .withPriceRange(new BigDecimal("10"), new BigDecimal("12"))
+                .build());
+
+        // Act
+        String plan = explain(sql, new BigDecimal("10"), new BigDecimal("12"));
+
+        // Assert
+        assertTrue(plan.contains(PRICE_INDEX), plan);
+    }
+
+    private String capture(Predicate predicate) {
+        QBook book = QBook.book;
+        CapturingInspector.last = null;
+        new JPAQueryFactory(entityManager).select(book.name).from(book).where(predicate).fetch();
+        assertNotNull(CapturingInspector.last);
+        return CapturingInspector.last.replaceAll("\\s+", " ").replace(" = ", "=");
+    }
+
+    private String explain(String sql, Object... parameters) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) statement.setObject(i + 1, parameters[i]);
+            try (ResultSet rows = statement.executeQuery()) {
+                int columns = rows.getMetaData().getColumnCount();
+                while (rows.next()) {
+                    for (int column = 1; column <= columns; column++) plan.append(rows.getString(column)).append(' ');
+                }
+            }
+        }
+        return plan.toString().toLowerCase(Locale.ROOT);
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        private static volatile String last;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.contains("pub_year") || sql.contains("price")) last = sql;
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.epam.rd.autocode.spring.project.repo.keyset;
+
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.Employee;
+import com.epam.rd.autocode.spring.project.model.Order;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.EmployeeRepository;
+import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class KeysetQueriesTest {
+    private static final int ORDERS = 11;
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+
+    private Client client;
+    private List<Order> orders;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        client = clientRepository.save(new Client(null, "keyset-" + suffix + "@example.com",
+                "password", "Keyset Client", new BigDecimal("1000.00")));
+        Employee first = employeeRepository.save(new Employee(null, "a-keyset-" + suffix + "@example.com",
+                "password", "Keyset Employee", "555-123-4567", LocalDate.of(1990, 1, 1)));
+        Employee second = employeeRepository.save(new Employee(null, "b-keyset-" + suffix + "@example.com",
+                "password", "Keyset Employee", "555-123-4567", LocalDate.of(1990, 1, 1)));
+
+        List<Order> seed = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Employee employee = i % 3 == 0 ? null : i % 3 == 1 ? first : second;
+            seed.add(new Order(null, employee, client, LocalDateTime.of(2024, 1, 1 + i / 2, 12, 0),
+                    new BigDecimal("10.00"), new ArrayList<>()));
+        }
+        orders = orderRepository.saveAll(seed);
+    }
+
+    @Test
+    void scrollRowsByClientEmail_ShouldWalkForwardWithoutGapsOrDuplicatesOnTiedKeys() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "orderDate"));
+        List<Long> expected = orders.stream()
+                .sorted(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId).reversed())
+                .map(Order::getId)
+                .toList();
+
+        // Act
+        List<List<Long>> pages = walkForward(pageable);
+
+        // Assert
+        assertEquals(expected, pages.stream().flatMap(List::stream).toList());
+        assertEquals(4, pages.size());
+    }
+
+    @Test
+    void scrollRowsByClientEmail_ShouldReturnSamePagesWhenWalkingBackward() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("orderDate"));
+        KeysetWindow<OrderRow> first = scroll(null, pageable);
+        KeysetWindow<OrderRow> second = scroll(first.next().encode(), pageable);
+
+        // Act
+        KeysetWindow<OrderRow> back = scroll(second.previous().encode(), pageable);
+
+        // Assert
+        assertEquals(ids(first), ids(back));
+        assertFalse(back.hasPrevious());
+        assertTrue(back.hasNext());
+        assertFalse(first.hasPrevious());
+    }
+
+    @Test
+    void scrollRowsByClientEmail_ShouldPlaceOrdersWithoutEmployeeFirstWhenSortingByNullableKey() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("employee.email"));
+
+        // Act
+        List<Long> walked = walkForward(pageable).stream().flatMap(List::stream).toList();
+
+        // Assert
+        List<Long> expected = orders.stream()
+                .sorted(Comparator.comparing((Order order) -> order.getEmployee() == null ? ""
+                        : order.getEmployee().getEmail()).thenComparing(Order::getId))
+                .map(Order::getId)
+                .toList();
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    void cursorAfterByClientEmail_ShouldContinueOffsetPageWithNextKeysetWindow() {
+        // Arrange
+        Pageable pageable = PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "orderDate"));
+        List<Long> expected = orders.stream()
+                .sorted(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId).reversed())
+                .map(Order::getId)
+                .skip(2L * PAGE_SIZE)
+                .limit(PAGE_SIZE)
+                .toList();
+
+        // Act
+        KeysetCursor cursor = orderRepository.cursorAfterByClientEmail(client.getEmail(), pageable);
+        KeysetWindow<OrderRow> next = scroll(cursor.encode(), pageable);
+
+        // Assert
+        assertFalse(cursor.backward());
+        assertEquals(expected, ids(next));
+        assertTrue(next.hasPrevious());
+    }
+
+    @Test
+    void cursorAfterByClientEmail_PastLastRow_ShouldReturnNull() {
+        // Act
+        KeysetCursor cursor = orderRepository.cursorAfterByClientEmail(client.getEmail(),
+                PageRequest.of(4, PAGE_SIZE, Sort.by("orderDate")));
+
+        // Assert
+        assertNull(cursor);
+    }
+
+    @Test
+    void of_ShouldRejectCursorIssuedForAnotherSort() {
+        // Arrange
+        KeysetWindow<OrderRow> window = scroll(null, PageRequest.of(0, PAGE_SIZE, Sort.by("orderDate")));
+        String cursor = window.next().encode();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetRequest.of(cursor, PageRequest.of(0, PAGE_SIZE, Sort.by("price"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetRequest.of("not-a-cursor", PageRequest.of(0, PAGE_SIZE, Sort.by("price"))));
+    }
+
+    private List<List<Long>> walkForward(Pageable pageable) {
+        List<List<Long>> pages = new ArrayList<>();
+        KeysetWindow<OrderRow> window = scroll(null, pageable);
+        pages.add(ids(window));
+        while (window.hasNext()) {
+            window = scroll(window.next().encode(), pageable);
+            pages.add(ids(window));
+        }
+        return pages;
+    }
+
+    private KeysetWindow<OrderRow> scroll(String cursor, Pageable pageable) {
+        return orderRepository.scrollRowsByClientEmail(client.getEmail(), KeysetRequest.of(cursor, pageable));
+    }
+
+    private List<Long> ids(KeysetWindow<OrderRow> window) {
+        return window.content().stream().map(OrderRow::id).toList();
+    }
+}
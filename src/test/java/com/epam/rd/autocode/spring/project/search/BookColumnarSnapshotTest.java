@@ -0,0 +1,135 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookColumnarSnapshotTest {
+
+    private BookColumnarSnapshot snapshot;
+    private SearchBookDTO criteria;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new BookColumnarSnapshot();
+        snapshot.putAll(List.of(
+                book("Alpha", AgeGroup.CHILD, Language.ENGLISH, "9.99", 120, 2001),
+                book("Bravo", AgeGroup.TEEN, Language.ENGLISH, "10.00", 300, 2010),
+                book("Charlie", AgeGroup.ADULT, Language.SPANISH, "25.50", 450, 2010),
+                book("Delta", AgeGroup.ADULT, Language.ENGLISH, "40.00", 80, 2020)));
+        snapshot.markReady();
+        criteria = new SearchBookDTO();
+    }
+
+    @Test
+    void find_WithEnumFilters_ShouldIntersectBitmaps() {
+        // Arrange
+        criteria.setAgeGroup(AgeGroup.ADULT);
+        criteria.setLanguage(Language.ENGLISH);
+
+        // Act
+        Page<BookDTO> result = snapshot.find(criteria, PageRequest.of(0, 10, Sort.by("name")));
+
+        // Assert
+        assertEquals(List.of("Delta"), names(result));
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void find_WithRanges_ShouldTreatBoundsAsInclusive() {
+        // Arrange
+        criteria.setMinPrice(new BigDecimal("10.00"));
+        criteria.setMaxPrice(new BigDecimal("40"));
+        criteria.setMinPages(100);
+        criteria.setPublicationYear(Year.of(2010));
+
+        // Act
+        Page<BookDTO> result = snapshot.find(criteria, PageRequest.of(0, 10, Sort.by("name")));
+
+        // Assert
+        assertEquals(List.of("Bravo", "Charlie"), names(result));
+    }
+
+    @Test
+    void find_ShouldSortByColumnsAndPage() {
+        // Act
+        Page<BookDTO> byPrice = snapshot.find(criteria, PageRequest.of(0, 2, Sort.by("price").descending()));
+        Page<BookDTO> byAgeGroupThenPages = snapshot.find(criteria,
+                PageRequest.of(1, 2, Sort.by("ageGroup").and(Sort.by("pages").descending())));
+
+        // Assert
+        assertEquals(List.of("Delta", "Charlie"), names(byPrice));
+        assertEquals(4, byPrice.getTotalElements());
+        assertEquals(List.of("Alpha", "Bravo"), names(byAgeGroupThenPages));
+    }
+
+    @Test
+    void find_SortedByName_ShouldIgnoreCase() {
+        // Arrange
+        snapshot.putAll(List.of(book("aardvark", AgeGroup.CHILD, Language.ENGLISH, "5.00", 60, 2001),
+                book("charlie jr", AgeGroup.CHILD, Language.ENGLISH, "5.00", 60, 2001)));
+
+        // Act
+        Page<BookDTO> result = snapshot.find(criteria, PageRequest.of(0, 10, Sort.by("name")));
+
+        // Assert
+        assertEquals(List.of("aardvark", "Alpha", "Bravo", "Charlie", "charlie jr", "Delta"), names(result));
+    }
+
+    @Test
+    void put_WithExistingName_ShouldUpdateColumnsAndBitmaps() {
+        // Arrange
+        snapshot.put(book("Alpha", AgeGroup.ADULT, Language.FRENCH, "99.00", 120, 2001));
+        criteria.setAgeGroup(AgeGroup.CHILD);
+
+        // Act & Assert
+        assertEquals(0, snapshot.find(criteria, PageRequest.of(0, 10)).getTotalElements());
+        criteria.setAgeGroup(null);
+        criteria.setLanguage(Language.FRENCH);
+        assertEquals(List.of("Alpha"), names(snapshot.find(criteria, PageRequest.of(0, 10))));
+        assertEquals(4, snapshot.size());
+    }
+
+    @Test
+    void remove_ShouldHideBookAndReuseSlot() {
+        // Act
+        snapshot.remove("Bravo");
+        snapshot.put(book("Echo", AgeGroup.TEEN, Language.GERMAN, "5.00", 60, 1999));
+
+        // Assert
+        Page<BookDTO> result = snapshot.find(criteria, PageRequest.of(0, 10, Sort.by("name")));
+        assertEquals(List.of("Alpha", "Charlie", "Delta", "Echo"), names(result));
+    }
+
+    @Test
+    void supports_ShouldRejectTextCriteriaUnknownSortsAndColdSnapshot() {
+        // Act & Assert
+        assertTrue(snapshot.supports(criteria, Sort.by("publicationDate")));
+        assertFalse(snapshot.supports(criteria, Sort.by("description")));
+        criteria.setAuthor("Someone");
+        assertFalse(snapshot.supports(criteria, Sort.unsorted()));
+        snapshot.clear();
+        assertFalse(snapshot.supports(new SearchBookDTO(), Sort.unsorted()));
+    }
+
+    private static List<String> names(Page<BookDTO> page) {
+        return page.getContent().stream().map(BookDTO::getName).toList();
+    }
+
+    private static Book book(String name, AgeGroup ageGroup, Language language, String price, int pages, int year) {
+        return new Book(null, name, "Fantasy", ageGroup, new BigDecimal(price), LocalDate.of(year, 3, 1),
+                "Author", pages, "Hardcover", "Description", language);
+    }
+}
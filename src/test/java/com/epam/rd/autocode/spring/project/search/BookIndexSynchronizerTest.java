@@ -0,0 +1,106 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.model.enums.SuggestionType;
+import com.epam.rd.autocode.spring.project.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BookIndexSynchronizerTest {
+
+    @Autowired private BookService bookService;
+    @Autowired private BookSearchIndex searchIndex;
+    @Autowired private BookSuggestionIndex suggestionIndex;
+
+    private String marker;
+
+    @BeforeEach
+    void setUp() {
+        marker = "zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+    }
+
+    @Test
+    void addBook_ShouldBeSearchableByRelevance() {
+        // Arrange
+        bookService.addBook(book("Indexed " + marker, "Lighthouse keeper stories"));
+
+        // Act
+        Page<BookDTO> result = bookService.getAllBooksWithSearchCondition(query(marker), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Indexed " + marker, result.getContent().get(0).getName());
+    }
+
+    @Test
+    void updateBookByName_WithRename_ShouldReplaceIndexedName() {
+        // Arrange
+        String original = "Original " + marker;
+        bookService.addBook(book(original, "Before the rename"));
+
+        // Act
+        bookService.updateBookByName(original, book("Renamed " + marker, "After the rename"), null);
+
+        // Assert
+        assertEquals(List.of("Renamed " + marker), searchIndex.search(marker));
+        assertEquals(List.of(new BookSuggestion("Renamed " + marker, SuggestionType.TITLE)),
+                suggestionIndex.suggest("renamed " + marker, 10));
+        assertTrue(suggestionIndex.suggest("original " + marker, 10).isEmpty());
+    }
+
+    @Test
+    void deleteBookByName_ShouldRemoveFromIndex() {
+        // Arrange
+        String name = "Removed " + marker;
+        bookService.addBook(book(name, "Soon to be removed"));
+
+        // Act
+        bookService.deleteBookByName(name);
+
+        // Assert
+        assertTrue(searchIndex.search(marker).isEmpty());
+        assertTrue(suggestionIndex.suggest(marker, 10).isEmpty());
+    }
+
+    @Test
+    void relevanceSearch_WithStructuredFilters_ShouldApplyBoth() {
+        // Arrange
+        bookService.addBook(book("Cheap " + marker, "Budget edition"));
+        BookDTO expensive = book("Pricey " + marker, "Collector edition");
+        expensive.setPrice(new BigDecimal("99.00"));
+        bookService.addBook(expensive);
+        SearchBookDTO criteria = query(marker);
+        criteria.setMinPrice(new BigDecimal("50.00"));
+
+        // Act
+        Page<BookDTO> result = bookService.getAllBooksWithSearchCondition(criteria, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Pricey " + marker, result.getContent().get(0).getName());
+    }
+
+    private static SearchBookDTO query(String text) {
+        SearchBookDTO criteria = new SearchBookDTO();
+        criteria.setQuery(text);
+        return criteria;
+    }
+
+    private static BookDTO book(String name, String description) {
+        return new BookDTO(name, "Fantasy", AgeGroup.ADULT, new BigDecimal("12.00"), LocalDate.of(2021, 1, 1),
+                "Index Author", 120, "Paperback", description, Language.ENGLISH);
+    }
+}
@@ -0,0 +1,105 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new BookSearchIndex(new SearchSettings());
+        index.indexAll(List.of(
+                book("The Great Adventure", "John Adventure", "Fantasy", "A journey across the sea"),
+                book("Learning Python Programming", "Tech Expert", "Technical", "Comprehensive guide to Python"),
+                book("Sea Stories", "Mary Shore", "Adventure", "Short tales about sailors"),
+                book("Quiet Garden", "Ann Bloom", "Poetry", "Poems about an adventure in the garden")));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.destroy();
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        // Act
+        List<String> result = index.search("adventure");
+
+        // Assert
+        assertEquals(List.of("The Great Adventure", "Sea Stories", "Quiet Garden"), result);
+    }
+
+    @Test
+    void search_WithPrefix_ShouldMatchWholeTerms() {
+        // Act
+        List<String> result = index.search("pyth");
+
+        // Assert
+        assertEquals(List.of("Learning Python Programming"), result);
+    }
+
+    @Test
+    void search_WithTypo_ShouldUseFuzzyMatching() {
+        // Act
+        List<String> result = index.search("progamming");
+
+        // Assert
+        assertEquals(List.of("Learning Python Programming"), result);
+    }
+
+    @Test
+    void search_WithSeveralTerms_ShouldRequireEveryTerm() {
+        // Act
+        List<String> result = index.search("sea sailors");
+
+        // Assert
+        assertEquals(List.of("Sea Stories"), result);
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnNothing() {
+        // Act & Assert
+        assertTrue(index.search("  ").isEmpty());
+        assertTrue(index.search(null).isEmpty());
+    }
+
+    @Test
+    void index_WithSameName_ShouldReplaceDocument() {
+        // Arrange
+        index.index(book("Sea Stories", "Mary Shore", "Drama", "Letters from a lighthouse"));
+
+        // Act & Assert
+        assertTrue(index.search("sailors").isEmpty());
+        assertEquals(List.of("Sea Stories"), index.search("lighthouse"));
+    }
+
+    @Test
+    void remove_ShouldDropBookFromResults() {
+        // Arrange
+        index.remove("The Great Adventure");
+
+        // Act
+        List<String> result = index.search("adventure");
+
+        // Assert
+        assertFalse(result.contains("The Great Adventure"));
+        assertEquals(2, result.size());
+    }
+
+    private static Book book(String name, String author, String genre, String description) {
+        return new Book(null, name, genre, AgeGroup.ADULT, new BigDecimal("10.00"), LocalDate.of(2020, 1, 1),
+                author, 100, "Hardcover", description, Language.ENGLISH);
+    }
+}
@@ -0,0 +1,105 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.BookStoreServiceSolutionApplication;
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.utils.BookSearchPredicateBuilder;
+import com.querydsl.core.types.Predicate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookSnapshotBenchmark {
+
+    @Param({"1000", "20000"})
+    private int books;
+
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private BookColumnarSnapshot snapshot;
+    private TransactionTemplate transactionTemplate;
+    private SearchBookDTO criteria;
+    private Predicate predicate;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookStoreServiceSolutionApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:books_snapshot",
+                        "--spring.cache.type=none",
+                        "--spring.jpa.show-sql=false",
+                        "--search.snapshot-enabled=true",
+                        "--logging.level.root=WARN");
+        bookRepository = context.getBean(BookRepository.class);
+        snapshot = context.getBean(BookColumnarSnapshot.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionTemplate.setReadOnly(true);
+
+        AgeGroup[] ageGroups = AgeGroup.values();
+        Language[] languages = Language.values();
+        bookRepository.saveAll(IntStream.range(0, books)
+                .mapToObj(i -> new Book(null, "Snapshot Book " + i, "Fantasy", ageGroups[i % ageGroups.length],
+                        new BigDecimal(5 + i % 95 + ".99"), LocalDate.of(1970 + i % 50, 1 + i % 12, 1),
+                        "Snapshot Author", 50 + i % 900, "Hardcover", "Snapshot description",
+                        languages[i % languages.length]))
+                .toList());
+        context.getBean(BookIndexSynchronizer.class).rebuild();
+
+        criteria = new SearchBookDTO();
+        criteria.setLanguage(Language.ENGLISH);
+        criteria.setMinPrice(new BigDecimal("20"));
+        criteria.setMaxPrice(new BigDecimal("60"));
+        criteria.setMaxPages(700);
+        predicate = BookSearchPredicateBuilder.create()
+                .withLanguage(criteria.getLanguage())
+                .withPriceRange(criteria.getMinPrice(), criteria.getMaxPrice())
+                .withPageRange(criteria.getMinPages(), criteria.getMaxPages())
+                .build();
+        pageable = PageRequest.of(1, 20, Sort.by("price").descending().and(Sort.by("name")));
+    }
+
+    @Benchmark
+    public Page<BookDTO> querydsl() {
+        return transactionTemplate.execute(status -> bookRepository.findAllAsDto(predicate, pageable));
+    }
+
+    @Benchmark
+    public Page<BookDTO> snapshot() {
+        return snapshot.find(criteria, pageable);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookSnapshotBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.utils.BookSearchPredicateBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "search.snapshot-enabled=true")
+class BookSnapshotParityTest {
+
+    @Autowired private BookColumnarSnapshot snapshot;
+    @Autowired private BookIndexSynchronizer synchronizer;
+    @Autowired private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        AgeGroup[] ageGroups = AgeGroup.values();
+        Language[] languages = Language.values();
+        bookRepository.saveAll(IntStream.range(0, 40)
+                .mapToObj(i -> new Book(null, "Parity " + suffix + " " + i, "Fantasy", ageGroups[i % ageGroups.length],
+                        new BigDecimal(5 + (i * 7) % 60 + ".50"), LocalDate.of(1990 + i % 30, 1 + i % 12, 1),
+                        "Parity Author", 50 + (i * 37) % 600, "Hardcover", "Parity description",
+                        languages[i % languages.length]))
+                .toList());
+        synchronizer.rebuild();
+    }
+
+    @Test
+    void find_ShouldMatchQuerydslResults() {
+        // Arrange
+        SearchBookDTO adults = new SearchBookDTO();
+        adults.setAgeGroup(AgeGroup.ADULT);
+        SearchBookDTO ranges = new SearchBookDTO();
+        ranges.setMinPrice(new BigDecimal("20.50"));
+        ranges.setMaxPrice(new BigDecimal("45.50"));
+        ranges.setMaxPages(400);
+        SearchBookDTO year = new SearchBookDTO();
+        year.setPublicationYear(Year.of(2005));
+        year.setLanguage(Language.ENGLISH);
+        List<Pageable> pageables = List.of(
+                PageRequest.of(0, 20, Sort.by("name")),
+                PageRequest.of(1, 7, Sort.by("price").descending().and(Sort.by("name"))),
+                PageRequest.of(0, 15, Sort.by("ageGroup").and(Sort.by("pages")).and(Sort.by("name"))),
+                PageRequest.of(2, 5, Sort.by("publicationDate").descending().and(Sort.by("name"))));
+
+        // Act & Assert
+        for (SearchBookDTO criteria : List.of(new SearchBookDTO(), adults, ranges, year)) {
+            assertTrue(snapshot.supports(criteria, Sort.by("name")));
+            for (Pageable pageable : pageables) {
+                Page<BookDTO> expected = bookRepository.findAllAsDto(BookSearchPredicateBuilder.create()
+                        .withAgeGroup(criteria.getAgeGroup())
+                        .withLanguage(criteria.getLanguage())
+                        .withPriceRange(criteria.getMinPrice(), criteria.getMaxPrice())
+                        .withPageRange(criteria.getMinPages(), criteria.getMaxPages())
+                        .withPublicationYear(criteria.getPublicationYear())
+                        .build(), pageable);
+                Page<BookDTO> actual = snapshot.find(criteria, pageable);
+                assertEquals(expected.getTotalElements(), actual.getTotalElements(), criteria + " " + pageable);
+                assertEquals(expected.getContent(), actual.getContent(), criteria + " " + pageable);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookSuggestionBenchmark {
+    private static final String[] WORDS = {"adventure", "python", "garden", "mystery", "ocean", "history",
+            "dragon", "kitchen", "river", "winter", "galaxy", "secret", "forest", "empire", "machine"};
+
+    @Param({"10000", "100000"})
+    private int books;
+
+    @Param({"a", "pyth", "secret gar"})
+    private String prefix;
+
+    private BookSuggestionIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SearchSettings settings = new SearchSettings();
+        settings.setSuggestMaxEntries(Integer.MAX_VALUE);
+        index = new BookSuggestionIndex(settings);
+        for (int i = 0; i < books; i++) {
+            String name = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+            index.add(new Book(null, name, "Fantasy", AgeGroup.ADULT, new BigDecimal("10.00"),
+                    LocalDate.of(2020, 1, 1), "Author " + (i % 500), 100, "Hardcover", "Description",
+                    Language.ENGLISH));
+        }
+    }
+
+    @Benchmark
+    public List<BookSuggestion> suggest() {
+        return index.suggest(prefix, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookSuggestionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
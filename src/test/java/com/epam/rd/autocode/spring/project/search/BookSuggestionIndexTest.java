@@ -0,0 +1,94 @@
+package com.epam.rd.autocode.spring.project.search;
+
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import static com.epam.rd.autocode.spring.project.model.enums.SuggestionType.AUTHOR;
+import static com.epam.rd.autocode.spring.project.model.enums.SuggestionType.TITLE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookSuggestionIndexTest {
+
+    private SearchSettings settings;
+    private BookSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        settings = new SearchSettings();
+        index = new BookSuggestionIndex(settings);
+        index.add(book("The Great Adventure", "John Adventure"));
+        index.add(book("Learning Python Programming", "Tech Expert"));
+        index.add(book("Python Tricks", "Tech Expert"));
+    }
+
+    @Test
+    void suggest_ShouldMatchStartOfAnyWordCaseInsensitively() {
+        // Act
+        List<BookSuggestion> result = index.suggest("ADV", 10);
+
+        // Assert
+        assertEquals(List.of(new BookSuggestion("John Adventure", AUTHOR),
+                new BookSuggestion("The Great Adventure", TITLE)), result);
+    }
+
+    @Test
+    void suggest_ShouldMatchMultiWordPrefix() {
+        // Act & Assert
+        assertEquals(List.of(new BookSuggestion("The Great Adventure", TITLE)), index.suggest("great adv", 10));
+    }
+
+    @Test
+    void suggest_ShouldStopAtLimitAndDeduplicate() {
+        // Act & Assert
+        assertEquals(1, index.suggest("tech", 10).size());
+        assertEquals(1, index.suggest("p", 1).size());
+        assertTrue(index.suggest(" ", 10).isEmpty());
+    }
+
+    @Test
+    void remove_ShouldKeepSharedAuthorUntilLastBookIsGone() {
+        // Act
+        index.remove("Python Tricks");
+
+        // Assert
+        assertEquals(List.of(new BookSuggestion("Tech Expert", AUTHOR)), index.suggest("tech", 10));
+        index.remove("Learning Python Programming");
+        assertTrue(index.suggest("tech", 10).isEmpty());
+        assertTrue(index.suggest("python", 10).isEmpty());
+    }
+
+    @Test
+    void add_WithExistingTitle_ShouldReplaceAuthor() {
+        // Act
+        index.add(book("Python Tricks", "Dan Bader"));
+        index.remove("Learning Python Programming");
+
+        // Assert
+        assertTrue(index.suggest("tech", 10).isEmpty());
+        assertEquals(List.of(new BookSuggestion("Dan Bader", AUTHOR)), index.suggest("bader", 10));
+    }
+
+    @Test
+    void add_WhenIndexIsFull_ShouldSkipNewEntries() {
+        // Arrange
+        settings.setSuggestMaxEntries(index.size() + 1);
+
+        // Act
+        index.add(book("Brand New Title", "Tech Expert"));
+
+        // Assert
+        assertTrue(index.suggest("brand", 10).isEmpty());
+        assertTrue(index.size() <= settings.getSuggestMaxEntries());
+    }
+
+    private static Book book(String name, String author) {
+        return new Book(null, name, "Fantasy", AgeGroup.ADULT, new BigDecimal("10.00"), LocalDate.of(2020, 1, 1),
+                author, 100, "Hardcover", "Description", Language.ENGLISH);
+    }
+}
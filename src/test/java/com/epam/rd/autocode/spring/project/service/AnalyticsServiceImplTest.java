@@ -0,0 +1,77 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.analytics.SalesRollupUpdater;
+import com.epam.rd.autocode.spring.project.conf.AnalyticsSettings;
+import com.epam.rd.autocode.spring.project.mappers.SalesMapper;
+import com.epam.rd.autocode.spring.project.repo.BookDailySalesRepository;
+import com.epam.rd.autocode.spring.project.repo.GenreDailySalesRepository;
+import com.epam.rd.autocode.spring.project.service.impl.AnalyticsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceImplTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+
+    @Mock private BookDailySalesRepository bookSalesRepository;
+    @Mock private GenreDailySalesRepository genreSalesRepository;
+    @Mock private SalesMapper salesMapper;
+    @Mock private SalesRollupUpdater rollupUpdater;
+
+    private AnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        AnalyticsSettings settings = new AnalyticsSettings();
+        settings.setMaxRangeDays(31);
+        analyticsService = new AnalyticsServiceImpl(bookSalesRepository, genreSalesRepository, salesMapper,
+                rollupUpdater, settings);
+    }
+
+    @Test
+    void getBookSales_WithRangeWithinLimit_ShouldQueryRollups() {
+        // Arrange
+        when(bookSalesRepository.findAllBySalesDateBetweenOrderBySalesDateAscRevenueDescBookIdAsc(DAY, DAY.plusDays(30)))
+                .thenReturn(List.of());
+
+        // Act
+        analyticsService.getBookSales(DAY, DAY.plusDays(30));
+
+        // Assert
+        verify(bookSalesRepository).findAllBySalesDateBetweenOrderBySalesDateAscRevenueDescBookIdAsc(DAY, DAY.plusDays(30));
+    }
+
+    @Test
+    void getGenreSales_WithInvertedRange_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> analyticsService.getGenreSales(DAY.plusDays(1), DAY));
+        assertEquals("Analytics range start must not be after its end", exception.getMessage());
+        verifyNoInteractions(genreSalesRepository);
+    }
+
+    @Test
+    void getDailySales_WithTooLongRange_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> analyticsService.getDailySales(DAY, DAY.plusDays(31)));
+        assertEquals("Analytics range must not exceed 31 days", exception.getMessage());
+        verifyNoInteractions(genreSalesRepository);
+    }
+
+    @Test
+    void rebuild_ShouldDelegateToRollupUpdater() {
+        // Act
+        analyticsService.rebuild();
+
+        // Assert
+        verify(rollupUpdater).rebuild();
+    }
+}
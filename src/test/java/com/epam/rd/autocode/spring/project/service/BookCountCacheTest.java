@@ -0,0 +1,103 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookCountCacheTest {
+    private static final int BOOKS = 7;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired private BookService bookService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String author;
+    private SearchBookDTO criteria;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        author = "Counted Author " + suffix;
+        bookRepository.saveAll(IntStream.range(0, BOOKS)
+                .mapToObj(i -> new Book(null, "Counted Book " + suffix + " " + i, "Fantasy", AgeGroup.ADULT,
+                        new BigDecimal("10.00"), LocalDate.of(2020, 1, 1), author, 100,
+                        "Hardcover", "Counted description", Language.ENGLISH))
+                .toList());
+        criteria = new SearchBookDTO();
+        criteria.setAuthor(author);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void searchPages_WithSameCriteria_ShouldCountOnce() {
+        // Act
+        Page<BookDTO> first = bookService.getAllBooksWithSearchCondition(criteria, page(0));
+        long afterFirstPage = statistics.getPrepareStatementCount();
+        Page<BookDTO> second = bookService.getAllBooksWithSearchCondition(criteria, page(1));
+        long secondPageStatements = statistics.getPrepareStatementCount() - afterFirstPage;
+
+        // Assert
+        assertEquals(2, afterFirstPage);
+        assertEquals(1, secondPageStatements);
+        assertEquals(BOOKS, first.getTotalElements());
+        assertEquals(BOOKS, second.getTotalElements());
+    }
+
+    @Test
+    void searchPages_AfterBookAdded_ShouldRecount() {
+        // Arrange
+        bookService.getAllBooksWithSearchCondition(criteria, page(0));
+        BookDTO added = new BookDTO("Counted Book " + UUID.randomUUID(), "Fantasy", AgeGroup.ADULT,
+                new BigDecimal("12.00"), LocalDate.of(2021, 1, 1), author, 120,
+                "Paperback", "Added description", Language.ENGLISH);
+        bookService.addBook(added);
+
+        // Act
+        Page<BookDTO> result = bookService.getAllBooksWithSearchCondition(criteria, page(1));
+
+        // Assert
+        assertEquals(BOOKS + 1, result.getTotalElements());
+    }
+
+    @Test
+    void searchSlice_ShouldSkipCountQuery() {
+        // Act
+        Slice<BookDTO> slice = bookService.getBookSliceWithSearchCondition(criteria, page(3));
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+        assertTrue(slice.hasPrevious());
+    }
+
+    private PageRequest page(int number) {
+        return PageRequest.of(number, PAGE_SIZE, Sort.by("name"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookFacetsDTO;
+import com.epam.rd.autocode.spring.project.dto.PriceBucketDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookFacetsTest {
+
+    @Autowired private BookService bookService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String suffix;
+    private SearchBookDTO criteria;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        bookRepository.saveAll(List.of(
+                book("A", "Fantasy", Language.ENGLISH, AgeGroup.CHILD, "5.00", 1995),
+                book("B", "Fantasy", Language.ENGLISH, AgeGroup.ADULT, "15.00", 1999),
+                book("C", "Fantasy", Language.SPANISH, AgeGroup.ADULT, "15.00", 2003),
+                book("D", "Mystery", Language.ENGLISH, AgeGroup.TEEN, "45.00", 2011),
+                book("E", "Poetry", Language.FRENCH, AgeGroup.ADULT, "150.00", 2020)));
+        criteria = new SearchBookDTO();
+        criteria.setAuthor("Facet Author " + suffix);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getFacets_ShouldCountEveryDimensionInOneQuery() {
+        // Act
+        BookFacetsDTO facets = bookService.getFacets(criteria);
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(5, facets.getTotalCount());
+        assertEquals(List.of("Fantasy", "Mystery", "Poetry"), List.copyOf(facets.getGenre().keySet()));
+        assertEquals(3L, facets.getGenre().get("Fantasy"));
+        assertEquals(Map.of(Language.ENGLISH, 3L, Language.SPANISH, 1L, Language.FRENCH, 1L), facets.getLanguage());
+        assertEquals(Map.of(AgeGroup.CHILD, 1L, AgeGroup.TEEN, 1L, AgeGroup.ADULT, 3L), facets.getAgeGroup());
+        assertEquals(Map.of(1990, 2L, 2000, 1L, 2010, 1L, 2020, 1L), facets.getPublicationDecade());
+        assertEquals(List.of(
+                new PriceBucketDTO(null, new BigDecimal("10"), 1),
+                new PriceBucketDTO(new BigDecimal("10"), new BigDecimal("20"), 2),
+                new PriceBucketDTO(new BigDecimal("20"), new BigDecimal("50"), 1),
+                new PriceBucketDTO(new BigDecimal("50"), new BigDecimal("100"), 0),
+                new PriceBucketDTO(new BigDecimal("100"), null, 1)), facets.getPrice());
+    }
+
+    @Test
+    void getFacets_WithNarrowerPredicate_ShouldCountOnlyMatchingBooks() {
+        // Arrange
+        criteria.setLanguage(Language.ENGLISH);
+
+        // Act
+        BookFacetsDTO facets = bookService.getFacets(criteria);
+
+        // Assert
+        assertEquals(3, facets.getTotalCount());
+        assertEquals(Map.of(Language.ENGLISH, 3L), facets.getLanguage());
+    }
+
+    @Test
+    void getFacets_SamePredicate_ShouldBeServedFromCacheUntilCatalogChanges() {
+        // Arrange
+        bookService.getFacets(criteria);
+        SearchBookDTO sameCriteria = new SearchBookDTO();
+        sameCriteria.setAuthor("FACET AUTHOR " + suffix);
+        statistics.clear();
+
+        // Act
+        BookFacetsDTO cached = bookService.getFacets(sameCriteria);
+        long cachedStatements = statistics.getPrepareStatementCount();
+        bookService.addBook(new BookDTO("Facet Added " + suffix, "Poetry", AgeGroup.ADULT, new BigDecimal("12.00"),
+                LocalDate.of(2021, 1, 1), "Facet Author " + suffix, 100, "Paperback", "Added", Language.ENGLISH));
+        BookFacetsDTO recounted = bookService.getFacets(criteria);
+
+        // Assert
+        assertEquals(0, cachedStatements);
+        assertEquals(5, cached.getTotalCount());
+        assertEquals(6, recounted.getTotalCount());
+    }
+
+    private Book book(String name, String genre, Language language, AgeGroup ageGroup, String price, int year) {
+        return new Book(null, "Facet " + name + " " + suffix, genre, ageGroup, new BigDecimal(price),
+                LocalDate.of(year, 6, 1), "Facet Author " + suffix, 100, "Hardcover", "Facet description", language);
+    }
+}
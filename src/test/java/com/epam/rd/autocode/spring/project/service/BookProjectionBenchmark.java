@@ -0,0 +1,91 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.BookStoreServiceSolutionApplication;
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.mappers.BookMapper;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookProjectionBenchmark {
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private BookMapper bookMapper;
+    private TransactionTemplate transactionTemplate;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookStoreServiceSolutionApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:books_projection",
+                        "spring.cache.type=none",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        bookRepository = context.getBean(BookRepository.class);
+        bookMapper = context.getBean(BookMapper.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionTemplate.setReadOnly(true);
+
+        bookRepository.saveAll(IntStream.range(0, 1000)
+                .mapToObj(i -> new Book(null, "Projection Book " + i, "Fantasy", AgeGroup.ADULT,
+                        new BigDecimal("10.00"), LocalDate.of(2020, 1, 1), "Projection Author", 100,
+                        "Hardcover", "Projection description", Language.ENGLISH))
+                .toList());
+        pageable = PageRequest.of(0, pageSize, Sort.by("name"));
+    }
+
+    @Benchmark
+    public Page<BookDTO> entityThenMapper() {
+        return transactionTemplate.execute(status -> bookRepository.findAll(pageable).map(bookMapper::toDto));
+    }
+
+    @Benchmark
+    public Page<BookDTO> constructorProjection() {
+        return transactionTemplate.execute(status -> bookRepository.findAllAsDto(pageable));
+    }
+
+    @Benchmark
+    public Page<BookDTO> querydslProjection() {
+        return transactionTemplate.execute(status -> bookRepository.findAllAsDto(null, pageable));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookProjectionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,182 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.conf.CacheConfig;
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.utils.BookSearchKey;
+import com.querydsl.core.types.Predicate;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Optional;
+import static com.epam.rd.autocode.spring.project.testdata.BookData.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class BookServiceCachingTest {
+
+    @Autowired private BookService bookService;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockBean private BookRepository bookRepository;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        book = getBookEntity();
+        when(bookRepository.findByName(book.getName())).thenReturn(Optional.of(book));
+    }
+
+    @Test
+    void getBookByName_CalledTwice_ShouldHitRepositoryOnce() {
+        // Act
+        BookDTO first = bookService.getBookByName(book.getName());
+        BookDTO second = bookService.getBookByName(book.getName());
+
+        // Assert
+        assertEquals(first, second);
+        verify(bookRepository, times(1)).findByName(book.getName());
+    }
+
+    @Test
+    void getAllBooks_SamePageTwice_ShouldHitRepositoryOnce() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(bookRepository.findAllAsDto(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(getBookDTO())));
+
+        // Act
+        bookService.getAllBooks(pageable);
+        bookService.getAllBooks(pageable);
+        bookService.getAllBooks(PageRequest.of(1, 10));
+
+        // Assert
+        verify(bookRepository, times(2)).findAllAsDto(any(Pageable.class));
+    }
+
+    @Test
+    void getAllBooksWithSearchCondition_SameCriteria_ShouldHitRepositoryOnce() {
+        // Arrange
+        SearchBookDTO criteria = new SearchBookDTO();
+        criteria.setAuthor(book.getAuthor());
+        when(bookRepository.findAllAsDto(any(Predicate.class), any(Pageable.class), any(BookSearchKey.class))).thenReturn(new PageImpl<>(List.of(getBookDTO())));
+
+        // Act
+        bookService.getAllBooksWithSearchCondition(criteria, PageRequest.of(0, 10));
+        bookService.getAllBooksWithSearchCondition(criteria, PageRequest.of(0, 10));
+
+        // Assert
+        verify(bookRepository, times(1)).findAllAsDto(any(Predicate.class), any(Pageable.class), any(BookSearchKey.class));
+    }
+
+    @Test
+    void updateBookByName_ShouldEvictBookAndListings() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(bookRepository.findAllAsDto(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(getBookDTO())));
+        when(bookRepository.save(any(Book.class))).thenReturn(book);
+        bookService.getBookByName(book.getName());
+        bookService.getAllBooks(pageable);
+
+        // Act
+        bookService.updateBookByName(book.getName(), getBookDTO(), null);
+        bookService.getBookByName(book.getName());
+        bookService.getAllBooks(pageable);
+
+        // Assert
+        verify(bookRepository, times(3)).findByName(book.getName());
+        verify(bookRepository, times(2)).findAllAsDto(any(Pageable.class));
+    }
+
+    @Test
+    void updateBookByName_InsideTransaction_ShouldEvictOnlyAfterCommit() {
+        // Arrange
+        when(bookRepository.save(any(Book.class))).thenReturn(book);
+        bookService.getBookByName(book.getName());
+
+        // Act
+        boolean cachedBeforeCommit = transactionTemplate.execute(status -> {
+            bookService.updateBookByName(book.getName(), getBookDTO(), null);
+            return cacheManager.getCache(CacheConfig.BOOKS).get(book.getName()) != null;
+        });
+
+        // Assert
+        assertTrue(cachedBeforeCommit);
+        assertNull(cacheManager.getCache(CacheConfig.BOOKS).get(book.getName()));
+    }
+
+    @Test
+    void updateBookByName_RolledBack_ShouldKeepCachedBook() {
+        // Arrange
+        when(bookRepository.save(any(Book.class))).thenReturn(book);
+        bookService.getBookByName(book.getName());
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.updateBookByName(book.getName(), getBookDTO(), null);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertNotNull(cacheManager.getCache(CacheConfig.BOOKS).get(book.getName()));
+    }
+
+    @Test
+    void deleteBookByName_ShouldEvictBook() {
+        // Arrange
+        bookService.getBookByName(book.getName());
+
+        // Act
+        bookService.deleteBookByName(book.getName());
+        bookService.getBookByName(book.getName());
+
+        // Assert
+        verify(bookRepository, times(2)).findByName(book.getName());
+    }
+
+    @Test
+    void addBook_ShouldEvictListingsButKeepOtherBooks() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(bookRepository.findAllAsDto(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(getBookDTO())));
+        when(bookRepository.save(any(Book.class))).thenReturn(book);
+        bookService.getBookByName(book.getName());
+        bookService.getAllBooks(pageable);
+
+        // Act
+        bookService.addBook(getBookDTO());
+        bookService.getBookByName(book.getName());
+        bookService.getAllBooks(pageable);
+
+        // Assert
+        verify(bookRepository, times(1)).findByName(book.getName());
+        verify(bookRepository, times(2)).findAllAsDto(any(Pageable.class));
+    }
+
+    @Test
+    void cacheMetrics_ShouldBeRegistered() {
+        // Act
+        bookService.getBookByName(book.getName());
+        bookService.getBookByName(book.getName());
+
+        // Assert
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CacheConfig.BOOKS).tag("result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", CacheConfig.BOOKS).functionCounter());
+    }
+}
@@ -1,16 +1,30 @@
 package com.epam.rd.autocode.spring.project.service;
 
 import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.BookFacetsDTO;
 import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
 import com.epam.rd.autocode.spring.project.exception.AlreadyExistException;
 import com.epam.rd.autocode.spring.project.exception.NotFoundException;
+import com.epam.rd.autocode.spring.project.exception.StaleVersionException;
 import com.epam.rd.autocode.spring.project.mappers.BookMapper;
 import com.epam.rd.autocode.spring.project.model.Book;
 import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
 import com.epam.rd.autocode.spring.project.model.enums.Language;
 import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.search.BookCatalogChangedEvent;
+import com.epam.rd.autocode.spring.project.search.BookColumnarSnapshot;
+import com.epam.rd.autocode.spring.project.search.BookSearchIndex;
+import com.epam.rd.autocode.spring.project.search.BookSuggestion;
+import com.epam.rd.autocode.spring.project.search.BookSuggestionIndex;
+import com.epam.rd.autocode.spring.project.conf.SearchSettings;
+import com.epam.rd.autocode.spring.project.dto.SuggestionDTO;
+import com.epam.rd.autocode.spring.project.model.enums.SuggestionType;
 import com.epam.rd.autocode.spring.project.service.impl.BookServiceImpl;
+import com.epam.rd.autocode.spring.project.utils.BookSearchKey;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +32,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import java.math.BigDecimal;
@@ -36,6 +51,11 @@ public class BookServiceImplTest {
     @Mock private BookRepository bookRepository;
     @Mock private BookMapper bookMapper;
     @Mock private SortMappingService sortMappingService;
+    @Mock private BookSearchIndex searchIndex;
+    @Mock private BookSuggestionIndex suggestionIndex;
+    @Mock private BookColumnarSnapshot snapshot;
+    @Mock private SearchSettings searchSettings;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BookServiceImpl bookService;
@@ -55,14 +75,10 @@ public class BookServiceImplTest {
 
     private void mockPageableBookOperations(Pageable pageable, Pageable mappedPageable,
                                             List<Book> bookList, List<BookDTO> bookDTOList) {
-        Page<Book> bookPage = new PageImpl<>(bookList, mappedPageable, bookList.size());
+        Page<BookDTO> bookPage = new PageImpl<>(bookDTOList, mappedPageable, bookList.size());
 
         when(sortMappingService.applyMappings(pageable, "book")).thenReturn(mappedPageable);
-        when(bookRepository.findAll(mappedPageable)).thenReturn(bookPage);
-
-        for (int i = 0; i < bookList.size(); i++) {
-            when(bookMapper.toDto(bookList.get(i))).thenReturn(bookDTOList.get(i));
-        }
+        when(bookRepository.findAllAsDto(mappedPageable)).thenReturn(bookPage);
     }
 
     private void mockSimpleBookListOperations(List<Book> bookList, List<BookDTO> bookDTOList) {
@@ -73,20 +89,18 @@ public class BookServiceImplTest {
     }
 
     private void mockEmptyPageableRepository(Pageable pageable, Pageable mappedPageable) {
-        Page<Book> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
+        Page<BookDTO> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
         when(sortMappingService.applyMappings(pageable, "book")).thenReturn(mappedPageable);
-        when(bookRepository.findAll(mappedPageable)).thenReturn(emptyPage);
+        when(bookRepository.findAllAsDto(mappedPageable)).thenReturn(emptyPage);
     }
 
     private void mockSuccessfulBookUpdate(String bookName, BookDTO updateData, Book updatedBook) {
         when(bookRepository.findByName(bookName)).thenReturn(Optional.of(book));
-        when(bookMapper.toEntity(updateData)).thenReturn(updatedBook);
-        when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> {
-            Book saved = invocation.getArgument(0);
-            assertEquals(book.getId(), saved.getId());
-            return saved;
-        });
-        when(bookMapper.toDto(updatedBook)).thenReturn(updateData);
+        doAnswer(invocation -> {
+            book.setName(updatedBook.getName());
+            return null;
+        }).when(bookMapper).updateEntity(updateData, book);
+        when(bookMapper.toDto(book)).thenReturn(updateData);
     }
 
     private void mockSuccessfulBookCreation(BookDTO dto, Book bookEntity) {
@@ -138,7 +152,8 @@ public class BookServiceImplTest {
 
     private void verifyPageableOperations(Pageable originalPageable, Pageable mappedPageable) {
         verify(sortMappingService).applyMappings(originalPageable, "book");
-        verify(bookRepository).findAll(mappedPageable);
+        verify(bookRepository).findAllAsDto(mappedPageable);
+        verify(bookMapper, never()).toDto(any());
     }
 
     private void verifyPagedResults(Page<BookDTO> result, List<BookDTO> expectedContent, int expectedTotalElements) {
@@ -166,9 +181,10 @@ public class BookServiceImplTest {
 
     private void verifyBookUpdateOperations(String bookName, BookDTO updateData, Book updatedBook) {
         verify(bookRepository).findByName(bookName);
-        verify(bookMapper).toEntity(updateData);
-        verify(bookRepository).save(argThat(b -> b.getId().equals(book.getId())));
-        verify(bookMapper).toDto(updatedBook);
+        verify(bookMapper).updateEntity(updateData, book);
+        verify(bookRepository, never()).save(any());
+        verify(bookMapper).toDto(book);
+        assertEquals(updatedBook.getName(), book.getName());
     }
 
     private void verifyNotFoundScenario(String bookName) {
@@ -186,12 +202,8 @@ public class BookServiceImplTest {
     }
 
     private void verifySearchOperations(Pageable pageable, int expectedResults) {
-        verify(bookRepository).findAll(any(BooleanBuilder.class), eq(pageable));
-        if (expectedResults > 0) {
-            verify(bookMapper, times(expectedResults)).toDto(any(Book.class));
-        } else {
-            verify(bookMapper, never()).toDto(any());
-        }
+        verify(bookRepository).findAllAsDto(any(BooleanBuilder.class), eq(pageable), any(BookSearchKey.class));
+        verify(bookMapper, never()).toDto(any());
     }
 
     private void testSortingScenario(Sort sort) {
@@ -220,7 +232,136 @@ public class BookServiceImplTest {
         // Assert
         verifyPagedResults(result, bookDTOs, books.size());
         verifyPageableOperations(pageable, mappedPageable);
-        verify(bookMapper, times(books.size())).toDto(any(Book.class));
+    }
+
+    @Test
+    void scrollBooks_ShouldPassMappedSortToKeysetQuery() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("publication_date"));
+        Pageable mappedPageable = PageRequest.of(0, 10, Sort.by("publicationDate"));
+        KeysetWindow<BookDTO> window = new KeysetWindow<>(bookDTOs, 10, null, null);
+        when(sortMappingService.applyMappings(pageable, "book")).thenReturn(mappedPageable);
+        when(bookRepository.scrollAsDto(null, new KeysetRequest(mappedPageable.getSort(), 10, null))).thenReturn(window);
+
+        // Act
+        KeysetWindow<BookDTO> result = bookService.scrollBooks("", pageable);
+
+        // Assert
+        assertSame(window, result);
+        verify(bookRepository, never()).findAllAsDto(any(Pageable.class));
+        verifyNoInteractions(bookMapper);
+    }
+
+    @Test
+    void getBookSliceWithSearchCondition_ShouldSkipCountQuery() {
+        // Arrange
+        Pageable pageable = PageRequest.of(1, 5, Sort.by("name"));
+        SearchBookDTO criteria = new SearchBookDTO();
+        criteria.setAuthor("Author");
+        Slice<BookDTO> slice = new SliceImpl<>(bookDTOs, pageable, true);
+        when(sortMappingService.applyMappings(pageable, "book")).thenReturn(pageable);
+        when(bookRepository.findSliceAsDto(any(Predicate.class), eq(pageable))).thenReturn(slice);
+
+        // Act
+        Slice<BookDTO> result = bookService.getBookSliceWithSearchCondition(criteria, pageable);
+
+        // Assert
+        assertSame(slice, result);
+        assertTrue(result.hasNext());
+        verify(bookRepository, never()).findAllAsDto(any(Predicate.class), any(Pageable.class), any(BookSearchKey.class));
+    }
+
+    @Test
+    void getAllBooksWithSearchCondition_WithQuery_ShouldPageIndexHitsInRelevanceOrder() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("name"));
+        SearchBookDTO criteria = new SearchBookDTO();
+        criteria.setQuery("python");
+        BookDTO first = bookDTOs.get(1);
+        BookDTO second = bookDTOs.get(0);
+        when(searchIndex.search("python")).thenReturn(List.of(first.getName(), second.getName(), "Third"));
+        when(bookRepository.findAllAsDto(any(Predicate.class))).thenReturn(List.of(second, first));
+
+        // Act
+        Page<BookDTO> result = bookService.getAllBooksWithSearchCondition(criteria, pageable);
+
+        // Assert
+        assertEquals(List.of(first, second), result.getContent());
+        assertEquals(3, result.getTotalElements());
+        verify(bookRepository, never()).findNames(any());
+        verifyNoInteractions(sortMappingService);
+    }
+
+    @Test
+    void getAllBooksWithSearchCondition_WithQueryAndFilters_ShouldDropHitsRejectedByFilters() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        SearchBookDTO criteria = new SearchBookDTO();
+        criteria.setQuery("python");
+        criteria.setLanguage(Language.ENGLISH);
+        when(searchIndex.search("python")).thenReturn(List.of("A", "B", "C"));
+        when(bookRepository.findNames(any(Predicate.class))).thenReturn(List.of("C", "A"));
+        when(bookRepository.findAllAsDto(any(Predicate.class))).thenReturn(List.of());
+
+        // Act
+        Page<BookDTO> result = bookService.getAllBooksWithSearchCondition(criteria, pageable);
+
+        // Assert
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    void getAllBooksWithSearchCondition_WhenSnapshotSupportsCriteria_ShouldSkipDatabase() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+        SearchBookDTO criteria = new SearchBookDTO();
+        criteria.setLanguage(Language.ENGLISH);
+        Page<BookDTO> page = new PageImpl<>(bookDTOs, pageable, bookDTOs.size());
+        when(sortMappingService.applyMappings(pageable, "book")).thenReturn(pageable);
+        when(snapshot.supports(criteria, pageable.getSort())).thenReturn(true);
+        when(snapshot.find(criteria, pageable)).thenReturn(page);
+
+        // Act
+        Page<BookDTO> result = bookService.getAllBooksWithSearchCondition(criteria, pageable);
+
+        // Assert
+        assertSame(page, result);
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    void getFacets_WithQuery_ShouldRestrictPredicateToIndexHits() {
+        // Arrange
+        SearchBookDTO criteria = new SearchBookDTO();
+        criteria.setQuery("python");
+        List<BigDecimal> buckets = List.of(new BigDecimal("10"));
+        BookFacetsDTO facets = new BookFacetsDTO();
+        ArgumentCaptor<Predicate> predicateCaptor = ArgumentCaptor.forClass(Predicate.class);
+        when(searchIndex.search("python")).thenReturn(List.of(BOOK_NAME_2));
+        when(searchSettings.getPriceBuckets()).thenReturn(buckets);
+        when(bookRepository.findFacets(predicateCaptor.capture(), eq(buckets), eq(BookSearchKey.of(criteria)))).thenReturn(facets);
+
+        // Act
+        BookFacetsDTO result = bookService.getFacets(criteria);
+
+        // Assert
+        assertSame(facets, result);
+        assertTrue(predicateCaptor.getValue().toString().contains(BOOK_NAME_2));
+    }
+
+    @Test
+    void suggest_ShouldCapLimitAndMapToDtos() {
+        // Arrange
+        when(searchSettings.getSuggestLimit()).thenReturn(5);
+        when(suggestionIndex.suggest("pyt", 5))
+                .thenReturn(List.of(new BookSuggestion(BOOK_NAME_2, SuggestionType.TITLE)));
+
+        // Act
+        List<SuggestionDTO> result = bookService.suggest("pyt", 100);
+
+        // Assert
+        assertEquals(List.of(new SuggestionDTO(BOOK_NAME_2, SuggestionType.TITLE)), result);
+        verifyNoInteractions(bookRepository);
     }
 
     @Test
@@ -279,7 +420,7 @@ public class BookServiceImplTest {
 
         // Assert
         verifyEmptyResults(result);
-        verify(bookRepository).findAll(mappedPageable);
+        verify(bookRepository).findAllAsDto(mappedPageable);
         verify(bookMapper, never()).toDto(any());
     }
 
@@ -318,15 +459,17 @@ public class BookServiceImplTest {
         Book updatedBook = getBookEntity();
         updatedBook.setName("New Name");
 
-        mockSuccessfulBookUpdate(book.getName(), updateData, updatedBook);
+        String bookName = book.getName();
+
+        mockSuccessfulBookUpdate(bookName, updateData, updatedBook);
 
         // Act
-        BookDTO result = bookService.updateBookByName(book.getName(), updateData);
+        BookDTO result = bookService.updateBookByName(bookName, updateData, null);
 
         // Assert
         assertNotNull(result);
         assertEquals(updateData, result);
-        verifyBookUpdateOperations(book.getName(), updateData, updatedBook);
+        verifyBookUpdateOperations(bookName, updateData, updatedBook);
     }
 
     @Test
@@ -337,13 +480,26 @@ public class BookServiceImplTest {
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class,
-                () -> bookService.updateBookByName(bookName, any(BookDTO.class)));
+                () -> bookService.updateBookByName(bookName, any(BookDTO.class), null));
         assertEquals("The book with a name " + bookName + " was not found!", exception.getMessage());
         verify(bookRepository).findByName(bookName);
         verify(bookMapper, never()).toEntity(any());
         verify(bookRepository, never()).save(any());
     }
 
+    @Test
+    void updateBookByName_WithStaleVersion_ShouldThrowStaleVersionException() {
+        // Arrange
+        BookDTO updateData = getBookDTO();
+        String bookName = book.getName();
+        book.setVersion(4L);
+        when(bookRepository.findByName(bookName)).thenReturn(Optional.of(book));
+
+        // Act & Assert
+        assertThrows(StaleVersionException.class, () -> bookService.updateBookByName(bookName, updateData, 3L));
+        verify(bookMapper, never()).updateEntity(any(BookDTO.class), any(Book.class));
+    }
+
     @Test
     void deleteBookByName_ShouldCallRepositoryDelete() {
         // Arrange
@@ -354,6 +510,29 @@ public class BookServiceImplTest {
 
         // Assert
         verify(bookRepository).deleteByName(bookName);
+        verify(eventPublisher).publishEvent(BookCatalogChangedEvent.removed(bookName));
+    }
+
+    @Test
+    void restock_ShouldIncreaseStockAtomically() {
+        // Arrange
+        when(bookRepository.restock("Test Book", 10)).thenReturn(1);
+
+        // Act
+        bookService.restock("Test Book", 10);
+
+        // Assert
+        verify(bookRepository).restock("Test Book", 10);
+        verify(bookRepository, never()).save(any());
+    }
+
+    @Test
+    void restock_WhenBookDoesNotExist_ShouldThrowNotFoundException() {
+        // Arrange
+        when(bookRepository.restock("Missing Book", 10)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> bookService.restock("Missing Book", 10));
     }
 
     @Test
@@ -368,6 +547,7 @@ public class BookServiceImplTest {
         assertNotNull(result);
         assertEquals(bookDTO, result);
         verifyBookCreationOperations(bookDTO, book);
+        verify(eventPublisher).publishEvent(BookCatalogChangedEvent.saved(null, book));
     }
 
     @Test
@@ -502,23 +682,19 @@ public class BookServiceImplTest {
 
         // Assert
         verifyPagedResults(result, bookDTOs, books.size());
-        verify(bookRepository).findAll(any(BooleanBuilder.class), eq(mappedPageable));
+        verify(bookRepository).findAllAsDto(any(BooleanBuilder.class), eq(mappedPageable), any(BookSearchKey.class));
     }
 
     private void mockSearchOperationWithMapping(Pageable pageable, Pageable mappedPageable,
                                                 List<Book> resultBooks, List<BookDTO> resultDTOs) {
-        Page<Book> bookPage = new PageImpl<>(resultBooks, mappedPageable, resultBooks.size());
+        Page<BookDTO> bookPage = new PageImpl<>(resultDTOs, mappedPageable, resultBooks.size());
         when(sortMappingService.applyMappings(pageable, "book")).thenReturn(mappedPageable);
-        when(bookRepository.findAll(any(BooleanBuilder.class), eq(mappedPageable))).thenReturn(bookPage);
-
-        for (int i = 0; i < resultBooks.size(); i++) {
-            when(bookMapper.toDto(resultBooks.get(i))).thenReturn(resultDTOs.get(i));
-        }
+        when(bookRepository.findAllAsDto(any(BooleanBuilder.class), eq(mappedPageable), any(BookSearchKey.class))).thenReturn(bookPage);
     }
 
     private void verifyPredicateCapture(Pageable mappedPageable) {
         ArgumentCaptor<BooleanBuilder> predicateCaptor = ArgumentCaptor.forClass(BooleanBuilder.class);
-        verify(bookRepository).findAll(predicateCaptor.capture(), eq(mappedPageable));
+        verify(bookRepository).findAllAsDto(predicateCaptor.capture(), eq(mappedPageable), any(BookSearchKey.class));
         BooleanBuilder capturedPredicate = predicateCaptor.getValue();
         assertNotNull(capturedPredicate);
     }
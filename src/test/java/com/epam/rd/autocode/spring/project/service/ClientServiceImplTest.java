@@ -14,7 +14,6 @@ import com.epam.rd.autocode.spring.project.service.impl.ClientServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -59,14 +58,10 @@ public class ClientServiceImplTest {
 
     private void mockPageableClientOperations(Pageable pageable, Pageable mappedPageable,
                                               List<Client> clientList, List<ClientDTO> clientDTOList) {
-        Page<Client> clientPage = new PageImpl<>(clientList, mappedPageable, clientList.size());
+        Page<ClientDTO> clientPage = new PageImpl<>(clientDTOList, mappedPageable, clientList.size());
 
         when(sortMappingService.applyMappings(pageable, "client")).thenReturn(mappedPageable);
-        when(clientRepository.findAll(mappedPageable)).thenReturn(clientPage);
-
-        for (int i = 0; i < clientList.size(); i++) {
-            when(clientMapper.toDto(clientList.get(i))).thenReturn(clientDTOList.get(i));
-        }
+        when(clientRepository.findAllAsDto(mappedPageable)).thenReturn(clientPage);
     }
 
     private void mockSimpleClientListOperations(List<Client> clientList, List<ClientDTO> clientDTOList) {
@@ -77,24 +72,25 @@ public class ClientServiceImplTest {
     }
 
     private void mockEmptyPageableRepository(Pageable pageable, Pageable mappedPageable) {
-        Page<Client> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
+        Page<ClientDTO> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
         when(sortMappingService.applyMappings(pageable, "client")).thenReturn(mappedPageable);
-        when(clientRepository.findAll(mappedPageable)).thenReturn(emptyPage);
+        when(clientRepository.findAllAsDto(mappedPageable)).thenReturn(emptyPage);
     }
 
     private void mockSuccessfulClientUpdate(ClientDTO updateData, Client updatedClient) {
-        when(clientMapper.toEntity(updateData)).thenReturn(updatedClient);
-        when(clientRepository.save(any(Client.class))).thenAnswer(invocation -> {
-            Client saved = invocation.getArgument(0);
-            assertEquals(client.getId(), saved.getId());
-            return saved;
-        });
-        when(clientMapper.toDto(updatedClient)).thenReturn(updateData);
+        doAnswer(invocation -> {
+            client.setName(updatedClient.getName());
+            return null;
+        }).when(clientMapper).updateEntity(updateData, client);
+        when(clientMapper.toDto(client)).thenReturn(updateData);
     }
 
     private void mockSuccessfulClientUpdateDTO(ClientUpdateDTO updateData, Client mappedClient) {
-        when(clientMapper.toEntity(updateData)).thenReturn(mappedClient);
-        when(clientRepository.save(any(Client.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            client.setName(mappedClient.getName());
+            client.setBalance(mappedClient.getBalance());
+            return null;
+        }).when(clientMapper).updateEntity(updateData, client);
     }
 
     private void mockClientCreation(ClientDTO dto, Client clientToSave, Client savedClient,
@@ -142,7 +138,8 @@ public class ClientServiceImplTest {
 
     private void verifyPageableOperations(Pageable originalPageable, Pageable mappedPageable) {
         verify(sortMappingService).applyMappings(originalPageable, "client");
-        verify(clientRepository).findAll(mappedPageable);
+        verify(clientRepository).findAllAsDto(mappedPageable);
+        verify(clientMapper, never()).toDto(any());
     }
 
     private void verifyPagedResults(Page<ClientDTO> result, List<ClientDTO> expectedContent, int expectedTotalElements) {
@@ -170,24 +167,22 @@ public class ClientServiceImplTest {
 
     private void verifyClientUpdateOperations(String email, ClientDTO updateData, Client updatedClient) {
         verify(clientRepository).getByEmail(email);
-        verify(clientMapper).toEntity(updateData);
-        verify(clientRepository).save(argThat(c -> c.getId().equals(client.getId())));
-        verify(clientMapper).toDto(updatedClient);
+        verify(clientMapper).updateEntity(updateData, client);
+        verify(clientRepository, never()).save(any());
+        verify(clientMapper).toDto(client);
+        assertEquals(updatedClient.getName(), client.getName());
     }
 
     private void verifyClientUpdateDTOOperations(String email, ClientUpdateDTO updateData,
                                                  String expectedName, BigDecimal expectedBalance) {
         verify(clientRepository).getByEmail(email);
-        verify(clientMapper).toEntity(updateData);
-
-        ArgumentCaptor<Client> clientCaptor = ArgumentCaptor.forClass(Client.class);
-        verify(clientRepository).save(clientCaptor.capture());
+        verify(clientMapper).updateEntity(updateData, client);
+        verify(clientRepository, never()).save(any());
 
-        Client savedClient = clientCaptor.getValue();
-        assertEquals(client.getId(), savedClient.getId());
-        assertEquals(client.getEmail(), savedClient.getEmail());
-        assertEquals(expectedName, savedClient.getName());
-        assertEquals(expectedBalance, savedClient.getBalance());
+        assertEquals(getClientEntity().getId(), client.getId());
+        assertEquals(email, client.getEmail());
+        assertEquals(expectedName, client.getName());
+        assertEquals(expectedBalance, client.getBalance());
     }
 
     private void verifyNotFoundScenario(String email) {
@@ -238,7 +233,6 @@ public class ClientServiceImplTest {
         // Assert
         verifyPagedResults(result, clientDTOs, clients.size());
         verifyPageableOperations(pageable, mappedPageable);
-        verify(clientMapper, times(clients.size())).toDto(any(Client.class));
     }
 
     @Test
@@ -297,7 +291,7 @@ public class ClientServiceImplTest {
 
         // Assert
         verifyEmptyResults(result);
-        verify(clientRepository).findAll(mappedPageable);
+        verify(clientRepository).findAllAsDto(mappedPageable);
         verify(clientMapper, never()).toDto(any());
     }
 
@@ -333,7 +327,7 @@ public class ClientServiceImplTest {
 
         assertTrue(exception.getMessage().contains("Client with email " + clientEmail));
         verify(clientRepository).getByEmail(clientEmail);
-        verify(clientMapper, never()).toEntity(any(ClientDTO.class));
+        verify(clientMapper, never()).updateEntity(any(ClientDTO.class), any());
         verify(clientRepository, never()).save(any());
     }
 
@@ -373,7 +367,7 @@ public class ClientServiceImplTest {
 
         assertTrue(exception.getMessage().contains("Client with email " + clientEmail));
         verify(clientRepository).getByEmail(clientEmail);
-        verify(clientMapper, never()).toEntity(any(ClientUpdateDTO.class));
+        verify(clientMapper, never()).updateEntity(any(ClientUpdateDTO.class), any());
         verify(clientRepository, never()).save(any());
     }
 
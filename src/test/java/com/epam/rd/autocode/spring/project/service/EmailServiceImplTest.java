@@ -1,5 +1,15 @@
 package com.epam.rd.autocode.spring.project.service;
 
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.mail.EmailQueuedEvent;
+import com.epam.rd.autocode.spring.project.mail.MailTemplateRenderer;
+import com.epam.rd.autocode.spring.project.model.MailCampaign;
+import com.epam.rd.autocode.spring.project.model.OutboundEmail;
+import com.epam.rd.autocode.spring.project.model.enums.EmailStatus;
+import com.epam.rd.autocode.spring.project.model.enums.MailTemplate;
+import com.epam.rd.autocode.spring.project.repo.MailCampaignRepository;
+import com.epam.rd.autocode.spring.project.repo.OutboundEmailRepository;
 import com.epam.rd.autocode.spring.project.service.impl.EmailServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,23 +17,34 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
 import java.time.Duration;
-import java.util.Objects;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceImplTest {
 
     @Mock
-    private JavaMailSender javaMailSender;
+    private OutboundEmailRepository outboundEmailRepository;
+
+    @Mock
+    private MailCampaignRepository mailCampaignRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MailTemplateRenderer templateRenderer = new MailTemplateRenderer();
 
     @InjectMocks
     private EmailServiceImpl emailService;
@@ -34,10 +55,35 @@ class EmailServiceImplTest {
     void setUp() {
         ReflectionTestUtils.setField(emailService, "fromEmail", fromEmail);
         ReflectionTestUtils.setField(emailService, "resetCodeExpirationTime", Duration.ofMinutes(7));
+        lenient().when(outboundEmailRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OutboundEmail> emails = invocation.getArgument(0);
+            long id = 42L;
+            for (OutboundEmail email : emails) email.setId(id++);
+            return emails;
+        });
+        lenient().when(mailCampaignRepository.save(any(MailCampaign.class))).thenAnswer(invocation -> {
+            MailCampaign campaign = invocation.getArgument(0);
+            campaign.setId(9L);
+            when(mailCampaignRepository.getReferenceById(9L)).thenReturn(campaign);
+            return campaign;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboundEmail> captureQueuedEmails() {
+        ArgumentCaptor<List<OutboundEmail>> emailCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboundEmailRepository).saveAll(emailCaptor.capture());
+        return emailCaptor.getValue();
+    }
+
+    private OutboundEmail captureQueuedEmail() {
+        List<OutboundEmail> emails = captureQueuedEmails();
+        assertEquals(1, emails.size());
+        return emails.get(0);
     }
 
     @Test
-    void sendPasswordResetEmail_WithValidParameters_ShouldSendEmailSuccessfully() {
+    void sendPasswordResetEmail_WithValidParameters_ShouldQueueEmailInOutbox() {
         // Arrange
         String toEmail = "user@test.com";
         String resetCode = "abc123-def456";
@@ -47,21 +93,23 @@ class EmailServiceImplTest {
         emailService.sendPasswordResetEmail(toEmail, resetCode, role);
 
         // Assert
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-        verify(javaMailSender).send(messageCaptor.capture());
-
-        SimpleMailMessage capturedMessage = messageCaptor.getValue();
-        assertEquals(fromEmail, capturedMessage.getFrom());
-        assertEquals(toEmail, Objects.requireNonNull(capturedMessage.getTo())[0]);
+        OutboundEmail capturedMessage = captureQueuedEmail();
+        assertEquals(fromEmail, capturedMessage.getSender());
+        assertEquals(toEmail, capturedMessage.getRecipient());
         assertEquals("Password reset code for Margosha Book Store ", capturedMessage.getSubject());
+        assertEquals(EmailStatus.PENDING, capturedMessage.getStatus());
+        assertEquals(0, capturedMessage.getAttempts());
+        assertFalse(capturedMessage.isHtml());
+        assertFalse(capturedMessage.getNextAttemptAt().isAfter(LocalDateTime.now()));
 
-        String messageText = capturedMessage.getText();
+        String messageText = capturedMessage.getBody();
         assertNotNull(messageText);
         assertTrue(messageText.contains("Hello Dear User❤️️❤️❤️"));
         assertTrue(messageText.contains("client account"));
         assertTrue(messageText.contains(resetCode));
         assertTrue(messageText.contains("7 minutes"));
         assertTrue(messageText.contains("Margosha Book Store"));
+        assertFalse(messageText.contains("[("));
     }
 
     @Test
@@ -75,33 +123,19 @@ class EmailServiceImplTest {
         emailService.sendPasswordResetEmail(toEmail, resetCode, role);
 
         // Assert
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-        verify(javaMailSender).send(messageCaptor.capture());
-
-        SimpleMailMessage capturedMessage = messageCaptor.getValue();
-        String messageText = capturedMessage.getText();
+        String messageText = captureQueuedEmail().getBody();
         assertNotNull(messageText);
         assertTrue(messageText.contains("employee account"));
         assertTrue(messageText.contains(resetCode));
     }
 
     @Test
-    void sendPasswordResetEmail_WhenJavaMailSenderThrowsException_ShouldThrowRuntimeException() {
-        // Arrange
-        String toEmail = "user@test.com";
-        String resetCode = "abc123";
-        String role = "CLIENT";
-
-        MailException mailException = new MailException("SMTP server unavailable") {};
-        doThrow(mailException).when(javaMailSender).send(any(SimpleMailMessage.class));
-
-        // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> emailService.sendPasswordResetEmail(toEmail, resetCode, role));
+    void sendPasswordResetEmail_ShouldPublishQueuedEventForSavedEmail() {
+        // Act
+        emailService.sendPasswordResetEmail("user@test.com", "abc123", "CLIENT");
 
-        assertEquals("Failed to send password reset email", exception.getMessage());
-        assertEquals(mailException, exception.getCause());
-        verify(javaMailSender).send(any(SimpleMailMessage.class));
+        // Assert
+        verify(eventPublisher).publishEvent(new EmailQueuedEvent(List.of(42L)));
     }
 
     @Test
@@ -118,13 +152,80 @@ class EmailServiceImplTest {
         emailService.sendPasswordResetEmail(toEmail, resetCode, role);
 
         // Assert
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-        verify(javaMailSender).send(messageCaptor.capture());
-
-        SimpleMailMessage capturedMessage = messageCaptor.getValue();
-        String messageText = capturedMessage.getText();
+        String messageText = captureQueuedEmail().getBody();
         assertNotNull(messageText);
         assertTrue(messageText.contains("15 minutes"));
         assertFalse(messageText.contains("7 minutes"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void sendOrderConfirmationEmail_ShouldQueueEscapedHtmlForClient() {
+        // Arrange
+        OrderDTO order = new OrderDTO(UUID.randomUUID(), null, "client@test.com", LocalDateTime.of(2024, 3, 5, 14, 30),
+                new BigDecimal("25.00"), List.of(new BookItemDTO("<b>Dune</b>", 2), new BookItemDTO("Emma", 1)));
+
+        // Act
+        emailService.sendOrderConfirmationEmail("Client Name", order);
+
+        // Assert
+        OutboundEmail capturedMessage = captureQueuedEmail();
+        assertEquals("client@test.com", capturedMessage.getRecipient());
+        assertTrue(capturedMessage.isHtml());
+        String body = capturedMessage.getBody();
+        assertTrue(body.contains("Client Name"));
+        assertTrue(body.contains("&lt;b&gt;Dune&lt;/b&gt;"));
+        assertTrue(body.contains("Emma"));
+        assertTrue(body.contains("25.00"));
+        assertTrue(body.contains("05.03.2024 14:30"));
+        assertTrue(body.contains(order.getPublicId().toString()));
+    }
+
+    @Test
+    void sendNewsletter_ShouldStoreBodyOnceAndQueueOneEmailPerDistinctRecipient() {
+        // Arrange
+        List<String> recipients = List.of("a@test.com", "b@test.com", "a@test.com", "c@test.com");
+
+        // Act
+        int queued = emailService.sendNewsletter("Spring picks", "First.\n\n\nSecond.", recipients);
+
+        // Assert
+        assertEquals(3, queued);
+        List<OutboundEmail> emails = captureQueuedEmails();
+        assertEquals(List.of("a@test.com", "b@test.com", "c@test.com"),
+                emails.stream().map(OutboundEmail::getRecipient).toList());
+        assertTrue(emails.stream().allMatch(email -> email.isHtml() && "Spring picks".equals(email.getSubject())));
+        assertTrue(emails.stream().allMatch(email -> email.getBody().isEmpty()));
+        assertTrue(emails.stream().allMatch(email -> email.getCampaign() == emails.get(0).getCampaign()));
+        assertTrue(emails.get(0).resolveBody().contains("<p>First.</p>"));
+        assertTrue(emails.get(0).resolveBody().contains("<p>Second.</p>"));
+        verify(mailCampaignRepository, times(1)).save(any(MailCampaign.class));
+        verify(templateRenderer, times(1)).render(eq(MailTemplate.NEWSLETTER), anyMap());
+        verify(eventPublisher).publishEvent(new EmailQueuedEvent(List.of(42L, 43L, 44L)));
+    }
+
+    @Test
+    void sendNewsletter_WithoutRecipients_ShouldQueueNothing() {
+        // Act
+        int queued = emailService.sendNewsletter("Spring picks", "Content", List.of());
+
+        // Assert
+        assertEquals(0, queued);
+        verify(outboundEmailRepository, never()).saveAll(anyList());
+        verifyNoInteractions(mailCampaignRepository, eventPublisher);
+    }
+
+    @Test
+    void queueNewsletter_ShouldReferenceExistingCampaign() {
+        // Arrange
+        Long campaignId = emailService.createNewsletter("Spring picks", "Content");
+
+        // Act
+        int queued = emailService.queueNewsletter(campaignId, List.of("a@test.com", "b@test.com"), 5L);
+
+        // Assert
+        assertEquals(2, queued);
+        assertEquals(5L, mailCampaignRepository.getReferenceById(campaignId).getLastRecipientId());
+        assertTrue(captureQueuedEmails().stream().allMatch(email -> campaignId.equals(email.getCampaign().getId())));
+        verify(eventPublisher).publishEvent(new EmailQueuedEvent(List.of(42L, 43L)));
+    }
+}
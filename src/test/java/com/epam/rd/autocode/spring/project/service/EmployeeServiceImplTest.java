@@ -12,7 +12,6 @@ import com.epam.rd.autocode.spring.project.service.impl.EmployeeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -54,14 +53,10 @@ public class EmployeeServiceImplTest {
 
     private void mockPageableEmployeeOperations(Pageable pageable, Pageable mappedPageable,
                                                 List<Employee> employeeList, List<EmployeeDTO> employeeDTOList) {
-        Page<Employee> employeePage = new PageImpl<>(employeeList, mappedPageable, employeeList.size());
+        Page<EmployeeDTO> employeePage = new PageImpl<>(employeeDTOList, mappedPageable, employeeList.size());
 
         when(sortMappingService.applyMappings(pageable, "employee")).thenReturn(mappedPageable);
-        when(employeeRepository.findAll(mappedPageable)).thenReturn(employeePage);
-
-        for (int i = 0; i < employeeList.size(); i++) {
-            when(employeeMapper.toDto(employeeList.get(i))).thenReturn(employeeDTOList.get(i));
-        }
+        when(employeeRepository.findAllAsDto(mappedPageable)).thenReturn(employeePage);
     }
 
     private void mockSimpleEmployeeListOperations(List<Employee> employeeList, List<EmployeeDTO> employeeDTOList) {
@@ -72,24 +67,26 @@ public class EmployeeServiceImplTest {
     }
 
     private void mockEmptyPageableRepository(Pageable pageable, Pageable mappedPageable) {
-        Page<Employee> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
+        Page<EmployeeDTO> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
         when(sortMappingService.applyMappings(pageable, "employee")).thenReturn(mappedPageable);
-        when(employeeRepository.findAll(mappedPageable)).thenReturn(emptyPage);
+        when(employeeRepository.findAllAsDto(mappedPageable)).thenReturn(emptyPage);
     }
 
     private void mockSuccessfulEmployeeUpdate(EmployeeDTO updateData, Employee updatedEmployee) {
-        when(employeeMapper.toEntity(updateData)).thenReturn(updatedEmployee);
-        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> {
-            Employee saved = invocation.getArgument(0);
-            assertEquals(employee.getId(), saved.getId());
-            return saved;
-        });
-        when(employeeMapper.toDto(updatedEmployee)).thenReturn(updateData);
+        doAnswer(invocation -> {
+            employee.setName(updatedEmployee.getName());
+            return null;
+        }).when(employeeMapper).updateEntity(updateData, employee);
+        when(employeeMapper.toDto(employee)).thenReturn(updateData);
     }
 
     private void mockSuccessfulEmployeeUpdateDTO(EmployeeUpdateDTO updateData, Employee mappedEmployee) {
-        when(employeeMapper.toEntity(updateData)).thenReturn(mappedEmployee);
-        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            employee.setName(mappedEmployee.getName());
+            employee.setPhone(mappedEmployee.getPhone());
+            employee.setBirthDate(mappedEmployee.getBirthDate());
+            return null;
+        }).when(employeeMapper).updateEntity(updateData, employee);
     }
 
     private void mockPasswordEncoding(String rawPassword, String encodedPassword) {
@@ -128,7 +125,8 @@ public class EmployeeServiceImplTest {
 
     private void verifyPageableOperations(Pageable originalPageable, Pageable mappedPageable) {
         verify(sortMappingService).applyMappings(originalPageable, "employee");
-        verify(employeeRepository).findAll(mappedPageable);
+        verify(employeeRepository).findAllAsDto(mappedPageable);
+        verify(employeeMapper, never()).toDto(any());
     }
 
     private void verifyPagedResults(Page<EmployeeDTO> result, List<EmployeeDTO> expectedContent, int expectedTotalElements) {
@@ -156,26 +154,25 @@ public class EmployeeServiceImplTest {
 
     private void verifyEmployeeUpdateOperations(String email, EmployeeDTO updateData, Employee updatedEmployee) {
         verify(employeeRepository).getByEmail(email);
-        verify(employeeMapper).toEntity(updateData);
-        verify(employeeRepository).save(argThat(emp -> emp.getId().equals(employee.getId())));
-        verify(employeeMapper).toDto(updatedEmployee);
+        verify(employeeMapper).updateEntity(updateData, employee);
+        verify(employeeRepository, never()).save(any());
+        verify(employeeMapper).toDto(employee);
+        assertEquals(updatedEmployee.getName(), employee.getName());
     }
 
     private void verifyEmployeeUpdateDTOOperations(String email, EmployeeUpdateDTO updateData,
                                                    String expectedName, String expectedPhone, LocalDate expectedBirthDate) {
         verify(employeeRepository).getByEmail(email);
-        verify(employeeMapper).toEntity(updateData);
-
-        ArgumentCaptor<Employee> employeeCaptor = ArgumentCaptor.forClass(Employee.class);
-        verify(employeeRepository).save(employeeCaptor.capture());
+        verify(employeeMapper).updateEntity(updateData, employee);
+        verify(employeeRepository, never()).save(any());
 
-        Employee savedEmployee = employeeCaptor.getValue();
-        assertEquals(employee.getId(), savedEmployee.getId());
-        assertEquals(employee.getPassword(), savedEmployee.getPassword());
-        assertEquals(employee.getEmail(), savedEmployee.getEmail());
-        assertEquals(expectedName, savedEmployee.getName());
-        assertEquals(expectedPhone, savedEmployee.getPhone());
-        assertEquals(expectedBirthDate, savedEmployee.getBirthDate());
+        Employee original = getEmployeeEntity();
+        assertEquals(original.getId(), employee.getId());
+        assertEquals(original.getPassword(), employee.getPassword());
+        assertEquals(email, employee.getEmail());
+        assertEquals(expectedName, employee.getName());
+        assertEquals(expectedPhone, employee.getPhone());
+        assertEquals(expectedBirthDate, employee.getBirthDate());
     }
 
     private void verifyNotFoundScenario(String email) {
@@ -226,7 +223,6 @@ public class EmployeeServiceImplTest {
         // Assert
         verifyPagedResults(result, employeeDTOs, employees.size());
         verifyPageableOperations(pageable, mappedPageable);
-        verify(employeeMapper, times(employees.size())).toDto(any(Employee.class));
     }
 
     @Test
@@ -285,7 +281,7 @@ public class EmployeeServiceImplTest {
 
         // Assert
         verifyEmptyResults(result);
-        verify(employeeRepository).findAll(mappedPageable);
+        verify(employeeRepository).findAllAsDto(mappedPageable);
         verify(employeeMapper, never()).toDto(any());
     }
 
@@ -321,7 +317,7 @@ public class EmployeeServiceImplTest {
 
         assertTrue(exception.getMessage().contains("Employee with email " + employeeEmail));
         verify(employeeRepository).getByEmail(employeeEmail);
-        verify(employeeMapper, never()).toEntity(any(EmployeeDTO.class));
+        verify(employeeMapper, never()).updateEntity(any(EmployeeDTO.class), any());
         verify(employeeRepository, never()).save(any());
     }
 
@@ -354,7 +350,7 @@ public class EmployeeServiceImplTest {
 
         assertTrue(exception.getMessage().contains("Employee with email " + employeeEmail));
         verify(employeeRepository).getByEmail(employeeEmail);
-        verify(employeeMapper, never()).toEntity(any(EmployeeUpdateDTO.class));
+        verify(employeeMapper, never()).updateEntity(any(EmployeeUpdateDTO.class), any());
         verify(employeeRepository, never()).save(any());
     }
 
@@ -0,0 +1,110 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.conf.OutboxSettings;
+import com.epam.rd.autocode.spring.project.dto.NewsletterResultDTO;
+import com.epam.rd.autocode.spring.project.dto.request.NewsletterDTO;
+import com.epam.rd.autocode.spring.project.exception.NotFoundException;
+import com.epam.rd.autocode.spring.project.model.MailCampaign;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.MailCampaignRepository;
+import com.epam.rd.autocode.spring.project.repo.projection.ClientEmailRow;
+import com.epam.rd.autocode.spring.project.service.impl.NewsletterServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsletterServiceImplTest {
+    private static final Long CAMPAIGN_ID = 9L;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private MailCampaignRepository mailCampaignRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    private NewsletterServiceImpl newsletterService;
+
+    @BeforeEach
+    void setUp() {
+        OutboxSettings settings = new OutboxSettings();
+        settings.setRecipientPageSize(2);
+        newsletterService = new NewsletterServiceImpl(clientRepository, mailCampaignRepository, emailService, settings);
+        lenient().when(emailService.createNewsletter("Spring picks", "New arrivals")).thenReturn(CAMPAIGN_ID);
+    }
+
+    @Test
+    void sendToAllClients_ShouldQueueActiveClientsPageByPage() {
+        // Arrange
+        when(clientRepository.findActiveEmailsAfter(0L, Limit.of(2)))
+                .thenReturn(List.of(new ClientEmailRow(1L, "a@test.com"), new ClientEmailRow(3L, "b@test.com")));
+        when(clientRepository.findActiveEmailsAfter(3L, Limit.of(2)))
+                .thenReturn(List.of(new ClientEmailRow(7L, "c@test.com")));
+        when(clientRepository.findActiveEmailsAfter(7L, Limit.of(2))).thenReturn(List.of());
+        when(emailService.queueNewsletter(CAMPAIGN_ID, List.of("a@test.com", "b@test.com"), 3L)).thenReturn(2);
+        when(emailService.queueNewsletter(CAMPAIGN_ID, List.of("c@test.com"), 7L)).thenReturn(1);
+
+        // Act
+        NewsletterResultDTO result = newsletterService.sendToAllClients(new NewsletterDTO("Spring picks", "New arrivals"));
+
+        // Assert
+        assertEquals(3, result.getQueuedEmails());
+        assertEquals(CAMPAIGN_ID, result.getCampaignId());
+        verify(emailService, times(1)).createNewsletter("Spring picks", "New arrivals");
+        verify(emailService, times(2)).queueNewsletter(eq(CAMPAIGN_ID), anyCollection(), anyLong());
+    }
+
+    @Test
+    void sendToAllClients_WithoutActiveClients_ShouldQueueNothing() {
+        // Arrange
+        when(clientRepository.findActiveEmailsAfter(0L, Limit.of(2))).thenReturn(List.of());
+
+        // Act
+        NewsletterResultDTO result = newsletterService.sendToAllClients(new NewsletterDTO("Spring picks", "New arrivals"));
+
+        // Assert
+        assertEquals(0, result.getQueuedEmails());
+        verify(emailService, never()).queueNewsletter(any(), anyCollection(), any());
+    }
+
+    @Test
+    void resumeCampaign_ShouldQueueOnlyClientsAfterStoredResumePoint() {
+        // Arrange
+        MailCampaign campaign = new MailCampaign("Spring picks", "Body", true);
+        campaign.setLastRecipientId(3L);
+        when(mailCampaignRepository.findById(CAMPAIGN_ID)).thenReturn(Optional.of(campaign));
+        when(clientRepository.findActiveEmailsAfter(3L, Limit.of(2)))
+                .thenReturn(List.of(new ClientEmailRow(7L, "c@test.com")));
+        when(clientRepository.findActiveEmailsAfter(7L, Limit.of(2))).thenReturn(List.of());
+        when(emailService.queueNewsletter(CAMPAIGN_ID, List.of("c@test.com"), 7L)).thenReturn(1);
+
+        // Act
+        NewsletterResultDTO result = newsletterService.resumeCampaign(CAMPAIGN_ID);
+
+        // Assert
+        assertEquals(1, result.getQueuedEmails());
+        verify(clientRepository, never()).findActiveEmailsAfter(eq(0L), any());
+        verify(emailService, never()).createNewsletter(any(), any());
+    }
+
+    @Test
+    void resumeCampaign_WithUnknownCampaign_ShouldThrowNotFoundException() {
+        // Arrange
+        when(mailCampaignRepository.findById(CAMPAIGN_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> newsletterService.resumeCampaign(CAMPAIGN_ID));
+        verifyNoInteractions(emailService);
+    }
+}
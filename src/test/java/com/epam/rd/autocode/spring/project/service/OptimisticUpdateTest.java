@@ -0,0 +1,180 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.BookDTO;
+import com.epam.rd.autocode.spring.project.dto.ClientUpdateDTO;
+import com.epam.rd.autocode.spring.project.exception.StaleVersionException;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "retry.max-attempts=100", "retry.max-backoff=PT0.05S"})
+class OptimisticUpdateTest {
+    private static final int THREADS = 16;
+    private static final int UPDATES = 64;
+
+    @Autowired private ClientService clientService;
+    @Autowired private BookService bookService;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void updateClientByEmail_ShouldIssueOneSelectAndOneUpdate() {
+        // Arrange
+        Client client = clientRepository.save(new Client(null, "optimistic-" + suffix + "@example.com",
+                "password", "Optimistic Client", new BigDecimal("100.00")));
+        statistics.clear();
+
+        // Act
+        clientService.updateClientByEmail(client.getEmail(), new ClientUpdateDTO("Renamed Client", new BigDecimal("50.00")));
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        Client updated = clientRepository.getByEmail(client.getEmail()).orElseThrow();
+        assertEquals("Renamed Client", updated.getName());
+        assertEquals("password", updated.getPassword());
+        assertEquals(client.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void updateClientByEmail_ParallelUpdates_ShouldRetryConflictsAndApplyEveryUpdate() throws Exception {
+        // Arrange
+        Client client = clientRepository.save(new Client(null, "optimistic-parallel-" + suffix + "@example.com",
+                "password", "Optimistic Client", new BigDecimal("100.00")));
+
+        // Act
+        runConcurrently(i -> clientService.updateClientByEmail(client.getEmail(),
+                new ClientUpdateDTO("Client " + i, new BigDecimal(101 + i))));
+
+        // Assert
+        Client updated = clientRepository.getByEmail(client.getEmail()).orElseThrow();
+        assertEquals(client.getVersion() + UPDATES, updated.getVersion());
+    }
+
+    @Test
+    void updateBookByName_ParallelUpdates_ShouldRetryConflictsAndKeepStock() throws Exception {
+        // Arrange
+        Book book = new Book(null, "Optimistic Book " + suffix, "Fantasy", AgeGroup.ADULT, new BigDecimal("10.00"),
+                LocalDate.of(2020, 1, 1), "Optimistic Author", 100, "Hardcover", "Optimistic description", Language.ENGLISH);
+        book.setStock(7);
+        Book saved = bookRepository.save(book);
+
+        // Act
+        runConcurrently(i -> bookService.updateBookByName(saved.getName(), new BookDTO(saved.getName(), "Fantasy",
+                AgeGroup.ADULT, new BigDecimal(11 + i), LocalDate.of(2020, 1, 1), "Optimistic Author", 101 + i,
+                "Hardcover", "Optimistic description", Language.ENGLISH), null));
+
+        // Assert
+        Book updated = bookRepository.findById(saved.getId()).orElseThrow();
+        assertEquals(saved.getVersion() + UPDATES, updated.getVersion());
+        assertEquals(7, updated.getStock());
+    }
+
+    @Test
+    void updateBookByName_WithVersionReadBeforeAnotherEdit_ShouldRejectStaleWrite() {
+        // Arrange
+        Book saved = bookRepository.save(new Book(null, "Contested Book " + suffix, "Fantasy", AgeGroup.ADULT,
+                new BigDecimal("10.00"), LocalDate.of(2020, 1, 1), "Contested Author", 100, "Hardcover",
+                "Original description", Language.ENGLISH));
+        long readVersion = bookService.getBookVersion(saved.getName());
+        bookService.updateBookByName(saved.getName(), edit(saved, "First edit"), readVersion);
+
+        // Act & Assert
+        assertThrows(StaleVersionException.class,
+                () -> bookService.updateBookByName(saved.getName(), edit(saved, "Second edit"), readVersion));
+        assertEquals("First edit", bookRepository.findById(saved.getId()).orElseThrow().getDescription());
+        assertEquals(readVersion + 1, bookService.getBookVersion(saved.getName()));
+    }
+
+    @Test
+    void bookUpdate_InterleavedWithReservationAndRestock_ShouldKeepStockChanges() {
+        // Arrange
+        Book book = new Book(null, "Interleaved Book " + suffix, "Fantasy", AgeGroup.ADULT, new BigDecimal("10.00"),
+                LocalDate.of(2020, 1, 1), "Interleaved Author", 100, "Hardcover", "Original description", Language.ENGLISH);
+        book.setStock(7);
+        Book saved = bookRepository.save(book);
+        TransactionTemplate edit = new TransactionTemplate(transactionManager);
+        TransactionTemplate checkout = new TransactionTemplate(transactionManager);
+        checkout.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Act
+        edit.executeWithoutResult(status -> {
+            Book loaded = bookRepository.findById(saved.getId()).orElseThrow();
+            checkout.executeWithoutResult(inner -> {
+                assertTrue(bookRepository.reserveStock(Map.of(saved.getId(), 3)).isEmpty());
+                bookRepository.restock(saved.getName(), 1);
+            });
+            loaded.setDescription("Edited during checkout");
+        });
+
+        // Assert
+        Book updated = bookRepository.findById(saved.getId()).orElseThrow();
+        assertEquals("Edited during checkout", updated.getDescription());
+        assertEquals(5, updated.getStock());
+    }
+
+    private static BookDTO edit(Book book, String description) {
+        return new BookDTO(book.getName(), book.getGenre(), book.getAgeGroup(), book.getPrice(), book.getPublicationDate(),
+                book.getAuthor(), book.getPages(), book.getCharacteristics(), description, book.getLanguage());
+    }
+
+    private void runConcurrently(Update update) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < UPDATES; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    update.apply(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface Update {
+        void apply(int index);
+    }
+}
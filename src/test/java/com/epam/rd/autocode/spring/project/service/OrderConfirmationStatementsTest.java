@@ -0,0 +1,103 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.OrderConfirmationDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ConfirmOrdersDTO;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.Employee;
+import com.epam.rd.autocode.spring.project.model.Order;
+import com.epam.rd.autocode.spring.project.model.enums.OrderConfirmationStatus;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.EmployeeRepository;
+import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderConfirmationStatementsTest {
+    private static final int ORDERS = 40;
+
+    @Autowired private OrderService orderService;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Employee first;
+    private Employee second;
+    private List<UUID> publicIds;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Client client = clientRepository.save(new Client(null, "confirm-" + suffix + "@example.com",
+                "password", "Confirm Client", new BigDecimal("1000.00")));
+        first = employeeRepository.save(new Employee(null, "confirm-a-" + suffix + "@example.com",
+                "password", "Confirm Employee", "555-123-4567", LocalDate.of(1990, 1, 1)));
+        second = employeeRepository.save(new Employee(null, "confirm-b-" + suffix + "@example.com",
+                "password", "Confirm Employee", "555-123-4567", LocalDate.of(1990, 1, 1)));
+        List<Order> orders = orderRepository.saveAll(IntStream.range(0, ORDERS)
+                .mapToObj(i -> new Order(null, null, client, LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(i),
+                        new BigDecimal("10.00"), new ArrayList<>()))
+                .toList());
+        publicIds = orders.stream().map(Order::getPublicId).toList();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void confirmOrders_ShouldAssignAllOrdersWithOneUpdateAndNoOrderLoads() {
+        // Act
+        List<OrderConfirmationDTO> result = orderService.confirmOrders(new ConfirmOrdersDTO(first.getEmail(), publicIds));
+
+        // Assert
+        assertEquals(ORDERS, result.size());
+        assertTrue(result.stream().allMatch(r -> r.getStatus() == OrderConfirmationStatus.CONFIRMED));
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(Order.class.getName()).getLoadCount());
+        assertEquals(ORDERS, orderRepository.findAllByEmployee_Email(first.getEmail()).size());
+    }
+
+    @Test
+    void confirmOrders_ShouldKeepExistingAssigneeAndReportUnknownIds() {
+        // Arrange
+        orderService.confirmOrders(new ConfirmOrdersDTO(first.getEmail(), publicIds.subList(0, ORDERS / 2)));
+        UUID unknown = UUID.randomUUID();
+        List<UUID> requested = new ArrayList<>(publicIds);
+        requested.add(unknown);
+
+        // Act
+        List<OrderConfirmationDTO> result = orderService.confirmOrders(new ConfirmOrdersDTO(second.getEmail(), requested));
+
+        // Assert
+        assertEquals(ORDERS + 1, result.size());
+        for (int i = 0; i < ORDERS; i++) {
+            OrderConfirmationDTO confirmation = result.get(i);
+            assertEquals(publicIds.get(i), confirmation.getPublicId());
+            if (i < ORDERS / 2) {
+                assertEquals(OrderConfirmationStatus.CONFIRMED_BY_ANOTHER_EMPLOYEE, confirmation.getStatus());
+                assertEquals(first.getEmail(), confirmation.getEmployeeEmail());
+            } else {
+                assertEquals(OrderConfirmationStatus.CONFIRMED, confirmation.getStatus());
+                assertEquals(second.getEmail(), confirmation.getEmployeeEmail());
+            }
+        }
+        assertEquals(new OrderConfirmationDTO(unknown, OrderConfirmationStatus.NOT_FOUND, null), result.get(ORDERS));
+        assertEquals(ORDERS / 2, orderRepository.findAllByEmployee_Email(first.getEmail()).size());
+        assertEquals(ORDERS / 2, orderRepository.findAllByEmployee_Email(second.getEmail()).size());
+    }
+}
@@ -0,0 +1,139 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.BookItem;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.Order;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.ExportFormat;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderExportServiceTest {
+    private static final int ORDERS = 30;
+    private static final AtomicInteger DAYS = new AtomicInteger();
+
+    @Autowired private OrderExportService orderExportService;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    private LocalDateTime start;
+    private List<Order> orders;
+    private Book first;
+    private Book second;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        start = LocalDateTime.of(1975, 1, 1, 0, 0).plusDays(DAYS.getAndIncrement());
+        Client client = clientRepository.save(new Client(null, "export-" + suffix + "@example.com",
+                "password", "Export Client", new BigDecimal("1000.00")));
+        first = bookRepository.save(new Book(null, "Export First " + suffix, "Fantasy", AgeGroup.ADULT,
+                new BigDecimal("10.00"), LocalDate.of(2020, 1, 1), "Export Author", 100, "Hardcover",
+                "Export description", Language.ENGLISH));
+        second = bookRepository.save(new Book(null, "Export Second " + suffix, "Fantasy", AgeGroup.ADULT,
+                new BigDecimal("2.50"), LocalDate.of(2020, 1, 1), "Export Author", 100, "Hardcover",
+                "Export description", Language.ENGLISH));
+        List<Order> seed = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order(null, null, client, start.plusMinutes(i), new BigDecimal("12.50"), new ArrayList<>());
+            order.getBookItems().add(new BookItem(null, order, first, 1 + i % 3));
+            if (i % 2 == 0) order.getBookItems().add(new BookItem(null, order, second, 2));
+            seed.add(order);
+        }
+        orders = orderRepository.saveAll(seed);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void exportOrders_AsNdjson_ShouldWriteOneOrderPerLineWithItsBookItems() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        orderExportService.exportOrders(start, start.plusMinutes(ORDERS), ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(ORDERS, lines.length);
+        for (int i = 0; i < ORDERS; i++) {
+            JsonNode order = objectMapper.readTree(lines[i]);
+            assertEquals(orders.get(i).getPublicId().toString(), order.get("public_id").asText());
+            assertEquals(orders.get(i).getClient().getEmail(), order.get("client_email").asText());
+            assertEquals(i % 2 == 0 ? 2 : 1, order.get("book_items").size());
+            assertEquals(first.getName(), order.get("book_items").get(0).get("book_name").asText());
+            assertEquals(1 + i % 3, order.get("book_items").get(0).get("quantity").asInt());
+        }
+    }
+
+    @Test
+    void exportOrders_AsCsv_ShouldWriteHeaderAndOneRowPerOrder() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        orderExportService.exportOrders(start, start.plusMinutes(2), ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("public_id,client_email,employee_email,order_date,price,book_items", lines[0]);
+        assertEquals(orders.get(0).getPublicId() + "," + orders.get(0).getClient().getEmail() + ",," + start
+                + ",12.50," + first.getName() + ":1;" + second.getName() + ":2", lines[1]);
+        assertTrue(lines[2].startsWith(orders.get(1).getPublicId().toString()), lines[2]);
+    }
+
+    @Test
+    void exportOrders_ShouldOnlyIncludeOrdersWithinRange() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        orderExportService.exportOrders(start.plusMinutes(10), start.plusMinutes(20), ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(10, lines.length);
+        assertEquals(orders.get(10).getPublicId().toString(), objectMapper.readTree(lines[0]).get("public_id").asText());
+        assertEquals(orders.get(19).getPublicId().toString(), objectMapper.readTree(lines[9]).get("public_id").asText());
+    }
+
+    @Test
+    void exportOrders_ShouldStreamProjectionsWithoutLoadingEntities() throws IOException {
+        // Act
+        orderExportService.exportOrders(start, start.plusMinutes(ORDERS), ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,116 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.model.*;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.EmployeeRepository;
+import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderListingStatementsTest {
+    private static final int ORDERS = 12;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final long MAX_STATEMENTS_PER_PAGE = 5;
+
+    @Autowired private OrderService orderService;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Client client;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        client = clientRepository.save(new Client(null, "listing-" + suffix + "@example.com",
+                "password", "Listing Client", new BigDecimal("1000.00")));
+        employee = employeeRepository.save(new Employee(null, "staff-" + suffix + "@example.com",
+                "password", "Listing Employee", "555-123-4567", LocalDate.of(1990, 1, 1)));
+        List<Book> books = bookRepository.saveAll(IntStream.range(0, ORDERS * ITEMS_PER_ORDER)
+                .mapToObj(i -> new Book(null, "Listing Book " + suffix + " " + i, "Fantasy", AgeGroup.ADULT,
+                        new BigDecimal("10.00"), LocalDate.of(2020, 1, 1), "Listing Author", 100,
+                        "Hardcover", "Listing description", Language.ENGLISH))
+                .toList());
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.setClient(client);
+            order.setEmployee(employee);
+            order.setOrderDate(LocalDateTime.now().minusMinutes(i));
+            order.setPrice(new BigDecimal("30.00"));
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                order.getBookItems().add(new BookItem(null, order, books.get(i * ITEMS_PER_ORDER + j), 1));
+            }
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getOrdersByClient_Page_ShouldLoadInBoundedStatements() {
+        // Act
+        Page<OrderDTO> page = orderService.getOrdersByClient(client.getEmail(), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(10, page.getContent().size());
+        assertEquals(ORDERS, page.getTotalElements());
+        page.getContent().forEach(order -> {
+            assertEquals(employee.getEmail(), order.getEmployeeEmail());
+            assertEquals(ITEMS_PER_ORDER, order.getBookItems().size());
+            assertNotNull(order.getBookItems().get(0).getBookName());
+        });
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_PAGE,
+                "Expected a bounded fetch plan but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void getOrdersByEmployee_List_ShouldLoadInBoundedStatements() {
+        // Act
+        List<OrderDTO> orders = orderService.getOrdersByEmployee(employee.getEmail());
+
+        // Assert
+        assertEquals(ORDERS, orders.size());
+        assertTrue(orders.stream().allMatch(order -> client.getEmail().equals(order.getClientEmail())));
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_PAGE,
+                "Expected a bounded fetch plan but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void getAllOrders_Page_ShouldLoadInBoundedStatements() {
+        // Act
+        Page<OrderDTO> page = orderService.getAllOrders(PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(10, page.getContent().size());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_PAGE,
+                "Expected a bounded fetch plan but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
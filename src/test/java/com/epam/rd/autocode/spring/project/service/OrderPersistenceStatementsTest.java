@@ -0,0 +1,69 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderPersistenceStatementsTest {
+    private static final int ITEMS = 40;
+
+    @Autowired private OrderService orderService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private OrderDTO order;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Client client = clientRepository.save(new Client(null, "batch-" + suffix + "@example.com",
+                "password", "Batch Client", new BigDecimal("1000.00")));
+        List<Book> books = bookRepository.saveAll(IntStream.range(0, ITEMS)
+                .mapToObj(i -> new Book(null, "Batch Book " + suffix + " " + i, "Fantasy", AgeGroup.ADULT,
+                        new BigDecimal("10.00"), LocalDate.of(2020, 1, 1), "Batch Author", 100,
+                        "Hardcover", "Batch description", Language.ENGLISH))
+                .toList());
+
+        order = new OrderDTO();
+        order.setClientEmail(client.getEmail());
+        order.setOrderDate(LocalDateTime.now());
+        order.setPrice(new BigDecimal("400.00"));
+        order.setBookItems(books.stream().map(book -> new BookItemDTO(book.getName(), 1)).toList());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void addOrder_WithManyItems_ShouldUseConstantNumberOfStatements() {
+        // Act
+        orderService.addOrder(order);
+
+        // Assert
+        assertEquals(ITEMS + 3, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 12,
+                "Expected batched inserts but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
@@ -0,0 +1,123 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.BookStoreServiceSolutionApplication;
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderPlacementBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    @Param({"h2", "mysql"})
+    private String database;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private Statistics statistics;
+    private OrderDTO order;
+    private long placedOrders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookStoreServiceSolutionApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(databaseProperties())
+                .properties("spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.root=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+
+        Client client = context.getBean(ClientRepository.class).save(
+                new Client(null, "benchmark@example.com", "password", "Benchmark Client", new BigDecimal("1000.00")));
+        List<Book> books = context.getBean(BookRepository.class).saveAll(IntStream.range(0, items)
+                .mapToObj(i -> new Book(null, "Benchmark Book " + i, "Fantasy", AgeGroup.ADULT,
+                        new BigDecimal("10.00"), LocalDate.of(2020, 1, 1), "Benchmark Author", 100,
+                        "Hardcover", "Benchmark description", Language.ENGLISH))
+                .toList());
+
+        order = new OrderDTO();
+        order.setClientEmail(client.getEmail());
+        order.setOrderDate(LocalDateTime.now());
+        order.setPrice(new BigDecimal("10.00"));
+        order.setBookItems(books.stream().map(book -> new BookItemDTO(book.getName(), 1)).toList());
+
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Benchmark
+    public OrderDTO placeOrder() {
+        placedOrders++;
+        return orderService.addOrder(order);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[%s, %d items] statements per order: %.1f, inserts per order: %.1f%n",
+                database, items,
+                (double) statistics.getPrepareStatementCount() / placedOrders,
+                (double) statistics.getEntityInsertCount() / placedOrders);
+        context.close();
+    }
+
+    private String[] databaseProperties() {
+        if ("mysql".equals(database) && System.getenv("BENCHMARK_MYSQL_URL") != null) {
+            return new String[]{
+                    "spring.datasource.url=" + System.getenv("BENCHMARK_MYSQL_URL"),
+                    "spring.datasource.username=" + System.getenv("BENCHMARK_MYSQL_USER"),
+                    "spring.datasource.password=" + System.getenv("BENCHMARK_MYSQL_PASSWORD"),
+                    "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                    "spring.jpa.hibernate.ddl-auto=create-drop"};
+        }
+        if ("mysql".equals(database)) {
+            return new String[]{
+                    "spring.datasource.url=jdbc:h2:mem:orders_mysql;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                    "spring.jpa.database-platform=" + H2MySqlDialect.class.getName()};
+        }
+        return new String[]{"spring.datasource.url=jdbc:h2:mem:orders_h2"};
+    }
+
+    public static class H2MySqlDialect extends MySQLDialect {
+        @Override
+        public String getTableTypeString() {
+            return "";
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderPlacementBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,157 @@
+package com.epam.rd.autocode.spring.project.service;
+
+import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.exception.InsufficientFundsException;
+import com.epam.rd.autocode.spring.project.exception.OutOfStockException;
+import com.epam.rd.autocode.spring.project.model.Book;
+import com.epam.rd.autocode.spring.project.model.Client;
+import com.epam.rd.autocode.spring.project.model.enums.AgeGroup;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import com.epam.rd.autocode.spring.project.repo.BookRepository;
+import com.epam.rd.autocode.spring.project.repo.ClientRepository;
+import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"retry.max-attempts=100", "retry.max-backoff=PT0.05S"})
+class OrderPlacementConcurrencyTest {
+    private static final int THREADS = 32;
+    private static final int CHECKOUTS = 300;
+    private static final int CLIENTS = 20;
+    private static final int STOCK = 100;
+
+    @Autowired private OrderService orderService;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private ClientRepository clientRepository;
+    @Autowired private OrderRepository orderRepository;
+
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void addOrder_ParallelCheckoutsForSameBooks_ShouldNeverOversellOrLoseDebits() throws Exception {
+        // Arrange
+        List<Book> books = bookRepository.saveAll(List.of(book("First", "10.00", STOCK), book("Second", "2.50", STOCK)));
+        List<Client> clients = clientRepository.saveAll(IntStream.range(0, CLIENTS)
+                .mapToObj(i -> new Client(null, "stress-" + i + "-" + suffix + "@example.com", "password",
+                        "Stress Client", new BigDecimal("10000.00")))
+                .toList());
+        List<OrderDTO> checkouts = IntStream.range(0, CHECKOUTS)
+                .mapToObj(i -> checkout(clients.get(i % CLIENTS), books, 1))
+                .toList();
+
+        // Act
+        Outcomes outcomes = runConcurrently(checkouts);
+
+        // Assert
+        assertEquals(List.of(), List.copyOf(outcomes.unexpected));
+        assertEquals(STOCK, outcomes.placed.get());
+        assertEquals(CHECKOUTS - STOCK, outcomes.outOfStock.get());
+        books.forEach(book -> assertEquals(0, bookRepository.findById(book.getId()).orElseThrow().getStock()));
+        Map<String, Long> ordersPerClient = clients.stream().collect(Collectors.toMap(Client::getEmail,
+                client -> (long) orderRepository.findAllByClient_Email(client.getEmail()).size()));
+        assertEquals(STOCK, ordersPerClient.values().stream().mapToLong(Long::longValue).sum());
+        for (Client client : clients) {
+            BigDecimal spent = new BigDecimal("12.50").multiply(BigDecimal.valueOf(ordersPerClient.get(client.getEmail())));
+            assertEquals(new BigDecimal("10000.00").subtract(spent),
+                    clientRepository.getByEmail(client.getEmail()).orElseThrow().getBalance());
+        }
+    }
+
+    @Test
+    void addOrder_ParallelCheckoutsBySameClient_ShouldDebitEveryOrderExactlyOnce() throws Exception {
+        // Arrange
+        List<Book> books = bookRepository.saveAll(List.of(book("Unlimited", "10.00", null)));
+        Client client = clientRepository.save(new Client(null, "stress-single-" + suffix + "@example.com",
+                "password", "Stress Client", new BigDecimal("100.00")));
+        List<OrderDTO> checkouts = IntStream.range(0, 50).mapToObj(i -> checkout(client, books, 1)).toList();
+
+        // Act
+        Outcomes outcomes = runConcurrently(checkouts);
+
+        // Assert
+        assertEquals(List.of(), List.copyOf(outcomes.unexpected));
+        assertEquals(10, outcomes.placed.get());
+        assertEquals(40, outcomes.insufficientFunds.get());
+        assertEquals(10, orderRepository.findAllByClient_Email(client.getEmail()).size());
+        assertEquals(new BigDecimal("0.00"), clientRepository.getByEmail(client.getEmail()).orElseThrow().getBalance());
+        assertNull(bookRepository.findById(books.get(0).getId()).orElseThrow().getStock());
+    }
+
+    private Outcomes runConcurrently(List<OrderDTO> checkouts) throws Exception {
+        Outcomes outcomes = new Outcomes();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (OrderDTO checkout : checkouts) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        orderService.addOrder(checkout);
+                        outcomes.placed.incrementAndGet();
+                    } catch (OutOfStockException e) {
+                        outcomes.outOfStock.incrementAndGet();
+                    } catch (InsufficientFundsException e) {
+                        outcomes.insufficientFunds.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        outcomes.unexpected.add(e.toString());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    private OrderDTO checkout(Client client, List<Book> books, int quantity) {
+        OrderDTO order = new OrderDTO();
+        order.setClientEmail(client.getEmail());
+        order.setOrderDate(LocalDateTime.now());
+        order.setPrice(new BigDecimal("0.01"));
+        order.setBookItems(books.stream().map(book -> new BookItemDTO(book.getName(), quantity)).toList());
+        return order;
+    }
+
+    private Book book(String name, String price, Integer stock) {
+        Book book = new Book(null, "Stress " + name + " " + suffix, "Fantasy", AgeGroup.ADULT, new BigDecimal(price),
+                LocalDate.of(2020, 1, 1), "Stress Author", 100, "Hardcover", "Stress description", Language.ENGLISH);
+        book.setStock(stock);
+        return book;
+    }
+
+    private static class Outcomes {
+        private final AtomicInteger placed = new AtomicInteger();
+        private final AtomicInteger outOfStock = new AtomicInteger();
+        private final AtomicInteger insufficientFunds = new AtomicInteger();
+        private final Queue<String> unexpected = new ConcurrentLinkedQueue<>();
+    }
+}
@@ -1,16 +1,28 @@
 package com.epam.rd.autocode.spring.project.service;
 
 import com.epam.rd.autocode.spring.project.dto.BookItemDTO;
+import com.epam.rd.autocode.spring.project.dto.OrderConfirmationDTO;
 import com.epam.rd.autocode.spring.project.dto.OrderDTO;
+import com.epam.rd.autocode.spring.project.dto.request.ConfirmOrdersDTO;
+import com.epam.rd.autocode.spring.project.exception.InsufficientFundsException;
 import com.epam.rd.autocode.spring.project.exception.NotFoundException;
 import com.epam.rd.autocode.spring.project.exception.OrderMustContainClientException;
+import com.epam.rd.autocode.spring.project.exception.OutOfStockException;
 import com.epam.rd.autocode.spring.project.mappers.BookItemMapper;
 import com.epam.rd.autocode.spring.project.mappers.OrderMapper;
 import com.epam.rd.autocode.spring.project.model.*;
+import com.epam.rd.autocode.spring.project.model.enums.OrderConfirmationStatus;
 import com.epam.rd.autocode.spring.project.repo.BookRepository;
 import com.epam.rd.autocode.spring.project.repo.ClientRepository;
 import com.epam.rd.autocode.spring.project.repo.EmployeeRepository;
 import com.epam.rd.autocode.spring.project.repo.OrderRepository;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetCursor;
+import com.epam.rd.autocode.spring.project.analytics.OrdersChangedEvent;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetRequest;
+import com.epam.rd.autocode.spring.project.repo.keyset.KeysetWindow;
+import com.epam.rd.autocode.spring.project.repo.projection.BookItemRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderAssigneeRow;
+import com.epam.rd.autocode.spring.project.repo.projection.OrderRow;
 import com.epam.rd.autocode.spring.project.service.impl.OrderServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,10 +32,18 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -43,6 +63,8 @@ class OrderServiceImplTest {
     @Mock private BookItemMapper bookItemMapper;
     @Mock private BookRepository bookRepository;
     @Mock private SortMappingService sortMappingService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private EmailService emailService;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -72,18 +94,30 @@ class OrderServiceImplTest {
 
     private void mockPageableOrderOperations(Pageable pageable, Pageable mappedPageable,
                                              List<Order> orderList, List<OrderDTO> orderDTOList) {
-        Page<Order> orderPage = new PageImpl<>(orderList, mappedPageable, orderList.size());
         when(sortMappingService.applyMappings(pageable, "order")).thenReturn(mappedPageable);
-        when(orderRepository.findAll(mappedPageable)).thenReturn(orderPage);
+        Page<OrderRow> rows = mockOrderRows(orderList, orderDTOList, mappedPageable);
+        when(orderRepository.findAllRows(mappedPageable)).thenReturn(rows);
+    }
+
+    private Page<OrderRow> mockOrderRows(List<Order> orderList, List<OrderDTO> orderDTOList, Pageable pageable) {
+        List<OrderRow> rows = new ArrayList<>();
         for (int i = 0; i < orderList.size(); i++) {
-            when(orderMapper.toDto(orderList.get(i))).thenReturn(orderDTOList.get(i));
+            Order source = orderList.get(i);
+            OrderRow row = new OrderRow((long) i + 1, source.getPublicId(),
+                    source.getClient() != null ? source.getClient().getEmail() : null,
+                    source.getEmployee() != null ? source.getEmployee().getEmail() : null,
+                    source.getOrderDate(), source.getPrice());
+            rows.add(row);
+            when(orderMapper.toDto(eq(row), anyList())).thenReturn(orderDTOList.get(i));
         }
+        if (!rows.isEmpty()) when(orderRepository.findItemRowsByOrderIds(anyCollection())).thenReturn(List.of());
+        return new PageImpl<>(rows, pageable, rows.size());
     }
 
     private void mockEmptyPageableRepository(Pageable pageable, Pageable mappedPageable) {
-        Page<Order> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
+        Page<OrderRow> emptyPage = new PageImpl<>(List.of(), mappedPageable, 0);
         when(sortMappingService.applyMappings(pageable, "order")).thenReturn(mappedPageable);
-        when(orderRepository.findAll(mappedPageable)).thenReturn(emptyPage);
+        when(orderRepository.findAllRows(mappedPageable)).thenReturn(emptyPage);
     }
 
     private void mockClientOrderOperations(String clientEmail, Pageable pageable, Pageable mappedPageable,
@@ -91,11 +125,11 @@ class OrderServiceImplTest {
 
         if (pageable != null) {
             when(sortMappingService.applyMappings(pageable, "order")).thenReturn(mappedPageable);
-            Page<Order> orderPage = new PageImpl<>(clientOrders, mappedPageable, clientOrders.size());
-            when(orderRepository.findAllByClient_Email(clientEmail, mappedPageable)).thenReturn(orderPage);
-        } else {
-            when(orderRepository.findAllByClient_Email(clientEmail)).thenReturn(clientOrders);
+            Page<OrderRow> rows = mockOrderRows(clientOrders, expectedDTOs, mappedPageable);
+            when(orderRepository.findRowsByClientEmail(clientEmail, mappedPageable)).thenReturn(rows);
+            return;
         }
+        when(orderRepository.findAllByClient_Email(clientEmail)).thenReturn(clientOrders);
         for (int i = 0; i < clientOrders.size(); i++) {
             when(orderMapper.toDto(clientOrders.get(i))).thenReturn(expectedDTOs.get(i));
         }
@@ -105,11 +139,11 @@ class OrderServiceImplTest {
                                              List<Order> employeeOrders, List<OrderDTO> expectedDTOs) {
         if (pageable != null) {
             when(sortMappingService.applyMappings(pageable, "order")).thenReturn(mappedPageable);
-            Page<Order> orderPage = new PageImpl<>(employeeOrders, mappedPageable, employeeOrders.size());
-            when(orderRepository.findAllByEmployee_Email(employeeEmail, mappedPageable)).thenReturn(orderPage);
-        } else {
-            when(orderRepository.findAllByEmployee_Email(employeeEmail)).thenReturn(employeeOrders);
+            Page<OrderRow> rows = mockOrderRows(employeeOrders, expectedDTOs, mappedPageable);
+            when(orderRepository.findRowsByEmployeeEmail(employeeEmail, mappedPageable)).thenReturn(rows);
+            return;
         }
+        when(orderRepository.findAllByEmployee_Email(employeeEmail)).thenReturn(employeeOrders);
         for (int i = 0; i < employeeOrders.size(); i++) {
             when(orderMapper.toDto(employeeOrders.get(i))).thenReturn(expectedDTOs.get(i));
         }
@@ -123,11 +157,12 @@ class OrderServiceImplTest {
     }
 
     private void mockBookItemOperations(List<BookItemDTO> itemDTOs, List<Book> booksToReturn) {
+        List<Book> found = new ArrayList<>();
         for (int i = 0; i < itemDTOs.size() && i < booksToReturn.size();  i++) {
-            when(bookRepository.findByName(itemDTOs.get(i).getBookName()))
-                    .thenReturn(Optional.of(booksToReturn.get(i)));
+            found.add(booksToReturn.get(i));
             when(bookItemMapper.toEntity(itemDTOs.get(i))).thenReturn(new BookItem());
         }
+        when(bookRepository.findAllByNameIn(anyCollection())).thenReturn(found);
     }
 
     private void mockOrderConfirmation(OrderDTO dto, Order orderToConfirm) {
@@ -147,7 +182,7 @@ class OrderServiceImplTest {
 
     private void verifyPageableOperations(Pageable originalPageable, Pageable mappedPageable) {
         verify(sortMappingService).applyMappings(originalPageable, "order");
-        verify(orderRepository).findAll(mappedPageable);
+        verify(orderRepository).findAllRows(mappedPageable);
     }
 
     private void verifyPagedResults(Page<OrderDTO> result, List<OrderDTO> expectedContent, int expectedTotalElements) {
@@ -177,6 +212,7 @@ class OrderServiceImplTest {
         verify(orderMapper).toEntity(dto);
         verify(orderRepository).save(any(Order.class));
         verify(orderMapper).toDto(any(Order.class));
+        verify(eventPublisher).publishEvent(any(OrdersChangedEvent.class));
     }
 
     private void verifyOrderConfirmationOperations(OrderDTO dto, Order orderToConfirm) {
@@ -184,26 +220,26 @@ class OrderServiceImplTest {
         verify(employeeRepository).getByEmail(dto.getEmployeeEmail());
         verify(orderRepository).save(orderToConfirm);
         assertEquals(employee, orderToConfirm.getEmployee());
+        verify(eventPublisher).publishEvent(OrdersChangedEvent.of(orderToConfirm.getOrderDate()));
     }
 
     private void verifyClientOrderOperations(String clientEmail, Pageable pageable) {
         if (pageable != null) {
             verify(sortMappingService).applyMappings(pageable, "order");
-            verify(orderRepository).findAllByClient_Email(eq(clientEmail), any(Pageable.class));
+            verify(orderRepository).findRowsByClientEmail(eq(clientEmail), any(Pageable.class));
         } else verify(orderRepository).findAllByClient_Email(clientEmail);
     }
 
     private void verifyEmployeeOrderOperations(String employeeEmail, Pageable pageable) {
         if (pageable != null) {
             verify(sortMappingService).applyMappings(pageable, "order");
-            verify(orderRepository).findAllByEmployee_Email(eq(employeeEmail), any(Pageable.class));
+            verify(orderRepository).findRowsByEmployeeEmail(eq(employeeEmail), any(Pageable.class));
         } else verify(orderRepository).findAllByEmployee_Email(employeeEmail);
     }
 
     private void verifyBookItemMappingOperations(List<BookItemDTO> itemDTOs) {
-        for (BookItemDTO itemDTO : itemDTOs) {
-            verify(bookRepository).findByName(itemDTO.getBookName());
-        }
+        verify(bookRepository).findAllByNameIn(itemDTOs.stream().map(BookItemDTO::getBookName).collect(Collectors.toSet()));
+        verify(bookRepository, never()).findByName(any());
         verify(bookItemMapper, times(itemDTOs.size())).toEntity(any(BookItemDTO.class));
     }
 
@@ -239,7 +275,7 @@ class OrderServiceImplTest {
         // Assert
         verifyPagedResults(result, orderDTOs, orders.size());
         verifyPageableOperations(pageable, mappedPageable);
-        verify(orderMapper, times(orders.size())).toDto(any(Order.class));
+        verify(orderMapper, times(orders.size())).toDto(any(OrderRow.class), anyList());
     }
 
     @Test
@@ -258,6 +294,90 @@ class OrderServiceImplTest {
         testSortingScenario(multiSort);
     }
 
+    @Test
+    void getAllOrders_ShouldAttachBookItemsFromSingleLookup() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        OrderRow first = new OrderRow(1L, UUID.randomUUID(), "client@example.com", null, LocalDateTime.now(), new BigDecimal("10.00"));
+        OrderRow second = new OrderRow(2L, UUID.randomUUID(), "client@example.com", null, LocalDateTime.now(), new BigDecimal("20.00"));
+        when(sortMappingService.applyMappings(pageable, "order")).thenReturn(pageable);
+        when(orderRepository.findAllRows(pageable)).thenReturn(new PageImpl<>(List.of(first, second), pageable, 2));
+        when(orderRepository.findItemRowsByOrderIds(List.of(1L, 2L))).thenReturn(List.of(
+                new BookItemRow(1L, BOOK_NAME_1, 2),
+                new BookItemRow(1L, BOOK_NAME_2, 1)));
+        when(orderMapper.toDto(any(OrderRow.class), anyList())).thenAnswer(invocation -> new OrderDTO());
+
+        // Act
+        orderService.getAllOrders(pageable);
+
+        // Assert
+        verify(orderRepository, times(1)).findItemRowsByOrderIds(anyCollection());
+        verify(orderMapper).toDto(first, List.of(new BookItemDTO(BOOK_NAME_1, 2), new BookItemDTO(BOOK_NAME_2, 1)));
+        verify(orderMapper).toDto(second, List.of());
+        verify(orderMapper, never()).toDto(any(Order.class));
+    }
+
+    @Test
+    void scrollOrders_ShouldAttachBookItemsAndKeepCursors() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("date"));
+        Pageable mappedPageable = PageRequest.of(0, 2, Sort.by("orderDate"));
+        OrderRow row = new OrderRow(5L, UUID.randomUUID(), "client@example.com", null, LocalDateTime.now(), new BigDecimal("10.00"));
+        KeysetCursor next = new KeysetCursor("orderDate: ASC", false, List.of(), 5L);
+        OrderDTO dto = new OrderDTO();
+        when(sortMappingService.applyMappings(pageable, "order")).thenReturn(mappedPageable);
+        when(orderRepository.scrollRows(new KeysetRequest(mappedPageable.getSort(), 2, null)))
+                .thenReturn(new KeysetWindow<>(List.of(row), 2, next, null));
+        when(orderRepository.findItemRowsByOrderIds(List.of(5L)))
+                .thenReturn(List.of(new BookItemRow(5L, BOOK_NAME_1, 3)));
+        when(orderMapper.toDto(row, List.of(new BookItemDTO(BOOK_NAME_1, 3)))).thenReturn(dto);
+
+        // Act
+        KeysetWindow<OrderDTO> result = orderService.scrollOrders(null, pageable);
+
+        // Assert
+        assertEquals(List.of(dto), result.content());
+        assertEquals(next, result.next());
+        assertFalse(result.hasPrevious());
+        verify(orderRepository, never()).findAllRows(any());
+    }
+
+    @Test
+    void getOrderSliceByClient_ShouldAttachBookItemsWithoutCounting() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("date"));
+        Pageable mappedPageable = PageRequest.of(0, 1, Sort.by("orderDate"));
+        OrderRow row = new OrderRow(9L, UUID.randomUUID(), "client@example.com", null, LocalDateTime.now(), new BigDecimal("10.00"));
+        OrderDTO dto = new OrderDTO();
+        when(sortMappingService.applyMappings(pageable, "order")).thenReturn(mappedPageable);
+        when(orderRepository.findRowSliceByClientEmail("client@example.com", mappedPageable))
+                .thenReturn(new SliceImpl<>(List.of(row), mappedPageable, true));
+        when(orderRepository.findItemRowsByOrderIds(List.of(9L)))
+                .thenReturn(List.of(new BookItemRow(9L, BOOK_NAME_1, 2)));
+        when(orderMapper.toDto(row, List.of(new BookItemDTO(BOOK_NAME_1, 2)))).thenReturn(dto);
+
+        // Act
+        Slice<OrderDTO> result = orderService.getOrderSliceByClient("client@example.com", pageable);
+
+        // Assert
+        assertEquals(List.of(dto), result.getContent());
+        assertTrue(result.hasNext());
+        verify(orderRepository, never()).findRowsByClientEmail(any(), any());
+    }
+
+    @Test
+    void scrollOrdersByClient_WithCursorForDifferentSort_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("price"));
+        String cursor = new KeysetCursor("orderDate: ASC", false, List.of(), 5L).encode();
+        when(sortMappingService.applyMappings(pageable, "order")).thenReturn(pageable);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.scrollOrdersByClient("client@example.com", cursor, pageable));
+        verifyNoInteractions(orderRepository);
+    }
+
     @Test
     void getAllOrders_WithEmptyRepository_ShouldReturnEmptyPage() {
         // Arrange
@@ -304,7 +424,7 @@ class OrderServiceImplTest {
         // Assert
         verifyPagedResults(result, List.of(testOrderDTO), 1);
         verifyClientOrderOperations(clientEmail, pageable);
-        verify(orderMapper).toDto(order);
+        verify(orderMapper).toDto(any(OrderRow.class), anyList());
     }
 
     @ParameterizedTest
@@ -353,7 +473,7 @@ class OrderServiceImplTest {
         // Assert
         verifyPagedResults(result, List.of(testOrderDTO), 1);
         verifyEmployeeOrderOperations(employeeEmail, pageable);
-        verify(orderMapper).toDto(order);
+        verify(orderMapper).toDto(any(OrderRow.class), anyList());
     }
 
     @ParameterizedTest
@@ -387,6 +507,7 @@ class OrderServiceImplTest {
         assertNotNull(result);
         assertEquals(testOrderDTO, result);
         verifyOrderCreationOperations(testOrderDTO);
+        verify(emailService).sendOrderConfirmationEmail(any(), eq(result));
     }
 
     @Test
@@ -423,15 +544,14 @@ class OrderServiceImplTest {
         Order mappedOrder = new Order();
         when(orderMapper.toEntity(testOrderDTO)).thenReturn(mappedOrder);
         when(clientRepository.getByEmail(client.getEmail())).thenReturn(Optional.of(client));
-        when(bookRepository.findByName(bookItemDTO.getBookName())).thenReturn(Optional.empty());
-        when(bookItemMapper.toEntity(bookItemDTO)).thenReturn(new BookItem());
+        when(bookRepository.findAllByNameIn(anyCollection())).thenReturn(List.of());
 
         // Act & Assert
         verifyNotFoundScenario(NotFoundException.class,
-                "Book with name " + bookItemDTO.getBookName(),
+                "Books with names " + bookItemDTO.getBookName(),
                 () -> orderService.addOrder(testOrderDTO));
 
-        verify(bookRepository).findByName(bookItemDTO.getBookName());
+        verify(bookRepository).findAllByNameIn(anyCollection());
         verify(orderRepository, never()).save(any(Order.class));
     }
 
@@ -456,7 +576,7 @@ class OrderServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(testOrderDTO, result);
-        verify(bookRepository, never()).findByName(any());
+        verify(bookRepository, never()).findAllByNameIn(any());
         verify(bookItemMapper, never()).toEntity(any());
         verify(orderRepository).save(any(Order.class));
     }
@@ -478,6 +598,95 @@ class OrderServiceImplTest {
         verify(orderRepository).save(any(Order.class));
     }
 
+    @Test
+    void addOrder_WithSeveralMissingBooks_ShouldReportAllOfThem() {
+        // Arrange
+        testOrderDTO.setBookItems(bookItemDTOs);
+        when(orderMapper.toEntity(testOrderDTO)).thenReturn(new Order());
+        when(clientRepository.getByEmail(client.getEmail())).thenReturn(Optional.of(client));
+        when(bookRepository.findAllByNameIn(anyCollection())).thenReturn(List.of(books.get(0)));
+
+        // Act
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> orderService.addOrder(testOrderDTO));
+
+        // Assert
+        assertTrue(exception.getMessage().contains(bookItemDTOs.get(1).getBookName()));
+        assertTrue(exception.getMessage().contains(bookItemDTOs.get(2).getBookName()));
+        assertFalse(exception.getMessage().contains(bookItemDTOs.get(0).getBookName()));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void addOrder_WithRepeatedBook_ShouldLookItUpOnce() {
+        // Arrange
+        BookItemDTO repeated = new BookItemDTO();
+        repeated.setBookName(bookItemDTO.getBookName());
+        repeated.setQuantity(5);
+        testOrderDTO.setBookItems(List.of(bookItemDTO, repeated));
+        mockSuccessfulOrderCreation(testOrderDTO, new Order(), order);
+        when(bookItemMapper.toEntity(any(BookItemDTO.class))).thenAnswer(invocation -> new BookItem());
+        when(bookRepository.findAllByNameIn(anyCollection())).thenReturn(List.of(books.get(0)));
+
+        // Act
+        orderService.addOrder(testOrderDTO);
+
+        // Assert
+        verify(bookRepository).findAllByNameIn(Set.of(bookItemDTO.getBookName()));
+        verify(bookItemMapper, times(2)).toEntity(any(BookItemDTO.class));
+        verify(bookRepository).reserveStock(Map.of(books.get(0).getId(), 7));
+    }
+
+    @Test
+    void addOrder_ShouldPriceOrderFromBookPricesAndDebitClient() {
+        // Arrange
+        testOrderDTO.setPrice(new BigDecimal("0.01"));
+        mockSuccessfulOrderCreation(testOrderDTO, new Order(), order);
+        mockBookItemOperations(testOrderDTO.getBookItems(), books);
+
+        // Act
+        orderService.addOrder(testOrderDTO);
+
+        // Assert
+        verify(orderRepository).save(argThat(saved -> new BigDecimal("77.97").equals(saved.getPrice())
+                && saved.getBookItems().stream().allMatch(item -> item.getBook().getPrice().equals(item.getUnitPrice()))));
+        assertEquals(new BigDecimal("172.78"), client.getBalance());
+    }
+
+    @Test
+    void addOrder_WhenStockCannotBeReserved_ShouldThrowOutOfStockException() {
+        // Arrange
+        when(orderMapper.toEntity(testOrderDTO)).thenReturn(new Order());
+        when(clientRepository.getByEmail(client.getEmail())).thenReturn(Optional.of(client));
+        mockBookItemOperations(testOrderDTO.getBookItems(), books);
+        when(bookRepository.reserveStock(anyMap())).thenReturn(List.of(books.get(1).getId()));
+
+        // Act
+        OutOfStockException exception = assertThrows(OutOfStockException.class, () -> orderService.addOrder(testOrderDTO));
+
+        // Assert
+        assertEquals("Not enough stock for books " + BOOK_NAME_2 + "!", exception.getMessage());
+        assertEquals(new BigDecimal("250.75"), client.getBalance());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void addOrder_WithInsufficientBalance_ShouldThrowInsufficientFundsException() {
+        // Arrange
+        client.setBalance(new BigDecimal("50.00"));
+        when(orderMapper.toEntity(testOrderDTO)).thenReturn(new Order());
+        when(clientRepository.getByEmail(client.getEmail())).thenReturn(Optional.of(client));
+        mockBookItemOperations(testOrderDTO.getBookItems(), books);
+
+        // Act
+        InsufficientFundsException exception = assertThrows(InsufficientFundsException.class,
+                () -> orderService.addOrder(testOrderDTO));
+
+        // Assert
+        assertEquals("Client with email " + client.getEmail() + " has insufficient funds!", exception.getMessage());
+        assertEquals(new BigDecimal("50.00"), client.getBalance());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
     @Test
     void confirmOrder_WithValidData_ShouldUpdateOrderWithEmployee() {
         // Arrange
@@ -522,4 +731,44 @@ class OrderServiceImplTest {
         verify(employeeRepository).getByEmail(any());
         verify(orderRepository, never()).save(any(Order.class));
     }
+
+    @Test
+    void confirmOrders_ShouldAssignEmployeeInOneUpdateAndReportEveryOrder() {
+        // Arrange
+        UUID confirmed = UUID.randomUUID();
+        UUID takenByOther = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ConfirmOrdersDTO request = new ConfirmOrdersDTO(employee.getEmail(), List.of(confirmed, takenByOther, missing, confirmed));
+        Set<UUID> publicIds = new LinkedHashSet<>(List.of(confirmed, takenByOther, missing));
+        when(employeeRepository.getByEmail(employee.getEmail())).thenReturn(Optional.of(employee));
+        when(orderRepository.assignEmployee(employee, publicIds)).thenReturn(1);
+        when(orderRepository.findAssigneesByPublicIds(publicIds)).thenReturn(List.of(
+                new OrderAssigneeRow(confirmed, employee.getEmail(), LocalDateTime.of(2024, 3, 1, 10, 0)),
+                new OrderAssigneeRow(takenByOther, "other@example.com", LocalDateTime.of(2024, 3, 2, 10, 0))));
+
+        // Act
+        List<OrderConfirmationDTO> result = orderService.confirmOrders(request);
+
+        // Assert
+        assertEquals(List.of(
+                new OrderConfirmationDTO(confirmed, OrderConfirmationStatus.CONFIRMED, employee.getEmail()),
+                new OrderConfirmationDTO(takenByOther, OrderConfirmationStatus.CONFIRMED_BY_ANOTHER_EMPLOYEE, "other@example.com"),
+                new OrderConfirmationDTO(missing, OrderConfirmationStatus.NOT_FOUND, null)), result);
+        verify(orderRepository).assignEmployee(employee, publicIds);
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(eventPublisher).publishEvent(OrdersChangedEvent.of(LocalDateTime.of(2024, 3, 1, 10, 0)));
+    }
+
+    @Test
+    void confirmOrders_WithNonExistentEmployee_ShouldThrowNotFoundException() {
+        // Arrange
+        ConfirmOrdersDTO request = new ConfirmOrdersDTO("ghost@example.com", List.of(UUID.randomUUID()));
+        when(employeeRepository.getByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        verifyNotFoundScenario(NotFoundException.class, "Employee with email ghost@example.com",
+                () -> orderService.confirmOrders(request));
+
+        verify(orderRepository, never()).assignEmployee(any(), anyCollection());
+    }
 }
\ No newline at end of file
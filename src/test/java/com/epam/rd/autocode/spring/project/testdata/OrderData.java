@@ -42,10 +42,10 @@ public class OrderData {
 
         return new ArrayList<>(List.of(
                 getOrderDTO(),
-                new OrderDTO(EMPLOYEE_EMAIL_2, CLIENT_EMAIL_2,
+                new OrderDTO(null, EMPLOYEE_EMAIL_2, CLIENT_EMAIL_2,
                         LocalDateTime.of(2025, 6, 11, 9, 15), new BigDecimal("89.96"),
                         List.of(bookItemDTOs.get(2))),
-                new OrderDTO(EMPLOYEE_EMAIL_3, CLIENT_EMAIL_3,
+                new OrderDTO(null, EMPLOYEE_EMAIL_3, CLIENT_EMAIL_3,
                         LocalDateTime.of(2025, 6, 12, 16, 45), new BigDecimal("31.98"),
                         new ArrayList<>())
         ));
@@ -53,7 +53,7 @@ public class OrderData {
 
     public static OrderDTO getOrderDTO(){
         List<BookItemDTO> bookItemDTOs = getBookItemDTOs();
-        return new OrderDTO(EMPLOYEE_EMAIL_1, CLIENT_EMAIL_1,
+        return new OrderDTO(null, EMPLOYEE_EMAIL_1, CLIENT_EMAIL_1,
                 LocalDateTime.of(2025, 6, 10, 14, 30), new BigDecimal("47.97"),
                 List.of(bookItemDTOs.get(0), bookItemDTOs.get(1)));
     }
@@ -0,0 +1,64 @@
+package com.epam.rd.autocode.spring.project.utils;
+
+import com.epam.rd.autocode.spring.project.dto.SearchBookDTO;
+import com.epam.rd.autocode.spring.project.model.enums.Language;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.time.Year;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookSearchKeyTest {
+
+    @Test
+    void of_TextFiltersDifferingOnlyInCase_ShouldShareKey() {
+        // Arrange
+        SearchBookDTO lower = new SearchBookDTO();
+        lower.setAuthor("tolkien");
+        lower.setGenre("fantasy");
+        SearchBookDTO upper = new SearchBookDTO();
+        upper.setAuthor("TOLKIEN");
+        upper.setGenre("Fantasy");
+
+        // Act & Assert
+        assertEquals(BookSearchKey.of(lower), BookSearchKey.of(upper));
+    }
+
+    @Test
+    void of_QueryDifferingOnlyInCase_ShouldKeepSeparateKeys() {
+        // Arrange
+        SearchBookDTO lower = new SearchBookDTO();
+        lower.setQuery("python");
+        SearchBookDTO upper = new SearchBookDTO();
+        upper.setQuery("Python");
+
+        // Act & Assert
+        assertNotEquals(BookSearchKey.of(lower), BookSearchKey.of(upper));
+    }
+
+    @Test
+    void of_EquivalentPricesAndBlankText_ShouldShareKey() {
+        // Arrange
+        SearchBookDTO first = new SearchBookDTO();
+        first.setMinPrice(new BigDecimal("10"));
+        first.setName(" ");
+        SearchBookDTO second = new SearchBookDTO();
+        second.setMinPrice(new BigDecimal("10.00"));
+
+        // Act & Assert
+        assertEquals(BookSearchKey.of(first), BookSearchKey.of(second));
+    }
+
+    @Test
+    void of_ExactFilters_ShouldDistinguishValues() {
+        // Arrange
+        SearchBookDTO english = new SearchBookDTO();
+        english.setLanguage(Language.ENGLISH);
+        english.setPublicationYear(Year.of(2000));
+        SearchBookDTO french = new SearchBookDTO();
+        french.setLanguage(Language.FRENCH);
+        french.setPublicationYear(Year.of(2000));
+
+        // Act & Assert
+        assertNotEquals(BookSearchKey.of(english), BookSearchKey.of(french));
+    }
+}
@@ -0,0 +1,48 @@
+package com.epam.rd.autocode.spring.project.utils;
+
+import com.epam.rd.autocode.spring.project.conf.JwtSettings;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "jwt.secret-key=" + JwtKeyEndpointTest.SECRET,
+        "jwt.verification-keys.previous=" + JwtKeyEndpointTest.PREVIOUS_SECRET
+})
+@AutoConfigureMockMvc
+class JwtKeyEndpointTest {
+    static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi1hbmQtdmFsaWRhdGlvbi10ZXN0aW5n";
+    static final String PREVIOUS_SECRET = "cm90YXRlZC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi1hbmQtdmFsaWRhdGlvbg==";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtSettings jwtSettings;
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void keys_AsClient_ShouldReturn403() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/jwtkeys"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"EMPLOYEE"})
+    void keys_AsEmployee_ShouldListConfiguredKeyIdsWithoutSecrets() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/jwtkeys"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.signingKeyId").value(jwtSettings.getKeyId()))
+                .andExpect(jsonPath("$.keyIds", containsInAnyOrder(jwtSettings.getKeyId(), "previous")))
+                .andExpect(content().string(not(containsString(SECRET))));
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.rd.autocode.spring.project.utils;
+
+import com.epam.rd.autocode.spring.project.conf.JwtSettings;
+import com.epam.rd.autocode.spring.project.model.enums.Role;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private JwtUtils jwtUtils;
+    private String token;
+    private UsernamePasswordAuthenticationToken authentication;
+
+    @Setup
+    public void setUp() {
+        JwtSettings settings = new JwtSettings();
+        settings.setSecretKey("dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi1hbmQtdmFsaWRhdGlvbi10ZXN0aW5n");
+        settings.setExpirationTime(Duration.ofHours(1));
+        settings.setIssuer("Benchmark");
+        jwtUtils = new JwtUtils(settings, new JwtKeyHolder(settings));
+        authentication = new UsernamePasswordAuthenticationToken(
+                "benchmark@example.com", null, List.of(new SimpleGrantedAuthority(Role.CLIENT.toString())));
+        token = jwtUtils.generateToken(authentication);
+    }
+
+    @Benchmark
+    public void threeSignatureChecksPerRequest(Blackhole blackhole) {
+        blackhole.consume(jwtUtils.verify(token));
+        blackhole.consume(jwtUtils.verify(token));
+        blackhole.consume(jwtUtils.verify(token));
+    }
+
+    @Benchmark
+    public JwtPrincipal singleSignatureCheck() {
+        return jwtUtils.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> cachedParse() {
+        return jwtUtils.parseToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
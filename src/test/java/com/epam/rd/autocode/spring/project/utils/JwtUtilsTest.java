@@ -5,7 +5,6 @@ import com.epam.rd.autocode.spring.project.model.enums.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,16 +14,20 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JwtUtilsTest {
 
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi1hbmQtdmFsaWRhdGlvbi10ZXN0aW5n";
+    private static final String ROTATED_SECRET = "cm90YXRlZC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi1hbmQtdmFsaWRhdGlvbg==";
+
     @Mock private JwtSettings jwtSettings;
 
-    @InjectMocks private JwtUtils jwtUtils;
+    private JwtUtils jwtUtils;
 
     private Authentication authentication;
     private String email;
@@ -35,9 +38,12 @@ class JwtUtilsTest {
         email = "test@example.com";
         invalidToken = "invalid.token.here";
 
-        lenient().when(jwtSettings.getSecretKey()).thenReturn("dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tZ2VuZXJhdGlvbi1hbmQtdmFsaWRhdGlvbi10ZXN0aW5n");
+        lenient().when(jwtSettings.getSecretKey()).thenReturn(SECRET);
+        lenient().when(jwtSettings.getKeyId()).thenReturn("primary");
+        lenient().when(jwtSettings.getVerificationKeys()).thenReturn(Map.of());
         lenient().when(jwtSettings.getExpirationTime()).thenReturn(Duration.ofMinutes(15));
         lenient().when(jwtSettings.getIssuer()).thenReturn("TestIssuer");
+        jwtUtils = new JwtUtils(jwtSettings, new JwtKeyHolder(jwtSettings));
 
         Collection<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(Role.CLIENT.toString()));
         authentication = new UsernamePasswordAuthenticationToken(email, null, authorities);
@@ -249,4 +255,122 @@ class JwtUtilsTest {
         assertNotNull(roles);
         assertTrue(roles.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void parseToken_WithValidToken_ShouldReturnPrincipal() {
+        // Arrange
+        String token = jwtUtils.generateToken(authentication);
+
+        // Act
+        Optional<JwtPrincipal> principal = jwtUtils.parseToken(token);
+
+        // Assert
+        assertTrue(principal.isPresent());
+        assertEquals(email, principal.get().username());
+        assertEquals(List.of(Role.CLIENT.toString()), principal.get().roles());
+        assertFalse(principal.get().isExpired());
+    }
+
+    @Test
+    void parseToken_WithInvalidToken_ShouldReturnEmpty() {
+        // Act & Assert
+        assertTrue(jwtUtils.parseToken(invalidToken).isEmpty());
+        assertTrue(jwtUtils.parseToken(null).isEmpty());
+        assertTrue(jwtUtils.parseToken(" ").isEmpty());
+    }
+
+    @Test
+    void parseToken_WithRepeatedToken_ShouldVerifySignatureOnce() {
+        // Arrange
+        JwtUtils cachingJwtUtils = spy(newJwtUtils(cachingSettings(100)));
+        String token = cachingJwtUtils.generateToken(authentication);
+
+        // Act
+        cachingJwtUtils.getUserName(token);
+        cachingJwtUtils.getRoles(token);
+        cachingJwtUtils.isTokenExpired(token);
+        Optional<JwtPrincipal> principal = cachingJwtUtils.parseToken(token);
+
+        // Assert
+        assertTrue(principal.isPresent());
+        verify(cachingJwtUtils, times(1)).verify(token);
+    }
+
+    @Test
+    void parseToken_WithInvalidToken_ShouldNotBeCached() {
+        // Arrange
+        JwtUtils cachingJwtUtils = spy(newJwtUtils(cachingSettings(100)));
+
+        // Act
+        cachingJwtUtils.parseToken(invalidToken);
+        cachingJwtUtils.parseToken(invalidToken);
+
+        // Assert
+        verify(cachingJwtUtils, times(2)).verify(invalidToken);
+    }
+
+    @Test
+    void parseToken_WithExpiredCachedToken_ShouldReturnEmpty() throws InterruptedException {
+        // Arrange
+        JwtSettings settings = cachingSettings(100);
+        settings.setExpirationTime(Duration.ofMillis(1500));
+        JwtUtils cachingJwtUtils = newJwtUtils(settings);
+        String token = cachingJwtUtils.generateToken(authentication);
+        assertTrue(cachingJwtUtils.parseToken(token).isPresent());
+
+        // Act
+        Thread.sleep(2000);
+
+        // Assert
+        assertTrue(cachingJwtUtils.parseToken(token).isEmpty());
+    }
+
+    private JwtSettings cachingSettings(long cacheSize) {
+        JwtSettings settings = new JwtSettings();
+        settings.setSecretKey(SECRET);
+        settings.setExpirationTime(Duration.ofMinutes(15));
+        settings.setIssuer("TestIssuer");
+        settings.setClaimsCacheSize(cacheSize);
+        return settings;
+    }
+
+    private JwtUtils newJwtUtils(JwtSettings settings) {
+        return new JwtUtils(settings, new JwtKeyHolder(settings));
+    }
+
+    @Test
+    void parseToken_AfterRotationThroughConfig_ShouldAcceptTokensSignedWithPreviousKey() {
+        // Arrange
+        String oldToken = jwtUtils.generateToken(authentication);
+        JwtSettings rotatedSettings = cachingSettings(0);
+        rotatedSettings.setKeyId("rotated");
+        rotatedSettings.setSecretKey(ROTATED_SECRET);
+        rotatedSettings.setVerificationKeys(Map.of("primary", SECRET));
+        JwtUtils rotatedJwtUtils = newJwtUtils(rotatedSettings);
+
+        // Act
+        String newToken = rotatedJwtUtils.generateToken(authentication);
+
+        // Assert
+        assertNotEquals(oldToken, newToken);
+        assertEquals(email, rotatedJwtUtils.getUserName(oldToken));
+        assertEquals(email, rotatedJwtUtils.getUserName(newToken));
+        assertTrue(jwtUtils.parseToken(newToken).isEmpty());
+    }
+
+    @Test
+    void parseToken_WithConfiguredVerificationKey_ShouldAcceptTokenFromThatKey() {
+        // Arrange
+        JwtSettings issuerSettings = cachingSettings(0);
+        issuerSettings.setKeyId("previous");
+        issuerSettings.setSecretKey(ROTATED_SECRET);
+        String token = newJwtUtils(issuerSettings).generateToken(authentication);
+
+        JwtSettings verifierSettings = cachingSettings(0);
+        verifierSettings.setVerificationKeys(Map.of("previous", ROTATED_SECRET));
+
+        // Act & Assert
+        assertTrue(newJwtUtils(verifierSettings).parseToken(token).isPresent());
+        assertTrue(newJwtUtils(cachingSettings(0)).parseToken(token).isEmpty());
+    }
+}